@@ -73,9 +73,11 @@ public class Main {
             String tagJavaId = tagJavaResponse.id();
             String tagSpringId = tagSpringResponse.id();
             String tagReactId = tagReactResponse.id();
+            var tags = new ArrayList<TagCreateUpdate>();
             for (int i = 0; i < 100; i++) {
-                tagService.createTag(new TagCreateUpdate("Tag " + i, "#" + Integer.toHexString(i).toUpperCase(), "Description Tag " + i, "Other" + (i % 3 == 0 ? " (DevOps)" : i % 2 == 0 ? " (Frontend)" : " (Backend)")));
+                tags.add(new TagCreateUpdate("Tag " + i, "#" + Integer.toHexString(i).toUpperCase(), "Description Tag " + i, "Other" + (i % 3 == 0 ? " (DevOps)" : i % 2 == 0 ? " (Frontend)" : " (Backend)")));
             }
+            tagService.createTags(tags);
             log.info("Tags created.");
 
             // 3. Create a Workspace
@@ -89,12 +91,9 @@ public class Main {
 
             // 4. Add members to the workspace
             log.info("Adding members to workspace...");
-            workspaceService.addMemberToWorkspace(workspaceId, user2Id);
-            log.info("User {} added to workspace {}", user2Id, workspaceId);
-            for (String userId : userIds) {
-                workspaceService.addMemberToWorkspace(workspaceId, userId);
-                log.info("User {} added to workspace {}", userId, workspaceId);
-            }
+            userIds.add(user2Id);
+            workspaceService.addMembersToWorkspace(workspaceId, userIds);
+            log.info("{} users added to workspace {}", userIds.size(), workspaceId);
 
             // 5. Create Projects
             log.info("Creating projects...");
@@ -6,35 +6,48 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.models.Answer;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.domain.search.SearchDocument;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 public class AnswerService {
 
     private final AnswerPersistencePort answerPersistence;
     private final QuestionPersistencePort questionPersistence;
     private final UserPersistencePort userPersistencePort;
+    private final ExistencePersistencePort existencePersistence;
+    private final SearchIndexPort searchIndex;
 
     public AnswerService(AnswerPersistencePort answerPersistence,
                          QuestionPersistencePort questionPersistence,
-                         UserPersistencePort userPersistencePort) {
+                         UserPersistencePort userPersistencePort,
+                         ExistencePersistencePort existencePersistence,
+                         SearchIndexPort searchIndex) {
         this.answerPersistence = answerPersistence;
         this.questionPersistence = questionPersistence;
         this.userPersistencePort = userPersistencePort;
+        this.existencePersistence = existencePersistence;
+        this.searchIndex = searchIndex;
     }
 
     public CreateResponse createAnswer(AnswerCreateUpdate answerCreateUpdate, String questionId, String authorId) {
-        var questionExist = questionPersistence.existsById(questionId);
-        if (!questionExist) {
-            throw new NotFoundException("Question not found", questionId);
-        }
-
-        var authorExist = userPersistencePort.existsById(authorId);
-        if (!authorExist) {
-            throw new NotFoundException("Author not found", authorId);
-        }
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.QUESTION, Collections.singleton(questionId),
+                EntityType.USER, Collections.singleton(authorId)
+        ));
+        BulkValidation.requireFound(missing, EntityType.QUESTION, "Question not found");
+        BulkValidation.requireFound(missing, EntityType.USER, "Author not found");
 
         var answer = Answer.create(
                 answerCreateUpdate.content(),
@@ -43,32 +56,58 @@ public class AnswerService {
         );
 
         answerPersistence.create(answer);
+        searchIndex.index(SearchDocument.of(answer));
 
         return new CreateResponse(answer.getId());
     }
 
+    /**
+     * Creates the answers of many questions in one batched write. Questions are checked with one query
+     * for the whole request, and nothing is written if any of them is missing.
+     */
+    public List<CreateResponse> createAnswers(Map<String, List<AnswerCreateUpdate>> requestsByQuestionId, String authorId) {
+        BulkValidation.requireSize(requestsByQuestionId == null ? null
+                : requestsByQuestionId.values().stream().flatMap(List::stream).toList());
+
+        if (!userPersistencePort.existsById(authorId)) {
+            throw new NotFoundException("Author not found", authorId);
+        }
+
+        var questionIds = requestsByQuestionId.keySet();
+        BulkValidation.requireAllExist(questionIds, questionPersistence.findExistingIds(questionIds), "Question not found");
+
+        var answers = requestsByQuestionId.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(request -> Answer.create(request.content(), entry.getKey(), authorId)))
+                .toList();
+
+        answerPersistence.createAll(answers);
+        searchIndex.indexAll(answers.stream().map(SearchDocument::of).toList());
+        return answers.stream().map(answer -> new CreateResponse(answer.getId())).toList();
+    }
+
     public void updateAnswer(String answerId, AnswerCreateUpdate answerUpdate) {
         var answer = answerPersistence.findById(answerId)
                 .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
 
         answer.update(answerUpdate.content());
         answerPersistence.update(answer);
+        searchIndex.index(SearchDocument.of(answer));
     }
 
+    /**
+     * Accepts the answer; any answer accepted before it on the same question is un-accepted.
+     */
     public void acceptAnswer(String answerId) {
-        var answer = answerPersistence.findById(answerId)
-                .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
-
-        answer.accept();
-        answerPersistence.update(answer);
+        if (!answerPersistence.accept(answerId, Instant.now())) {
+            throw new NotFoundException("Answer not found", answerId);
+        }
     }
 
     public void rejectAnswer(String answerId) {
-        var answer = answerPersistence.findById(answerId)
-                .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
-
-        answer.reject();
-        answerPersistence.update(answer);
+        if (!answerPersistence.reject(answerId, Instant.now())) {
+            throw new NotFoundException("Answer not found", answerId);
+        }
     }
 
     public void deleteAnswer(String answerId) {
@@ -78,6 +117,8 @@ public class AnswerService {
         }
 
         answerPersistence.deleteById(answerId);
+        searchIndex.remove(ContentType.ANSWER, answerId);
+        searchIndex.removeByParentId(answerId);
     }
 
     public Answer getAnswerById(String answerId) {
@@ -85,6 +126,11 @@ public class AnswerService {
                 .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
     }
 
+    public List<Answer> getAnswersByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return answerPersistence.findAllByIds(ids);
+    }
+
     public Pagination<Answer> getAllAnswers(Page page, String questionId) {
         var questionExist = questionPersistence.existsById(questionId);
         if (!questionExist) {
@@ -0,0 +1,64 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.NotFoundException;
+import com.sysm.devsync.domain.enums.EntityType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks shared by the bulk operations of the services and the reference checks of their creates.
+ */
+final class BulkValidation {
+
+    static final int MAX_BULK_SIZE = 50_000;
+
+    /**
+     * Largest number of ids read by one multi-get. A hundred ids keep the {@code ?ids=} query string
+     * within the servlet container's default header size.
+     */
+    static final int MAX_IDS_PER_GET = 100;
+
+    private BulkValidation() {
+    }
+
+    static void requireSize(Collection<?> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk request must contain between 1 and " + MAX_BULK_SIZE + " items");
+        }
+    }
+
+    static void requireIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS_PER_GET) {
+            throw new IllegalArgumentException("Ids must contain between 1 and " + MAX_IDS_PER_GET + " items");
+        }
+        if (ids.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new IllegalArgumentException("Ids must not be null or blank");
+        }
+    }
+
+    /**
+     * Throws a {@link NotFoundException} listing every id of {@code ids} missing from {@code existing}.
+     */
+    static void requireAllExist(Set<String> ids, Set<String> existing, String message) {
+        var missing = ids.stream()
+                .filter(id -> !existing.contains(id))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new NotFoundException(message, String.join(", ", missing));
+        }
+    }
+
+    /**
+     * Throws a {@link NotFoundException} listing the ids of {@code type} that {@code verifyExists}
+     * reported missing, if any.
+     */
+    static void requireFound(Map<EntityType, Set<String>> missing, EntityType type, String message) {
+        var ids = missing.getOrDefault(type, Set.of());
+        if (!ids.isEmpty()) {
+            throw new NotFoundException(message, String.join(", ", ids.stream().sorted().toList()));
+        }
+    }
+}
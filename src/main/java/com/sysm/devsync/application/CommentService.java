@@ -1,14 +1,25 @@
 package com.sysm.devsync.application;
 
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.CommentCreateUpdate;
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.search.SearchDocument;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class CommentService {
 
@@ -17,24 +28,32 @@ public class CommentService {
     private final QuestionPersistencePort questionPersistence;
     private final AnswerPersistencePort answerPersistence;
     private final UserPersistencePort userPersistence;
+    private final ExistencePersistencePort existencePersistence;
+    private final SearchIndexPort searchIndex;
 
     public CommentService(CommentPersistencePort commentPersistence, NotePersistencePort notePersistence,
-                          QuestionPersistencePort questionPersistence, AnswerPersistencePort answerPersistence, UserPersistencePort userPersistence) {
+                          QuestionPersistencePort questionPersistence, AnswerPersistencePort answerPersistence, UserPersistencePort userPersistence,
+                          ExistencePersistencePort existencePersistence, SearchIndexPort searchIndex) {
         this.commentPersistence = commentPersistence;
         this.notePersistence = notePersistence;
         this.questionPersistence = questionPersistence;
         this.answerPersistence = answerPersistence;
         this.userPersistence = userPersistence;
+        this.existencePersistence = existencePersistence;
+        this.searchIndex = searchIndex;
     }
 
     public CreateResponse createComment(CommentCreateUpdate commentCreate, String authorId){
 
-        var authorExist = userPersistence.existsById(authorId);
-        if (!authorExist) {
-            throw new NotFoundException("Author not found", authorId);
-        }
+        validateTarget(commentCreate.targetId(), commentCreate.targetType());
 
-        validateTargetExistence(commentCreate.targetId(), commentCreate.targetType());
+        var targetType = EntityType.of(commentCreate.targetType());
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.USER, Collections.singleton(authorId),
+                targetType, Collections.singleton(commentCreate.targetId())
+        ));
+        BulkValidation.requireFound(missing, EntityType.USER, "Author not found");
+        BulkValidation.requireFound(missing, targetType, targetName(commentCreate.targetType()) + " not found");
 
         var comment = Comment.create(
                 commentCreate.targetType(),
@@ -44,16 +63,54 @@ public class CommentService {
         );
 
         commentPersistence.create(comment);
+        searchIndex.index(SearchDocument.of(comment));
         return new CreateResponse(comment.getId());
 
     }
 
+    /**
+     * Creates all comments in one batched write. Targets are checked with one query per target type,
+     * and nothing is written if any of them is missing.
+     */
+    public List<CreateResponse> createComments(List<CommentCreateUpdate> requests, String authorId) {
+        BulkValidation.requireSize(requests);
+
+        if (!userPersistence.existsById(authorId)) {
+            throw new NotFoundException("Author not found", authorId);
+        }
+
+        for (var request : requests) {
+            if (request.targetType() == null) {
+                throw new IllegalArgumentException("Target type cannot be null.");
+            }
+        }
+        var targetIds = requests.stream().collect(Collectors.groupingBy(CommentCreateUpdate::targetType,
+                () -> new EnumMap<>(TargetType.class),
+                Collectors.mapping(CommentCreateUpdate::targetId, Collectors.toSet())));
+        targetIds.forEach((targetType, ids) -> {
+            switch (targetType) {
+                case NOTE -> BulkValidation.requireAllExist(ids, notePersistence.findExistingIds(ids), "Note not found");
+                case QUESTION -> BulkValidation.requireAllExist(ids, questionPersistence.findExistingIds(ids), "Question not found");
+                case ANSWER -> BulkValidation.requireAllExist(ids, answerPersistence.findExistingIds(ids), "Answer not found");
+            }
+        });
+
+        var comments = requests.stream()
+                .map(request -> Comment.create(request.targetType(), request.targetId(), authorId, request.content()))
+                .toList();
+
+        commentPersistence.createAll(comments);
+        searchIndex.indexAll(comments.stream().map(SearchDocument::of).toList());
+        return comments.stream().map(comment -> new CreateResponse(comment.getId())).toList();
+    }
+
     public void updateComment(String commentId, CommentCreateUpdate commentUpdate) {
         var comment = commentPersistence.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("Comment not found", commentId));
 
         comment.update(commentUpdate.content());
         commentPersistence.update(comment);
+        searchIndex.index(SearchDocument.of(comment));
     }
 
     public void deleteComment(String commentId) {
@@ -62,6 +119,7 @@ public class CommentService {
             throw new NotFoundException("Comment not found", commentId);
         }
         commentPersistence.deleteById(commentId);
+        searchIndex.remove(ContentType.COMMENT, commentId);
     }
 
     public Comment getCommentById(String commentId) {
@@ -69,6 +127,11 @@ public class CommentService {
                 .orElseThrow(() -> new NotFoundException("Comment not found", commentId));
     }
 
+    public List<Comment> getCommentsByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return commentPersistence.findAllByIds(ids);
+    }
+
     public Pagination<Comment> getAllComments(Page page, String targetId, TargetType targetType) {
         validateTargetExistence(targetId, targetType);
         return commentPersistence.findAllByTargetId(page, targetType, targetId);
@@ -82,35 +145,57 @@ public class CommentService {
         return commentPersistence.findAll(query);
     }
 
+    /**
+     * List/search read path: rows are read straight into responses, without loading the aggregates.
+     */
+    public Pagination<CommentResponse> searchComments(SearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        return commentPersistence.findAllProjected(query);
+    }
+
+    /**
+     * Streams every comment matching the query's filters to {@code consumer} in one read,
+     * for exports that must not page through the whole table.
+     */
+    public void exportComments(SearchQuery query, Consumer<CommentResponse> consumer) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        commentPersistence.streamAllProjected(query, consumer);
+    }
+
     private void validateTargetExistence(String targetId, TargetType targetType) {
+        validateTarget(targetId, targetType);
+
+        boolean exists = switch (targetType) {
+            case NOTE -> notePersistence.existsById(targetId);
+            case QUESTION -> questionPersistence.existsById(targetId);
+            case ANSWER -> answerPersistence.existsById(targetId);
+        };
+
+        if (!exists) {
+            throw new NotFoundException(targetName(targetType) + " not found", targetId);
+        }
+    }
+
+    private static void validateTarget(String targetId, TargetType targetType) {
         if (targetId == null || targetId.trim().isEmpty()) {
             throw new IllegalArgumentException("Target ID cannot be null or empty.");
         }
         if (targetType == null) {
             throw new IllegalArgumentException("Target type cannot be null.");
         }
+    }
 
-        boolean exists;
-        String targetName = ""; // For more descriptive error messages
-
-        exists = switch (targetType) {
-            case NOTE -> {
-                targetName = "Note";
-                yield notePersistence.existsById(targetId);
-            }
-            case QUESTION -> {
-                targetName = "Question";
-                yield questionPersistence.existsById(targetId);
-            }
-            case ANSWER -> {
-                targetName = "Answer";
-                yield answerPersistence.existsById(targetId);
-            }
+    // For more descriptive error messages
+    private static String targetName(TargetType targetType) {
+        return switch (targetType) {
+            case NOTE -> "Note";
+            case QUESTION -> "Question";
+            case ANSWER -> "Answer";
         };
-
-        if (!exists) {
-            throw new NotFoundException(targetName + " not found", targetId);
-        }
     }
 
 }
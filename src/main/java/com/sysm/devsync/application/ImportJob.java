@@ -0,0 +1,126 @@
+package com.sysm.devsync.application;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Progress of one streaming import. Records are addressed by their zero-based offset in the stream;
+ * batches commit out of order, so the committed offsets are kept as merged ranges and
+ * {@link #getCommittedOffset()} is the point below which every record is committed.
+ */
+public class ImportJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Instant startedAt;
+    private final TreeMap<Long, Long> committedRanges = new TreeMap<>();
+
+    private Status status;
+    private long recordsRead;
+    private long recordsCommitted;
+    private String error;
+    private Instant finishedAt;
+
+    ImportJob(String id) {
+        this.id = id;
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    synchronized void restart() {
+        if (status != Status.FAILED) {
+            throw new IllegalStateException("Only a failed import can be resumed");
+        }
+        status = Status.RUNNING;
+        error = null;
+        finishedAt = null;
+        recordsRead = 0;
+    }
+
+    synchronized void read() {
+        recordsRead++;
+    }
+
+    /**
+     * Records that the records in {@code [start, end)} are committed; {@code written} of them were new.
+     */
+    synchronized void committed(long start, long end, int written) {
+        recordsCommitted += written;
+        long from = start;
+        long to = end;
+        var before = committedRanges.floorEntry(from);
+        if (before != null && before.getValue() >= from) {
+            from = before.getKey();
+            to = Math.max(to, before.getValue());
+        }
+        var next = committedRanges.ceilingEntry(from);
+        while (next != null && next.getKey() <= to) {
+            to = Math.max(to, next.getValue());
+            committedRanges.remove(next.getKey());
+            next = committedRanges.ceilingEntry(from);
+        }
+        committedRanges.put(from, to);
+    }
+
+    synchronized boolean isCommitted(long offset) {
+        Map.Entry<Long, Long> range = committedRanges.floorEntry(offset);
+        return range != null && offset < range.getValue();
+    }
+
+    synchronized void fail(String message) {
+        if (status == Status.RUNNING) {
+            status = Status.FAILED;
+            error = message;
+        }
+    }
+
+    synchronized void finish() {
+        if (status == Status.RUNNING) {
+            status = Status.COMPLETED;
+        }
+        finishedAt = Instant.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    public synchronized long getRecordsRead() {
+        return recordsRead;
+    }
+
+    public synchronized long getRecordsCommitted() {
+        return recordsCommitted;
+    }
+
+    public synchronized long getCommittedOffset() {
+        Long end = committedRanges.get(0L);
+        return end == null ? 0 : end;
+    }
+
+    public synchronized String getError() {
+        return error;
+    }
+
+    public synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,218 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.IdGenerator;
+import com.sysm.devsync.domain.NotFoundException;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.infrastructure.controllers.dto.request.AnswerCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ImportRecord;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams notes, questions, answers and comments into the bulk create operations of their services.
+ * <p>
+ * The caller's thread reads the records and cuts them into batches; a fixed pool of workers writes
+ * each batch in its own transaction, and at most two batches per worker are in flight so memory
+ * stays bounded whatever the size of the stream. A failed job keeps the offsets it committed and can
+ * be resumed with the same stream, skipping every record that is already in. Finished jobs, failed
+ * ones included, are forgotten once they are older than the job retention.
+ */
+public class ImportService {
+
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final Duration DEFAULT_JOB_RETENTION = Duration.ofHours(24);
+
+    private final NoteService noteService;
+    private final QuestionService questionService;
+    private final AnswerService answerService;
+    private final CommentService commentService;
+    private final TransactionOperations transactions;
+    private final int workers;
+    private final int batchSize;
+    private final Duration jobRetention;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportService(NoteService noteService, QuestionService questionService, AnswerService answerService,
+                         CommentService commentService, TransactionOperations transactions) {
+        this(noteService, questionService, answerService, commentService, transactions, DEFAULT_WORKERS, DEFAULT_BATCH_SIZE);
+    }
+
+    public ImportService(NoteService noteService, QuestionService questionService, AnswerService answerService,
+                         CommentService commentService, TransactionOperations transactions, int workers, int batchSize) {
+        this(noteService, questionService, answerService, commentService, transactions, workers, batchSize,
+                DEFAULT_JOB_RETENTION);
+    }
+
+    /**
+     * @param jobRetention how long a finished job stays available for status and resume
+     */
+    public ImportService(NoteService noteService, QuestionService questionService, AnswerService answerService,
+                         CommentService commentService, TransactionOperations transactions, int workers, int batchSize,
+                         Duration jobRetention) {
+        this.noteService = noteService;
+        this.questionService = questionService;
+        this.answerService = answerService;
+        this.commentService = commentService;
+        this.transactions = transactions;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.jobRetention = jobRetention;
+    }
+
+    private record Batch(long start, long end, List<ImportRecord> records) {
+    }
+
+    /**
+     * Imports every record of the stream and returns when all batches are written or the job fails.
+     * When {@code resumeJobId} is given, that failed job is continued and its committed records are skipped.
+     */
+    public ImportJob importRecords(Iterator<ImportRecord> records, String authorId, String resumeJobId) {
+        if (records == null) {
+            throw new IllegalArgumentException("Import records must not be null");
+        }
+
+        evictExpiredJobs();
+        ImportJob job;
+        if (resumeJobId == null) {
+            job = new ImportJob(IdGenerator.generate());
+            jobs.put(job.getId(), job);
+        } else {
+            job = getJob(resumeJobId);
+            try {
+                job.restart();
+            } catch (IllegalStateException e) {
+                throw new IllegalArgumentException(e.getMessage());
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(workers * 2);
+        try {
+            long offset = 0;
+            while (!job.isFailed()) {
+                long start = offset;
+                List<ImportRecord> batch = new ArrayList<>(batchSize);
+                try {
+                    while (batch.size() < batchSize && records.hasNext()) {
+                        var record = records.next();
+                        job.read();
+                        if (!job.isCommitted(offset)) {
+                            batch.add(record);
+                        }
+                        offset++;
+                    }
+                } catch (RuntimeException e) {
+                    job.fail("Unreadable record at offset " + offset + ": " + e.getMessage());
+                    break;
+                }
+                if (offset == start) {
+                    break;
+                }
+
+                inFlight.acquireUninterruptibly();
+                var work = new Batch(start, offset, batch);
+                executor.execute(() -> {
+                    try {
+                        write(job, work, authorId);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+            job.finish();
+        }
+        return job;
+    }
+
+    public ImportJob getJob(String jobId) {
+        evictExpiredJobs();
+        var job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Import job not found", jobId);
+        }
+        return job;
+    }
+
+    private void evictExpiredJobs() {
+        var cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> {
+            var finishedAt = job.getFinishedAt();
+            return finishedAt != null && finishedAt.isBefore(cutoff);
+        });
+    }
+
+    private void write(ImportJob job, Batch batch, String authorId) {
+        if (job.isFailed()) {
+            return;
+        }
+        try {
+            transactions.executeWithoutResult(status -> writeRecords(batch.records(), authorId));
+            job.committed(batch.start(), batch.end(), batch.records().size());
+        } catch (RuntimeException e) {
+            job.fail("Batch at offsets " + batch.start() + "-" + (batch.end() - 1) + " failed: " + e.getMessage());
+        }
+    }
+
+    private void writeRecords(List<ImportRecord> records, String authorId) {
+        Map<ContentType, List<ImportRecord>> byType = new EnumMap<>(ContentType.class);
+        for (var record : records) {
+            if (record == null || record.type() == null) {
+                throw new IllegalArgumentException("Import record type must not be null");
+            }
+            byType.computeIfAbsent(record.type(), k -> new ArrayList<>()).add(record);
+        }
+
+        var questions = byType.get(ContentType.QUESTION);
+        if (questions != null) {
+            questionService.createQuestions(questions.stream().map(ImportRecord::toQuestion).toList(), authorId);
+        }
+        var notes = byType.get(ContentType.NOTE);
+        if (notes != null) {
+            noteService.createNotes(notes.stream().map(ImportRecord::toNote).toList(), authorId);
+        }
+        var answers = byType.get(ContentType.ANSWER);
+        if (answers != null) {
+            Map<String, List<AnswerCreateUpdate>> byQuestion = new LinkedHashMap<>();
+            for (var record : answers) {
+                if (record.questionId() == null || record.questionId().isBlank()) {
+                    throw new IllegalArgumentException("Answer question ID must not be null or empty");
+                }
+                byQuestion.computeIfAbsent(record.questionId(), k -> new ArrayList<>()).add(record.toAnswer());
+            }
+            answerService.createAnswers(byQuestion, authorId);
+        }
+        var comments = byType.get(ContentType.COMMENT);
+        if (comments != null) {
+            commentService.createComments(comments.stream().map(ImportRecord::toComment).toList(), authorId);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // keep waiting; every batch ends in a commit or a failure
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,15 +2,27 @@ package com.sysm.devsync.application;
 
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.domain.search.SearchDocument;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class NoteService {
 
@@ -18,26 +30,28 @@ public class NoteService {
     private final ProjectPersistencePort projectPersistence;
     private final UserPersistencePort userPersistence;
     private final TagPersistencePort tagPersistence;
+    private final ExistencePersistencePort existencePersistence;
+    private final SearchIndexPort searchIndex;
 
     public NoteService(NotePersistencePort notePersistence, ProjectPersistencePort projectPersistence,
-                       UserPersistencePort userPersistence, TagPersistencePort tagPersistence) {
+                       UserPersistencePort userPersistence, TagPersistencePort tagPersistence,
+                       ExistencePersistencePort existencePersistence, SearchIndexPort searchIndex) {
         this.notePersistence = notePersistence;
         this.projectPersistence = projectPersistence;
         this.userPersistence = userPersistence;
         this.tagPersistence = tagPersistence;
+        this.existencePersistence = existencePersistence;
+        this.searchIndex = searchIndex;
     }
 
     public CreateResponse createNote(NoteCreateUpdate noteCreateUpdate, String authorId) {
 
-        var exist = projectPersistence.existsById(noteCreateUpdate.projectId());
-        if (!exist) {
-            throw new NotFoundException("Project not found", noteCreateUpdate.projectId());
-        }
-
-        var userExists = userPersistence.existsById(authorId);
-        if (!userExists) {
-            throw new NotFoundException("User not found", authorId);
-        }
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.PROJECT, Collections.singleton(noteCreateUpdate.projectId()),
+                EntityType.USER, Collections.singleton(authorId)
+        ));
+        BulkValidation.requireFound(missing, EntityType.PROJECT, "Project not found");
+        BulkValidation.requireFound(missing, EntityType.USER, "User not found");
 
         var note = Note.create(
                 noteCreateUpdate.title(),
@@ -47,9 +61,33 @@ public class NoteService {
         );
 
         notePersistence.create(note);
+        searchIndex.index(SearchDocument.of(note));
         return new CreateResponse(note.getId());
     }
 
+    /**
+     * Creates all notes in one batched write. Referenced projects are checked with one query for the
+     * whole request, and nothing is written if any of them is missing.
+     */
+    public List<CreateResponse> createNotes(List<NoteCreateUpdate> requests, String authorId) {
+        BulkValidation.requireSize(requests);
+
+        if (!userPersistence.existsById(authorId)) {
+            throw new NotFoundException("User not found", authorId);
+        }
+
+        var projectIds = requests.stream().map(NoteCreateUpdate::projectId).collect(Collectors.toSet());
+        BulkValidation.requireAllExist(projectIds, projectPersistence.findExistingIds(projectIds), "Project not found");
+
+        var notes = requests.stream()
+                .map(request -> Note.create(request.title(), request.content(), request.projectId(), authorId))
+                .toList();
+
+        notePersistence.createAll(notes);
+        searchIndex.indexAll(notes.stream().map(SearchDocument::of).toList());
+        return notes.stream().map(note -> new CreateResponse(note.getId())).toList();
+    }
+
     public void updateNote(String noteId, NoteCreateUpdate noteUpdate) {
         var note = notePersistence.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Note not found", noteId));
@@ -60,6 +98,7 @@ public class NoteService {
         );
 
         notePersistence.update(note);
+        searchIndex.index(SearchDocument.of(note));
     }
 
     public void updateNoteContent(String noteId, NoteCreateUpdate noteUpdate) {
@@ -69,6 +108,7 @@ public class NoteService {
         note.updateContent(noteUpdate.content());
 
         notePersistence.update(note);
+        searchIndex.index(SearchDocument.of(note));
     }
 
     public void addTagToNote(String noteId, String tagId) {
@@ -80,8 +120,13 @@ public class NoteService {
             throw new NotFoundException("Tag not found", tagId);
         }
 
+        if (note.getTagsId().contains(tagId)) {
+            return;
+        }
+
         note.addTag(tagId);
         notePersistence.update(note);
+        tagPersistence.incrementUse(tagId);
     }
 
     public void removeTagFromNote(String noteId, String tagId) {
@@ -93,8 +138,13 @@ public class NoteService {
             throw new NotFoundException("Tag not found", tagId);
         }
 
+        if (!note.getTagsId().contains(tagId)) {
+            return;
+        }
+
         note.removeTag(tagId);
         notePersistence.update(note);
+        tagPersistence.decrementUse(tagId);
     }
 
     public void deleteNote(String noteId) {
@@ -105,6 +155,8 @@ public class NoteService {
         }
 
         notePersistence.deleteById(noteId);
+        searchIndex.remove(ContentType.NOTE, noteId);
+        searchIndex.removeByParentId(noteId);
     }
 
     public Note getNoteById(String noteId) {
@@ -112,6 +164,11 @@ public class NoteService {
                 .orElseThrow(() -> new NotFoundException("Note not found", noteId));
     }
 
+    public List<Note> getNotesByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return notePersistence.findAllByIds(ids);
+    }
+
     public Pagination<Note> getAllNotes(SearchQuery query) {
         if (query == null) {
             throw new IllegalArgumentException("Invalid query parameters");
@@ -119,6 +176,27 @@ public class NoteService {
         return notePersistence.findAll(query);
     }
 
+    /**
+     * List/search read path: rows are read straight into responses, without loading the aggregates.
+     */
+    public Pagination<NoteResponse> searchNotes(SearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        return notePersistence.findAllProjected(query);
+    }
+
+    /**
+     * Streams every note matching the query's filters to {@code consumer} in one read,
+     * for exports that must not page through the whole table.
+     */
+    public void exportNotes(SearchQuery query, Consumer<NoteResponse> consumer) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        notePersistence.streamAllProjected(query, consumer);
+    }
+
     public Pagination<Note> getAllNotes(Page page, String projectId) {
         var exists = projectPersistence.existsById(projectId);
         if (!exists) {
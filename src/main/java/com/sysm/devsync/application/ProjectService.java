@@ -10,6 +10,8 @@ import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 
+import java.util.List;
+
 public class ProjectService {
 
     private final ProjectPersistencePort projectPersistence;
@@ -75,6 +77,11 @@ public class ProjectService {
                 .orElseThrow(() -> new NotFoundException("Project not found", projectId));
     }
 
+    public List<Project> getProjectsByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return projectPersistence.findAllByIds(ids);
+    }
+
     public Pagination<Project> getAllProjects(SearchQuery query) {
         return projectPersistence.findAll(query);
     }
@@ -1,8 +1,11 @@
 package com.sysm.devsync.application;
 
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.persistence.*;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
@@ -10,6 +13,15 @@ import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.search.SearchDocument;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class QuestionService {
 
@@ -19,28 +31,33 @@ public class QuestionService {
     private final UserPersistencePort userPersistence;
     private final CommentPersistencePort commentPersistence;
     private final AnswerPersistencePort answerPersistence;
+    private final ExistencePersistencePort existencePersistence;
+    private final SearchIndexPort searchIndex;
+    private final TransactionOperations transactions;
 
 
     public QuestionService(QuestionPersistencePort questionPersistence, ProjectPersistencePort projectPersistence,
-                           TagPersistencePort tagPersistence, UserPersistencePort userPersistence, CommentPersistencePort commentPersistence, AnswerPersistencePort answerPersistence) {
+                           TagPersistencePort tagPersistence, UserPersistencePort userPersistence, CommentPersistencePort commentPersistence, AnswerPersistencePort answerPersistence,
+                           ExistencePersistencePort existencePersistence, SearchIndexPort searchIndex,
+                           TransactionOperations transactions) {
         this.questionPersistence = questionPersistence;
         this.projectPersistence = projectPersistence;
         this.tagPersistence = tagPersistence;
         this.userPersistence = userPersistence;
         this.commentPersistence = commentPersistence;
         this.answerPersistence = answerPersistence;
+        this.existencePersistence = existencePersistence;
+        this.searchIndex = searchIndex;
+        this.transactions = transactions;
     }
 
     public CreateResponse createQuestion(QuestionCreateUpdate questionCreateUpdate, String authorId) {
-        var projectExist = projectPersistence.existsById(questionCreateUpdate.projectId());
-        if (!projectExist) {
-            throw new NotFoundException("Project not found", questionCreateUpdate.projectId());
-        }
-
-        var userExists = userPersistence.existsById(authorId);
-        if (!userExists) {
-            throw new NotFoundException("User not found", authorId);
-        }
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.PROJECT, Collections.singleton(questionCreateUpdate.projectId()),
+                EntityType.USER, Collections.singleton(authorId)
+        ));
+        BulkValidation.requireFound(missing, EntityType.PROJECT, "Project not found");
+        BulkValidation.requireFound(missing, EntityType.USER, "User not found");
 
         var question = Question.create(
                 questionCreateUpdate.title(),
@@ -50,9 +67,33 @@ public class QuestionService {
         );
 
         questionPersistence.create(question);
+        searchIndex.index(SearchDocument.of(question));
         return new CreateResponse(question.getId());
     }
 
+    /**
+     * Creates all questions in one batched write. Referenced projects are checked with one query for
+     * the whole request, and nothing is written if any of them is missing.
+     */
+    public List<CreateResponse> createQuestions(List<QuestionCreateUpdate> requests, String authorId) {
+        BulkValidation.requireSize(requests);
+
+        if (!userPersistence.existsById(authorId)) {
+            throw new NotFoundException("User not found", authorId);
+        }
+
+        var projectIds = requests.stream().map(QuestionCreateUpdate::projectId).collect(Collectors.toSet());
+        BulkValidation.requireAllExist(projectIds, projectPersistence.findExistingIds(projectIds), "Project not found");
+
+        var questions = requests.stream()
+                .map(request -> Question.create(request.title(), request.description(), request.projectId(), authorId))
+                .toList();
+
+        questionPersistence.createAll(questions);
+        searchIndex.indexAll(questions.stream().map(SearchDocument::of).toList());
+        return questions.stream().map(question -> new CreateResponse(question.getId())).toList();
+    }
+
     public void updateQuestion(String questionId, QuestionCreateUpdate questionUpdate) {
         var question = questionPersistence.findById(questionId)
                 .orElseThrow(() -> new NotFoundException("Question not found", questionId));
@@ -63,15 +104,16 @@ public class QuestionService {
         );
 
         questionPersistence.update(question);
+        searchIndex.index(SearchDocument.of(question));
     }
 
     public void updateQuestionStatus(String questionId, QuestionStatus questionUpdate) {
-        var question = questionPersistence.findById(questionId)
-                .orElseThrow(() -> new NotFoundException("Question not found", questionId));
-
-        question.changeStatus(questionUpdate);
-
-        questionPersistence.update(question);
+        if (questionUpdate == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (!questionPersistence.updateStatus(questionId, questionUpdate, Instant.now())) {
+            throw new NotFoundException("Question not found", questionId);
+        }
     }
 
     public void addTagToQuestion(String questionId, String tagId) {
@@ -115,13 +157,16 @@ public class QuestionService {
             throw new NotFoundException("Question not found", questionId);
         }
 
-        //Explicitly delete associated Comments
-        commentPersistence.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, questionId);
-
-        //Explicitly delete associated Answers
-        answerPersistence.deleteAllByQuestionId(questionId);
-
-        questionPersistence.deleteById(questionId);
+        // One bulk statement per table, all or nothing; comments on the answers go before the
+        // answers their sub-select reads
+        transactions.executeWithoutResult(status -> {
+            commentPersistence.deleteAllOnAnswersOfQuestion(questionId);
+            commentPersistence.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, questionId);
+            answerPersistence.deleteAllByQuestionId(questionId);
+            questionPersistence.deleteById(questionId);
+        });
+        searchIndex.remove(ContentType.QUESTION, questionId);
+        searchIndex.removeByParentId(questionId);
     }
 
     public Question getQuestionById(String questionId) {
@@ -129,6 +174,11 @@ public class QuestionService {
                 .orElseThrow(() -> new NotFoundException("Question not found", questionId));
     }
 
+    public List<Question> getQuestionsByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return questionPersistence.findAllByIds(ids);
+    }
+
     public Pagination<Question> getAllQuestions(Page page, String projectId) {
         var projectExist = projectPersistence.existsById(projectId);
         if (!projectExist) {
@@ -145,4 +195,25 @@ public class QuestionService {
         return questionPersistence.findAll(query);
     }
 
+    /**
+     * List/search read path: rows are read straight into responses, without loading the aggregates.
+     */
+    public Pagination<QuestionResponse> searchQuestions(SearchQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        return questionPersistence.findAllProjected(query);
+    }
+
+    /**
+     * Streams every question matching the query's filters to {@code consumer} in one read,
+     * for exports that must not page through the whole table.
+     */
+    public void exportQuestions(SearchQuery query, Consumer<QuestionResponse> consumer) {
+        if (query == null) {
+            throw new IllegalArgumentException("Invalid query parameters");
+        }
+        questionPersistence.streamAllProjected(query, consumer);
+    }
+
 }
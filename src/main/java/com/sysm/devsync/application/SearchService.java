@@ -0,0 +1,108 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+public class SearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final SearchIndexPort searchIndex;
+    private final NotePersistencePort notePersistence;
+    private final QuestionPersistencePort questionPersistence;
+    private final AnswerPersistencePort answerPersistence;
+    private final CommentPersistencePort commentPersistence;
+    private final Executor rebuildExecutor;
+
+    /**
+     * @param rebuildExecutor runs the rebuild, one content type per task
+     */
+    public SearchService(SearchIndexPort searchIndex, NotePersistencePort notePersistence,
+                         QuestionPersistencePort questionPersistence, AnswerPersistencePort answerPersistence,
+                         CommentPersistencePort commentPersistence, Executor rebuildExecutor) {
+        this.searchIndex = searchIndex;
+        this.notePersistence = notePersistence;
+        this.questionPersistence = questionPersistence;
+        this.answerPersistence = answerPersistence;
+        this.commentPersistence = commentPersistence;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    public Pagination<SearchHit> search(String text, Set<ContentType> types, Page page) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be null or empty");
+        }
+        if (page == null || page.pageNumber() < 0 || page.pageSize() < 1) {
+            throw new IllegalArgumentException("Invalid page parameters");
+        }
+        return searchIndex.search(text, types, page);
+    }
+
+    /**
+     * Searches the fenced code blocks of notes and answers for an exact substring or, when
+     * {@code regex} is set, a regular expression.
+     */
+    public Pagination<CodeMatch> searchCode(String query, boolean regex, Set<ContentType> types, Page page) {
+        if (query == null || query.isEmpty()) {
+            throw new IllegalArgumentException("Search text must not be null or empty");
+        }
+        if (page == null || page.pageNumber() < 0 || page.pageSize() < 1) {
+            throw new IllegalArgumentException("Invalid page parameters");
+        }
+        return searchIndex.searchCode(query, regex, types, page);
+    }
+
+    /**
+     * Reloads every note, question, answer and comment into the index and waits for it.
+     *
+     * @see #rebuildIndexAsync()
+     */
+    public void rebuildIndex() {
+        rebuildIndexAsync().join();
+    }
+
+    /**
+     * Reloads every note, question, answer and comment into the index, one content type per task on
+     * the rebuild executor. Rows are read in keyset batches so the whole table is never held in
+     * memory, and writes made while the rebuild runs are applied again once it ends.
+     */
+    public CompletableFuture<Void> rebuildIndexAsync() {
+        searchIndex.beginRebuild();
+        CompletableFuture<Void> loads;
+        try {
+            loads = CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> reindex(notePersistence, SearchDocument::of), rebuildExecutor),
+                    CompletableFuture.runAsync(() -> reindex(questionPersistence, SearchDocument::of), rebuildExecutor),
+                    CompletableFuture.runAsync(() -> reindex(answerPersistence, SearchDocument::of), rebuildExecutor),
+                    CompletableFuture.runAsync(() -> reindex(commentPersistence, SearchDocument::of), rebuildExecutor)
+            );
+        } catch (RuntimeException e) {
+            searchIndex.endRebuild();
+            throw e;
+        }
+        return loads.whenComplete((result, ex) -> searchIndex.endRebuild());
+    }
+
+    private <T> void reindex(PersistencePort<T> persistence, Function<T, SearchDocument> toDocument) {
+        String cursor = Page.FIRST_CURSOR;
+        do {
+            var query = SearchQuery.of(Page.after(REBUILD_BATCH_SIZE, "id", "asc", cursor), Map.of());
+            var batch = persistence.findAll(query);
+            searchIndex.loadAll(batch.items().stream().map(toDocument).toList());
+            cursor = batch.nextCursor();
+        } while (cursor != null);
+    }
+}
@@ -9,6 +9,8 @@ import com.sysm.devsync.infrastructure.controllers.dto.request.TagCreateUpdate;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 public class TagService {
 
     private final TagPersistencePort tagPersistence;
@@ -18,6 +20,24 @@ public class TagService {
     }
 
     public CreateResponse createTag(TagCreateUpdate tagCreateUpdate) {
+        Tag tag = newTag(tagCreateUpdate);
+
+        tagPersistence.create(tag);
+
+        return new CreateResponse(tag.getId());
+    }
+
+    public List<CreateResponse> createTags(List<TagCreateUpdate> requests) {
+        BulkValidation.requireSize(requests);
+
+        var tags = requests.stream().map(TagService::newTag).toList();
+
+        tagPersistence.createAll(tags);
+
+        return tags.stream().map(tag -> new CreateResponse(tag.getId())).toList();
+    }
+
+    private static Tag newTag(TagCreateUpdate tagCreateUpdate) {
         Tag tag = Tag.create(tagCreateUpdate.name(), tagCreateUpdate.color());
 
         if (StringUtils.hasText(tagCreateUpdate.description())) {
@@ -27,10 +47,7 @@ public class TagService {
         if (StringUtils.hasText(tagCreateUpdate.category())) {
             tag.updateCategory(tagCreateUpdate.category());
         }
-
-        tagPersistence.create(tag);
-
-        return new CreateResponse(tag.getId());
+        return tag;
     }
 
     public void updateTag(String tagId, TagCreateUpdate tagCreateUpdate) {
@@ -62,6 +79,11 @@ public class TagService {
                 .orElseThrow(() -> new NotFoundException("Tag not found", tagId));
     }
 
+    public List<Tag> getTagsByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return tagPersistence.findAllByIds(ids);
+    }
+
     public Pagination<Tag> searchTags(SearchQuery query) {
         return tagPersistence.findAll(query);
     }
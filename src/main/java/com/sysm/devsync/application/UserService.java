@@ -9,6 +9,9 @@ import com.sysm.devsync.infrastructure.controllers.dto.request.UserCreateUpdate;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
+import java.util.List;
+
 public class UserService {
 
     private final UserPersistencePort userPersistence;
@@ -44,24 +47,27 @@ public class UserService {
         userPersistence.update(user);
     }
 
+    /**
+     * Writes only the fields given in the request, validated by the same rules as the model, in one
+     * statement; blank fields are left as they are.
+     */
     public void updateUserPatch(String userId, UserCreateUpdate userUpdate) {
-        User user = userPersistence.findById(userId)
-                .orElseThrow(() -> new NotFoundException("User not found", userId));
+        String name = StringUtils.hasText(userUpdate.name()) ? userUpdate.name() : null;
+        String email = StringUtils.hasText(userUpdate.email()) ? userUpdate.email() : null;
+        String profilePictureUrl = StringUtils.hasText(userUpdate.profilePictureUrl()) ? userUpdate.profilePictureUrl() : null;
 
-        if (StringUtils.hasText(userUpdate.name())) {
-            user.updateName(userUpdate.name());
+        if (name != null) {
+            User.validateName(name);
         }
-        if (StringUtils.hasText(userUpdate.email())) {
-            user.updateEmail(userUpdate.email());
-        }
-        if (userUpdate.userRole() != null) {
-            user.updateUserRole(userUpdate.userRole());
-        }
-        if (StringUtils.hasText(userUpdate.profilePictureUrl())) {
-            user.updateProfilePicture(userUpdate.profilePictureUrl());
+        if (email != null) {
+            User.validateEmail(email);
         }
 
-        userPersistence.update(user);
+        var updated = userPersistence.updatePartially(userId, name, email, userUpdate.userRole(),
+                profilePictureUrl, Instant.now());
+        if (!updated) {
+            throw new NotFoundException("User not found", userId);
+        }
     }
 
     public void deleteUser(String userId) {
@@ -76,6 +82,11 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException("User not found", userId));
     }
 
+    public List<User> getUsersByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return userPersistence.findAllByIds(ids);
+    }
+
     public Pagination<User> searchUsers(SearchQuery query) {
         return userPersistence.findAll(query);
     }
@@ -6,6 +6,7 @@ import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
@@ -14,7 +15,9 @@ import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 public class WorkspaceService {
@@ -55,46 +58,77 @@ public class WorkspaceService {
                 workspaceUpdate.name(),
                 workspaceUpdate.description()
         );
-
-        workspacePersistence.update(workspace);
-
         if (workspaceUpdate.isPrivate() != null && workspaceUpdate.isPrivate() != workspace.isPrivate()) {
-            changeWorkspacePrivacy(workspaceId, workspaceUpdate.isPrivate());
+            workspace.setPrivate(workspaceUpdate.isPrivate());
         }
+
+        workspacePersistence.update(workspace);
     }
 
     public void changeWorkspacePrivacy(String workspaceId, boolean isPrivate) {
-        Workspace workspace = workspacePersistence.findById(workspaceId)
-                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
-
-        workspace.setPrivate(isPrivate);
-        workspacePersistence.update(workspace);
+        if (!workspacePersistence.updatePrivacy(workspaceId, isPrivate, Instant.now())) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
     }
 
     public void addMemberToWorkspace(String workspaceId, String memberId) {
-        Workspace workspace = workspacePersistence.findById(workspaceId)
-                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
 
         var exist = userPersistence.existsById(memberId);
         if (!exist) {
             throw new NotFoundException("Member not found", memberId);
         }
 
-        workspace.addMember(memberId);
+        workspacePersistence.addMember(workspaceId, memberId);
+    }
 
-        workspacePersistence.update(workspace);
+    /**
+     * Adds every listed user; members already in the workspace are skipped. All ids are checked
+     * with one query before anything is written.
+     */
+    public void addMembersToWorkspace(String workspaceId, List<String> memberIds) {
+        BulkValidation.requireSize(memberIds);
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
+
+        var ids = new LinkedHashSet<>(memberIds);
+        BulkValidation.requireAllExist(ids, userPersistence.findExistingIds(ids), "Member not found");
+
+        workspacePersistence.addMembers(workspaceId, ids);
+    }
+
+    /**
+     * Removes every listed user; ids that are not members are skipped.
+     */
+    public void removeMembersFromWorkspace(String workspaceId, List<String> memberIds) {
+        BulkValidation.requireSize(memberIds);
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
+
+        workspacePersistence.removeMembers(workspaceId, new LinkedHashSet<>(memberIds));
     }
 
     public void removeMemberFromWorkspace(String workspaceId, String memberId) {
-        Workspace workspace = workspacePersistence.findById(workspaceId)
-                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
 
-        if (!workspace.getMembersId().contains(memberId)) {
+        if (!workspacePersistence.isMember(workspaceId, memberId)) {
             throw new NotFoundException("Member not found in workspace", memberId);
         }
-        workspace.removeMember(memberId);
 
-        workspacePersistence.update(workspace);
+        workspacePersistence.removeMember(workspaceId, memberId);
+    }
+
+    public Pagination<UserTO> getWorkspaceMembers(String workspaceId, Page page) {
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
+        return workspacePersistence.findMembers(workspaceId, page);
     }
 
     public void changeOwnerOfWorkspace(String workspaceId, String newOwnerId) {
@@ -138,30 +172,12 @@ public class WorkspaceService {
                 .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
     }
 
-    public Pagination<WorkspaceResponse> getAllWorkspaces(SearchQuery query) {
-        var workspacePage = workspacePersistence.findAll(query);
-
-        if (workspacePage.items().isEmpty()) {
-            return workspacePage.map(ws -> WorkspaceResponse.from(ws, 0));
-        }
-
-        var workspaceIds = workspacePage.items().stream()
-                .map(Workspace::getId)
-                .toList();
-
-        var mapProjectCounts = projectPersistence.countProjectsByWorkspaceIdIn(workspaceIds);
-
-        return workspacePage.map(ws -> {
-            Object countValue = mapProjectCounts.stream()
-                    .filter(x->x.key().equals(ws.getId()))
-                    .findFirst()
-                    .map(KeyValue::value)
-                    .orElse(0L);
-
-            var count = Long.parseLong(String.valueOf(countValue));
-
-            return WorkspaceResponse.from(ws, count);
-        });
+    public List<Workspace> getWorkspacesByIds(List<String> ids) {
+        BulkValidation.requireIds(ids);
+        return workspacePersistence.findAllByIds(ids);
+    }
 
+    public Pagination<WorkspaceResponse> getAllWorkspaces(SearchQuery query) {
+        return workspacePersistence.findAllProjected(query);
     }
 }
@@ -1,60 +1,87 @@
 package com.sysm.devsync.application.security;
 
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.infrastructure.cache.TinyLfuCache;
+
+import java.time.Duration;
+import java.util.function.BiPredicate;
 
 public class SecurityService {
 
+    private static final int MAX_DECISIONS = 10_000;
+
     private final NotePersistencePort notePersistence;
     private final AnswerPersistencePort answerPersistence;
     private final QuestionPersistencePort questionPersistence;
     private final CommentPersistencePort commentPersistence;
+    private final WorkspacePersistencePort workspacePersistence;
     // Add other persistence ports as needed
 
+    private final TinyLfuCache<String, Boolean> decisions;
+
     public SecurityService(NotePersistencePort notePersistence,
                            AnswerPersistencePort answerPersistence,
                            QuestionPersistencePort questionPersistence,
-                           CommentPersistencePort commentPersistence) {
+                           CommentPersistencePort commentPersistence,
+                           WorkspacePersistencePort workspacePersistence,
+                           Duration decisionTtl) {
         this.notePersistence = notePersistence;
         this.answerPersistence = answerPersistence;
         this.questionPersistence = questionPersistence;
         this.commentPersistence = commentPersistence;
+        this.workspacePersistence = workspacePersistence;
+        this.decisions = new TinyLfuCache<>(MAX_DECISIONS, decisionTtl, decision -> 1);
     }
 
     public boolean isAnswerOwner(String currentUserId, String answerId) {
-        return answerPersistence.findById(answerId)
-                .map(answer -> answer.getAuthorId().equals(currentUserId))
-                .orElse(false); // If answer not found, deny access for safety
+        return decide("answer-owner", currentUserId, answerId, answerPersistence::isAuthor);
     }
 
     public boolean isNoteOwner(String currentUserId, String noteId) {
-        return notePersistence.findById(noteId)
-                .map(note -> note.getAuthorId().equals(currentUserId))
-                .orElse(false);
+        return decide("note-owner", currentUserId, noteId, notePersistence::isAuthor);
     }
 
     public boolean isQuestionOwner(String currentUserId, String questionId) {
-        return questionPersistence.findById(questionId)
-                .map(question -> currentUserId.equals(question.getAuthorId()))
-                .orElse(false);
+        return decide("question-owner", currentUserId, questionId, questionPersistence::isAuthor);
     }
 
     public boolean isCommentOwner(String currentUserId, String commentId){
-        return commentPersistence.findById(commentId)
-                .map(comment -> currentUserId.equals(comment.getAuthorId()))
-                .orElse(false);
+        return decide("comment-owner", currentUserId, commentId, commentPersistence::isAuthor);
     }
 
     public boolean canUserAcceptAnswer(String currentUserId, String answerId) {
-        // Find the answer, then find its question, then check the question's author.
-        // The transaction is handled by the individual persistence calls.
-        return answerPersistence.findById(answerId)
-                .flatMap(answer -> questionPersistence.findById(answer.getQuestionId()))
-                .map(question -> currentUserId.equals(question.getAuthorId()))
-                .orElse(false);
+        // One join from the answer to its question's author; neither row is loaded.
+        return decide("answer-acceptor", currentUserId, answerId, answerPersistence::isQuestionAuthor);
+    }
+
+    public boolean isWorkspaceMember(String currentUserId, String workspaceId) {
+        // A single existence query on the join table; the member set is never loaded.
+        return workspacePersistence.isMember(workspaceId, currentUserId);
+    }
+
+    /**
+     * Runs an ownership check once per (check, user, resource) within the decision time to live.
+     * Authors never change, so a cached grant can only go stale when the resource is deleted, and
+     * the guarded call then fails with 404 anyway. Denials are not cached: the check may read a
+     * replica that has not yet seen a resource the user just created. Unknown users or resources
+     * are denied.
+     */
+    private boolean decide(String check, String userId, String resourceId, BiPredicate<String, String> query) {
+        if (userId == null || userId.isBlank() || resourceId == null || resourceId.isBlank()) {
+            return false;
+        }
+        String key = check + ':' + userId + ':' + resourceId;
+        if (decisions.get(key) != null) {
+            return true;
+        }
+        boolean granted = query.test(resourceId, userId);
+        if (granted) {
+            decisions.put(key, true);
+        }
+        return granted;
     }
 
     // You can add more complex checks here, for example:
-    // - isWorkspaceMember(auth, workspaceId)
     // - canUserViewProject(auth, projectId)
     // etc.
 }
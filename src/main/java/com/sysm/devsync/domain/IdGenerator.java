@@ -0,0 +1,42 @@
+package com.sysm.devsync.domain;
+
+import java.util.UUID;
+
+/**
+ * Source of the ids given to new models. The factories draw from {@link #current()}, which is a
+ * {@link UuidV7Generator} unless another generator was installed with {@link #use}.
+ */
+public interface IdGenerator {
+
+    String nextId();
+
+    static IdGenerator current() {
+        return Holder.generator;
+    }
+
+    static String generate() {
+        return Holder.generator.nextId();
+    }
+
+    static void use(IdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("ID generator cannot be null");
+        }
+        Holder.generator = generator;
+    }
+
+    /**
+     * Random version 4 UUIDs, as the models were created with before; kept for comparison.
+     */
+    static IdGenerator randomUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    final class Holder {
+
+        private static volatile IdGenerator generator = new UuidV7Generator();
+
+        private Holder() {
+        }
+    }
+}
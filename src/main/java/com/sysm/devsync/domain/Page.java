@@ -1,11 +1,35 @@
 package com.sysm.devsync.domain;
 
+import com.sysm.devsync.domain.enums.CountMode;
+
 public record Page(
         int pageNumber,
         int pageSize,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        CountMode countMode
 ) {
+
+    /**
+     * Cursor value that starts a keyset traversal from the first row.
+     */
+    public static final String FIRST_CURSOR = "*";
+
+    public Page {
+        if (countMode == null) {
+            countMode = CountMode.EXACT;
+        }
+    }
+
+    public Page(int pageNumber, int pageSize, String sort, String direction) {
+        this(pageNumber, pageSize, sort, direction, null, CountMode.EXACT);
+    }
+
+    public Page(int pageNumber, int pageSize, String sort, String direction, String cursor) {
+        this(pageNumber, pageSize, sort, direction, cursor, CountMode.EXACT);
+    }
+
     public static Page of(int pageNumber, int pageSize){
         return new Page(pageNumber, pageSize, "id", "asc");
     }
@@ -13,4 +37,24 @@ public record Page(
     public static Page of(int page, int pageSize, String sort, String direction){
         return new Page(page, pageSize, sort, direction);
     }
+
+    public static Page of(int page, int pageSize, String sort, String direction, String cursor){
+        return new Page(page, pageSize, sort, direction, cursor);
+    }
+
+    public static Page of(int page, int pageSize, String sort, String direction, String cursor, CountMode countMode){
+        return new Page(page, pageSize, sort, direction, cursor, countMode);
+    }
+
+    /**
+     * Keyset mode: instead of an OFFSET, the page starts right after the row encoded in the cursor.
+     * Use {@link #FIRST_CURSOR} to request the first page.
+     */
+    public static Page after(int pageSize, String sort, String direction, String cursor){
+        return new Page(0, pageSize, sort, direction, cursor == null ? FIRST_CURSOR : cursor);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
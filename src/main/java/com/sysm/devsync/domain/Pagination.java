@@ -3,18 +3,33 @@ package com.sysm.devsync.domain;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * A page of results.
+ * <p>
+ * When the total is not counted (keyset mode or {@code CountMode.NONE}) it is returned as {@code -1}
+ * and {@code hasNext} tells whether another page exists; {@code nextCursor} holds the token for the
+ * following keyset page, or {@code null} on the last one.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        boolean hasNext,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(int currentPage, int perPage, long total, List<T> items) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         List<R> aNewList = this.items().stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, hasNext(), nextCursor());
     }
 
 }
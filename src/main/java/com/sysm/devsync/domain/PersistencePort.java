@@ -1,6 +1,11 @@
 package com.sysm.devsync.domain;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public interface PersistencePort<T> {
 
@@ -8,11 +13,45 @@ public interface PersistencePort<T> {
 
     void update(T model);
 
+    /**
+     * Creates all models in one transaction. Adapters override this to write with JDBC batching.
+     */
+    default void createAll(Collection<T> models) {
+        models.forEach(this::create);
+    }
+
+    /**
+     * Updates all models in one transaction. Adapters override this to write with JDBC batching.
+     */
+    default void updateAll(Collection<T> models) {
+        models.forEach(this::update);
+    }
+
     void deleteById(String id);
 
     Optional<T> findById(String id);
 
     boolean existsById(String id);
 
+    /**
+     * Returns the subset of {@code ids} that exist.
+     */
+    default Set<String> findExistingIds(Collection<String> ids) {
+        return ids.stream()
+                .filter(this::existsById)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the models with the given ids in the order of {@code ids}, each once. Ids with no model
+     * are left out. Adapters override this to read with a few bounded {@code IN} queries.
+     */
+    default List<T> findAllByIds(Collection<String> ids) {
+        return new LinkedHashSet<>(ids).stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
     Pagination<T> findAll(SearchQuery query);
 }
@@ -0,0 +1,82 @@
+package com.sysm.devsync.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562): 48 bits of Unix milliseconds, then a 42-bit counter
+ * spread over {@code rand_a} and the top of {@code rand_b}, then 32 random bits.
+ * <p>
+ * Each thread keeps its own last timestamp and counter and draws from {@link ThreadLocalRandom},
+ * so nothing is shared between callers. The counter starts at a random value with its top bit
+ * clear each millisecond and counts up, which keeps the ids of one thread strictly increasing,
+ * also in their string form, even within a millisecond or when the clock steps back. If it runs
+ * out, the timestamp is moved one millisecond ahead. Ids from different threads are ordered by
+ * their millisecond only.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 42;
+    private static final int COUNTER_LOW_BITS = 30;
+    private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+    private static final long COUNTER_SEED_MASK = COUNTER_MAX >>> 1;
+    private static final long COUNTER_LOW_MASK = (1L << COUNTER_LOW_BITS) - 1;
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    public UuidV7Generator(LongSupplier clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        return nextUuid().toString();
+    }
+
+    public UUID nextUuid() {
+        var random = ThreadLocalRandom.current();
+        var last = state.get();
+
+        long now = clock.getAsLong();
+        if (now > last.millis) {
+            last.millis = now;
+            last.counter = random.nextLong() & COUNTER_SEED_MASK;
+        } else if (last.counter < COUNTER_MAX) {
+            last.counter++;
+        } else {
+            last.millis++;
+            last.counter = random.nextLong() & COUNTER_SEED_MASK;
+        }
+
+        long msb = (last.millis << 16) | VERSION | (last.counter >>> COUNTER_LOW_BITS);
+        long lsb = VARIANT | ((last.counter & COUNTER_LOW_MASK) << 32) | (random.nextLong() & 0xFFFFFFFFL);
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * The Unix milliseconds a version 7 UUID was generated at.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private long counter;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sysm.devsync.domain.enums;
+
+public enum ContentType {
+    NOTE,
+    QUESTION,
+    ANSWER,
+    COMMENT;
+
+    public static ContentType of(String type) {
+        if (type == null)
+            return null;
+        return ContentType.valueOf(type.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,19 @@
+package com.sysm.devsync.domain.enums;
+
+/**
+ * How the total of a paged search is computed.
+ * <ul>
+ *     <li>{@code EXACT}: runs a COUNT query on every page (default).</li>
+ *     <li>{@code ESTIMATED}: reuses a periodically refreshed count for the same filters.</li>
+ *     <li>{@code NONE}: no count at all, only whether a next page exists.</li>
+ * </ul>
+ */
+public enum CountMode {
+    EXACT, ESTIMATED, NONE;
+
+    public static CountMode of(String mode) {
+        if (mode == null || mode.isBlank())
+            return EXACT;
+        return CountMode.valueOf(mode.toUpperCase());
+    }
+}
@@ -0,0 +1,25 @@
+package com.sysm.devsync.domain.enums;
+
+/**
+ * The kinds of stored rows a write can reference by id.
+ */
+public enum EntityType {
+    USER,
+    WORKSPACE,
+    PROJECT,
+    TAG,
+    QUESTION,
+    ANSWER,
+    NOTE,
+    COMMENT;
+
+    public static EntityType of(TargetType targetType) {
+        if (targetType == null)
+            return null;
+        return switch (targetType) {
+            case NOTE -> NOTE;
+            case QUESTION -> QUESTION;
+            case ANSWER -> ANSWER;
+        };
+    }
+}
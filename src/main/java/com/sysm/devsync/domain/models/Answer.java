@@ -1,5 +1,7 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
+
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
@@ -95,7 +97,7 @@ public class Answer extends AbstractModel {
     }
 
     public static Answer create(String content, String questionId, String authorId) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Answer(
                 id,
@@ -1,5 +1,6 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
 import com.sysm.devsync.domain.enums.TargetType;
 
 import java.time.Instant;
@@ -91,7 +92,7 @@ public class Comment extends AbstractModel {
     }
 
     public static Comment create(TargetType targetType, String targetId, String authorId, String content) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Comment(id, targetType, targetId, authorId, now, content, now);
     }
@@ -1,5 +1,7 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
+
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
@@ -137,7 +139,7 @@ public class Note extends AbstractModel {
     }
 
     public static Note create(String title, String content, String projectId, String authorId) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Note(
                 id,
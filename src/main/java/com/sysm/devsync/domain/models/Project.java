@@ -1,5 +1,7 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
+import com.sysm.devsync.domain.models.counts.ProjectCounts;
 import com.sysm.devsync.domain.models.to.WorkspaceTO;
 
 import java.time.Instant;
@@ -13,6 +15,7 @@ public class Project extends AbstractModel {
     private String name;
     private String description;
     private WorkspaceTO workspace;
+    private ProjectCounts counts = ProjectCounts.NONE;
 
     private Project(String id, Instant createdAt, Instant updatedAt, String name, String description, WorkspaceTO workspace) {
         this.id = id;
@@ -49,6 +52,13 @@ public class Project extends AbstractModel {
         return workspace;
     }
 
+    /**
+     * Question and note counters, as counted by persistence; none for a new project.
+     */
+    public ProjectCounts getCounts() {
+        return counts;
+    }
+
     public Instant getCreatedAt() {
         if (createdAt != null) {
             return createdAt.truncatedTo(ChronoUnit.MILLIS);
@@ -79,7 +89,7 @@ public class Project extends AbstractModel {
     }
 
     public static Project create(String name, String description, WorkspaceTO workspace) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Project(id, now, now, name, description, workspace);
     }
@@ -96,4 +106,11 @@ public class Project extends AbstractModel {
         return build(id, name, description, WorkspaceTO.of(workspaceId), createdAt, updatedAt);
     }
 
+    public static Project build(String id, String name, String description, WorkspaceTO workspace, Instant createdAt, Instant updatedAt,
+                                ProjectCounts counts) {
+        var project = build(id, name, description, workspace, createdAt, updatedAt);
+        project.counts = counts == null ? ProjectCounts.NONE : counts;
+        return project;
+    }
+
 }
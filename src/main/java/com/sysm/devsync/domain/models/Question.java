@@ -1,6 +1,8 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
 import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.models.counts.QuestionCounts;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -20,6 +22,7 @@ public class Question extends AbstractModel {
 
     private QuestionStatus status; // OPEN, CLOSED, RESOLVED
     private Instant updatedAt;
+    private QuestionCounts counts = QuestionCounts.NONE;
 
 
     // The private constructor with the new, matching order
@@ -121,6 +124,13 @@ public class Question extends AbstractModel {
         return status;
     }
 
+    /**
+     * Answer and comment counters, as counted by persistence; none for a new question.
+     */
+    public QuestionCounts getCounts() {
+        return counts;
+    }
+
     public Instant getCreatedAt() {
         if (createdAt != null) {
             return createdAt.truncatedTo(ChronoUnit.MILLIS);
@@ -136,7 +146,7 @@ public class Question extends AbstractModel {
     }
 
     public static Question create(String title, String description, String projectId, String authorId) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Question(
                 id,
@@ -166,4 +176,13 @@ public class Question extends AbstractModel {
                 questionStatus
         );
     }
+
+    public static Question build(String id, Instant createdAt, Instant updatedAt,
+                                 String title, String description, Set<String> tags,
+                                 String projectId, String authorId, QuestionStatus questionStatus,
+                                 QuestionCounts counts) {
+        var question = build(id, createdAt, updatedAt, title, description, tags, projectId, authorId, questionStatus);
+        question.counts = counts == null ? QuestionCounts.NONE : counts;
+        return question;
+    }
 }
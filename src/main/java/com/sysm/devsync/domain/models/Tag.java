@@ -1,5 +1,7 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
+
 public class Tag extends AbstractModel {
 
     private final String id;
@@ -82,7 +84,7 @@ public class Tag extends AbstractModel {
     }
 
     public static Tag create(String name, String color) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         return new Tag(
                 id,
                 name,
@@ -94,7 +96,7 @@ public class Tag extends AbstractModel {
     }
 
     public static Tag create(String name, String color, String category) {
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         return new Tag(
                 id,
                 name,
@@ -1,11 +1,11 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
 import com.sysm.devsync.domain.enums.UserRole;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
-import java.util.UUID;
 
 public class User extends AbstractModel {
 
@@ -46,27 +46,48 @@ public class User extends AbstractModel {
     }
 
     public void updateName(String name) {
-        if (name == null || name.isBlank()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
+        validateName(name);
         this.name = name;
         this.updatedAt = Instant.now();
     }
 
     public void updateEmail(String email) {
-        if (email == null || email.isBlank() || !email.matches("^[\\w-.]+@[\\w-]+\\.[a-z]{2,}$")) {
-            throw new IllegalArgumentException("Email cannot be null or empty");
-        }
+        validateEmail(email);
         this.email = email;
         this.updatedAt = Instant.now();
     }
 
     public void updateUserRole(UserRole userRole) {
+        validateRole(userRole);
+        this.role = userRole;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * The rule {@link #updateName} applies, for changes written without loading the user.
+     */
+    public static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+    }
+
+    /**
+     * The rule {@link #updateEmail} applies, for changes written without loading the user.
+     */
+    public static void validateEmail(String email) {
+        if (email == null || email.isBlank() || !email.matches("^[\\w-.]+@[\\w-]+\\.[a-z]{2,}$")) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+    }
+
+    /**
+     * The rule {@link #updateUserRole} applies, for changes written without loading the user.
+     */
+    public static void validateRole(UserRole userRole) {
         if (userRole == null) {
             throw new IllegalArgumentException("Role cannot be null or empty");
         }
-        this.role = userRole;
-        this.updatedAt = Instant.now();
     }
 
     public void updatePassword(String passwordHash) {
@@ -141,7 +162,7 @@ public class User extends AbstractModel {
 
     public static User create(String username, String email, UserRole userRole) {
         Instant now = Instant.now();
-        String id = UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
 
         return new User(id, now, now, username, email, null, null, userRole);
     }
@@ -1,5 +1,6 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.IdGenerator;
 import com.sysm.devsync.domain.models.to.UserTO;
 
 import java.time.Instant;
@@ -21,10 +22,12 @@ public class Workspace extends AbstractModel {
     private boolean isPrivate;
     private UserTO owner;
     private Set<UserTO> members;
+    private long memberCount;
+    private long projectCount;
 
     private Workspace(String id, Instant createdAt, Instant updatedAt,
                       String name, String description, boolean isPrivate,
-                      UserTO owner, Set<UserTO> members) {
+                      UserTO owner, Set<UserTO> members, long memberCount) {
 
         this.id = id;
         this.createdAt = createdAt;
@@ -34,6 +37,7 @@ public class Workspace extends AbstractModel {
         this.isPrivate = isPrivate;
         this.owner = owner;
         this.members = members;
+        this.memberCount = memberCount;
 
         validate(name, description);
 
@@ -86,7 +90,9 @@ public class Workspace extends AbstractModel {
             members = new HashSet<>();
         }
 
-        this.members.add(UserTO.of(userId));
+        if (this.members.add(UserTO.of(userId))) {
+            memberCount++;
+        }
     }
 
     public void addMember(String userId, String name) {
@@ -98,7 +104,9 @@ public class Workspace extends AbstractModel {
             members = new HashSet<>();
         }
 
-        this.members.add(UserTO.of(userId, name));
+        if (this.members.add(UserTO.of(userId, name))) {
+            memberCount++;
+        }
     }
 
     public void removeMember(String userId) {
@@ -108,7 +116,9 @@ public class Workspace extends AbstractModel {
         if (members == null) {
             throw new IllegalArgumentException("Members cannot be null");
         }
-        this.members.removeIf(u-> u.id().equals(userId));
+        if (this.members.removeIf(u-> u.id().equals(userId))) {
+            memberCount--;
+        }
     }
 
     public String getId() {
@@ -155,6 +165,21 @@ public class Workspace extends AbstractModel {
         return Collections.unmodifiableSet(members);
     }
 
+    /**
+     * Number of members of the workspace. Workspaces loaded from persistence carry only this count;
+     * their members are read page by page, so {@link #getMembers()} holds just the ones added in memory.
+     */
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Number of projects in the workspace, as counted by persistence; zero for a new workspace.
+     */
+    public long getProjectCount() {
+        return projectCount;
+    }
+
     public final boolean equals(Object o) {
         if (!(o instanceof Workspace that)) return false;
 
@@ -168,7 +193,7 @@ public class Workspace extends AbstractModel {
     public static Workspace create(String name, String description, boolean isPrivate,
                                    UserTO owner) {
 
-        String id = java.util.UUID.randomUUID().toString();
+        String id = IdGenerator.generate();
         Instant now = Instant.now();
         return new Workspace(
                 id,
@@ -178,7 +203,8 @@ public class Workspace extends AbstractModel {
                 description,
                 isPrivate,
                 owner,
-                new HashSet<>()
+                new HashSet<>(),
+                0
         );
     }
 
@@ -199,8 +225,33 @@ public class Workspace extends AbstractModel {
                 description,
                 isPrivate,
                 ownerId,
-                members != null ? new HashSet<>(members) : new HashSet<>()
+                members != null ? new HashSet<>(members) : new HashSet<>(),
+                members != null ? members.size() : 0
+        );
+    }
+
+    public static Workspace build(String id, Instant createdAt, Instant updatedAt,
+                                  String name, String description, boolean isPrivate,
+                                  UserTO owner, long memberCount) {
+        return new Workspace(
+                id,
+                createdAt,
+                updatedAt,
+                name,
+                description,
+                isPrivate,
+                owner,
+                new HashSet<>(),
+                memberCount
         );
     }
 
+    public static Workspace build(String id, Instant createdAt, Instant updatedAt,
+                                  String name, String description, boolean isPrivate,
+                                  UserTO owner, long memberCount, long projectCount) {
+        var workspace = build(id, createdAt, updatedAt, name, description, isPrivate, owner, memberCount);
+        workspace.projectCount = projectCount;
+        return workspace;
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.sysm.devsync.domain.models.counts;
+
+/**
+ * Counters kept on a project row, maintained by the persistence layer as questions and notes
+ * are written.
+ */
+public record ProjectCounts(long questions, long notes, long openQuestions) {
+
+    public static final ProjectCounts NONE = new ProjectCounts(0, 0, 0);
+}
@@ -0,0 +1,10 @@
+package com.sysm.devsync.domain.models.counts;
+
+/**
+ * Counters kept on a question row, maintained by the persistence layer as answers and comments
+ * are written. Only comments made on the question itself are counted, not those on its answers.
+ */
+public record QuestionCounts(long answers, long comments, String acceptedAnswerId) {
+
+    public static final QuestionCounts NONE = new QuestionCounts(0, 0, null);
+}
@@ -5,10 +5,36 @@ import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
 import com.sysm.devsync.domain.models.Answer;
 
+import java.time.Instant;
+
 public interface AnswerPersistencePort extends PersistencePort<Answer> {
 
     Pagination<Answer> findAllByQuestionId(Page page, String questionId);
 
+    /**
+     * Deletes the question's answers in one statement, without loading them.
+     */
     void deleteAllByQuestionId(String questionId);
 
+    /**
+     * Whether {@code userId} wrote the answer, read from its author column alone.
+     */
+    boolean isAuthor(String answerId, String userId);
+
+    /**
+     * Whether {@code userId} wrote the question the answer belongs to, in one query.
+     */
+    boolean isQuestionAuthor(String answerId, String userId);
+
+    /**
+     * Accepts the answer and un-accepts any other accepted answer of the same question, in one
+     * statement. Returns {@code false} when no answer has this id.
+     */
+    boolean accept(String answerId, Instant updatedAt);
+
+    /**
+     * Un-accepts the answer in one statement. Returns {@code false} when no answer has this id.
+     */
+    boolean reject(String answerId, Instant updatedAt);
+
 }
@@ -3,12 +3,41 @@ package com.sysm.devsync.domain.persistence;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
+
+import java.util.function.Consumer;
 
 public interface CommentPersistencePort extends PersistencePort<Comment> {
 
     Pagination<Comment> findAllByTargetId(Page page, TargetType targetType, String targetId);
 
+    /**
+     * Deletes the target's comments in one statement, without loading them.
+     */
     void deleteAllByTargetTypeAndTargetId(TargetType targetType, String targetId);
+
+    /**
+     * Deletes the comments on every answer of the question in one statement. Must run before the
+     * answers themselves are deleted.
+     */
+    void deleteAllOnAnswersOfQuestion(String questionId);
+
+    /**
+     * Same search as {@link #findAll}, read straight into the list response from the needed columns.
+     */
+    Pagination<CommentResponse> findAllProjected(SearchQuery query);
+
+    /**
+     * Hands every comment matching the query to {@code consumer}, in the query's sort order,
+     * without holding the result in memory. Paging parameters are ignored.
+     */
+    void streamAllProjected(SearchQuery query, Consumer<CommentResponse> consumer);
+
+    /**
+     * Whether {@code userId} wrote the comment, read from its author column alone.
+     */
+    boolean isAuthor(String commentId, String userId);
 }
@@ -0,0 +1,15 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.enums.EntityType;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface ExistencePersistencePort {
+
+    /**
+     * Checks the ids of every type at once and returns, per type, the ids that do not exist. Types
+     * whose ids all exist are left out, so an empty map means every reference resolved.
+     */
+    Map<EntityType, Set<String>> verifyExists(Map<EntityType, Set<String>> ids);
+}
@@ -3,10 +3,30 @@ package com.sysm.devsync.domain.persistence;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
+
+import java.util.function.Consumer;
 
 public interface NotePersistencePort extends PersistencePort<Note> {
 
     Pagination<Note> findAllByProjectId(Page page, String projectId);
 
+    /**
+     * Same search as {@link #findAll}, read straight into the list response from the needed columns.
+     */
+    Pagination<NoteResponse> findAllProjected(SearchQuery query);
+
+    /**
+     * Hands every note matching the query to {@code consumer}, in the query's sort order,
+     * without holding the result in memory. Paging parameters are ignored.
+     */
+    void streamAllProjected(SearchQuery query, Consumer<NoteResponse> consumer);
+
+    /**
+     * Whether {@code userId} wrote the note, read from its author column alone.
+     */
+    boolean isAuthor(String noteId, String userId);
+
 }
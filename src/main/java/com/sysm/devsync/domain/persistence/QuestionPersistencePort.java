@@ -3,10 +3,38 @@ package com.sysm.devsync.domain.persistence;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
+
+import java.time.Instant;
+import java.util.function.Consumer;
 
 public interface QuestionPersistencePort extends PersistencePort<Question> {
 
     Pagination<Question> findAllByProjectId(Page page, String projectId);
 
+    /**
+     * Same search as {@link #findAll}, read straight into the list response from the needed columns.
+     */
+    Pagination<QuestionResponse> findAllProjected(SearchQuery query);
+
+    /**
+     * Hands every question matching the query to {@code consumer}, in the query's sort order,
+     * without holding the result in memory. Paging parameters are ignored.
+     */
+    void streamAllProjected(SearchQuery query, Consumer<QuestionResponse> consumer);
+
+    /**
+     * Whether {@code userId} wrote the question, read from its author column alone.
+     */
+    boolean isAuthor(String questionId, String userId);
+
+    /**
+     * Sets the question's status in one statement, without loading it. Returns {@code false}
+     * when no question has this id.
+     */
+    boolean updateStatus(String questionId, QuestionStatus status, Instant updatedAt);
+
 }
@@ -0,0 +1,59 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface SearchIndexPort {
+
+    /**
+     * Adds the document, replacing any previous version with the same type and id.
+     */
+    void index(SearchDocument document);
+
+    void indexAll(Collection<SearchDocument> documents);
+
+    void remove(ContentType type, String id);
+
+    /**
+     * Removes every document below the given id, children and their children in turn, e.g. the
+     * answers and comments of a question and the comments on those answers.
+     */
+    void removeByParentId(String parentId);
+
+    /**
+     * Starts a rebuild. Until the matching {@link #endRebuild()}, live writes are remembered so that
+     * rows loaded by the rebuild, which may have been read before those writes, cannot undo them.
+     */
+    void beginRebuild();
+
+    /**
+     * Adds documents read by a rebuild, replacing any previous version.
+     */
+    void loadAll(Collection<SearchDocument> documents);
+
+    /**
+     * Ends a rebuild, applying again every live write made since it began.
+     */
+    void endRebuild();
+
+    /**
+     * Ranks the documents matching the text, optionally restricted to some content types.
+     * An empty or null set of types searches all of them.
+     */
+    Pagination<SearchHit> search(String text, Set<ContentType> types, Page page);
+
+    /**
+     * Finds the documents whose fenced code blocks contain the query, either as an exact
+     * (case-sensitive) substring or as a regular expression.
+     */
+    Pagination<CodeMatch> searchCode(String query, boolean regex, Set<ContentType> types, Page page);
+
+    int size();
+}
@@ -5,7 +5,14 @@ import com.sysm.devsync.domain.models.Tag;
 
 public interface TagPersistencePort extends PersistencePort<Tag> {
 
+    /**
+     * Counts one more use of the tag. The count is written behind, so a tag read right after may
+     * not show it yet.
+     */
     void incrementUse(String id);
 
+    /**
+     * Counts one use of the tag less, written behind like {@link #incrementUse}.
+     */
     void decrementUse(String id);
 }
@@ -1,13 +1,22 @@
 package com.sysm.devsync.domain.persistence;
 
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.enums.UserRole;
 import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface UserPersistencePort extends PersistencePort<User> {
 
     List<KeyValue> userIdXUseName(List<String> userIds);
 
+    /**
+     * Writes the given fields of the user in one statement, without loading it; a {@code null}
+     * field keeps its stored value. Returns {@code false} when no user has this id.
+     */
+    boolean updatePartially(String userId, String name, String email, UserRole role,
+                            String profilePictureUrl, Instant updatedAt);
+
 }
@@ -1,9 +1,51 @@
 package com.sysm.devsync.domain.persistence;
 
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
+
+import java.time.Instant;
+import java.util.Collection;
 
 public interface WorkspacePersistencePort extends PersistencePort<Workspace> {
 
     boolean hasMembers(String workspaceId);
+
+    boolean isMember(String workspaceId, String userId);
+
+    /**
+     * Adds the user to the workspace's members; adding an existing member is a no-op.
+     */
+    void addMember(String workspaceId, String userId);
+
+    /**
+     * Adds every listed user that is not a member yet; existing members and unknown users are
+     * skipped. Runs as a constant number of statements however many members the workspace has.
+     */
+    void addMembers(String workspaceId, Collection<String> userIds);
+
+    void removeMember(String workspaceId, String userId);
+
+    /**
+     * Removes every listed user from the members; users that are not members are skipped.
+     */
+    void removeMembers(String workspaceId, Collection<String> userIds);
+
+    Pagination<UserTO> findMembers(String workspaceId, Page page);
+
+    /**
+     * Sets whether the workspace is private in one statement, without loading it. Returns
+     * {@code false} when no workspace has this id.
+     */
+    boolean updatePrivacy(String workspaceId, boolean isPrivate, Instant updatedAt);
+
+    /**
+     * Same search as {@link #findAll}, read straight into the list response from the needed columns.
+     * The project count is left at zero for the caller to fill in.
+     */
+    Pagination<WorkspaceResponse> findAllProjected(SearchQuery query);
 }
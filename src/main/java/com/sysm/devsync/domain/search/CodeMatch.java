@@ -0,0 +1,17 @@
+package com.sysm.devsync.domain.search;
+
+import com.sysm.devsync.domain.enums.ContentType;
+
+/**
+ * A code search match: the first line of the document's code blocks that matches the query,
+ * with its 1-based line number inside the code.
+ */
+public record CodeMatch(
+        ContentType type,
+        String id,
+        String parentId,
+        String title,
+        int line,
+        String fragment
+) {
+}
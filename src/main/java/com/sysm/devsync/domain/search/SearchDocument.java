@@ -0,0 +1,36 @@
+package com.sysm.devsync.domain.search;
+
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Question;
+
+/**
+ * The searchable text of a piece of content. {@code parentId} is the project of a note or question,
+ * the question of an answer and the target of a comment, so children can be dropped with their parent.
+ */
+public record SearchDocument(
+        ContentType type,
+        String id,
+        String parentId,
+        String title,
+        String body
+) {
+
+    public static SearchDocument of(Note note) {
+        return new SearchDocument(ContentType.NOTE, note.getId(), note.getProjectId(), note.getTitle(), note.getContent());
+    }
+
+    public static SearchDocument of(Question question) {
+        return new SearchDocument(ContentType.QUESTION, question.getId(), question.getProjectId(), question.getTitle(), question.getDescription());
+    }
+
+    public static SearchDocument of(Answer answer) {
+        return new SearchDocument(ContentType.ANSWER, answer.getId(), answer.getQuestionId(), null, answer.getContent());
+    }
+
+    public static SearchDocument of(Comment comment) {
+        return new SearchDocument(ContentType.COMMENT, comment.getId(), comment.getTargetId(), null, comment.getContent());
+    }
+}
@@ -0,0 +1,17 @@
+package com.sysm.devsync.domain.search;
+
+import com.sysm.devsync.domain.enums.ContentType;
+
+/**
+ * A ranked match: the BM25 score of the document and a snippet of its text with the matched terms
+ * wrapped in {@code <em>} tags.
+ */
+public record SearchHit(
+        ContentType type,
+        String id,
+        String parentId,
+        String title,
+        double score,
+        String snippet
+) {
+}
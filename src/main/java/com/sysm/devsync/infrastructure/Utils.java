@@ -1,5 +1,7 @@
 package com.sysm.devsync.infrastructure;
 
+import com.sysm.devsync.domain.IdGenerator;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -10,7 +12,7 @@ public final class Utils {
     }
 
     public static String generateId() {
-        return java.util.UUID.randomUUID().toString();
+        return IdGenerator.generate();
     }
 
     public static void sleep(long millis) {
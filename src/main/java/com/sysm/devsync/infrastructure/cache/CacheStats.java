@@ -0,0 +1,14 @@
+package com.sysm.devsync.infrastructure.cache;
+
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        int size,
+        long weight
+) {
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
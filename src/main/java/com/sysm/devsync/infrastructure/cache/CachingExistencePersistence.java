@@ -0,0 +1,63 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.enums.EntityType;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers {@code verifyExists} from the existence caches of the {@link CachingPersistence} ports where
+ * they know the id exists, and sends only the remaining ids to the delegate, in one call. The ids the
+ * delegate finds are remembered in the same caches, so a later {@code existsById} does not ask again.
+ */
+public class CachingExistencePersistence implements ExistencePersistencePort {
+
+    private final ExistencePersistencePort delegate;
+    private final Map<EntityType, CachingPersistence<?>> caches;
+
+    public CachingExistencePersistence(ExistencePersistencePort delegate, Map<EntityType, CachingPersistence<?>> caches) {
+        this.delegate = delegate;
+        this.caches = Map.copyOf(caches);
+    }
+
+    @Override
+    public Map<EntityType, Set<String>> verifyExists(Map<EntityType, Set<String>> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return delegate.verifyExists(ids);
+        }
+
+        Map<EntityType, Set<String>> missing = new EnumMap<>(EntityType.class);
+        Map<EntityType, Set<String>> unknown = new EnumMap<>(EntityType.class);
+        ids.forEach((type, typeIds) -> {
+            var cache = caches.get(type);
+            if (cache == null) {
+                unknown.put(type, typeIds);
+                return;
+            }
+            for (var id : typeIds) {
+                if (cache.cachedExistence(id) == null) {
+                    unknown.computeIfAbsent(type, k -> new HashSet<>()).add(id);
+                }
+            }
+        });
+        if (unknown.isEmpty()) {
+            return missing;
+        }
+
+        var notFound = delegate.verifyExists(unknown);
+        unknown.forEach((type, typeIds) -> {
+            var absent = notFound.getOrDefault(type, Set.of());
+            var cache = caches.get(type);
+            if (cache != null) {
+                typeIds.forEach(id -> cache.remember(id, !absent.contains(id)));
+            }
+            if (!absent.isEmpty()) {
+                missing.computeIfAbsent(type, k -> new HashSet<>()).addAll(absent);
+            }
+        });
+        return missing;
+    }
+}
@@ -0,0 +1,185 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.SearchQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of a {@link PersistencePort}, remembering which ids exist.
+ * <p>
+ * {@code existsById} and {@code findExistingIds} are answered from the cache, and every
+ * {@code findById} or {@code findAllByIds} records the rows that were there. Missing ids are not
+ * remembered: the read may have gone to a replica that has not caught up with a create, and caching
+ * that answer would turn it into a "not found" for the whole TTL. The models themselves are not cached:
+ * services change them in place before saving, so a shared instance would leak unsaved changes
+ * between requests.
+ * <p>
+ * Writes through this port invalidate the ids they touch, once right away and once more when
+ * the surrounding transaction ends. Reads inside a read-write transaction are not remembered,
+ * since they may see rows that are later rolled back.
+ */
+public abstract class CachingPersistence<T> implements PersistencePort<T> {
+
+    private final String name;
+    private final PersistencePort<T> delegate;
+    private final Function<T, String> idOf;
+    private final TinyLfuCache<String, Boolean> existence;
+
+    protected CachingPersistence(String name, PersistencePort<T> delegate, Function<T, String> idOf,
+                                 long maximumSize, Duration ttl) {
+        this.name = name;
+        this.delegate = delegate;
+        this.idOf = idOf;
+        this.existence = new TinyLfuCache<>(maximumSize, ttl, exists -> 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats stats() {
+        return existence.stats();
+    }
+
+    @Override
+    public void create(T model) {
+        delegate.create(model);
+        invalidate(idOf(model));
+    }
+
+    @Override
+    public void update(T model) {
+        delegate.update(model);
+        invalidate(idOf(model));
+    }
+
+    @Override
+    public void createAll(Collection<T> models) {
+        delegate.createAll(models);
+        models.forEach(model -> invalidate(idOf(model)));
+    }
+
+    @Override
+    public void updateAll(Collection<T> models) {
+        delegate.updateAll(models);
+        models.forEach(model -> invalidate(idOf(model)));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        invalidate(id);
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        var model = delegate.findById(id);
+        remember(id, model.isPresent());
+        return model;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        if (id == null || id.isEmpty()) {
+            return delegate.existsById(id);
+        }
+        var cached = existence.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        boolean exists = delegate.existsById(id);
+        remember(id, exists);
+        return exists;
+    }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (var id : new HashSet<>(ids)) {
+            var cached = id == null ? null : existence.get(id);
+            if (cached == null) {
+                unknown.add(id);
+            } else if (cached) {
+                existing.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            var found = delegate.findExistingIds(unknown);
+            existing.addAll(found);
+            unknown.forEach(id -> remember(id, found.contains(id)));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<T> findAllByIds(Collection<String> ids) {
+        var models = delegate.findAllByIds(ids);
+        Set<String> found = new HashSet<>();
+        models.forEach(model -> found.add(idOf(model)));
+        ids.forEach(id -> remember(id, found.contains(id)));
+        return models;
+    }
+
+    @Override
+    public Pagination<T> findAll(SearchQuery query) {
+        return delegate.findAll(query);
+    }
+
+    private String idOf(T model) {
+        return model == null ? null : idOf.apply(model);
+    }
+
+    /**
+     * {@code true} when the id is known to exist, or {@code null} when the cache does not know it.
+     */
+    Boolean cachedExistence(String id) {
+        return id == null ? null : existence.get(id);
+    }
+
+    void remember(String id, boolean exists) {
+        if (id == null || inReadWriteTransaction()) {
+            return;
+        }
+        if (exists) {
+            existence.put(id, true);
+        } else {
+            existence.invalidate(id);
+        }
+    }
+
+    /**
+     * Drops the id now and again once the transaction completes, so a read that slipped in
+     * between the write and its commit does not survive it.
+     */
+    protected void invalidate(String id) {
+        if (id == null) {
+            return;
+        }
+        existence.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    existence.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+               && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
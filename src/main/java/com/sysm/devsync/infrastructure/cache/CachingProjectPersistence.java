@@ -0,0 +1,28 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+
+import java.time.Duration;
+import java.util.List;
+
+public class CachingProjectPersistence extends CachingPersistence<Project> implements ProjectPersistencePort {
+
+    private final ProjectPersistencePort delegate;
+
+    public CachingProjectPersistence(ProjectPersistencePort delegate, long maximumSize, Duration ttl) {
+        super("projects", delegate, Project::getId, maximumSize, ttl);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean existsByWorkspaceId(String workspaceId) {
+        return delegate.existsByWorkspaceId(workspaceId);
+    }
+
+    @Override
+    public List<KeyValue> countProjectsByWorkspaceIdIn(List<String> workspaceIds) {
+        return delegate.countProjectsByWorkspaceIdIn(workspaceIds);
+    }
+}
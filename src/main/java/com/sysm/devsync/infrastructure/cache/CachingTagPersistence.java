@@ -0,0 +1,26 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.persistence.TagPersistencePort;
+
+import java.time.Duration;
+
+public class CachingTagPersistence extends CachingPersistence<Tag> implements TagPersistencePort {
+
+    private final TagPersistencePort delegate;
+
+    public CachingTagPersistence(TagPersistencePort delegate, long maximumSize, Duration ttl) {
+        super("tags", delegate, Tag::getId, maximumSize, ttl);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void incrementUse(String id) {
+        delegate.incrementUse(id);
+    }
+
+    @Override
+    public void decrementUse(String id) {
+        delegate.decrementUse(id);
+    }
+}
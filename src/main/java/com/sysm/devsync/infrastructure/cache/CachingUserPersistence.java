@@ -0,0 +1,31 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public class CachingUserPersistence extends CachingPersistence<User> implements UserPersistencePort {
+
+    private final UserPersistencePort delegate;
+
+    public CachingUserPersistence(UserPersistencePort delegate, long maximumSize, Duration ttl) {
+        super("users", delegate, User::getId, maximumSize, ttl);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<KeyValue> userIdXUseName(List<String> userIds) {
+        return delegate.userIdXUseName(userIds);
+    }
+
+    @Override
+    public boolean updatePartially(String userId, String name, String email, UserRole role,
+                                   String profilePictureUrl, Instant updatedAt) {
+        return delegate.updatePartially(userId, name, email, role, profilePictureUrl, updatedAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
+import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+public class CachingWorkspacePersistence extends CachingPersistence<Workspace> implements WorkspacePersistencePort {
+
+    private final WorkspacePersistencePort delegate;
+
+    public CachingWorkspacePersistence(WorkspacePersistencePort delegate, long maximumSize, Duration ttl) {
+        super("workspaces", delegate, Workspace::getId, maximumSize, ttl);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasMembers(String workspaceId) {
+        return delegate.hasMembers(workspaceId);
+    }
+
+    @Override
+    public boolean isMember(String workspaceId, String userId) {
+        return delegate.isMember(workspaceId, userId);
+    }
+
+    @Override
+    public void addMember(String workspaceId, String userId) {
+        delegate.addMember(workspaceId, userId);
+    }
+
+    @Override
+    public void addMembers(String workspaceId, Collection<String> userIds) {
+        delegate.addMembers(workspaceId, userIds);
+    }
+
+    @Override
+    public void removeMember(String workspaceId, String userId) {
+        delegate.removeMember(workspaceId, userId);
+    }
+
+    @Override
+    public void removeMembers(String workspaceId, Collection<String> userIds) {
+        delegate.removeMembers(workspaceId, userIds);
+    }
+
+    @Override
+    public Pagination<UserTO> findMembers(String workspaceId, Page page) {
+        return delegate.findMembers(workspaceId, page);
+    }
+
+    @Override
+    public boolean updatePrivacy(String workspaceId, boolean isPrivate, Instant updatedAt) {
+        return delegate.updatePrivacy(workspaceId, isPrivate, updatedAt);
+    }
+
+    @Override
+    public Pagination<WorkspaceResponse> findAllProjected(SearchQuery query) {
+        return delegate.findAllProjected(query);
+    }
+}
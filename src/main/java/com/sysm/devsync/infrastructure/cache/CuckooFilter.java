@@ -0,0 +1,181 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Approximate set of strings that supports removal: a cuckoo filter with four 16-bit
+ * fingerprints per bucket.
+ * <p>
+ * {@link #mightContain} never answers {@code false} for a string that was added and not removed,
+ * and answers {@code true} for an absent string with a probability of about
+ * {@code 8 / 65536 * load}. Only strings that were added may be removed; removing anything else
+ * can drop the fingerprint of a colliding string.
+ * <p>
+ * When an insert cannot find a free slot the filter is marked {@link #isSaturated() saturated}
+ * and answers {@code true} for everything until it is replaced by a larger one.
+ */
+final class CuckooFilter {
+
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final int MAX_KICKS = 500;
+    private static final double MAX_LOAD = 0.95;
+
+    private final short[] table;
+    private final int bucketMask;
+    private int count;
+    private boolean saturated;
+
+    CuckooFilter(long expectedItems) {
+        long buckets = (long) Math.ceil(Math.max(expectedItems, 1) / (SLOTS_PER_BUCKET * MAX_LOAD));
+        int size = Math.max(2, Integer.highestOneBit((int) Math.min(buckets - 1, 1 << 26)) << 1);
+        this.table = new short[size * SLOTS_PER_BUCKET];
+        this.bucketMask = size - 1;
+    }
+
+    synchronized boolean add(String item) {
+        if (saturated) {
+            return false;
+        }
+        long hash = hash(item);
+        short fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        int second = alternate(first, fingerprint);
+        if (insert(first, fingerprint) || insert(second, fingerprint)) {
+            count++;
+            return true;
+        }
+
+        int bucket = ThreadLocalRandom.current().nextBoolean() ? first : second;
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int slot = bucket * SLOTS_PER_BUCKET + ThreadLocalRandom.current().nextInt(SLOTS_PER_BUCKET);
+            short evicted = table[slot];
+            table[slot] = fingerprint;
+            fingerprint = evicted;
+            bucket = alternate(bucket, fingerprint);
+            if (insert(bucket, fingerprint)) {
+                count++;
+                return true;
+            }
+        }
+        // The fingerprint still in hand belongs to some added item, so the filter can no longer
+        // answer "absent" truthfully
+        saturated = true;
+        return false;
+    }
+
+    synchronized boolean mightContain(String item) {
+        if (saturated) {
+            return true;
+        }
+        long hash = hash(item);
+        short fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        return contains(first, fingerprint) || contains(alternate(first, fingerprint), fingerprint);
+    }
+
+    synchronized boolean remove(String item) {
+        if (saturated) {
+            return false;
+        }
+        long hash = hash(item);
+        short fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        if (delete(first, fingerprint) || delete(alternate(first, fingerprint), fingerprint)) {
+            count--;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    synchronized boolean isSaturated() {
+        return saturated;
+    }
+
+    int capacity() {
+        return table.length;
+    }
+
+    long memoryBytes() {
+        return (long) table.length * Short.BYTES;
+    }
+
+    /**
+     * Chance that an absent string is reported as present at the current load.
+     */
+    synchronized double expectedFalsePositiveRate() {
+        if (saturated) {
+            return 1.0;
+        }
+        double load = (double) count / table.length;
+        return 1 - Math.pow(1 - 1.0 / 0xFFFF, 2.0 * SLOTS_PER_BUCKET * load);
+    }
+
+    private boolean insert(int bucket, short fingerprint) {
+        int start = bucket * SLOTS_PER_BUCKET;
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (table[slot] == 0) {
+                table[slot] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(int bucket, short fingerprint) {
+        int start = bucket * SLOTS_PER_BUCKET;
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (table[slot] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean delete(int bucket, short fingerprint) {
+        int start = bucket * SLOTS_PER_BUCKET;
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (table[slot] == fingerprint) {
+                table[slot] = 0;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The other bucket a fingerprint may live in; applying it twice gives back the first bucket.
+     */
+    private int alternate(int bucket, short fingerprint) {
+        long h = (fingerprint & 0xFFFFL) * 0xc6a4a7935bd1e995L;
+        return (bucket ^ (int) (h >>> 32)) & bucketMask;
+    }
+
+    /**
+     * Upper 16 bits of the hash, never zero since zero marks an empty slot.
+     */
+    private static short fingerprint(long hash) {
+        short fingerprint = (short) (hash >>> 48);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with a murmur mix so every bit depends on every
+     * character.
+     */
+    private static long hash(String item) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            h ^= item.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Entity listener that keeps {@link ExistenceFilters} in step with inserts and deletes.
+ * <p>
+ * Hibernate creates it through Spring while the entity manager factory is being built, so both
+ * collaborators are looked up lazily.
+ */
+public class ExistenceFilterListener {
+
+    private final ObjectProvider<ExistenceFilters> filters;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public ExistenceFilterListener(ObjectProvider<ExistenceFilters> filters,
+                                   ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.filters = filters;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PrePersist
+    void onPersist(Object entity) {
+        var existenceFilters = filters.getIfAvailable();
+        if (existenceFilters != null) {
+            existenceFilters.added(Hibernate.getClass(entity), idOf(entity));
+        }
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        var existenceFilters = filters.getIfAvailable();
+        if (existenceFilters != null) {
+            existenceFilters.removed(Hibernate.getClass(entity), idOf(entity));
+        }
+    }
+
+    private String idOf(Object entity) {
+        PersistenceUnitUtil util = entityManagerFactory.getObject().getPersistenceUnitUtil();
+        return (String) util.getIdentifier(entity);
+    }
+}
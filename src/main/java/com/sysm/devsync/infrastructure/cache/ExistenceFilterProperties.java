@@ -0,0 +1,16 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Existence filters, bound from {@code existence-filters}.
+ *
+ * @param enabled whether an id missing from a filter is answered as absent without a query; only
+ *                safe when this is the only instance and every insert goes through JPA
+ */
+@ConfigurationProperties(prefix = "existence-filters")
+public record ExistenceFilterProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
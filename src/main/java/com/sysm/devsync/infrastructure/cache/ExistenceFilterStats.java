@@ -0,0 +1,20 @@
+package com.sysm.devsync.infrastructure.cache;
+
+public record ExistenceFilterStats(
+        String name,
+        boolean ready,
+        int items,
+        long memoryBytes,
+        double expectedFalsePositiveRate,
+        long checks,
+        long negatives,
+        long falsePositives
+) {
+    /**
+     * Share of "might exist" answers that the database then contradicted.
+     */
+    public double observedFalsePositiveRate() {
+        long positives = checks - negatives;
+        return positives == 0 ? 0.0 : (double) falsePositives / positives;
+    }
+}
@@ -0,0 +1,302 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * One {@link CuckooFilter} of known ids per guarded entity type, so lookups of ids that were never
+ * stored are answered without a query.
+ * <p>
+ * The filters are filled from an id-only scan once the application is ready and kept current by
+ * {@link ExistenceFilterListener}, which sees every insert and delete that goes through JPA. Until
+ * a filter is built, and while it is saturated, every id is reported as possibly existing. A
+ * filter that runs out of room is rebuilt at twice the size in the background.
+ * <p>
+ * The filters only know about rows written by this process through JPA, so a row inserted by
+ * another instance or by plain SQL would be reported absent. They are therefore only built and
+ * trusted when {@link ExistenceFilterProperties#enabled()} is set; otherwise every id is reported as
+ * possibly existing and lookups go to the primary key.
+ */
+@Component
+@EnableConfigurationProperties(ExistenceFilterProperties.class)
+public class ExistenceFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceFilters.class);
+
+    private static final int MIN_CAPACITY = 1_024;
+    private static final double GROW_AT_LOAD = 0.9;
+    private static final int SCAN_FETCH_SIZE = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate scanTransaction;
+    private final boolean enabled;
+    private final Map<Class<?>, Filter> filters = new LinkedHashMap<>();
+
+    public ExistenceFilters(PlatformTransactionManager transactionManager, ExistenceFilterProperties properties) {
+        this.enabled = properties.enabled();
+        // Not read-only, so the scan runs on the primary: a lagging replica would miss fresh ids and
+        // the filter would then report rows that exist as absent
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        register("notes", NoteJpaEntity.class);
+        register("questions", QuestionJpaEntity.class);
+        register("comments", CommentJpaEntity.class);
+    }
+
+    private void register(String name, Class<?> entityType) {
+        filters.put(entityType, new Filter(name, entityType));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAll() {
+        if (!enabled) {
+            log.info("Existence filters are disabled; id lookups go to the database");
+            return;
+        }
+        filters.values().forEach(filter -> CompletableFuture.runAsync(() -> rebuild(filter)));
+    }
+
+    /**
+     * {@code false} only when a row with this id has certainly never been stored.
+     */
+    public boolean mightExist(Class<?> entityType, String id) {
+        var filter = filters.get(entityType);
+        if (!enabled || filter == null || id == null) {
+            return true;
+        }
+        filter.checks.incrementAndGet();
+        var current = filter.current;
+        if (current == null || current.mightContain(id)) {
+            return true;
+        }
+        filter.negatives.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * The ids that might exist, in their original order.
+     */
+    public List<String> retainPossible(Class<?> entityType, Collection<String> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(id -> mightExist(entityType, id))
+                .toList();
+    }
+
+    /**
+     * Loads the rows of the distinct {@code ids} that might exist, skipping the query when none can,
+     * and records every id let through but not loaded as a false positive.
+     */
+    public <E> List<E> loadPossible(Class<?> entityType, Collection<String> ids, Function<List<String>, List<E>> loader) {
+        var possible = retainPossible(entityType, ids);
+        if (possible.isEmpty()) {
+            return List.of();
+        }
+        var loaded = loader.apply(possible);
+        for (int i = loaded.size(); i < possible.size(); i++) {
+            recordFalsePositive(entityType);
+        }
+        return loaded;
+    }
+
+    /**
+     * Records that an id the filter let through was not found after all.
+     */
+    public void recordFalsePositive(Class<?> entityType) {
+        var filter = filters.get(entityType);
+        if (filter != null) {
+            filter.falsePositives.incrementAndGet();
+        }
+    }
+
+    /**
+     * Called as soon as a row is persisted, so reads later in the same transaction find it. A
+     * rebuild that scans before the insert commits misses the row, and may have swapped its filter in
+     * by the time the commit happens, so after the commit the id is added again to any filter that
+     * was not current at persist time.
+     */
+    void added(Class<?> entityType, String id) {
+        var filter = filters.get(entityType);
+        if (filter == null) {
+            return;
+        }
+        var currentAtPersist = filter.current;
+        add(filter, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addCommitted(filter, id, currentAtPersist);
+                }
+            });
+        }
+    }
+
+    private void add(Filter filter, String id) {
+        var next = filter.next;
+        if (next != null) {
+            next.add(id);
+        }
+        addToCurrent(filter, filter.current, id);
+    }
+
+    /**
+     * A rebuild sets {@code next}, scans, makes it {@code current} and clears {@code next}, in that
+     * order. Reading {@code next} before {@code current} therefore sees the rebuilt filter in one of
+     * the two whenever the rebuild could have scanned without this row.
+     */
+    void addCommitted(Filter filter, String id, CuckooFilter currentAtPersist) {
+        var next = filter.next;
+        if (next != null) {
+            next.add(id);
+        }
+        var current = filter.current;
+        if (current != currentAtPersist && current != next) {
+            addToCurrent(filter, current, id);
+        }
+    }
+
+    private void addToCurrent(Filter filter, CuckooFilter current, String id) {
+        if (current != null && (!current.add(id) || current.count() > current.capacity() * GROW_AT_LOAD)) {
+            rebuildAsync(filter);
+        }
+    }
+
+    /**
+     * Applied once the deleting transaction commits; removing the fingerprint earlier would hide a
+     * row that a rollback brings back.
+     */
+    void removed(Class<?> entityType, String id) {
+        var filter = filters.get(entityType);
+        if (filter == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(filter, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(filter, id);
+            }
+        });
+    }
+
+    private static void remove(Filter filter, String id) {
+        // A filter still being filled may not hold the id yet; leaving it there is only a false positive
+        var current = filter.current;
+        if (current != null && filter.next == null) {
+            current.remove(id);
+        }
+    }
+
+    public List<ExistenceFilterStats> stats() {
+        return filters.values().stream()
+                .map(Filter::stats)
+                .toList();
+    }
+
+    private void rebuildAsync(Filter filter) {
+        if (!filter.rebuilding.get()) {
+            CompletableFuture.runAsync(() -> rebuild(filter));
+        }
+    }
+
+    /**
+     * Builds a fresh filter from every stored id and swaps it in. Ids inserted during the scan are
+     * added to the new filter by the listener, so none is missed.
+     */
+    void rebuild(Filter filter) {
+        if (!filter.rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            String entityName = entityManager.getMetamodel().entity(filter.entityType).getName();
+            Long rows = scanTransaction.execute(status -> entityManager
+                    .createQuery("select count(e) from " + entityName + " e", Long.class)
+                    .getSingleResult());
+            var next = new CuckooFilter(Math.max(MIN_CAPACITY, 2 * (rows == null ? 0 : rows)));
+            filter.next = next;
+
+            scanTransaction.executeWithoutResult(status -> {
+                try (var ids = entityManager.createQuery("select e.id from " + entityName + " e", String.class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, SCAN_FETCH_SIZE)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    ids.forEach(next::add);
+                }
+            });
+
+            filter.current = next;
+            log.info("Existence filter for {} built with {} ids ({} KiB)",
+                    filter.name, next.count(), next.memoryBytes() / 1024);
+        } catch (RuntimeException e) {
+            log.warn("Could not build the existence filter for {}; lookups will go to the database",
+                    filter.name, e);
+        } finally {
+            filter.next = null;
+            filter.rebuilding.set(false);
+        }
+    }
+
+    Filter filter(Class<?> entityType) {
+        return filters.get(entityType);
+    }
+
+    static final class Filter {
+        final String name;
+        final Class<?> entityType;
+        final AtomicBoolean rebuilding = new AtomicBoolean();
+        final AtomicLong checks = new AtomicLong();
+        final AtomicLong negatives = new AtomicLong();
+        final AtomicLong falsePositives = new AtomicLong();
+        volatile CuckooFilter current;
+        volatile CuckooFilter next;
+
+        Filter(String name, Class<?> entityType) {
+            this.name = name;
+            this.entityType = entityType;
+        }
+
+        ExistenceFilterStats stats() {
+            var filter = current;
+            return new ExistenceFilterStats(
+                    name,
+                    filter != null && !filter.isSaturated(),
+                    filter == null ? 0 : filter.count(),
+                    filter == null ? 0 : filter.memoryBytes(),
+                    filter == null ? 1.0 : filter.expectedFalsePositiveRate(),
+                    checks.get(),
+                    negatives.get(),
+                    falsePositives.get()
+            );
+        }
+    }
+}
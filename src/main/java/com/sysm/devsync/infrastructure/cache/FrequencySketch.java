@@ -0,0 +1,81 @@
+package com.sysm.devsync.infrastructure.cache;
+
+/**
+ * Count-min sketch of how often keys were seen, with 4-bit counters packed sixteen to a long.
+ * <p>
+ * Each key maps to one counter in each of four rows and its frequency is the smallest of them.
+ * Once the sketch has counted ten times its capacity, every counter is halved, so popularity
+ * decays and keys that were hot a while ago do not keep their place forever.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long capacity) {
+        int size = Integer.highestOneBit((int) Math.min(Math.max(capacity, 16), 1 << 24) - 1) << 1;
+        this.table = new long[size];
+        this.tableMask = size - 1;
+        this.sampleSize = (int) Math.min(10L * Math.max(capacity, 16), Integer.MAX_VALUE);
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long h = indexHash(hash, row);
+            int count = (int) ((table[(int) h & tableMask] >>> offset(h)) & 0xF);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long h = indexHash(hash, row);
+            int index = (int) h & tableMask;
+            int offset = offset(h);
+            if (((table[index] >>> offset) & 0xF) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private static long indexHash(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return h + (h >>> 32);
+    }
+
+    /**
+     * Bit offset of the counter within its long: one of sixteen 4-bit slots.
+     */
+    private static int offset(long h) {
+        return (int) ((h >>> 40) & 15) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
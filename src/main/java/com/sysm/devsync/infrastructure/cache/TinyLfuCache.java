@@ -0,0 +1,256 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded cache with W-TinyLFU eviction and a time to live per entry.
+ * <p>
+ * New entries go to a small LRU window (1% of the capacity). Entries pushed out of the window
+ * only enter the main space if the {@link FrequencySketch} says they are used more often than
+ * the entry they would evict, so a burst of one-off keys cannot flush the hot set. The main space
+ * is a segmented LRU: entries start on probation and move to the protected segment (80%) when
+ * read again. Capacity is a total weight, each entry weighing what the weigher says.
+ * <p>
+ * All operations take the cache's lock; they only touch a hash map and a few links.
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private enum Region {WINDOW, PROBATION, PROTECTED}
+
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        int weight;
+        long expiresAt;
+        Region region;
+        Node<K, V> previous;
+        Node<K, V> next;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Access-ordered list of nodes: least recently used at the head.
+     */
+    private static final class Segment<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        void addLast(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+    }
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long ttlNanos;
+    private final ToIntFunction<V> weigher;
+    private final LongSupplier ticker;
+
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    private final FrequencySketch sketch;
+    private final Segment<K, V> window = new Segment<>();
+    private final Segment<K, V> probation = new Segment<>();
+    private final Segment<K, V> protectedSegment = new Segment<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TinyLfuCache(long maximumWeight, Duration ttl, ToIntFunction<V> weigher) {
+        this(maximumWeight, ttl, weigher, System::nanoTime);
+    }
+
+    TinyLfuCache(long maximumWeight, Duration ttl, ToIntFunction<V> weigher, LongSupplier ticker) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("Cache maximum weight must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache time to live must be positive");
+        }
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_SHARE));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_SHARE);
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumWeight);
+    }
+
+    /**
+     * Returns the live value for the key, or {@code null} on a miss or when it has expired.
+     */
+    public synchronized V get(K key) {
+        sketch.increment(key);
+        var node = data.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        if (node.expiresAt - ticker.getAsLong() <= 0) {
+            unlink(node);
+            data.remove(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        int weight = weigher.applyAsInt(value);
+        var node = data.get(key);
+        if (weight > maximumWeight) {
+            if (node != null) {
+                unlink(node);
+                data.remove(key);
+            }
+            return;
+        }
+
+        if (node != null) {
+            segment(node.region).weight += weight - node.weight;
+            node.value = value;
+            node.weight = weight;
+            node.expiresAt = ticker.getAsLong() + ttlNanos;
+            onAccess(node);
+        } else {
+            sketch.increment(key);
+            node = new Node<>(key);
+            node.value = value;
+            node.weight = weight;
+            node.expiresAt = ticker.getAsLong() + ttlNanos;
+            node.region = Region.WINDOW;
+            window.addLast(node);
+            data.put(key, node);
+        }
+        evict();
+    }
+
+    public synchronized void invalidate(K key) {
+        var node = data.remove(key);
+        if (node != null) {
+            unlink(node);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        data.clear();
+        window.head = window.tail = null;
+        probation.head = probation.tail = null;
+        protectedSegment.head = protectedSegment.tail = null;
+        window.weight = probation.weight = protectedSegment.weight = 0;
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, data.size(), weight());
+    }
+
+    private long weight() {
+        return window.weight + probation.weight + protectedSegment.weight;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW -> {
+                window.remove(node);
+                window.addLast(node);
+            }
+            case PROBATION -> {
+                probation.remove(node);
+                node.region = Region.PROTECTED;
+                protectedSegment.addLast(node);
+                // Keep the protected segment within its share by demoting its least recent entries
+                while (protectedSegment.weight > protectedMaximum && protectedSegment.head != node) {
+                    var demoted = protectedSegment.head;
+                    protectedSegment.remove(demoted);
+                    demoted.region = Region.PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedSegment.addLast(node);
+            }
+        }
+    }
+
+    private void evict() {
+        // Entries leaving the window become candidates at the tail of probation
+        while (window.weight > windowMaximum && window.head != null) {
+            var candidate = window.head;
+            window.remove(candidate);
+            candidate.region = Region.PROBATION;
+            probation.addLast(candidate);
+        }
+
+        while (weight() > maximumWeight) {
+            var victim = probation.head;
+            var candidate = probation.tail;
+            if (victim == null) {
+                victim = protectedSegment.head != null ? protectedSegment.head : window.head;
+                evict(victim);
+            } else if (victim == candidate) {
+                evict(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        data.remove(node.key);
+        evictions++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        segment(node.region).remove(node);
+    }
+
+    private Segment<K, V> segment(Region region) {
+        return switch (region) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedSegment;
+        };
+    }
+}
@@ -2,13 +2,86 @@ package com.sysm.devsync.infrastructure.config;
 
 import com.sysm.devsync.application.*;
 import com.sysm.devsync.application.security.SecurityService;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.infrastructure.cache.CachingExistencePersistence;
+import com.sysm.devsync.infrastructure.cache.CachingProjectPersistence;
+import com.sysm.devsync.infrastructure.cache.CachingTagPersistence;
+import com.sysm.devsync.infrastructure.cache.CachingUserPersistence;
+import com.sysm.devsync.infrastructure.cache.CachingWorkspacePersistence;
+import com.sysm.devsync.infrastructure.repositories.persistence.ExistencePersistence;
+import com.sysm.devsync.infrastructure.repositories.persistence.ProjectPersistence;
+import com.sysm.devsync.infrastructure.repositories.persistence.TagPersistence;
+import com.sysm.devsync.infrastructure.repositories.persistence.UserPersistence;
+import com.sysm.devsync.infrastructure.repositories.persistence.WorkspacePersistence;
+import com.sysm.devsync.infrastructure.search.InMemorySearchIndex;
+import com.sysm.devsync.infrastructure.search.TransactionAwareSearchIndex;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class BeanConfig {
 
+    private static final int SEARCH_REBUILD_THREADS = 4;
+
+    // Existence of users, tags, projects and workspaces is checked on almost every write; see CachingPersistence
+
+    @Bean
+    @Primary
+    public CachingUserPersistence cachingUserPersistence(UserPersistence userPersistence) {
+        return new CachingUserPersistence(userPersistence, 10_000, Duration.ofMinutes(10));
+    }
+
+    @Bean
+    @Primary
+    public CachingTagPersistence cachingTagPersistence(TagPersistence tagPersistence) {
+        return new CachingTagPersistence(tagPersistence, 10_000, Duration.ofMinutes(10));
+    }
+
+    @Bean
+    @Primary
+    public CachingProjectPersistence cachingProjectPersistence(ProjectPersistence projectPersistence) {
+        return new CachingProjectPersistence(projectPersistence, 10_000, Duration.ofMinutes(5));
+    }
+
+    @Bean
+    @Primary
+    public CachingWorkspacePersistence cachingWorkspacePersistence(WorkspacePersistence workspacePersistence) {
+        return new CachingWorkspacePersistence(workspacePersistence, 5_000, Duration.ofMinutes(5));
+    }
+
+    @Bean
+    @Primary
+    public CachingExistencePersistence cachingExistencePersistence(ExistencePersistence existencePersistence,
+                                                                   CachingUserPersistence users,
+                                                                   CachingTagPersistence tags,
+                                                                   CachingProjectPersistence projects,
+                                                                   CachingWorkspacePersistence workspaces) {
+        return new CachingExistencePersistence(existencePersistence, Map.of(
+                EntityType.USER, users,
+                EntityType.TAG, tags,
+                EntityType.PROJECT, projects,
+                EntityType.WORKSPACE, workspaces
+        ));
+    }
+
+    // Index writes made inside a transaction wait for its commit; see TransactionAwareSearchIndex
+
+    @Bean
+    @Primary
+    public TransactionAwareSearchIndex transactionAwareSearchIndex(InMemorySearchIndex searchIndex) {
+        return new TransactionAwareSearchIndex(searchIndex);
+    }
+
     @Bean
     public TagService tagServiceBean(TagPersistencePort tagPersistencePort) {
         return new TagService(tagPersistencePort);
@@ -37,28 +110,40 @@ public class BeanConfig {
                                            TagPersistencePort tagPersistencePort,
                                            UserPersistencePort userPersistencePort,
                                            CommentPersistencePort commentPersistencePort,
-                                           AnswerPersistencePort answerPersistencePort) {
+                                           AnswerPersistencePort answerPersistencePort,
+                                           ExistencePersistencePort existencePersistencePort,
+                                           SearchIndexPort searchIndexPort,
+                                           TransactionOperations transactionOperations) {
         return new QuestionService(questionPersistencePort,
                 projectPersistencePort,
                 tagPersistencePort,
                 userPersistencePort,
                 commentPersistencePort,
-                answerPersistencePort);
+                answerPersistencePort,
+                existencePersistencePort,
+                searchIndexPort,
+                transactionOperations);
     }
 
     @Bean
     public AnswerService answerService(AnswerPersistencePort answerPersistencePort,
                                        QuestionPersistencePort questionPersistencePort,
-                                       UserPersistencePort userPersistencePort){
-        return new AnswerService(answerPersistencePort, questionPersistencePort, userPersistencePort);
+                                       UserPersistencePort userPersistencePort,
+                                       ExistencePersistencePort existencePersistencePort,
+                                       SearchIndexPort searchIndexPort){
+        return new AnswerService(answerPersistencePort, questionPersistencePort, userPersistencePort, existencePersistencePort,
+                searchIndexPort);
     }
 
     @Bean
     public NoteService noteService(NotePersistencePort notePersistencePort,
                                    ProjectPersistencePort projectPersistence,
                                    UserPersistencePort userPersistence,
-                                   TagPersistencePort tagPersistence) {
-        return new NoteService(notePersistencePort, projectPersistence, userPersistence, tagPersistence);
+                                   TagPersistencePort tagPersistence,
+                                   ExistencePersistencePort existencePersistence,
+                                   SearchIndexPort searchIndexPort) {
+        return new NoteService(notePersistencePort, projectPersistence, userPersistence, tagPersistence, existencePersistence,
+                searchIndexPort);
     }
 
     @Bean
@@ -66,23 +151,73 @@ public class BeanConfig {
                                          NotePersistencePort notePersistencePort,
                                          QuestionPersistencePort questionPersistencePort,
                                          AnswerPersistencePort answerPersistencePort,
-                                         UserPersistencePort userPersistencePort){
+                                         UserPersistencePort userPersistencePort,
+                                         ExistencePersistencePort existencePersistencePort,
+                                         SearchIndexPort searchIndexPort){
         return new CommentService(commentPersistencePort,
                 notePersistencePort,
                 questionPersistencePort,
                 answerPersistencePort,
-                userPersistencePort);
+                userPersistencePort,
+                existencePersistencePort,
+                searchIndexPort);
+    }
+
+    @Bean
+    public SearchService searchService(SearchIndexPort searchIndexPort,
+                                       NotePersistencePort notePersistencePort,
+                                       QuestionPersistencePort questionPersistencePort,
+                                       AnswerPersistencePort answerPersistencePort,
+                                       CommentPersistencePort commentPersistencePort) {
+        return new SearchService(searchIndexPort,
+                notePersistencePort,
+                questionPersistencePort,
+                answerPersistencePort,
+                commentPersistencePort,
+                searchRebuildExecutor());
+    }
+
+    /**
+     * One thread per content type, kept off the common pool. Idle threads time out, since a rebuild
+     * normally runs once at startup.
+     */
+    private static ThreadPoolExecutor searchRebuildExecutor() {
+        var threadNumber = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(SEARCH_REBUILD_THREADS, SEARCH_REBUILD_THREADS,
+                1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+            var thread = new Thread(runnable, "search-rebuild-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Bean
+    public ImportService importService(NoteService noteService,
+                                       QuestionService questionService,
+                                       AnswerService answerService,
+                                       CommentService commentService,
+                                       TransactionOperations transactionOperations) {
+        return new ImportService(noteService,
+                questionService,
+                answerService,
+                commentService,
+                transactionOperations);
     }
 
     @Bean("securityService")
     public SecurityService securityService(NotePersistencePort notePersistencePort,
                                            AnswerPersistencePort answerPersistencePort,
                                            QuestionPersistencePort questionPersistencePort,
-                                           CommentPersistencePort commentPersistencePort){
+                                           CommentPersistencePort commentPersistencePort,
+                                           WorkspacePersistencePort workspacePersistencePort){
         return new SecurityService(notePersistencePort,
                 answerPersistencePort,
                 questionPersistencePort,
-                commentPersistencePort);
+                commentPersistencePort,
+                workspacePersistencePort,
+                Duration.ofSeconds(30));
     }
 
 }
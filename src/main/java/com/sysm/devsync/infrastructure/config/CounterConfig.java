@@ -0,0 +1,46 @@
+package com.sysm.devsync.infrastructure.config;
+
+import com.sysm.devsync.infrastructure.counters.AggregateCounterProperties;
+import com.sysm.devsync.infrastructure.counters.AggregateCounterRebuild;
+import com.sysm.devsync.infrastructure.counters.TagCounterProperties;
+import com.sysm.devsync.infrastructure.counters.TagUseCounters;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TagJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties({TagCounterProperties.class, AggregateCounterProperties.class})
+public class CounterConfig {
+
+    @Bean(destroyMethod = "close")
+    public TagUseCounters tagUseCounters(DataSource dataSource,
+                                         TagJpaRepository tagJpaRepository,
+                                         TransactionOperations transactionOperations,
+                                         TagCounterProperties properties) {
+        var journal = properties.journal() == null || properties.journal().isBlank()
+                ? null
+                : Path.of(properties.journal());
+        return new TagUseCounters(new JdbcTemplate(dataSource), tagJpaRepository, transactionOperations,
+                journal, properties.flushInterval(), properties.recountInterval());
+    }
+
+    @Bean(destroyMethod = "close")
+    public AggregateCounterRebuild aggregateCounterRebuild(WorkspaceJpaRepository workspaceJpaRepository,
+                                                           ProjectJpaRepository projectJpaRepository,
+                                                           QuestionJpaRepository questionJpaRepository,
+                                                           TransactionOperations transactionOperations,
+                                                           AggregateCounterProperties properties) {
+        return new AggregateCounterRebuild(workspaceJpaRepository, projectJpaRepository, questionJpaRepository,
+                transactionOperations, properties.parallelism(), properties.rebuildInterval(),
+                properties.rebuildOnStart());
+    }
+}
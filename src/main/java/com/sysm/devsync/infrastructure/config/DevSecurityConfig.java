@@ -1,5 +1,6 @@
 package com.sysm.devsync.infrastructure.config;
 
+import com.sysm.devsync.infrastructure.config.datasource.ReadYourWritesFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -42,7 +43,10 @@ public class DevSecurityConfig {
         // Allow all common methods
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         // Allow all common headers
-        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept"));
+        configuration.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Requested-With", "Accept",
+                ReadYourWritesFilter.HEADER));
+        // Let the browser read the read-your-writes token so it can send it back
+        configuration.setExposedHeaders(List.of(ReadYourWritesFilter.HEADER));
         // Allow credentials (cookies, auth headers)
         configuration.setAllowCredentials(true);
         // How long the browser can cache the preflight response
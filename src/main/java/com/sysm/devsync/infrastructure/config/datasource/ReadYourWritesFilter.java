@@ -0,0 +1,72 @@
+package com.sysm.devsync.infrastructure.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for clients of a replicated database. Every write request gets a session token
+ * in the {@value #HEADER} response header; a request that sends it back within the window is
+ * served entirely from the primary, so it sees its own write even if the replicas have not
+ * replayed it yet. The token is just the time of the write, so a forged one can pin a client to
+ * the primary for at most one window.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Session-Token";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Set up front: once the body is written the response may already be committed
+            response.setHeader(HEADER, Long.toString(now));
+        }
+        if (!write && !isFresh(request.getHeader(HEADER), now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private boolean isFresh(String token, long now) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            long writtenAt = Long.parseLong(token.trim());
+            return writtenAt <= now && now - writtenAt < window.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sysm.devsync.infrastructure.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas of the primary database, bound from {@code database.replica}.
+ *
+ * @param urls                 JDBC urls of the replicas; they share the primary's credentials and pool settings
+ * @param maxLag               replicas lagging further behind are taken out of rotation
+ * @param lagQuery             query returning a replica's lag in seconds; blank to only check it answers
+ * @param healthCheckInterval  how often replicas are probed
+ * @param readYourWritesWindow how long after a write its client keeps reading from the primary
+ */
+@ConfigurationProperties(prefix = "database.replica")
+public record ReplicaProperties(
+        List<String> urls,
+        @DefaultValue("5s") Duration maxLag,
+        String lagQuery,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration readYourWritesWindow
+) {
+}
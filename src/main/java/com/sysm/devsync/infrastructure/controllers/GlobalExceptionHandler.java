@@ -6,12 +6,13 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
-import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -28,11 +29,12 @@ public class GlobalExceptionHandler {
 
     /**
      * Handles exceptions from @Valid annotations, returning a detailed list of field errors.
+     * Bulk requests report their errors keyed by element index, e.g. {@code [2].title}.
      *
      * @return ResponseEntity with status 400 (Bad Request).
      */
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex, HttpServletRequest request) {
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(BindException ex, HttpServletRequest request) {
         Map<String, List<String>> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -112,6 +114,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    /**
+     * Handles writes that lost to concurrent changes of the same rows; the client may retry.
+     *
+     * @return ResponseEntity with status 409 (Conflict).
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailureException(ConcurrencyFailureException ex, HttpServletRequest request) {
+        final HttpStatus status = HttpStatus.CONFLICT;
+
+        var errorResponse = new ErrorResponse(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                "The resource was changed concurrently. Please try again.",
+                request.getRequestURI()
+        );
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
     /**
      * A catch-all handler for any other unhandled exceptions.
      * This prevents stack traces from being exposed to the client.
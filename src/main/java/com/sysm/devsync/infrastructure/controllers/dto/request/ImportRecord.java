@@ -0,0 +1,37 @@
+package com.sysm.devsync.infrastructure.controllers.dto.request;
+
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.TargetType;
+
+/**
+ * One line of an NDJSON import. Which fields are read depends on {@code type}:
+ * notes use title, content and projectId; questions title, description and projectId;
+ * answers content and questionId; comments content, targetType and targetId.
+ */
+public record ImportRecord(
+        ContentType type,
+        String title,
+        String content,
+        String description,
+        String projectId,
+        String questionId,
+        TargetType targetType,
+        String targetId
+) {
+
+    public NoteCreateUpdate toNote() {
+        return new NoteCreateUpdate(title, content, projectId);
+    }
+
+    public QuestionCreateUpdate toQuestion() {
+        return new QuestionCreateUpdate(title, description, projectId);
+    }
+
+    public AnswerCreateUpdate toAnswer() {
+        return new AnswerCreateUpdate(content);
+    }
+
+    public CommentCreateUpdate toComment() {
+        return new CommentCreateUpdate(targetType, targetId, content);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sysm.devsync.infrastructure.controllers.dto.request;
+
+import java.util.List;
+
+public record WorkspaceMemberBatch(
+        List<String> memberIds
+) {
+}
@@ -0,0 +1,27 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Result of a multi-get: the items found, in the order their ids were asked for, and the ids
+ * that matched nothing.
+ */
+public record BulkResponse<R>(
+        List<R> items,
+        List<String> missingIds
+) {
+
+    public static <M, R> BulkResponse<R> from(List<String> ids, List<M> models, Function<M, String> idOf,
+                                              Function<M, R> mapper) {
+        Set<String> found = new HashSet<>();
+        models.forEach(model -> found.add(idOf.apply(model)));
+        var missingIds = new LinkedHashSet<>(ids).stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+        return new BulkResponse<>(models.stream().map(mapper).toList(), missingIds);
+    }
+}
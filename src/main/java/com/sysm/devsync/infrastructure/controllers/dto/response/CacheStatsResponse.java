@@ -0,0 +1,24 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.infrastructure.cache.CachingPersistence;
+
+public record CacheStatsResponse(
+        String name,
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions,
+        int size
+) {
+    public static CacheStatsResponse from(CachingPersistence<?> cache) {
+        var stats = cache.stats();
+        return new CacheStatsResponse(
+                cache.getName(),
+                stats.hits(),
+                stats.misses(),
+                stats.hitRate(),
+                stats.evictions(),
+                stats.size()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.search.CodeMatch;
+
+public record CodeMatchResponse(
+        ContentType type,
+        String id,
+        String parentId,
+        String title,
+        int line,
+        String fragment
+) {
+    public static CodeMatchResponse from(CodeMatch match) {
+        return new CodeMatchResponse(
+                match.type(),
+                match.id(),
+                match.parentId(),
+                match.title(),
+                match.line(),
+                match.fragment()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.infrastructure.cache.ExistenceFilterStats;
+
+public record ExistenceFilterStatsResponse(
+        String name,
+        boolean ready,
+        int items,
+        long memoryBytes,
+        double expectedFalsePositiveRate,
+        double observedFalsePositiveRate,
+        long checks,
+        long negatives
+) {
+    public static ExistenceFilterStatsResponse from(ExistenceFilterStats stats) {
+        return new ExistenceFilterStatsResponse(
+                stats.name(),
+                stats.ready(),
+                stats.items(),
+                stats.memoryBytes(),
+                stats.expectedFalsePositiveRate(),
+                stats.observedFalsePositiveRate(),
+                stats.checks(),
+                stats.negatives()
+        );
+    }
+}
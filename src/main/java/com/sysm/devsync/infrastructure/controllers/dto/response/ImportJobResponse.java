@@ -0,0 +1,29 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.application.ImportJob;
+
+import java.time.Instant;
+
+public record ImportJobResponse(
+        String id,
+        ImportJob.Status status,
+        long recordsRead,
+        long recordsCommitted,
+        long committedOffset,
+        String error,
+        Instant startedAt,
+        Instant finishedAt
+) {
+    public static ImportJobResponse from(ImportJob job) {
+        return new ImportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getRecordsRead(),
+                job.getRecordsCommitted(),
+                job.getCommittedOffset(),
+                job.getError(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -10,6 +10,9 @@ public record ProjectResponse(
         String name,
         String description,
         WorkspaceTO workspace,
+        long questionCount,
+        long openQuestionCount,
+        long noteCount,
         Instant createdAt,
         Instant updatedAt
 ) {
@@ -19,6 +22,9 @@ public record ProjectResponse(
                 project.getName(),
                 project.getDescription(),
                 project.getWorkspace(),
+                project.getCounts().questions(),
+                project.getCounts().openQuestions(),
+                project.getCounts().notes(),
                 project.getCreatedAt(),
                 project.getUpdatedAt()
         );
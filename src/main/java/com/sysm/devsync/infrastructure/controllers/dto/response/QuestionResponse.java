@@ -14,6 +14,9 @@ public record QuestionResponse(
         String authorId,
         String projectId,
         Set<String> tagsId,
+        long answerCount,
+        long commentCount,
+        String acceptedAnswerId,
         Instant createdAt,
         Instant updatedAt
 ) {
@@ -26,6 +29,9 @@ public record QuestionResponse(
                 question.getAuthorId(),
                 question.getProjectId(),
                 question.getTagsId(),
+                question.getCounts().answers(),
+                question.getCounts().comments(),
+                question.getCounts().acceptedAnswerId(),
                 question.getCreatedAt(),
                 question.getUpdatedAt()
         );
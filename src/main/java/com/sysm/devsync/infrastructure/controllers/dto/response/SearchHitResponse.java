@@ -0,0 +1,24 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.search.SearchHit;
+
+public record SearchHitResponse(
+        ContentType type,
+        String id,
+        String parentId,
+        String title,
+        double score,
+        String snippet
+) {
+    public static SearchHitResponse from(SearchHit hit) {
+        return new SearchHitResponse(
+                hit.type(),
+                hit.id(),
+                hit.parentId(),
+                hit.title(),
+                hit.score(),
+                hit.snippet()
+        );
+    }
+}
@@ -4,8 +4,6 @@ import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.models.to.UserTO;
 
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
 
 public record WorkspaceResponse(
         String id,
@@ -13,7 +11,7 @@ public record WorkspaceResponse(
         String description,
         boolean isPrivate,
         UserTO owner,
-        Set<UserTO> members,
+        long memberCount,
         long projectCount,
         Instant createdAt,
         Instant updatedAt
@@ -27,28 +25,11 @@ public record WorkspaceResponse(
                 workspace.getDescription(),
                 workspace.isPrivate(),
                 workspace.getOwner(),
-                workspace.getMembers(),
-                0,
-                workspace.getCreatedAt(),
-                workspace.getUpdatedAt()
-        );
-    }
-
-    public static WorkspaceResponse from(Workspace workspace, long projectCount) {
-
-        return new WorkspaceResponse(
-                workspace.getId(),
-                workspace.getName(),
-                workspace.getDescription(),
-                workspace.isPrivate(),
-                workspace.getOwner(),
-                workspace.getMembers(),
-                projectCount,
+                workspace.getMemberCount(),
+                workspace.getProjectCount(),
                 workspace.getCreatedAt(),
                 workspace.getUpdatedAt()
         );
     }
 
 }
-
-
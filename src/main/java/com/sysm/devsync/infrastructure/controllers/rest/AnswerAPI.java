@@ -5,6 +5,7 @@ import com.sysm.devsync.infrastructure.config.security.CanUserAcceptAnswer;
 import com.sysm.devsync.infrastructure.config.security.IsAnswerOwnerOrAdmin;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.AnswerCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.AnswerResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping("answers")
@@ -33,6 +35,14 @@ public interface AnswerAPI {
     @Operation(summary = "Get an answer by its ID")
     ResponseEntity<AnswerResponse> getAnswerById(@PathVariable("answerId") String answerId);
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many answers by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no answer are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Answers found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<AnswerResponse>> getAnswersByIds(@RequestParam("ids") List<String> ids);
+
 
     @IsMemberOrAdmin
     @GetMapping
@@ -42,6 +52,8 @@ public interface AnswerAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
@@ -54,7 +66,8 @@ public interface AnswerAPI {
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
-            @RequestParam(name = "direction", defaultValue = "asc") String direction
+            @RequestParam(name = "direction", defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor
     );
 
     @IsAnswerOwnerOrAdmin
@@ -0,0 +1,29 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.infrastructure.controllers.dto.response.CacheStatsResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ExistenceFilterStatsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping("/caches")
+@Tag(name = "Caches")
+public interface CacheAPI {
+
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "Hit and miss counts of the persistence caches")
+    @ApiResponse(responseCode = "200", description = "Cache statistics")
+    List<CacheStatsResponse> getCacheStats();
+
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @GetMapping("/existence-filters")
+    @Operation(summary = "Size and false-positive rates of the id existence filters")
+    @ApiResponse(responseCode = "200", description = "Existence filter statistics")
+    List<ExistenceFilterStatsResponse> getExistenceFilterStats();
+}
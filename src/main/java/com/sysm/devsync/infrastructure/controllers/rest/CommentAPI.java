@@ -5,14 +5,19 @@ import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.infrastructure.config.security.IsCommentOwnerOrAdmin;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.CommentCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping("comments")
@@ -25,11 +30,27 @@ public interface CommentAPI {
     @ApiResponse(responseCode = "201", description = "Comment created successfully")
     ResponseEntity<?> createComment(@RequestBody CommentCreateUpdate request);
 
+    @IsMemberOrAdmin
+    @PostMapping("/bulk")
+    @Operation(summary = "Create many comments in one batched write")
+    @ApiResponse(responseCode = "201", description = "Comments created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "404", description = "Target not found")
+    ResponseEntity<List<CreateResponse>> createComments(@RequestBody List<CommentCreateUpdate> requests) throws BindException;
+
     @IsMemberOrAdmin
     @GetMapping("/{id}")
     @Operation(summary = "Get a comment by its ID")
     ResponseEntity<CommentResponse> getCommentById(@PathVariable("id") String id);
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many comments by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no comment are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Comments found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<CommentResponse>> getCommentsByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping
     @Operation(summary = "Search for comments with various filters")
@@ -38,10 +59,26 @@ public interface CommentAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
 
+    @IsMemberOrAdmin
+    @GetMapping("/export")
+    @Operation(summary = "Export every comment matching the filters as NDJSON or CSV",
+            description = "Takes the same filters as the search. Rows are streamed as they are read, without paging.")
+    @ApiResponse(responseCode = "200", description = "Comments streamed")
+    @ApiResponse(responseCode = "400", description = "Invalid format or filter")
+    ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
+            @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "queryType", defaultValue = "or") String queryType,
+            @RequestParam Map<String, String> filters
+    );
+
     @IsMemberOrAdmin
     @GetMapping("/target/{targetType}/{targetId}")
     @Operation(summary = "Get all comments for a specific target")
@@ -51,7 +88,8 @@ public interface CommentAPI {
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
-            @RequestParam(name = "direction", defaultValue = "asc") String direction
+            @RequestParam(name = "direction", defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor
     );
 
     @IsCommentOwnerOrAdmin
@@ -0,0 +1,38 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RequestMapping("/imports")
+@Tag(name = "Imports")
+public interface ImportAPI {
+
+    String NDJSON = "application/x-ndjson";
+
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping(consumes = NDJSON)
+    @Operation(summary = "Import notes, questions, answers and comments from an NDJSON stream",
+            description = "The body is read as it arrives, one JSON record per line. Pass the id of a failed import as "
+                          + "'resume' and send the same stream again to continue it; committed records are skipped.")
+    @ApiResponse(responseCode = "200", description = "Import finished; the job status tells whether it completed or failed")
+    @ApiResponse(responseCode = "404", description = "Import job to resume not found")
+    ResponseEntity<ImportJobResponse> importRecords(
+            @RequestParam(name = "resume", required = false) String resume,
+            HttpServletRequest request
+    ) throws IOException;
+
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the progress of an import")
+    @ApiResponse(responseCode = "200", description = "Import job found")
+    @ApiResponse(responseCode = "404", description = "Import job not found")
+    ResponseEntity<ImportJobResponse> getImport(@PathVariable("id") String id);
+}
@@ -4,14 +4,19 @@ import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.config.security.IsNoteOwnerOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping("/notes")
@@ -24,12 +29,28 @@ public interface NoteAPI {
     @ApiResponse(responseCode = "201", description = "Note created successfully")
     ResponseEntity<?> createNote(@RequestBody NoteCreateUpdate request);
 
+    @IsMemberOrAdmin
+    @PostMapping("/bulk")
+    @Operation(summary = "Create many notes in one batched write")
+    @ApiResponse(responseCode = "201", description = "Notes created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    ResponseEntity<List<CreateResponse>> createNotes(@RequestBody List<NoteCreateUpdate> requests) throws BindException;
+
     @IsMemberOrAdmin
     @GetMapping("/{id}")
     @Operation(summary = "Get a note by its ID")
     @ApiResponse(responseCode = "200", description = "Note found")
     ResponseEntity<NoteResponse> getNoteById(@PathVariable("id") String id);
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many notes by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no note are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Notes found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<NoteResponse>> getNotesByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping
     @Operation(summary = "Search for notes with pagination and filters")
@@ -39,10 +60,26 @@ public interface NoteAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "updatedAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
 
+    @IsMemberOrAdmin
+    @GetMapping("/export")
+    @Operation(summary = "Export every note matching the filters as NDJSON or CSV",
+            description = "Takes the same filters as the search. Rows are streamed as they are read, without paging.")
+    @ApiResponse(responseCode = "200", description = "Notes streamed")
+    @ApiResponse(responseCode = "400", description = "Invalid format or filter")
+    ResponseEntity<StreamingResponseBody> exportNotes(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "sort", defaultValue = "updatedAt") String sort,
+            @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "queryType", defaultValue = "or") String queryType,
+            @RequestParam Map<String, String> filters
+    );
+
     @IsNoteOwnerOrAdmin
     @PutMapping("/{noteId}")
     @Operation(summary = "Update a note's title and content")
@@ -3,6 +3,7 @@ package com.sysm.devsync.infrastructure.controllers.rest;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.ProjectCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.ProjectResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping("/projects")
@@ -30,6 +32,14 @@ public interface ProjectAPI {
     @ApiResponse(responseCode = "200", description = "Project found")
     ResponseEntity<ProjectResponse> getProjectById(@PathVariable("id") String id);
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many projects by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no project are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Projects found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<ProjectResponse>> getProjectsByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping
     @Operation(summary = "Search for projects with pagination")
@@ -39,6 +49,8 @@ public interface ProjectAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "name") String sort,
             @RequestParam(name = "direction", defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
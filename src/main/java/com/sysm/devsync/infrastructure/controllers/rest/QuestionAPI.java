@@ -4,14 +4,19 @@ import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.infrastructure.config.security.IsQuestionOwnerOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionStatusUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping("/questions")
@@ -27,6 +32,15 @@ public interface QuestionAPI {
     @ApiResponse(responseCode = "404", description = "Project not found")
     ResponseEntity<?> createQuestion(@RequestBody QuestionCreateUpdate request);
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
+    @Operation(summary = "Create many questions in one batched write")
+    @ApiResponse(responseCode = "201", description = "Questions created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    @ApiResponse(responseCode = "403", description = "Access denied")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    ResponseEntity<List<CreateResponse>> createQuestions(@RequestBody List<QuestionCreateUpdate> requests) throws BindException;
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
     @Operation(summary = "Get a question by its ID")
@@ -35,6 +49,14 @@ public interface QuestionAPI {
     @ApiResponse(responseCode = "404", description = "Question not found")
     ResponseEntity<QuestionResponse> getQuestionById(@PathVariable("id") String id);
 
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
+    @Operation(summary = "Get many questions by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no question are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Questions found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<QuestionResponse>> getQuestionsByIds(@RequestParam("ids") List<String> ids);
+
     @GetMapping
     @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
     @Operation(summary = "Search for questions with pagination and filters")
@@ -45,6 +67,22 @@ public interface QuestionAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "queryType", defaultValue = "or") String queryType,
+            @RequestParam Map<String, String> filters
+    );
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
+    @Operation(summary = "Export every question matching the filters as NDJSON or CSV",
+            description = "Takes the same filters as the search. Rows are streamed as they are read, without paging.")
+    @ApiResponse(responseCode = "200", description = "Questions streamed")
+    @ApiResponse(responseCode = "400", description = "Invalid format or filter")
+    ResponseEntity<StreamingResponseBody> exportQuestions(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
+            @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @RequestParam(name = "queryType", defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
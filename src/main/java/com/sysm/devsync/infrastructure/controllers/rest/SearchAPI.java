@@ -0,0 +1,44 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CodeMatchResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.SearchHitResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@RequestMapping("/search")
+@Tag(name = "Search")
+public interface SearchAPI {
+
+    @IsMemberOrAdmin
+    @GetMapping
+    @Operation(summary = "Full-text search across notes, questions, answers and comments, ranked by relevance")
+    @ApiResponse(responseCode = "200", description = "Search results found")
+    @ApiResponse(responseCode = "400", description = "Missing search text or invalid type")
+    Pagination<SearchHitResponse> search(
+            @RequestParam(name = "q") String text,
+            @RequestParam(name = "types", required = false) List<String> types,
+            @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
+            @RequestParam(name = "pageSize", defaultValue = "10") int pageSize
+    );
+
+    @IsMemberOrAdmin
+    @GetMapping("/code")
+    @Operation(summary = "Exact substring or regex search inside the code blocks of notes and answers")
+    @ApiResponse(responseCode = "200", description = "Code matches found")
+    @ApiResponse(responseCode = "400", description = "Missing query, invalid regular expression or invalid type")
+    Pagination<CodeMatchResponse> searchCode(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "regex", defaultValue = "false") boolean regex,
+            @RequestParam(name = "types", required = false) List<String> types,
+            @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
+            @RequestParam(name = "pageSize", defaultValue = "10") int pageSize
+    );
+}
@@ -3,6 +3,8 @@ package com.sysm.devsync.infrastructure.controllers.rest;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.TagCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.TagResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,8 +13,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RequestMapping(value = "tags")
@@ -31,6 +35,18 @@ public interface TagAPI {
             @RequestBody TagCreateUpdate request
     );
 
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @PostMapping(value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many tags in one batched write")
+    @ApiResponse(responseCode = "201", description = "Tags created successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid input data")
+    ResponseEntity<List<CreateResponse>> createTags(
+            @RequestBody List<TagCreateUpdate> requests
+    ) throws BindException;
+
     @PreAuthorize("hasAnyRole('ADMIN')")
     @PutMapping(value = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -65,6 +81,16 @@ public interface TagAPI {
             @PathVariable("id") String id
     );
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get many tags by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no tag are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Tags found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<TagResponse>> getTagsByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Search for tags with pagination")
@@ -73,6 +99,8 @@ public interface TagAPI {
             @RequestParam(name = "pageSize", required = false, defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
             @RequestParam(name = "direction", required = false, defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
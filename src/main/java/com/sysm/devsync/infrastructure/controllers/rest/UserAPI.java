@@ -4,6 +4,7 @@ import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.UserCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -78,6 +79,16 @@ public interface UserAPI {
             @PathVariable("id") String id
     );
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get many users by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no user are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Users found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<UserResponse>> getByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Search for users with pagination")
@@ -86,6 +97,8 @@ public interface UserAPI {
             @RequestParam(name = "pageSize", required = false, defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
             @RequestParam(name = "direction", required = false, defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
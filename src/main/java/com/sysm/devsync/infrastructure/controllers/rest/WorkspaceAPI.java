@@ -1,9 +1,12 @@
 package com.sysm.devsync.infrastructure.controllers.rest;
 
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.models.to.WorkspaceTO;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMemberBatch;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -32,6 +35,14 @@ public interface WorkspaceAPI {
     @Operation(summary = "Get a workspace by its ID")
     ResponseEntity<WorkspaceResponse> getById(@PathVariable("id") String id);
 
+    @IsMemberOrAdmin
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many workspaces by their IDs, in the order given",
+            description = "Takes up to 100 comma-separated IDs. IDs that match no workspace are listed in missingIds.")
+    @ApiResponse(responseCode = "200", description = "Workspaces found")
+    @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or a blank ID")
+    ResponseEntity<BulkResponse<WorkspaceResponse>> getByIds(@RequestParam("ids") List<String> ids);
+
     @IsMemberOrAdmin
     @GetMapping
     @Operation(summary = "Search for workspaces with pagination")
@@ -40,6 +51,8 @@ public interface WorkspaceAPI {
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "name") String sort,
             @RequestParam(name = "direction", defaultValue = "asc") String direction,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
             @RequestParam Map<String, String> filters
     );
@@ -72,6 +85,19 @@ public interface WorkspaceAPI {
     @Operation(summary = "Change a workspace's privacy setting")
     ResponseEntity<?> changePrivacy(@PathVariable("id") String id, @RequestParam("isPrivate") boolean isPrivate);
 
+    @IsMemberOrAdmin
+    @GetMapping("/{id}/members")
+    @Operation(summary = "List the members of a workspace with pagination")
+    @ApiResponse(responseCode = "200", description = "Members found")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    Pagination<UserTO> getMembers(
+            @PathVariable("id") String id,
+            @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
+            @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
+            @RequestParam(name = "sort", defaultValue = "name") String sort,
+            @RequestParam(name = "direction", defaultValue = "asc") String direction
+    );
+
     @IsMemberOrAdmin
     @PutMapping("/{id}/members/{memberId}")
     @Operation(summary = "Add a member to a workspace")
@@ -82,6 +108,20 @@ public interface WorkspaceAPI {
     @Operation(summary = "Remove a member from a workspace")
     ResponseEntity<?> removeMember(@PathVariable("id") String id, @PathVariable("memberId") String memberId);
 
+    @IsMemberOrAdmin
+    @PostMapping("/{id}/members:batch")
+    @Operation(summary = "Add many members to a workspace at once")
+    @ApiResponse(responseCode = "204", description = "Members added; existing members are skipped")
+    @ApiResponse(responseCode = "404", description = "Workspace or one of the users not found")
+    ResponseEntity<?> addMembers(@PathVariable("id") String id, @RequestBody WorkspaceMemberBatch request);
+
+    @IsMemberOrAdmin
+    @DeleteMapping("/{id}/members:batch")
+    @Operation(summary = "Remove many members from a workspace at once")
+    @ApiResponse(responseCode = "204", description = "Members removed; users that were not members are skipped")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    ResponseEntity<?> removeMembers(@PathVariable("id") String id, @RequestBody WorkspaceMemberBatch request);
+
     @PreAuthorize("hasAnyRole('ADMIN')")
     @PatchMapping("/{id}/owner/{newOwnerId}")
     @Operation(summary = "Change the owner of a workspace")
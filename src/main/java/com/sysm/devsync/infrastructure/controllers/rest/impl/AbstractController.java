@@ -1,17 +1,70 @@
 package com.sysm.devsync.infrastructure.controllers.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sysm.devsync.Main;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.AbstractEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class AbstractController {
 
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Validates every element of a bulk request body, reporting all violations at once with the
+     * element index in the field name, e.g. {@code [2].title}.
+     */
+    protected void validateEach(List<?> requests, String objectName) throws BindException {
+        var errors = new BeanPropertyBindingResult(requests, objectName);
+        for (int i = 0; i < requests.size(); i++) {
+            for (var violation : validator.validate(requests.get(i))) {
+                errors.addError(new FieldError(objectName, "[" + i + "]." + violation.getPropertyPath(), violation.getMessage()));
+            }
+        }
+        if (errors.hasErrors()) {
+            throw new BindException(errors);
+        }
+    }
+
+    /**
+     * Streams the records handed over by {@code source} as an attachment in the requested format.
+     * The source runs when the response body is written, on the async request thread, so it opens
+     * its own read transaction and rows go to the client as the cursor advances.
+     */
+    protected <R extends Record> ResponseEntity<StreamingResponseBody> export(String format, String name, Class<R> type,
+                                                                             Consumer<Consumer<R>> source) {
+        var exportFormat = ExportFormat.of(format);
+        StreamingResponseBody body = output -> exportFormat.write(output, type, objectMapper, source);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName(name))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     protected String authenticatedUserId() {
 
         if ("development".equals(this.environment.getDefaultProfiles()[0])){
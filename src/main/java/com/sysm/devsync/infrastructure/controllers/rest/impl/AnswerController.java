@@ -4,9 +4,12 @@ import com.sysm.devsync.application.AnswerService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.Answer;
 import com.sysm.devsync.infrastructure.controllers.rest.AnswerAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.AnswerCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.AnswerResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -46,19 +50,25 @@ public class AnswerController extends AbstractController implements AnswerAPI {
         return ResponseEntity.ok(AnswerResponse.from(answer));
     }
 
+    @Override
+    public ResponseEntity<BulkResponse<AnswerResponse>> getAnswersByIds(List<String> ids) {
+        var answers = answerService.getAnswersByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, answers, Answer::getId, AnswerResponse::from));
+    }
+
     @Override
     public Pagination<AnswerResponse> getAnswersByQuestionId(String questionId, int pageNumber, int pageSize,
-                                                             String sort, String direction) {
+                                                             String sort, String direction, String cursor) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
 
         return answerService.getAllAnswers(page, questionId).map(AnswerResponse::from);
     }
 
     @Override
-    public Pagination<AnswerResponse> searchAnswers(int pageNumber, int pageSize, String sort, String direction,
+    public Pagination<AnswerResponse> searchAnswers(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                     String queryType, Map<String, String> filters) {
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
         return answerService.getAllAnswers(searchQuery).map(AnswerResponse::from);
@@ -0,0 +1,36 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.sysm.devsync.infrastructure.cache.CachingPersistence;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CacheStatsResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ExistenceFilterStatsResponse;
+import com.sysm.devsync.infrastructure.controllers.rest.CacheAPI;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class CacheController extends AbstractController implements CacheAPI {
+
+    private final List<CachingPersistence<?>> caches;
+    private final ExistenceFilters existenceFilters;
+
+    public CacheController(List<CachingPersistence<?>> caches, ExistenceFilters existenceFilters) {
+        this.caches = caches;
+        this.existenceFilters = existenceFilters;
+    }
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        return caches.stream()
+                .map(CacheStatsResponse::from)
+                .toList();
+    }
+
+    @Override
+    public List<ExistenceFilterStatsResponse> getExistenceFilterStats() {
+        return existenceFilters.stats().stream()
+                .map(ExistenceFilterStatsResponse::from)
+                .toList();
+    }
+}
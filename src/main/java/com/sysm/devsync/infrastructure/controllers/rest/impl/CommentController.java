@@ -4,18 +4,26 @@ import com.sysm.devsync.application.CommentService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.infrastructure.controllers.dto.request.CommentCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.CommentAPI;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -39,6 +47,13 @@ public class CommentController extends AbstractController implements CommentAPI
         return ResponseEntity.created(location).body(response);
     }
 
+    @Override
+    public ResponseEntity<List<CreateResponse>> createComments(@RequestBody List<CommentCreateUpdate> requests) throws BindException {
+        validateEach(requests, "comments");
+        var responses = commentService.createComments(requests, authenticatedUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     @Override
     public ResponseEntity<CommentResponse> getCommentById(String id) {
         var comment = commentService.getCommentById(id);
@@ -46,19 +61,33 @@ public class CommentController extends AbstractController implements CommentAPI
     }
 
     @Override
-    public Pagination<CommentResponse> searchComments(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<CommentResponse>> getCommentsByIds(List<String> ids) {
+        var comments = commentService.getCommentsByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, comments, Comment::getId, CommentResponse::from));
+    }
+
+    @Override
+    public Pagination<CommentResponse> searchComments(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                       String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
-        return commentService.getAllComments(searchQuery)
-                .map(CommentResponse::from);
+        return commentService.searchComments(searchQuery);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportComments(String format, String sort, String direction, String queryType,
+                                                               Map<String, String> filters) {
+        // Only the sort of the page is used; exports are not paged
+        var searchQuery = SearchQuery.of(Page.of(0, 1, sort, direction), QueryType.of(queryType), filters);
+
+        return export(format, "comments", CommentResponse.class, consumer -> commentService.exportComments(searchQuery, consumer));
     }
 
     @Override
-    public Pagination<CommentResponse> getCommentsByTarget(TargetType targetType, String targetId, int pageNumber, int pageSize, String sort, String direction) {
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+    public Pagination<CommentResponse> getCommentsByTarget(TargetType targetType, String targetId, int pageNumber, int pageSize, String sort, String direction, String cursor) {
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
         return commentService.getAllComments(page, targetId, targetType).map(CommentResponse::from);
     }
 
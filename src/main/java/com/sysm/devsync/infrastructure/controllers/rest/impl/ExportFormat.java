@@ -0,0 +1,125 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.domain.BusinessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Row formats of the export endpoints. Both write one record per line as it arrives, so nothing but
+ * the current row is buffered.
+ */
+enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    static ExportFormat of(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid export format: '" + format + "'. Expected 'ndjson' or 'csv'.");
+        }
+    }
+
+    String mediaType() {
+        return mediaType;
+    }
+
+    String fileName(String name) {
+        return name + "." + extension;
+    }
+
+    /**
+     * Writes every record handed over by {@code source} to {@code output}, in this format.
+     */
+    <R extends Record> void write(OutputStream output, Class<R> type, ObjectMapper objectMapper,
+                                  Consumer<Consumer<R>> source) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        var components = type.getRecordComponents();
+        if (this == CSV) {
+            writer.write(header(components));
+        }
+        source.accept(row -> {
+            try {
+                if (this == CSV) {
+                    writer.write(csvLine(components, row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static String header(RecordComponent[] components) {
+        var line = new StringBuilder();
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(components[i].getName());
+        }
+        return line.append('\n').toString();
+    }
+
+    private static String csvLine(RecordComponent[] components, Record row) {
+        var line = new StringBuilder();
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvValue(value(components[i], row)));
+        }
+        return line.append('\n').toString();
+    }
+
+    private static Object value(RecordComponent component, Record row) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + component.getName() + " of " + row.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Collections are joined with {@code ;} in sorted order; a value holding a separator, quote or
+     * line break is quoted with embedded quotes doubled.
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Collection<?> collection
+                ? collection.stream().map(String::valueOf).sorted().collect(Collectors.joining(";"))
+                : String.valueOf(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
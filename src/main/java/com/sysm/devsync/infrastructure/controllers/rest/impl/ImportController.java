@@ -0,0 +1,38 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.application.ImportService;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ImportRecord;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportJobResponse;
+import com.sysm.devsync.infrastructure.controllers.rest.ImportAPI;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+public class ImportController extends AbstractController implements ImportAPI {
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    public ImportController(ImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ResponseEntity<ImportJobResponse> importRecords(String resume, HttpServletRequest request) throws IOException {
+        // Records are parsed one at a time straight off the request stream
+        try (var records = objectMapper.readerFor(ImportRecord.class).<ImportRecord>readValues(request.getInputStream())) {
+            var job = importService.importRecords(records, authenticatedUserId(), resume);
+            return ResponseEntity.ok(ImportJobResponse.from(job));
+        }
+    }
+
+    @Override
+    public ResponseEntity<ImportJobResponse> getImport(String id) {
+        return ResponseEntity.ok(ImportJobResponse.from(importService.getJob(id)));
+    }
+}
@@ -4,17 +4,25 @@ import com.sysm.devsync.application.NoteService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.Note;
 import com.sysm.devsync.infrastructure.controllers.rest.NoteAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -38,6 +46,13 @@ public class NoteController extends AbstractController implements NoteAPI {
         return ResponseEntity.created(location).body(response);
     }
 
+    @Override
+    public ResponseEntity<List<CreateResponse>> createNotes(@RequestBody List<NoteCreateUpdate> requests) throws BindException {
+        validateEach(requests, "notes");
+        var responses = noteService.createNotes(requests, authenticatedUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     @Override
     public ResponseEntity<NoteResponse> getNoteById(String id) {
         var note = noteService.getNoteById(id);
@@ -45,13 +60,28 @@ public class NoteController extends AbstractController implements NoteAPI {
     }
 
     @Override
-    public Pagination<NoteResponse> searchNotes(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<NoteResponse>> getNotesByIds(List<String> ids) {
+        var notes = noteService.getNotesByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, notes, Note::getId, NoteResponse::from));
+    }
+
+    @Override
+    public Pagination<NoteResponse> searchNotes(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                 String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
-        return noteService.getAllNotes(searchQuery).map(NoteResponse::from);
+        return noteService.searchNotes(searchQuery);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportNotes(String format, String sort, String direction, String queryType,
+                                                               Map<String, String> filters) {
+        // Only the sort of the page is used; exports are not paged
+        var searchQuery = SearchQuery.of(Page.of(0, 1, sort, direction), QueryType.of(queryType), filters);
+
+        return export(format, "notes", NoteResponse.class, consumer -> noteService.exportNotes(searchQuery, consumer));
     }
 
     @Override
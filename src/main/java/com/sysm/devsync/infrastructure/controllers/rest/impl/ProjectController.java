@@ -4,8 +4,11 @@ import com.sysm.devsync.application.ProjectService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.infrastructure.controllers.dto.request.ProjectCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.ProjectResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.ProjectAPI;
 import jakarta.validation.Valid;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -45,10 +49,16 @@ public class ProjectController extends AbstractController implements ProjectAPI
     }
 
     @Override
-    public Pagination<ProjectResponse> searchProjects(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<ProjectResponse>> getProjectsByIds(List<String> ids) {
+        var projects = projectService.getProjectsByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, projects, Project::getId, ProjectResponse::from));
+    }
+
+    @Override
+    public Pagination<ProjectResponse> searchProjects(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                       String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
         return projectService.getAllProjects(searchQuery)
                 .map(ProjectResponse::from);
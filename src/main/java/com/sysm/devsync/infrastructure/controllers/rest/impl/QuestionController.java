@@ -4,18 +4,26 @@ import com.sysm.devsync.application.QuestionService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.Question;
 import com.sysm.devsync.infrastructure.controllers.rest.QuestionAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionStatusUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -39,6 +47,13 @@ public class QuestionController extends AbstractController implements QuestionAP
         return ResponseEntity.created(location).body(response);
     }
 
+    @Override
+    public ResponseEntity<List<CreateResponse>> createQuestions(@RequestBody List<QuestionCreateUpdate> requests) throws BindException {
+        validateEach(requests, "questions");
+        var responses = questionService.createQuestions(requests, authenticatedUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     @Override
     public ResponseEntity<QuestionResponse> getQuestionById(String id) {
         var question = questionService.getQuestionById(id);
@@ -46,13 +61,28 @@ public class QuestionController extends AbstractController implements QuestionAP
     }
 
     @Override
-    public Pagination<QuestionResponse> searchQuestions(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<QuestionResponse>> getQuestionsByIds(List<String> ids) {
+        var questions = questionService.getQuestionsByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, questions, Question::getId, QuestionResponse::from));
+    }
+
+    @Override
+    public Pagination<QuestionResponse> searchQuestions(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                        String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
-        return questionService.getAllQuestions(searchQuery).map(QuestionResponse::from);
+        return questionService.searchQuestions(searchQuery);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportQuestions(String format, String sort, String direction, String queryType,
+                                                               Map<String, String> filters) {
+        // Only the sort of the page is used; exports are not paged
+        var searchQuery = SearchQuery.of(Page.of(0, 1, sort, direction), QueryType.of(queryType), filters);
+
+        return export(format, "questions", QuestionResponse.class, consumer -> questionService.exportQuestions(searchQuery, consumer));
     }
 
     @Override
@@ -0,0 +1,46 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.sysm.devsync.application.SearchService;
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CodeMatchResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.SearchHitResponse;
+import com.sysm.devsync.infrastructure.controllers.rest.SearchAPI;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+public class SearchController extends AbstractController implements SearchAPI {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Override
+    public Pagination<SearchHitResponse> search(String text, List<String> types, int pageNumber, int pageSize) {
+        var page = Page.of(pageNumber, pageSize);
+        return searchService.search(text, contentTypes(types), page).map(SearchHitResponse::from);
+    }
+
+    @Override
+    public Pagination<CodeMatchResponse> searchCode(String query, boolean regex, List<String> types,
+                                                    int pageNumber, int pageSize) {
+        var page = Page.of(pageNumber, pageSize);
+        return searchService.searchCode(query, regex, contentTypes(types), page).map(CodeMatchResponse::from);
+    }
+
+    private static Set<ContentType> contentTypes(List<String> types) {
+        return types == null
+                ? EnumSet.allOf(ContentType.class)
+                : types.stream()
+                .map(ContentType::of)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ContentType.class)));
+    }
+}
@@ -4,16 +4,23 @@ import com.sysm.devsync.application.TagService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.Tag;
 import com.sysm.devsync.infrastructure.controllers.dto.request.TagCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.TagResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.TagAPI;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -39,6 +46,13 @@ public class TagController extends AbstractController implements TagAPI {
         return ResponseEntity.created(location).body(response);
     }
 
+    @Override
+    public ResponseEntity<List<CreateResponse>> createTags(List<TagCreateUpdate> requests) throws BindException {
+        validateEach(requests, "tags");
+        var responses = tagService.createTags(requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     @Override
     public ResponseEntity<?> updateTag(String id, @Valid TagCreateUpdate request) {
         tagService.updateTag(id, request);
@@ -63,10 +77,16 @@ public class TagController extends AbstractController implements TagAPI {
     }
 
     @Override
-    public Pagination<TagResponse> searchTags(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<TagResponse>> getTagsByIds(List<String> ids) {
+        var tags = tagService.getTagsByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, tags, Tag::getId, TagResponse::from));
+    }
+
+    @Override
+    public Pagination<TagResponse> searchTags(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                     String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.valueOf(queryType.toUpperCase()), filters);
 
         var pagination = tagService.searchTags(searchQuery);
@@ -4,9 +4,12 @@ import com.sysm.devsync.application.UserService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.models.to.UserTO;
+import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.infrastructure.controllers.dto.request.UserCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.UserResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.UserAPI;
 import jakarta.validation.Valid;
@@ -85,10 +88,16 @@ public class UserController extends AbstractController implements UserAPI {
     }
 
     @Override
-    public Pagination<UserResponse> search(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<UserResponse>> getByIds(List<String> ids) {
+        var users = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, users, User::getId, UserResponse::from));
+    }
+
+    @Override
+    public Pagination<UserResponse> search(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                            String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
         var pagination = userService.searchUsers(searchQuery);
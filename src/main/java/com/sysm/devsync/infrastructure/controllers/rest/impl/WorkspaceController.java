@@ -4,9 +4,14 @@ import com.sysm.devsync.application.WorkspaceService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.models.to.WorkspaceTO;
+import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMemberBatch;
+import com.sysm.devsync.infrastructure.controllers.dto.response.BulkResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.WorkspaceAPI;
 import jakarta.validation.Valid;
@@ -48,10 +53,16 @@ public class WorkspaceController extends AbstractController implements Workspace
     }
 
     @Override
-    public Pagination<WorkspaceResponse> search(int pageNumber, int pageSize, String sort, String direction,
+    public ResponseEntity<BulkResponse<WorkspaceResponse>> getByIds(List<String> ids) {
+        var workspaces = workspaceService.getWorkspacesByIds(ids);
+        return ResponseEntity.ok(BulkResponse.from(ids, workspaces, Workspace::getId, WorkspaceResponse::from));
+    }
+
+    @Override
+    public Pagination<WorkspaceResponse> search(int pageNumber, int pageSize, String sort, String direction, String cursor, String count,
                                                 String queryType, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor, CountMode.of(count));
         var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
 
         return workspaceService.getAllWorkspaces(searchQuery);
@@ -86,6 +97,12 @@ public class WorkspaceController extends AbstractController implements Workspace
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public Pagination<UserTO> getMembers(String id, int pageNumber, int pageSize, String sort, String direction) {
+        var page = Page.of(pageNumber, pageSize, sort, direction);
+        return workspaceService.getWorkspaceMembers(id, page);
+    }
+
     @Override
     public ResponseEntity<?> addMember(String id, String memberId) {
         workspaceService.addMemberToWorkspace(id, memberId);
@@ -98,6 +115,18 @@ public class WorkspaceController extends AbstractController implements Workspace
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public ResponseEntity<?> addMembers(String id, WorkspaceMemberBatch request) {
+        workspaceService.addMembersToWorkspace(id, request.memberIds());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<?> removeMembers(String id, WorkspaceMemberBatch request) {
+        workspaceService.removeMembersFromWorkspace(id, request.memberIds());
+        return ResponseEntity.noContent().build();
+    }
+
     @Override
     public ResponseEntity<?> changeOwner(String id, String newOwnerId) {
         workspaceService.changeOwnerOfWorkspace(id, newOwnerId);
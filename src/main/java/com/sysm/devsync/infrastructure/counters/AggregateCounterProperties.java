@@ -0,0 +1,22 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Rebuild of the workspace, project and question counters, bound from {@code counters.aggregates}.
+ *
+ * @param rebuildInterval how often every counter is recomputed from the tables it counts
+ * @param parallelism     tables recounted at the same time
+ * @param rebuildOnStart  whether every counter is also recomputed once at startup, to backfill them
+ *                        after {@code db/aggregate-counters.sql} added their columns
+ */
+@ConfigurationProperties(prefix = "counters.aggregates")
+public record AggregateCounterProperties(
+        @DefaultValue("6h") Duration rebuildInterval,
+        @DefaultValue("3") int parallelism,
+        @DefaultValue("false") boolean rebuildOnStart
+) {
+}
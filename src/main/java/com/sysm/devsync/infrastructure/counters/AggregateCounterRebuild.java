@@ -0,0 +1,119 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Recomputes the aggregate counters kept on workspace, project and question rows from the tables
+ * they count. The persistence adapters keep these counters in the same transaction as their writes;
+ * the rebuild repairs drift from any other source, such as rows changed outside the adapters or
+ * edits that raced on the same row.
+ * <p>
+ * Each table is recounted by one statement in a transaction of its own, and the tables are recounted
+ * in parallel. A row changed while its statement runs may be off by that change until the next rebuild.
+ */
+public class AggregateCounterRebuild implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateCounterRebuild.class);
+
+    private record Recount(String table, IntSupplier statement) {
+    }
+
+    private final TransactionOperations transactions;
+    private final List<Recount> recounts;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param parallelism     tables recounted at the same time
+     * @param rebuildInterval interval between rebuilds; not scheduled when {@code null}
+     */
+    public AggregateCounterRebuild(WorkspaceJpaRepository workspaceRepository, ProjectJpaRepository projectRepository,
+                                   QuestionJpaRepository questionRepository, TransactionOperations transactions,
+                                   int parallelism, Duration rebuildInterval) {
+        this(workspaceRepository, projectRepository, questionRepository, transactions, parallelism, rebuildInterval, false);
+    }
+
+    /**
+     * @param parallelism     tables recounted at the same time
+     * @param rebuildInterval interval between rebuilds; not scheduled when {@code null}
+     * @param rebuildOnStart  whether to also rebuild right away in the background, such as to backfill
+     *                        counter columns that were just added
+     */
+    public AggregateCounterRebuild(WorkspaceJpaRepository workspaceRepository, ProjectJpaRepository projectRepository,
+                                   QuestionJpaRepository questionRepository, TransactionOperations transactions,
+                                   int parallelism, Duration rebuildInterval, boolean rebuildOnStart) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.transactions = transactions;
+        this.recounts = List.of(
+                new Recount("workspaces", workspaceRepository::recountCounters),
+                new Recount("projects", projectRepository::recountCounters),
+                new Recount("questions", questionRepository::recountCounters)
+        );
+
+        var workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.min(parallelism, recounts.size()), runnable -> {
+            var thread = new Thread(runnable, "aggregate-counters-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "aggregate-counters");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (rebuildInterval != null) {
+            long period = rebuildInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::run, period, period, TimeUnit.MILLISECONDS);
+        }
+        if (rebuildOnStart) {
+            scheduler.execute(this::run);
+        }
+    }
+
+    /**
+     * Recounts every table and waits for all of them. A table whose recount fails keeps its counters
+     * and does not stop the others; the first failure is rethrown once they are done.
+     */
+    public synchronized void rebuildAll() {
+        var futures = recounts.stream()
+                .map(recount -> CompletableFuture.runAsync(() -> {
+                    Integer rows = transactions.execute(status -> recount.statement().getAsInt());
+                    log.debug("Recounted the counters of {} {} rows", rows, recount.table());
+                }, workers))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void run() {
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            // Counters keep their incremental values; the next run retries
+            log.warn("Aggregate counter rebuild failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+}
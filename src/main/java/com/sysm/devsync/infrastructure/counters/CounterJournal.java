@@ -0,0 +1,110 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File listing, one per line, the keys whose counters have changes not yet written to the database.
+ * <p>
+ * A key is appended and forced to disk the first time it changes after a flush, so the file costs
+ * one write per key per flush interval, not one per change. After a flush the file is replaced by
+ * the keys still pending. On startup, the keys left behind by a crash are the ones to recount.
+ */
+class CounterJournal implements Closeable {
+
+    private final Path file;
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+    private FileChannel channel;
+
+    CounterJournal(Path file) {
+        this.file = file;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            this.channel = open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open counter journal " + file, e);
+        }
+    }
+
+    /**
+     * Keys left in the file by the previous run.
+     */
+    Set<String> pending() {
+        try {
+            var keys = new LinkedHashSet<String>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    keys.add(line.strip());
+                }
+            }
+            return keys;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read counter journal " + file, e);
+        }
+    }
+
+    void record(String key) {
+        if (recorded.contains(key)) {
+            return;
+        }
+        synchronized (this) {
+            if (!recorded.add(key)) {
+                return;
+            }
+            try {
+                var line = ByteBuffer.wrap((key + "\n").getBytes(StandardCharsets.UTF_8));
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                recorded.remove(key);
+                throw new UncheckedIOException("Could not write counter journal " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Atomically replaces the file with {@code keys}.
+     */
+    synchronized void retain(Collection<String> keys) {
+        try {
+            var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            var content = new StringBuilder();
+            keys.forEach(key -> content.append(key).append('\n'));
+            Files.writeString(temporary, content, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            channel.close();
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = open();
+            recorded.clear();
+            recorded.addAll(keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rewrite counter journal " + file, e);
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,21 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Write-behind tag usage counters, bound from {@code counters.tag-uses}.
+ *
+ * @param flushInterval     how often buffered deltas are written to the database
+ * @param recountInterval   how often every tag's count is recomputed from the tag join tables
+ * @param journal           file naming the tags with unwritten deltas; blank to run without one
+ */
+@ConfigurationProperties(prefix = "counters.tag-uses")
+public record TagCounterProperties(
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("1h") Duration recountInterval,
+        String journal
+) {
+}
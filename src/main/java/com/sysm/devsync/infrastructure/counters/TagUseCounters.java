@@ -0,0 +1,223 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import com.sysm.devsync.infrastructure.repositories.TagJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind {@code amount_used} counters, so tagging a question or note never waits on the tag
+ * row's lock.
+ * <p>
+ * Changes are summed per tag in a {@link LongAdder} and written every flush interval, and on close,
+ * as one JDBC batch of {@code amount_used = amount_used + delta} updates. A flush subtracts exactly
+ * what it wrote, so changes made while it runs are kept for the next one. Counts read from the
+ * database trail the join tables by up to one flush interval.
+ * <p>
+ * With a {@link CounterJournal}, a crash loses no change for good: the tags it names are recounted
+ * from the join tables on the next start. Every tag is also recounted on a longer interval, which
+ * repairs drift from any other source, such as rows deleted without going through the counters.
+ */
+public class TagUseCounters implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TagUseCounters.class);
+
+    private static final String ADD_USES = "UPDATE tags SET amount_used = amount_used + ? WHERE id = ?";
+    private static final int MAX_IN_LIST_SIZE = 1_000;
+
+    private final JdbcOperations jdbc;
+    private final TagJpaRepository tagRepository;
+    private final TransactionOperations transactions;
+    private final CounterJournal journal;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, LongAdder> deltas = new ConcurrentHashMap<>();
+    // Held shared while a change is recorded and exclusively while the journal is rewritten, so the
+    // rewrite never drops a tag whose change is half recorded
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+
+    /**
+     * @param journal         journal file, or {@code null} to run without one
+     * @param flushInterval   interval between flushes; not scheduled when {@code null}
+     * @param recountInterval interval between recounts of every tag; not scheduled when {@code null}
+     */
+    public TagUseCounters(JdbcOperations jdbc, TagJpaRepository tagRepository, TransactionOperations transactions,
+                          Path journal, Duration flushInterval, Duration recountInterval) {
+        this.jdbc = jdbc;
+        this.tagRepository = tagRepository;
+        this.transactions = transactions;
+        this.journal = journal == null ? null : new CounterJournal(journal);
+
+        if (this.journal != null) {
+            recover();
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "tag-use-counters");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (flushInterval != null) {
+            long period = flushInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> run("flush", this::flush), period, period, TimeUnit.MILLISECONDS);
+        }
+        if (recountInterval != null) {
+            long period = recountInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> run("recount", this::recountAll), period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the tag's count. Inside a transaction the change is recorded once it
+     * commits, so a rollback leaves the count alone.
+     */
+    public void add(String tagId, long delta) {
+        if (tagId == null || delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(tagId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(tagId, delta);
+            }
+        });
+    }
+
+    private void record(String tagId, long delta) {
+        journalLock.readLock().lock();
+        try {
+            if (journal != null) {
+                journal.record(tagId);
+            }
+            deltas.computeIfAbsent(tagId, id -> new LongAdder()).add(delta);
+        } catch (UncheckedIOException e) {
+            // The change is still buffered; only its crash safety is lost until the next recount
+            log.warn("Could not journal a usage change of tag {}", tagId, e);
+            deltas.computeIfAbsent(tagId, id -> new LongAdder()).add(delta);
+        } finally {
+            journalLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Change buffered for the tag and not yet written.
+     */
+    public long pending(String tagId) {
+        var adder = deltas.get(tagId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Writes every buffered change in one batch.
+     */
+    public synchronized void flush() {
+        var pending = snapshot();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        pending.forEach((tagId, delta) -> rows.add(new Object[]{delta, tagId}));
+        transactions.executeWithoutResult(status -> jdbc.batchUpdate(ADD_USES, rows));
+
+        discard(pending);
+    }
+
+    /**
+     * Recomputes every tag's count from the question and note join tables.
+     * <p>
+     * Changes buffered by then were committed before the recount and are part of it, so they are
+     * dropped. A tag changed while the statement runs may be off by that change until the next recount.
+     */
+    public synchronized void recountAll() {
+        transactions.executeWithoutResult(status -> tagRepository.recountUses());
+        discard(snapshot());
+    }
+
+    /**
+     * Recounts the tags left in the journal by the previous run, then empties it.
+     */
+    private void recover() {
+        var tagIds = new ArrayList<>(journal.pending());
+        if (!tagIds.isEmpty()) {
+            for (int from = 0; from < tagIds.size(); from += MAX_IN_LIST_SIZE) {
+                var chunk = tagIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, tagIds.size()));
+                transactions.executeWithoutResult(status -> tagRepository.recountUses(chunk));
+            }
+            log.info("Recounted {} tags with usage changes left unwritten by the previous run", tagIds.size());
+        }
+        journal.retain(List.of());
+    }
+
+    private Map<String, Long> snapshot() {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        deltas.forEach((tagId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                pending.put(tagId, delta);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Takes written changes off the buffers, then drops idle buffers and rewrites the journal with
+     * the tags that still have changes.
+     */
+    private void discard(Map<String, Long> written) {
+        written.forEach((tagId, delta) -> deltas.get(tagId).add(-delta));
+
+        journalLock.writeLock().lock();
+        try {
+            deltas.values().removeIf(adder -> adder.sum() == 0);
+            if (journal != null) {
+                journal.retain(List.copyOf(deltas.keySet()));
+            }
+        } catch (UncheckedIOException e) {
+            log.warn("Could not rewrite the tag usage journal", e);
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    private void run(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // Nothing is taken off the buffers unless the write committed; the next run retries
+            log.warn("Tag usage {} failed", task, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        run("flush", this::flush);
+        if (journal != null) {
+            journal.close();
+        }
+    }
+}
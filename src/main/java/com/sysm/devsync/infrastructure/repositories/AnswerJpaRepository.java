@@ -5,10 +5,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
-public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, String> {
+public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, String>, JpaSpecificationExecutor<AnswerJpaEntity> {
 
     Page<AnswerJpaEntity> findAll(Specification<AnswerJpaEntity> whereClause, Pageable page);
 
@@ -16,6 +22,35 @@ public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, Stri
 
     List<AnswerJpaEntity> findByAuthorId(String authorId);
 
-    void deleteAllByQuestion_Id(String questionId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Answer a WHERE a.question.id = :questionId")
+    int deleteAllByQuestion_Id(@Param("questionId") String questionId);
+
+    @Query("SELECT count(a) > 0 FROM Answer a WHERE a.id = :id AND a.author.id = :userId")
+    boolean isAuthor(@Param("id") String id, @Param("userId") String userId);
+
+    @Query("SELECT count(a) > 0 FROM Answer a JOIN a.question q WHERE a.id = :answerId AND q.author.id = :userId")
+    boolean isQuestionAuthor(@Param("answerId") String answerId, @Param("userId") String userId);
+
+    @Query("SELECT a.question.id FROM Answer a WHERE a.id = :answerId")
+    Optional<String> findQuestionIdById(@Param("answerId") String answerId);
+
+    /**
+     * Accepts {@code answerId} and un-accepts any other answer of {@code questionId}. The question
+     * is passed in rather than read in a sub-select, since MySQL cannot update a table it selects from.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Answer a
+            SET a.isAccepted = CASE WHEN a.id = :answerId THEN true ELSE false END, a.updatedAt = :updatedAt
+            WHERE a.question.id = :questionId
+              AND (a.id = :answerId OR a.isAccepted = true)
+            """)
+    int accept(@Param("questionId") String questionId, @Param("answerId") String answerId,
+               @Param("updatedAt") Instant updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Answer a SET a.isAccepted = false, a.updatedAt = :updatedAt WHERE a.id = :answerId")
+    int reject(@Param("answerId") String answerId, @Param("updatedAt") Instant updatedAt);
 
 }
@@ -6,8 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, String> {
+public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, String>, JpaSpecificationExecutor<CommentJpaEntity> {
 
     Page<CommentJpaEntity> findAll(Specification<CommentJpaEntity> whereClause, Pageable page);
 
@@ -15,6 +19,17 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, St
             TargetType targetType, String targetId, Pageable pageable
     );
 
-    void deleteAllByTargetTypeAndTargetId(TargetType targetType, String targetId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.targetType = :targetType AND c.targetId = :targetId")
+    int deleteAllByTargetTypeAndTargetId(@Param("targetType") TargetType targetType, @Param("targetId") String targetId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c " +
+           "WHERE c.targetType = com.sysm.devsync.domain.enums.TargetType.ANSWER " +
+           "AND c.targetId IN (SELECT a.id FROM Answer a WHERE a.question.id = :questionId)")
+    int deleteAllOnAnswersOfQuestion(@Param("questionId") String questionId);
+
+    @Query("SELECT count(c) > 0 FROM Comment c WHERE c.id = :id AND c.author.id = :userId")
+    boolean isAuthor(@Param("id") String id, @Param("userId") String userId);
 
 }
@@ -1,15 +1,62 @@
 package com.sysm.devsync.infrastructure.repositories;
 
 import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface NoteJpaRepository extends JpaRepository<NoteJpaEntity, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface NoteJpaRepository extends JpaRepository<NoteJpaEntity, String>, JpaSpecificationExecutor<NoteJpaEntity> {
 
     Page<NoteJpaEntity> findAll(Specification<NoteJpaEntity> whereClause, Pageable page);
 
     Page<NoteJpaEntity> findAllByProject_Id(String projectId, Pageable page);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(n.id, t.id) " +
+           "FROM Note n JOIN n.tags t " +
+           "WHERE n.id IN :ids")
+    List<KeyValue> findTagIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT t.id FROM Note n JOIN n.tags t WHERE n.id = :id")
+    Set<String> findTagIds(@Param("id") String id);
+
+    /**
+     * Loads the note's own columns; its tags stay unloaded, to be changed with {@link #addTag}
+     * and {@link #removeTags}.
+     */
+    @Query("SELECT n FROM Note n WHERE n.id = :id")
+    Optional<NoteJpaEntity> findWithoutTagsById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO note_tags (note_id, tag_id) VALUES (:noteId, :tagId)", nativeQuery = true)
+    void addTag(@Param("noteId") String noteId, @Param("tagId") String tagId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM note_tags WHERE note_id = :noteId AND tag_id IN (:tagIds)", nativeQuery = true)
+    int removeTags(@Param("noteId") String noteId, @Param("tagIds") Collection<String> tagIds);
+
+    @Override
+    @EntityGraph(NoteJpaEntity.WITH_TAGS)
+    Optional<NoteJpaEntity> findById(String id);
+
+    /**
+     * Hydrates a page selected without collection joins, fetching its associations in one query.
+     */
+    @EntityGraph(NoteJpaEntity.WITH_TAGS)
+    List<NoteJpaEntity> findAllByIdIn(Collection<String> ids);
+
+    @Query("SELECT count(n) > 0 FROM Note n WHERE n.id = :id AND n.author.id = :userId")
+    boolean isAuthor(@Param("id") String id, @Param("userId") String userId);
+
 }
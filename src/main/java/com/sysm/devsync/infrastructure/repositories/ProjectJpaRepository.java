@@ -5,12 +5,18 @@ import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, String> {
+public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, String>, JpaSpecificationExecutor<ProjectJpaEntity> {
 
     Page<ProjectJpaEntity> findAll(Specification<ProjectJpaEntity> whereClause, Pageable page);
 
@@ -23,4 +29,39 @@ public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, St
            "WHERE p.workspace.id IN :workspaceIds " +
            "GROUP BY p.workspace.id")
     List<KeyValue> countProjectsByWorkspaceIdIn(List<String> workspaceIds);
+
+    /**
+     * Loads projects by id together with their workspaces in one query.
+     */
+    @EntityGraph(ProjectJpaEntity.WITH_WORKSPACE)
+    List<ProjectJpaEntity> findAllByIdIn(Collection<String> ids);
+
+    @Query("SELECT p.workspace.id FROM Project p WHERE p.id = :id")
+    Optional<String> findWorkspaceId(@Param("id") String id);
+
+    /**
+     * Sets the question and note counters of every project from the question and note tables.
+     */
+    String RECOUNT_COUNTERS = "UPDATE projects SET " +
+                              "question_count = (SELECT COUNT(*) FROM questions q WHERE q.project_id = projects.id), " +
+                              "open_question_count = (SELECT COUNT(*) FROM questions q WHERE q.project_id = projects.id AND q.status = 'OPEN'), " +
+                              "note_count = (SELECT COUNT(*) FROM notes n WHERE n.project_id = projects.id)";
+
+    @Modifying
+    @Query(value = RECOUNT_COUNTERS, nativeQuery = true)
+    int recountCounters();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE projects SET question_count = question_count + :questions, " +
+                   "open_question_count = open_question_count + :openQuestions WHERE id = :id", nativeQuery = true)
+    int addQuestions(@Param("id") String id, @Param("questions") long questions, @Param("openQuestions") long openQuestions);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE projects SET open_question_count = open_question_count + :openQuestions " +
+                   "WHERE id = (SELECT q.project_id FROM questions q WHERE q.id = :questionId)", nativeQuery = true)
+    int addOpenQuestionsOfQuestion(@Param("questionId") String questionId, @Param("openQuestions") long openQuestions);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE projects SET note_count = note_count + :notes WHERE id = :id", nativeQuery = true)
+    int addNotes(@Param("id") String id, @Param("notes") long notes);
 }
@@ -1,15 +1,124 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface QuestionJpaRepository extends JpaRepository<QuestionJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface QuestionJpaRepository extends JpaRepository<QuestionJpaEntity, String>, JpaSpecificationExecutor<QuestionJpaEntity> {
 
     Page<QuestionJpaEntity> findAll(Specification<QuestionJpaEntity> whereClause, Pageable page);
 
     Page<QuestionJpaEntity> findAllByProject_Id(String projectId, Pageable page);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(q.id, t.id) " +
+           "FROM Question q JOIN q.tags t " +
+           "WHERE q.id IN :ids")
+    List<KeyValue> findTagIdsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT t.id FROM Question q JOIN q.tags t WHERE q.id = :id")
+    Set<String> findTagIds(@Param("id") String id);
+
+    /**
+     * Loads the question's own columns; its tags stay unloaded, to be changed with {@link #addTag}
+     * and {@link #removeTags}.
+     */
+    @Query("SELECT q FROM Question q WHERE q.id = :id")
+    Optional<QuestionJpaEntity> findWithoutTagsById(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO question_tags (question_id, tag_id) VALUES (:questionId, :tagId)", nativeQuery = true)
+    void addTag(@Param("questionId") String questionId, @Param("tagId") String tagId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM question_tags WHERE question_id = :questionId AND tag_id IN (:tagIds)", nativeQuery = true)
+    int removeTags(@Param("questionId") String questionId, @Param("tagIds") Collection<String> tagIds);
+
+    @Override
+    @EntityGraph(QuestionJpaEntity.WITH_TAGS)
+    Optional<QuestionJpaEntity> findById(String id);
+
+    /**
+     * Hydrates a page selected without collection joins, fetching its associations in one query.
+     */
+    @EntityGraph(QuestionJpaEntity.WITH_TAGS)
+    List<QuestionJpaEntity> findAllByIdIn(Collection<String> ids);
+
+    @Query("SELECT count(q) > 0 FROM Question q WHERE q.id = :id AND q.author.id = :userId")
+    boolean isAuthor(@Param("id") String id, @Param("userId") String userId);
+
+    /**
+     * Changes the status only while the current one is among {@code current}, so the caller knows
+     * which status it replaced.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Question q SET q.status = :status, q.updatedAt = :updatedAt WHERE q.id = :id AND q.status IN :current")
+    int updateStatus(@Param("id") String id, @Param("status") QuestionStatus status, @Param("updatedAt") Instant updatedAt,
+                     @Param("current") Collection<QuestionStatus> current);
+
+    @Query("SELECT q.project.id FROM Question q WHERE q.id = :id")
+    Optional<String> findProjectId(@Param("id") String id);
+
+    /**
+     * Sets the answer and comment counters and the accepted answer of every question from the
+     * answer and comment tables. Comments on answers are not counted.
+     */
+    String RECOUNT_COUNTERS = "UPDATE questions SET " +
+                              "answer_count = (SELECT COUNT(*) FROM answers a WHERE a.question_id = questions.id), " +
+                              "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.target_type = 'QUESTION' AND c.target_id = questions.id), " +
+                              "accepted_answer_id = (SELECT MIN(a.id) FROM answers a WHERE a.question_id = questions.id AND a.is_accepted = TRUE)";
+
+    @Modifying
+    @Query(value = RECOUNT_COUNTERS, nativeQuery = true)
+    int recountCounters();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET answer_count = answer_count + :answers WHERE id = :id", nativeQuery = true)
+    int addAnswers(@Param("id") String id, @Param("answers") long answers);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET comment_count = comment_count + :comments WHERE id = :id", nativeQuery = true)
+    int addComments(@Param("id") String id, @Param("comments") long comments);
+
+    /**
+     * Zeroes the answer counters of a question whose answers were all deleted.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET answer_count = 0, accepted_answer_id = NULL WHERE id = :id", nativeQuery = true)
+    int clearAnswers(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET comment_count = 0 WHERE id = :id", nativeQuery = true)
+    int clearComments(@Param("id") String id);
+
+    /**
+     * Records the accepted answer on the question it answers.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET accepted_answer_id = :answerId " +
+                   "WHERE id = (SELECT a.question_id FROM answers a WHERE a.id = :answerId)", nativeQuery = true)
+    int setAcceptedAnswer(@Param("answerId") String answerId);
+
+    /**
+     * Clears the accepted answer of the question it answers, only while it is still {@code answerId}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE questions SET accepted_answer_id = NULL " +
+                   "WHERE id = (SELECT a.question_id FROM answers a WHERE a.id = :answerId) " +
+                   "AND accepted_answer_id = :answerId", nativeQuery = true)
+    int unsetAcceptedAnswer(@Param("answerId") String answerId);
 }
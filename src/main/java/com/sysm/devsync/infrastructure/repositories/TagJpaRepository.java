@@ -5,18 +5,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TagJpaRepository extends JpaRepository<TagJpaEntity, String> {
+import java.util.Collection;
+
+public interface TagJpaRepository extends JpaRepository<TagJpaEntity, String>, JpaSpecificationExecutor<TagJpaEntity> {
 
     Page<TagJpaEntity> findAll(Specification<TagJpaEntity> whereClause, Pageable page);
 
+    /**
+     * Sets {@code amount_used} to the number of questions and notes carrying the tag.
+     */
+    String RECOUNT_USES = "UPDATE tags SET amount_used = " +
+                          "(SELECT COUNT(*) FROM question_tags qt WHERE qt.tag_id = tags.id) + " +
+                          "(SELECT COUNT(*) FROM note_tags nt WHERE nt.tag_id = tags.id)";
+
     @Modifying
-    @Query("UPDATE Tag t SET t.amountUsed = t.amountUsed + 1 WHERE t.id = :id")
-    void incrementUse(String id);
+    @Query(value = RECOUNT_USES, nativeQuery = true)
+    int recountUses();
 
     @Modifying
-    @Query("UPDATE Tag t SET t.amountUsed = t.amountUsed - 1 WHERE t.id = :id")
-    void decrementUse(String id);
+    @Query(value = RECOUNT_USES + " WHERE id IN (:ids)", nativeQuery = true)
+    int recountUses(@Param("ids") Collection<String> ids);
 }
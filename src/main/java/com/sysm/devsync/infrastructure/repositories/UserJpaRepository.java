@@ -1,16 +1,21 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.domain.enums.UserRole;
 import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
-public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String> {
+public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>, JpaSpecificationExecutor<UserJpaEntity> {
 
     Page<UserJpaEntity> findAll(Specification<UserJpaEntity> whereClause, Pageable page);
 
@@ -19,4 +24,18 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>
            "WHERE u.id IN :userIds ")
     List<KeyValue> userIdXUseName(List<String> userIds);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE User u
+            SET u.name = COALESCE(:name, u.name),
+                u.email = COALESCE(:email, u.email),
+                u.role = COALESCE(:role, u.role),
+                u.profilePictureUrl = COALESCE(:profilePictureUrl, u.profilePictureUrl),
+                u.updatedAt = :updatedAt
+            WHERE u.id = :id
+            """)
+    int updatePartially(@Param("id") String id, @Param("name") String name, @Param("email") String email,
+                        @Param("role") UserRole role, @Param("profilePictureUrl") String profilePictureUrl,
+                        @Param("updatedAt") Instant updatedAt);
+
 }
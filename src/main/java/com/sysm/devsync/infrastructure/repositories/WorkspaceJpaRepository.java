@@ -1,18 +1,89 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface WorkspaceJpaRepository extends JpaRepository<WorkspaceJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkspaceJpaRepository extends JpaRepository<WorkspaceJpaEntity, String>, JpaSpecificationExecutor<WorkspaceJpaEntity> {
 
     Page<WorkspaceJpaEntity> findAll(Specification<WorkspaceJpaEntity> whereClause, Pageable page);
 
     @Query("SELECT count(m) > 0 FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
     boolean hasMembers(@Param("workspaceId") String workspaceId);
 
+    @Query("SELECT count(m) > 0 FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId AND m.id = :userId")
+    boolean isMember(@Param("workspaceId") String workspaceId, @Param("userId") String userId);
+
+    @Query("SELECT count(m) FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
+    long countMembers(@Param("workspaceId") String workspaceId);
+
+    @Query(value = "SELECT u FROM User u WHERE u.id IN " +
+                   "(SELECT m.id FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId)",
+            countQuery = "SELECT count(m) FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
+    Page<UserJpaEntity> findMembers(@Param("workspaceId") String workspaceId, Pageable page);
+
+    /**
+     * Inserts a link for every given user that exists and is not a member yet, in one statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO workspace_members (workspace_id, user_id) " +
+                   "SELECT w.id, u.id FROM workspaces w JOIN users u ON u.id IN (:userIds) " +
+                   "WHERE w.id = :workspaceId " +
+                   "AND NOT EXISTS (SELECT 1 FROM workspace_members m WHERE m.workspace_id = w.id AND m.user_id = u.id)",
+            nativeQuery = true)
+    int addMembers(@Param("workspaceId") String workspaceId, @Param("userIds") Collection<String> userIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id = :userId", nativeQuery = true)
+    int removeMember(@Param("workspaceId") String workspaceId, @Param("userId") String userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id IN (:userIds)", nativeQuery = true)
+    int removeMembers(@Param("workspaceId") String workspaceId, @Param("userIds") Collection<String> userIds);
+
+    @Override
+    @EntityGraph(WorkspaceJpaEntity.WITH_OWNER)
+    Optional<WorkspaceJpaEntity> findById(String id);
+
+    /**
+     * Hydrates a page selected without collection joins, fetching its associations in one query.
+     */
+    @EntityGraph(WorkspaceJpaEntity.WITH_OWNER)
+    List<WorkspaceJpaEntity> findAllByIdIn(Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Workspace w SET w.isPrivate = :isPrivate, w.updatedAt = :updatedAt WHERE w.id = :id")
+    int updatePrivacy(@Param("id") String id, @Param("isPrivate") boolean isPrivate, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Sets the member and project counters of every workspace from the member and project tables.
+     */
+    String RECOUNT_COUNTERS = "UPDATE workspaces SET " +
+                              "member_count = (SELECT COUNT(*) FROM workspace_members m WHERE m.workspace_id = workspaces.id), " +
+                              "project_count = (SELECT COUNT(*) FROM projects p WHERE p.workspace_id = workspaces.id)";
+
+    @Modifying
+    @Query(value = RECOUNT_COUNTERS, nativeQuery = true)
+    int recountCounters();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE workspaces SET member_count = member_count + :members WHERE id = :id", nativeQuery = true)
+    int addMemberCount(@Param("id") String id, @Param("members") long members);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE workspaces SET project_count = project_count + :projects WHERE id = :id", nativeQuery = true)
+    int addProjectCount(@Param("id") String id, @Param("projects") long projects);
 }
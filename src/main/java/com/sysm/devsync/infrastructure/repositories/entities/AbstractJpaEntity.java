@@ -0,0 +1,39 @@
+package com.sysm.devsync.infrastructure.repositories.entities;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Base of the entities, whose ids are assigned by the domain. An assigned id does not tell Spring
+ * Data whether the row exists, so it would merge, and select the row, before every insert. The
+ * entity tracks it instead: an instance is new until it is persisted or loaded, and one mapped
+ * from a model that is already stored is marked with {@link #asStored} before it is saved.
+ */
+@MappedSuperclass
+public abstract class AbstractJpaEntity implements Persistable<String> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the entity as a copy of a stored row, so saving it merges instead of inserting.
+     */
+    public static <E extends AbstractJpaEntity> E asStored(E entity) {
+        entity.markStored();
+        return entity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        this.isNew = false;
+    }
+}
@@ -8,7 +8,7 @@ import java.util.Objects;
 
 @Entity(name = "Answer")
 @Table(name = "answers")
-public class AnswerJpaEntity {
+public class AnswerJpaEntity extends AbstractJpaEntity {
 
     @Id
     private String id;
@@ -135,8 +135,8 @@ public class AnswerJpaEntity {
         AnswerJpaEntity entity = new AnswerJpaEntity();
         entity.setId(model.getId());
         entity.setContent(model.getContent());
-        entity.setQuestion(new QuestionJpaEntity(model.getQuestionId()));
-        entity.setAuthor(new UserJpaEntity(model.getAuthorId()));
+        entity.setQuestion(asStored(new QuestionJpaEntity(model.getQuestionId())));
+        entity.setAuthor(asStored(new UserJpaEntity(model.getAuthorId())));
         entity.setAccepted(model.isAccepted());
         entity.setCreatedAt(model.getCreatedAt());
         entity.setUpdatedAt(model.getUpdatedAt());
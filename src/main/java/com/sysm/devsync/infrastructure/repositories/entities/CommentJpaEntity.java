@@ -2,14 +2,16 @@ package com.sysm.devsync.infrastructure.repositories.entities;
 
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilterListener;
 import jakarta.persistence.*;
 
 import java.time.Instant;
 import java.util.Objects;
 
+@EntityListeners(ExistenceFilterListener.class)
 @Entity(name = "Comment")
 @Table(name = "comments")
-public class CommentJpaEntity {
+public class CommentJpaEntity extends AbstractJpaEntity {
 
     @Id
     private String id;
@@ -130,7 +132,7 @@ public class CommentJpaEntity {
         entity.setTargetId(comment.getTargetId());
         entity.setCreatedAt(comment.getCreatedAt());
         entity.setUpdatedAt(comment.getUpdatedAt());
-        UserJpaEntity author = new UserJpaEntity(comment.getAuthorId());
+        UserJpaEntity author = asStored(new UserJpaEntity(comment.getAuthorId()));
         entity.setAuthor(author);
 
         return entity;
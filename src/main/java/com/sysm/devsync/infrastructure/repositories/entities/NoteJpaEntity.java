@@ -1,6 +1,7 @@
 package com.sysm.devsync.infrastructure.repositories.entities;
 
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilterListener;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -8,9 +9,16 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@EntityListeners(ExistenceFilterListener.class)
 @Entity(name = "Note")
 @Table(name = "notes")
-public class NoteJpaEntity {
+@NamedEntityGraph(name = NoteJpaEntity.WITH_TAGS, attributeNodes = @NamedAttributeNode("tags"))
+public class NoteJpaEntity extends AbstractJpaEntity {
+
+    /**
+     * Fetch plan for reads that map to the domain model, which needs the tag ids of every note.
+     */
+    public static final String WITH_TAGS = "Note.withTags";
 
     @Id
     private String id;
@@ -164,8 +172,8 @@ public class NoteJpaEntity {
         entity.setTitle(note.getTitle());
         entity.setContent(note.getContent());
         entity.setVersion(note.getVersion());
-        entity.setProject(new ProjectJpaEntity(note.getProjectId()));
-        entity.setAuthor(new UserJpaEntity(note.getAuthorId()));
+        entity.setProject(asStored(new ProjectJpaEntity(note.getProjectId())));
+        entity.setAuthor(asStored(new UserJpaEntity(note.getAuthorId())));
         entity.setCreatedAt(note.getCreatedAt());
         entity.setUpdatedAt(note.getUpdatedAt());
 
@@ -173,6 +181,7 @@ public class NoteJpaEntity {
         if (note.getTagsId() != null) {
             Set<TagJpaEntity> tagEntities = note.getTagsId().stream()
                 .map(TagJpaEntity::new)
+                .map(AbstractJpaEntity::asStored)
                 .collect(Collectors.toSet());
             entity.setTags(tagEntities);
         }
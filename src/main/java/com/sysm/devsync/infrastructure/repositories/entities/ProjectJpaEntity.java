@@ -2,15 +2,23 @@ package com.sysm.devsync.infrastructure.repositories.entities;
 
 
 import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.counts.ProjectCounts;
 import com.sysm.devsync.domain.models.to.WorkspaceTO;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.Objects;
 
 @Entity(name = "Project")
 @Table(name = "projects")
-public class ProjectJpaEntity {
+@NamedEntityGraph(name = ProjectJpaEntity.WITH_WORKSPACE, attributeNodes = @NamedAttributeNode("workspace"))
+public class ProjectJpaEntity extends AbstractJpaEntity {
+
+    /**
+     * Fetch plan for reads of many projects at once, whose models carry the workspace's name.
+     */
+    public static final String WITH_WORKSPACE = "Project.withWorkspace";
 
     @Id
     private String id;
@@ -25,6 +33,20 @@ public class ProjectJpaEntity {
     @JoinColumn(name = "workspace_id", nullable = false) // Foreign key column in the 'workspaces' table
     private WorkspaceJpaEntity workspace;
 
+    // Counters below are only ever changed by delta statements in ProjectJpaRepository, so saving
+    // an edited project cannot overwrite them
+    @ColumnDefault("0")
+    @Column(name = "question_count", nullable = false, updatable = false)
+    private long questionCount;
+
+    @ColumnDefault("0")
+    @Column(name = "open_question_count", nullable = false, updatable = false)
+    private long openQuestionCount;
+
+    @ColumnDefault("0")
+    @Column(name = "note_count", nullable = false, updatable = false)
+    private long noteCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -71,6 +93,30 @@ public class ProjectJpaEntity {
         this.workspace = workspace;
     }
 
+    public long getQuestionCount() {
+        return questionCount;
+    }
+
+    public void setQuestionCount(long questionCount) {
+        this.questionCount = questionCount;
+    }
+
+    public long getOpenQuestionCount() {
+        return openQuestionCount;
+    }
+
+    public void setOpenQuestionCount(long openQuestionCount) {
+        this.openQuestionCount = openQuestionCount;
+    }
+
+    public long getNoteCount() {
+        return noteCount;
+    }
+
+    public void setNoteCount(long noteCount) {
+        this.noteCount = noteCount;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -127,7 +173,7 @@ public class ProjectJpaEntity {
         entity.setUpdatedAt(project.getUpdatedAt());
 
         if (project.getWorkspace() != null) {
-            entity.setWorkspace(new WorkspaceJpaEntity(project.getWorkspace().id()));
+            entity.setWorkspace(asStored(new WorkspaceJpaEntity(project.getWorkspace().id())));
         }
         return entity;
     }
@@ -142,7 +188,8 @@ public class ProjectJpaEntity {
                 entity.getDescription(),
                 entity.getWorkspace() != null ? WorkspaceTO.of(entity.getWorkspace().getId(), entity.getWorkspace().getName()) : null,
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                new ProjectCounts(entity.getQuestionCount(), entity.getNoteCount(), entity.getOpenQuestionCount())
         );
     }
 }
@@ -2,16 +2,26 @@ package com.sysm.devsync.infrastructure.repositories.entities;
 
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.counts.QuestionCounts;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilterListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+@EntityListeners(ExistenceFilterListener.class)
 @Entity(name = "Question")
 @Table(name = "questions")
-public class QuestionJpaEntity {
+@NamedEntityGraph(name = QuestionJpaEntity.WITH_TAGS, attributeNodes = @NamedAttributeNode("tags"))
+public class QuestionJpaEntity extends AbstractJpaEntity {
+
+    /**
+     * Fetch plan for reads that map to the domain model, which needs the tag ids of every question.
+     */
+    public static final String WITH_TAGS = "Question.withTags";
 
     @Id
     private String id;
@@ -42,6 +52,19 @@ public class QuestionJpaEntity {
     )
     private Set<TagJpaEntity> tags;
 
+    // Counters below are only ever changed by delta statements in QuestionJpaRepository, so saving
+    // an edited question cannot overwrite them
+    @ColumnDefault("0")
+    @Column(name = "answer_count", nullable = false, updatable = false)
+    private long answerCount;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
+    @Column(name = "accepted_answer_id", updatable = false)
+    private String acceptedAnswerId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -116,6 +139,30 @@ public class QuestionJpaEntity {
         this.tags = tags;
     }
 
+    public long getAnswerCount() {
+        return answerCount;
+    }
+
+    public void setAnswerCount(long answerCount) {
+        this.answerCount = answerCount;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public String getAcceptedAnswerId() {
+        return acceptedAnswerId;
+    }
+
+    public void setAcceptedAnswerId(String acceptedAnswerId) {
+        this.acceptedAnswerId = acceptedAnswerId;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -169,12 +216,13 @@ public class QuestionJpaEntity {
         entity.setTitle(question.getTitle());
         entity.setDescription(question.getDescription());
         entity.setStatus(question.getStatus());
-        entity.setAuthor(new UserJpaEntity(question.getAuthorId()));
-        entity.setProject(new ProjectJpaEntity(question.getProjectId()));
+        entity.setAuthor(asStored(new UserJpaEntity(question.getAuthorId())));
+        entity.setProject(asStored(new ProjectJpaEntity(question.getProjectId())));
 
         if (question.getTagsId() != null) {
             Set<TagJpaEntity> tagEntities = question.getTagsId().stream()
                     .map(TagJpaEntity::new)
+                    .map(AbstractJpaEntity::asStored)
                     .collect(Collectors.toSet());
             entity.setTags(tagEntities);
         }
@@ -205,7 +253,8 @@ public class QuestionJpaEntity {
                 tagIds,
                 entity.getProject() != null ? entity.getProject().getId() : null,
                 entity.getAuthor() != null ? entity.getAuthor().getId() : null,
-                entity.getStatus()
+                entity.getStatus(),
+                new QuestionCounts(entity.getAnswerCount(), entity.getCommentCount(), entity.getAcceptedAnswerId())
         );
     }
 }
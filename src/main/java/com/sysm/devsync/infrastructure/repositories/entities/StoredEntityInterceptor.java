@@ -0,0 +1,19 @@
+package com.sysm.devsync.infrastructure.repositories.entities;
+
+import org.hibernate.Interceptor;
+
+/**
+ * Tells Hibernate that an entity marked {@link AbstractJpaEntity#asStored stored} has a row, so
+ * persisting an entity that refers to it by id does not select the referenced row first. Entities
+ * that are not marked are left to Hibernate's own check.
+ */
+public class StoredEntityInterceptor implements Interceptor {
+
+    @Override
+    public Boolean isTransient(Object entity) {
+        if (entity instanceof AbstractJpaEntity jpaEntity && !jpaEntity.isNew()) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.Objects;
 
 @Entity(name = "Tag")
 @Table(name = "tags")
-public class TagJpaEntity {
+public class TagJpaEntity extends AbstractJpaEntity {
 
     @Id
     private String id;
@@ -28,7 +28,8 @@ public class TagJpaEntity {
     @Column(length = 100)
     private String category;
 
-    @Column(name = "amount_used", nullable = false)
+    // Only ever changed by TagUseCounters, so saving an edited tag cannot overwrite concurrent counts
+    @Column(name = "amount_used", nullable = false, updatable = false)
     private int amountUsed;
 
     public TagJpaEntity() {
@@ -14,7 +14,7 @@ import java.util.Objects;
 
 @Entity(name = "User")
 @Table(name = "users")
-public class UserJpaEntity {
+public class UserJpaEntity extends AbstractJpaEntity {
 
     @Id
     private String id;
@@ -4,6 +4,7 @@ package com.sysm.devsync.infrastructure.repositories.entities;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.models.to.UserTO;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -13,7 +14,14 @@ import java.util.stream.Collectors;
 
 @Entity(name = "Workspace")
 @Table(name = "workspaces")
-public class WorkspaceJpaEntity {
+@NamedEntityGraph(name = WorkspaceJpaEntity.WITH_OWNER, attributeNodes = @NamedAttributeNode("owner"))
+public class WorkspaceJpaEntity extends AbstractJpaEntity {
+
+    /**
+     * Fetch plan for reads that map to the domain model, which needs the owner's name. Members are
+     * never part of it: they are counted and paged with dedicated queries.
+     */
+    public static final String WITH_OWNER = "Workspace.withOwner";
 
     @Id
     private String id;
@@ -28,7 +36,7 @@ public class WorkspaceJpaEntity {
     @JoinColumn(name = "owner_id", nullable = false) // Foreign key column in the 'workspaces' table
     private UserJpaEntity owner;
 
-    @ManyToMany(fetch = FetchType.EAGER) // A workspace can have many members, and a user can be in many workspaces
+    @ManyToMany(fetch = FetchType.LAZY) // A workspace can have many members, and a user can be in many workspaces
     @JoinTable(
             name = "workspace_members", // Name of the intermediary join table
             joinColumns = @JoinColumn(name = "workspace_id"), // Foreign key for Workspace in the join table
@@ -39,6 +47,16 @@ public class WorkspaceJpaEntity {
     @Column(name = "is_private")
     private boolean isPrivate;
 
+    // Counters below are only ever changed by delta statements in WorkspaceJpaRepository, so saving
+    // an edited workspace cannot overwrite them
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false, updatable = false)
+    private long memberCount;
+
+    @ColumnDefault("0")
+    @Column(name = "project_count", nullable = false, updatable = false)
+    private long projectCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -101,6 +119,22 @@ public class WorkspaceJpaEntity {
         isPrivate = aPrivate;
     }
 
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(long memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -133,8 +167,9 @@ public class WorkspaceJpaEntity {
                ", name='" + name + '\'' +
                ", description='" + description + '\'' +
                ", ownerId=" + (owner != null ? owner.getId() : "null") + // Avoid NPE and print owner ID
-               ", memberCount=" + (members != null ? members.size() : 0) + // Print member projectCount
                ", isPrivate=" + isPrivate +
+               ", memberCount=" + memberCount +
+               ", projectCount=" + projectCount +
                ", createdAt=" + createdAt +
                ", updatedAt=" + updatedAt +
                '}';
@@ -158,12 +193,14 @@ public class WorkspaceJpaEntity {
         workspaceJpaEntity.setId(workspace.getId());
         workspaceJpaEntity.setName(workspace.getName());
         workspaceJpaEntity.setDescription(workspace.getDescription());
-        workspaceJpaEntity.setOwner(new UserJpaEntity(workspace.getOwner().id()));
+        workspaceJpaEntity.setOwner(asStored(new UserJpaEntity(workspace.getOwner().id())));
         workspaceJpaEntity.setMembers(
                 workspace.getMembersId().stream()
                         .map(UserJpaEntity::new)
+                        .map(AbstractJpaEntity::asStored)
                         .collect(Collectors.toSet())
         );
+        workspaceJpaEntity.setMemberCount(workspace.getMembersId().size());
         workspaceJpaEntity.setPrivate(workspace.isPrivate());
         workspaceJpaEntity.setCreatedAt(workspace.getCreatedAt());
         workspaceJpaEntity.setUpdatedAt(workspace.getUpdatedAt());
@@ -183,9 +220,8 @@ public class WorkspaceJpaEntity {
                 workspaceJpaEntity.getDescription(),
                 workspaceJpaEntity.isPrivate(),
                 UserTO.of(workspaceJpaEntity.getOwner().getId(), workspaceJpaEntity.getOwner().getName()),
-                workspaceJpaEntity.getMembers().stream()
-                        .map(entity -> UserTO.of(entity.getId(), entity.getName()))
-                        .collect(Collectors.toSet())
+                workspaceJpaEntity.getMemberCount(),
+                workspaceJpaEntity.getProjectCount()
         );
     }
 }
@@ -2,26 +2,115 @@ package com.sysm.devsync.infrastructure.repositories.persistence;
 
 import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.infrastructure.cache.TinyLfuCache;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.criteria.JpaOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
 public abstract class AbstractPersistence<T> {
 
+    private static final Logger log = LoggerFactory.getLogger(AbstractPersistence.class);
+
+    /**
+     * How long a count served in {@link CountMode#ESTIMATED} mode is reused before it is refreshed.
+     */
+    protected static final Duration ESTIMATED_COUNT_TTL = Duration.ofMinutes(1);
+
+    /**
+     * Filter combinations whose estimated count is kept per persistence, and how long an unused one
+     * is kept at all; a stale count is still served while its refresh runs.
+     */
+    protected static final int ESTIMATED_COUNT_CAPACITY = 1_000;
+    protected static final Duration ESTIMATED_COUNT_RETENTION = Duration.ofMinutes(10);
+
+    /**
+     * Rows written per flush by {@link #saveInBatches}; kept equal to {@code hibernate.jdbc.batch_size}.
+     */
+    protected static final int WRITE_BATCH_SIZE = 50;
+
+    /**
+     * Largest {@code IN} list sent in one statement.
+     */
+    protected static final int MAX_IN_LIST_SIZE = 1_000;
+
+    /**
+     * Rows the JDBC driver fetches per round trip while {@link #streamTuples} reads a result.
+     */
+    protected static final int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Recounts expired estimates off the request path. Shared by every persistence; a refresh that
+     * does not fit in the queue is dropped and tried again by a later request.
+     */
+    private static final ThreadPoolExecutor COUNT_REFRESHER = countRefresher();
+
+    @SuppressWarnings("unchecked")
+    private final Class<T> entityClass =
+            (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), AbstractPersistence.class);
+
+    private final TinyLfuCache<String, EstimatedCount> estimatedCounts =
+            new TinyLfuCache<>(ESTIMATED_COUNT_CAPACITY, ESTIMATED_COUNT_RETENTION, count -> 1);
+    private final Set<String> refreshingCounts = ConcurrentHashMap.newKeySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     protected PageRequest buildPageRequest(Page page) {
         if (page == null) {
             return PageRequest.of(
@@ -82,21 +171,426 @@ public abstract class AbstractPersistence<T> {
         );
     }
 
+    /**
+     * Runs a search honoring the page's cursor and count mode: keyset seek, offset slice without
+     * COUNT, offset slice with an estimated total, or the classic offset page with an exact total.
+     */
+    protected Pagination<T> findPage(JpaSpecificationExecutor<T> executor, Specification<T> specification, SearchQuery searchQuery) {
+        Page page = searchQuery == null ? null : searchQuery.page();
+        if (page != null && page.isKeyset()) {
+            return findPageAfter(specification, page);
+        }
+
+        var pageRequest = buildPageRequest(searchQuery);
+        CountMode countMode = page == null ? CountMode.EXACT : page.countMode();
+
+        return switch (countMode) {
+            case NONE -> findSlice(executor, specification, pageRequest);
+            case ESTIMATED -> {
+                var slice = findSlice(executor, specification, pageRequest);
+                long total = estimatedTotal(countKey(searchQuery), () -> executor.count(specification), slice);
+                yield new Pagination<>(slice.currentPage(), slice.perPage(), total, slice.items(), slice.hasNext(), null);
+            }
+            case EXACT -> {
+                var result = executor.findAll(specification, pageRequest);
+                yield new Pagination<>(
+                        result.getNumber(),
+                        result.getSize(),
+                        result.getTotalElements(),
+                        result.getContent()
+                );
+            }
+        };
+    }
+
+    /**
+     * Offset page without the COUNT query: fetches one window and only reports whether another page exists.
+     */
+    protected Pagination<T> findSlice(JpaSpecificationExecutor<T> executor, Specification<T> specification, PageRequest pageRequest) {
+        ScrollPosition position = pageRequest.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageRequest.getOffset() - 1);
+
+        Window<T> window = executor.findBy(specification, query -> query.sortBy(pageRequest.getSort())
+                .limit(pageRequest.getPageSize())
+                .scroll(position));
+
+        return new Pagination<>(
+                pageRequest.getPageNumber(),
+                pageRequest.getPageSize(),
+                Pagination.UNKNOWN_TOTAL,
+                window.getContent(),
+                window.hasNext(),
+                null
+        );
+    }
+
+    /**
+     * Keyset (seek) pagination: reads the page that follows the row encoded in {@code page.cursor()}
+     * using a {@code WHERE (sort, id) > (?, ?)} predicate instead of an OFFSET, and skips the COUNT query.
+     */
+    protected Pagination<T> findPageAfter(Specification<T> specification, Page page) {
+        return seek(specification, page, root -> root, row -> row.get(0, entityClass));
+    }
+
+    /**
+     * First phase of a two-phase page read: selects only the ids of the page, honoring its cursor and
+     * count mode like {@link #findPage}, so the rows themselves are read once, by {@link #hydrate}.
+     */
+    protected Pagination<String> findIdPage(JpaSpecificationExecutor<T> executor, Specification<T> specification,
+                                            SearchQuery searchQuery) {
+        Page page = searchQuery == null ? null : searchQuery.page();
+        if (page != null && page.isKeyset()) {
+            return seek(specification, page, root -> root.get("id"), row -> row.get(0, String.class));
+        }
+        return findTuplePage(entityClass, executor, specification, searchQuery, root -> List.of(root.get("id")))
+                .map(row -> row.get(0, String.class));
+    }
+
+    /**
+     * Reads up to one row past the page, ordered by the sort field and then the id, starting after
+     * the cursor's keys. Each row is selected as {@code selection} followed by its two sort keys, which
+     * become the next cursor. A null sort value counts as greater than any other, so nullable fields
+     * can be paged too.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R> Pagination<R> seek(Specification<T> specification, Page page,
+                                   Function<Root<T>, Selection<?>> selection, Function<Tuple, R> reader) {
+        if (page.pageSize() < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+
+        String sortField = StringUtils.hasText(page.sort()) ? page.sort() : "id";
+        String direction = StringUtils.hasText(page.direction()) ? page.direction() : "asc";
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        boolean ascending = sortDirection.isAscending();
+
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = crBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        // Nulls count as the greatest value: last when ascending, first when descending
+        Order sortOrder = ((JpaOrder) QueryUtils.toOrders(Sort.by(sortDirection, sortField), root, crBuilder).get(0))
+                .nullPrecedence(ascending ? NullPrecedence.LAST : NullPrecedence.FIRST);
+        Expression<Comparable> sortKey = (Expression<Comparable>) sortOrder.getExpression();
+        Expression<String> idKey = root.get("id");
+
+        var predicates = new ArrayList<Predicate>();
+        Predicate predicate = specification.toPredicate(root, query, crBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (!Page.FIRST_CURSOR.equals(page.cursor())) {
+            Map<String, Object> keys = KeysetCursor.decode(page.cursor(), sortField, direction);
+            String lastId = (String) keys.get("id");
+            if ("id".equals(sortField)) {
+                predicates.add(ascending ? crBuilder.greaterThan(idKey, lastId) : crBuilder.lessThan(idKey, lastId));
+            } else {
+                predicates.add(after(crBuilder, sortKey, idKey, keys.get(sortField), lastId, ascending, page.cursor()));
+            }
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.multiselect(selection.apply(root), sortKey, idKey);
+        query.orderBy(sortOrder, crBuilder.asc(idKey));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(page.pageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > page.pageSize();
+        var items = hasNext ? rows.subList(0, page.pageSize()) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = items.get(items.size() - 1);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(sortField, last.get(1));
+            keys.putIfAbsent("id", last.get(2));
+            nextCursor = KeysetCursor.encode(sortField, direction, keys);
+        }
+
+        return new Pagination<>(
+                page.pageNumber(),
+                page.pageSize(),
+                Pagination.UNKNOWN_TOTAL,
+                items.stream().map(reader).toList(),
+                hasNext,
+                nextCursor
+        );
+    }
+
+    /**
+     * The seek predicate for rows after ({@code sortValue}, {@code id}) in the order used by {@link #seek},
+     * with an {@code IS NULL} branch for the rows whose sort value is null.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(CriteriaBuilder crBuilder, Expression<Comparable> sortKey, Expression<String> idKey,
+                                   Object sortValue, String id, boolean ascending, String cursor) {
+        if (sortValue != null && !ClassUtils.resolvePrimitiveIfNecessary(sortKey.getJavaType()).isInstance(sortValue)) {
+            throw new BusinessException("Invalid cursor: '" + cursor + "'");
+        }
+
+        Predicate sameSortAfterId = crBuilder.greaterThan(idKey, id);
+        if (sortValue == null) {
+            Predicate inNulls = crBuilder.and(crBuilder.isNull(sortKey), sameSortAfterId);
+            return ascending ? inNulls : crBuilder.or(crBuilder.isNotNull(sortKey), inNulls);
+        }
+        Comparable value = (Comparable) sortValue;
+        Predicate tie = crBuilder.and(crBuilder.equal(sortKey, value), sameSortAfterId);
+        return ascending
+                ? crBuilder.or(crBuilder.greaterThan(sortKey, value), crBuilder.isNull(sortKey), tie)
+                : crBuilder.or(crBuilder.lessThan(sortKey, value), tie);
+    }
+
+    /**
+     * Offset page read as tuples of the given columns instead of entities, for list responses that
+     * are built straight from the rows. Nothing is instantiated as an entity, so nothing is managed
+     * or dirty-checked. Honors the page's count mode like {@link #findPage}.
+     */
+    protected Pagination<Tuple> findTuplePage(Class<T> entityClass, JpaSpecificationExecutor<T> executor,
+                                              Specification<T> specification, SearchQuery searchQuery,
+                                              Function<Root<T>, List<Selection<?>>> columns) {
+        var pageRequest = buildPageRequest(searchQuery);
+        CountMode countMode = searchQuery == null || searchQuery.page() == null
+                ? CountMode.EXACT
+                : searchQuery.page().countMode();
+
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = crBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, crBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(columns.apply(root));
+        query.orderBy(QueryUtils.toOrders(pageRequest.getSort(), root, crBuilder));
+
+        // One extra row tells whether another page exists without counting
+        boolean probeNext = countMode != CountMode.EXACT;
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageRequest.getOffset())
+                .setMaxResults(pageRequest.getPageSize() + (probeNext ? 1 : 0))
+                .getResultList();
+
+        if (!probeNext) {
+            long total = pageRequest.getOffset() == 0 && rows.size() < pageRequest.getPageSize()
+                    ? rows.size()
+                    : executor.count(specification);
+            return new Pagination<>(pageRequest.getPageNumber(), pageRequest.getPageSize(), total, rows);
+        }
+
+        boolean hasNext = rows.size() > pageRequest.getPageSize();
+        var items = hasNext ? rows.subList(0, pageRequest.getPageSize()) : rows;
+        var slice = new Pagination<>(pageRequest.getPageNumber(), pageRequest.getPageSize(),
+                Pagination.UNKNOWN_TOTAL, items, hasNext, null);
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        long total = estimatedTotal(countKey(searchQuery), () -> executor.count(specification), slice);
+        return new Pagination<>(slice.currentPage(), slice.perPage(), total, items, hasNext, null);
+    }
+
+    /**
+     * Reads every row matching the specification as tuples of the given columns through a single
+     * forward-only query, handing them to {@code consumer} in chunks of {@link #EXPORT_FETCH_SIZE} so
+     * per-row lookups can be batched. Rows are never held beyond their chunk and no entity is
+     * instantiated, so memory stays flat however large the result. Must run inside a transaction.
+     */
+    protected void streamTuples(Class<T> entityClass, Specification<T> specification, SearchQuery searchQuery,
+                                Function<Root<T>, List<Selection<?>>> columns, Consumer<List<Tuple>> consumer) {
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = crBuilder.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, crBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.multiselect(columns.apply(root));
+        query.orderBy(QueryUtils.toOrders(buildPageRequest(searchQuery).getSort(), root, crBuilder));
+
+        List<Tuple> chunk = new ArrayList<>(EXPORT_FETCH_SIZE);
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_FETCH_SIZE) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(EXPORT_FETCH_SIZE);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    /**
+     * Writes entities in chunks of {@link #WRITE_BATCH_SIZE}, flushing and clearing the persistence
+     * context after each chunk so the JDBC batches stay full and memory stays flat on large imports.
+     * Must run inside the caller's transaction.
+     */
+    protected void saveInBatches(JpaRepository<T, String> repository, List<T> entities) {
+        for (int from = 0; from < entities.size(); from += WRITE_BATCH_SIZE) {
+            repository.saveAll(entities.subList(from, Math.min(from + WRITE_BATCH_SIZE, entities.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Returns the subset of {@code ids} that exist, with one id-only select per {@link #MAX_IN_LIST_SIZE} ids.
+     */
+    protected Set<String> existingIds(Class<T> entityClass, Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        var distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<String> found = new HashSet<>();
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_SIZE) {
+            var chunk = distinct.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinct.size()));
+            CriteriaQuery<String> query = crBuilder.createQuery(String.class);
+            Root<T> root = query.from(entityClass);
+            query.select(root.get("id")).where(root.get("id").in(chunk));
+            found.addAll(entityManager.createQuery(query).getResultList());
+        }
+        return found;
+    }
+
+    /**
+     * Loads rows by id with one {@code loader} query per {@link #MAX_IN_LIST_SIZE} distinct ids, and
+     * returns them in the order of {@code ids}, each once. Ids with no row are left out.
+     */
+    protected List<T> findAllInOrder(Collection<String> ids, Function<T, String> idOf,
+                                     Function<List<String>, List<T>> loader) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        var distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+
+        Map<String, T> loaded = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_SIZE) {
+            var chunk = distinct.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinct.size()));
+            loader.apply(chunk).forEach(entity -> loaded.putIfAbsent(idOf.apply(entity), entity));
+        }
+
+        return distinct.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Groups (owner id, value) rows, such as the tag ids of a page of rows, by owner id.
+     */
+    protected static Map<String, Set<String>> groupValues(List<KeyValue> rows) {
+        Map<String, Set<String>> grouped = new HashMap<>();
+        rows.forEach(row -> grouped.computeIfAbsent(row.key(), k -> new HashSet<>()).add(String.valueOf(row.value())));
+        return grouped;
+    }
+
+    /**
+     * Second phase of a two-phase page read. The page's ids come from {@link #findIdPage}, without
+     * collection fetch joins, so LIMIT/OFFSET stay in SQL; its rows are then read once with a single
+     * query by id that follows the entity's fetch plan, and returned in the original page order.
+     */
+    protected Pagination<T> hydrate(Pagination<String> ids, Function<T, String> idOf,
+                                    Function<Collection<String>, List<T>> loader) {
+        List<T> items = ids.items().isEmpty() ? List.of() : findAllInOrder(ids.items(), idOf, loader::apply);
+        return new Pagination<>(ids.currentPage(), ids.perPage(), ids.total(), items, ids.hasNext(), ids.nextCursor());
+    }
+
+    /**
+     * Returns the cached count for the same filters. A count older than {@link #ESTIMATED_COUNT_TTL}
+     * is still served while it is recounted in the background; only filters without any count yet
+     * are counted on the request. The estimate is clamped to what the current slice proves: at least
+     * the rows seen so far, and exactly that on the last page.
+     */
+    private long estimatedTotal(String key, LongSupplier counter, Pagination<?> slice) {
+        long seen = (long) slice.currentPage() * slice.perPage() + slice.items().size();
+        if (!slice.hasNext()) {
+            estimatedCounts.put(key, new EstimatedCount(seen, Instant.now()));
+            return seen;
+        }
+
+        EstimatedCount estimate = estimatedCounts.get(key);
+        if (estimate == null) {
+            estimate = new EstimatedCount(counter.getAsLong(), Instant.now());
+            estimatedCounts.put(key, estimate);
+        } else if (estimate.isExpired()) {
+            refreshInBackground(key, counter);
+        }
+        return Math.max(estimate.value(), seen + 1);
+    }
+
+    private void refreshInBackground(String key, LongSupplier counter) {
+        if (!refreshingCounts.add(key)) {
+            return;
+        }
+        try {
+            COUNT_REFRESHER.execute(() -> {
+                try {
+                    estimatedCounts.put(key, new EstimatedCount(counter.getAsLong(), Instant.now()));
+                } catch (RuntimeException e) {
+                    log.warn("Refreshing the estimated count of {} failed", key, e);
+                } finally {
+                    refreshingCounts.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingCounts.remove(key);
+        }
+    }
+
+    private static ThreadPoolExecutor countRefresher() {
+        var threadNumber = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(2, 2, 1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(100), runnable -> {
+            var thread = new Thread(runnable, "estimated-count-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private String countKey(SearchQuery searchQuery) {
+        var queryType = searchQuery == null ? null : searchQuery.queryType();
+        return getClass().getSimpleName() + ":" + queryType + ":" + new TreeMap<>(filterTerms(searchQuery));
+    }
+
+    private Map<String, String> filterTerms(SearchQuery searchQuery) {
+        // 1. Create a mutable copy to avoid changing the original input.
+        Map<String, String> filterTerms = searchQuery == null || searchQuery.terms() == null
+                ? new HashMap<>()
+                : new HashMap<>(searchQuery.terms());
+
+        // 2. Clean the *copy* of the map.
+        filterTerms.remove("pageNumber");
+        filterTerms.remove("pageSize");
+        filterTerms.remove("sort");
+        filterTerms.remove("direction");
+        filterTerms.remove("queryType");
+        filterTerms.remove("cursor");
+        filterTerms.remove("count");
+        filterTerms.remove("format");
+        return filterTerms;
+    }
+
+    private record EstimatedCount(long value, Instant countedAt) {
+        boolean isExpired() {
+            return countedAt.plus(ESTIMATED_COUNT_TTL).isBefore(Instant.now());
+        }
+    }
+
     protected Specification<T> buildSpecification(SearchQuery searchQuery) {
 
 
         Specification<T> spec = (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<Predicate>();
 
-            // 1. Create a mutable copy to avoid changing the original input.
-            Map<String, String> filterTerms = new HashMap<>(searchQuery.terms());
-
-            // 2. Clean the *copy* of the map.
-            filterTerms.remove("pageNumber");
-            filterTerms.remove("pageSize");
-            filterTerms.remove("sort");
-            filterTerms.remove("direction");
-            filterTerms.remove("queryType");
+            Map<String, String> filterTerms = filterTerms(searchQuery);
 
             filterTerms.forEach((key, value) -> {
                 // Delegate predicate creation to the concrete subclass
@@ -7,6 +7,8 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Answer;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.AnswerJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.AnswerJpaEntity;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
@@ -15,17 +17,29 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Keeps the {@code answer_count} and {@code accepted_answer_id} of each question in the same
+ * transaction as the answer writes.
+ */
 @Repository
 public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> implements AnswerPersistencePort {
 
     private final AnswerJpaRepository repository;
+    private final QuestionJpaRepository questionRepository;
 
-    public AnswerPersistence(AnswerJpaRepository repository) {
+    public AnswerPersistence(AnswerJpaRepository repository, QuestionJpaRepository questionRepository) {
         this.repository = repository;
+        this.questionRepository = questionRepository;
     }
 
     @Transactional
@@ -35,6 +49,10 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
         }
         var entity = AnswerJpaEntity.fromModel(model);
         repository.save(entity);
+        questionRepository.addAnswers(model.getQuestionId(), 1);
+        if (model.isAccepted()) {
+            questionRepository.setAcceptedAnswer(model.getId());
+        }
     }
 
     @Transactional
@@ -42,16 +60,44 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
         if (model == null) {
             throw new IllegalArgumentException("Answer model cannot be null");
         }
-        var entity = AnswerJpaEntity.fromModel(model);
+        var entity = asStored(AnswerJpaEntity.fromModel(model));
         repository.save(entity);
     }
 
+    @Transactional
+    public void createAll(Collection<Answer> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Answer models cannot be null");
+        }
+        saveInBatches(repository, models.stream().map(AnswerJpaEntity::fromModel).toList());
+        models.stream()
+                .collect(Collectors.groupingBy(Answer::getQuestionId, Collectors.counting()))
+                .forEach(questionRepository::addAnswers);
+        models.stream()
+                .filter(Answer::isAccepted)
+                .forEach(answer -> questionRepository.setAcceptedAnswer(answer.getId()));
+    }
+
+    @Transactional
+    public void updateAll(Collection<Answer> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Answer models cannot be null");
+        }
+        saveInBatches(repository, models.stream().map(AnswerJpaEntity::fromModel).map(AbstractJpaEntity::asStored).toList());
+    }
+
     @Transactional
     public void deleteById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Answer ID cannot be null or blank");
         }
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(entity -> {
+            if (entity.isAccepted()) {
+                questionRepository.unsetAcceptedAnswer(id);
+            }
+            questionRepository.addAnswers(entity.getQuestion().getId(), -1);
+            repository.delete(entity);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -72,18 +118,23 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
     }
 
     @Transactional(readOnly = true)
-    public Pagination<Answer> findAll(SearchQuery searchQuery) {
-        Specification<AnswerJpaEntity> spec = buildSpecification(searchQuery);
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(AnswerJpaEntity.class, ids);
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
-        var page = repository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public List<Answer> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, AnswerJpaEntity::getId, repository::findAllById).stream()
+                .map(AnswerJpaEntity::toModel)
+                .toList();
+    }
 
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(AnswerJpaEntity::toModel).toList()
-        );
+    @Transactional(readOnly = true)
+    public Pagination<Answer> findAll(SearchQuery searchQuery) {
+        var specification = buildSpecification(searchQuery);
+
+        return findPage(repository, specification, searchQuery)
+                .map(AnswerJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -92,6 +143,13 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
             throw new IllegalArgumentException("Project ID must not be null or empty");
         }
 
+        if (page != null && page.isKeyset()) {
+            Specification<AnswerJpaEntity> specification = (root, query, crBuilder) ->
+                    crBuilder.equal(root.get("question").get("id"), questionId);
+            return findPageAfter(specification, page)
+                    .map(AnswerJpaEntity::toModel);
+        }
+
         var pageableRequest = buildPageRequest(page);
         var questionPage = repository.findAllByQuestion_Id(questionId, pageableRequest);
 
@@ -104,11 +162,60 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
     }
 
     @Override
+    @Transactional
     public void deleteAllByQuestionId(String questionId) {
         if (questionId == null){
             throw new IllegalArgumentException("Question ID cannot be null");
         }
         repository.deleteAllByQuestion_Id(questionId);
+        questionRepository.clearAnswers(questionId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isAuthor(String answerId, String userId) {
+        if (answerId == null || answerId.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return repository.isAuthor(answerId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isQuestionAuthor(String answerId, String userId) {
+        if (answerId == null || answerId.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return repository.isQuestionAuthor(answerId, userId);
+    }
+
+    @Transactional
+    public boolean accept(String answerId, Instant updatedAt) {
+        if (answerId == null || answerId.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        var questionId = repository.findQuestionIdById(answerId);
+        if (questionId.isEmpty() || repository.accept(questionId.get(), answerId, updatedAt) == 0) {
+            return false;
+        }
+        questionRepository.setAcceptedAnswer(answerId);
+        return true;
+    }
+
+    @Transactional
+    public boolean reject(String answerId, Instant updatedAt) {
+        if (answerId == null || answerId.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        if (repository.reject(answerId, updatedAt) == 0) {
+            return false;
+        }
+        questionRepository.unsetAcceptedAnswer(answerId);
+        return true;
     }
 
     protected Predicate createPredicateForField(Root<AnswerJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
@@ -7,25 +7,47 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.CommentPersistencePort;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
 import com.sysm.devsync.infrastructure.repositories.CommentJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Keeps the {@code comment_count} of each question in the same transaction as the comment writes.
+ * Comments on notes and answers have no counter.
+ */
 @Repository
 public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> implements CommentPersistencePort {
 
     private final CommentJpaRepository repository;
+    private final QuestionJpaRepository questionRepository;
+    private final ExistenceFilters existenceFilters;
 
-    public CommentPersistence(CommentJpaRepository repository) {
+    public CommentPersistence(CommentJpaRepository repository, QuestionJpaRepository questionRepository,
+                              ExistenceFilters existenceFilters) {
         this.repository = repository;
+        this.questionRepository = questionRepository;
+        this.existenceFilters = existenceFilters;
     }
 
     @Transactional
@@ -35,6 +57,9 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
         }
         CommentJpaEntity entity = CommentJpaEntity.fromModel(model);
         repository.save(entity);
+        if (model.getTargetType() == TargetType.QUESTION) {
+            questionRepository.addComments(model.getTargetId(), 1);
+        }
     }
 
     @Transactional
@@ -42,16 +67,41 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
         if (model == null) {
             throw new IllegalArgumentException("Comment model must not be null");
         }
-        CommentJpaEntity entity = CommentJpaEntity.fromModel(model);
+        CommentJpaEntity entity = asStored(CommentJpaEntity.fromModel(model));
         repository.save(entity);
     }
 
+    @Transactional
+    public void createAll(Collection<Comment> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Comment models must not be null");
+        }
+        saveInBatches(repository, models.stream().map(CommentJpaEntity::fromModel).toList());
+        models.stream()
+                .filter(comment -> comment.getTargetType() == TargetType.QUESTION)
+                .collect(Collectors.groupingBy(Comment::getTargetId, Collectors.counting()))
+                .forEach(questionRepository::addComments);
+    }
+
+    @Transactional
+    public void updateAll(Collection<Comment> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Comment models must not be null");
+        }
+        saveInBatches(repository, models.stream().map(CommentJpaEntity::fromModel).map(AbstractJpaEntity::asStored).toList());
+    }
+
     @Transactional
     public void deleteById(String id) {
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Comment ID must not be null or empty");
         }
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(entity -> {
+            if (entity.getTargetType() == TargetType.QUESTION) {
+                questionRepository.addComments(entity.getTargetId(), -1);
+            }
+            repository.delete(entity);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -59,8 +109,14 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Comment ID must not be null or empty");
         }
-        return repository.findById(id)
-                .map(CommentJpaEntity::toModel);
+        if (!existenceFilters.mightExist(CommentJpaEntity.class, id)) {
+            return Optional.empty();
+        }
+        var entity = repository.findById(id);
+        if (entity.isEmpty()) {
+            existenceFilters.recordFalsePositive(CommentJpaEntity.class);
+        }
+        return entity.map(CommentJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -68,21 +124,85 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Comment ID must not be null or empty");
         }
-        return repository.existsById(id);
+        if (!existenceFilters.mightExist(CommentJpaEntity.class, id)) {
+            return false;
+        }
+        boolean exists = repository.existsById(id);
+        if (!exists) {
+            existenceFilters.recordFalsePositive(CommentJpaEntity.class);
+        }
+        return exists;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isAuthor(String commentId, String userId) {
+        if (commentId == null || commentId.isEmpty()) {
+            throw new IllegalArgumentException("Comment ID must not be null or empty");
+        }
+        if (userId == null || userId.isEmpty()) {
+            throw new IllegalArgumentException("User ID must not be null or empty");
+        }
+        return existenceFilters.mightExist(CommentJpaEntity.class, commentId)
+                && repository.isAuthor(commentId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Comment> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, CommentJpaEntity::getId,
+                        chunk -> existenceFilters.loadPossible(CommentJpaEntity.class, chunk, repository::findAllById))
+                .stream()
+                .map(CommentJpaEntity::toModel)
+                .toList();
     }
 
     @Transactional(readOnly = true)
     public Pagination<Comment> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
         var specification = buildSpecification(query);
 
-        var questionPage = repository.findAll(specification, pageableRequest);
+        return findPage(repository, specification, query)
+                .map(CommentJpaEntity::toModel);
+    }
 
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(CommentJpaEntity::toModel).toList()
+    @Transactional(readOnly = true)
+    public Pagination<CommentResponse> findAllProjected(SearchQuery query) {
+        if (query != null && query.page() != null && query.page().isKeyset()) {
+            return findAll(query).map(CommentResponse::from);
+        }
+        var specification = buildSpecification(query);
+        return findTuplePage(CommentJpaEntity.class, repository, specification, query, CommentPersistence::responseColumns)
+                .map(CommentPersistence::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllProjected(SearchQuery query, Consumer<CommentResponse> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Comment consumer must not be null");
+        }
+        streamTuples(CommentJpaEntity.class, buildSpecification(query), query, CommentPersistence::responseColumns,
+                rows -> rows.forEach(row -> consumer.accept(toResponse(row))));
+    }
+
+    private static List<Selection<?>> responseColumns(Root<CommentJpaEntity> root) {
+        return List.of(
+                root.get("id"),
+                root.get("content"),
+                root.get("targetType"),
+                root.get("targetId"),
+                root.get("author").get("id"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        );
+    }
+
+    private static CommentResponse toResponse(Tuple row) {
+        return new CommentResponse(
+                row.get(0, String.class),
+                row.get(1, String.class),
+                row.get(2, TargetType.class),
+                row.get(3, String.class),
+                row.get(4, String.class),
+                row.get(5, Instant.class),
+                row.get(6, Instant.class)
         );
     }
 
@@ -95,6 +215,15 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
             throw new IllegalArgumentException("Target ID must not be null or empty");
         }
 
+        if (page != null && page.isKeyset()) {
+            Specification<CommentJpaEntity> specification = (root, query, crBuilder) -> crBuilder.and(
+                    crBuilder.equal(root.get("targetType"), targetType),
+                    crBuilder.equal(root.get("targetId"), targetId)
+            );
+            return findPageAfter(specification, page)
+                    .map(CommentJpaEntity::toModel);
+        }
+
         var pageableRequest = buildPageRequest(page);
         var notePage = repository.findAllByTargetTypeAndTargetId(targetType, targetId, pageableRequest);
 
@@ -116,6 +245,18 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
             throw new IllegalArgumentException("Target ID must not be null or empty");
         }
         repository.deleteAllByTargetTypeAndTargetId(targetType, targetId);
+        if (targetType == TargetType.QUESTION) {
+            questionRepository.clearComments(targetId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllOnAnswersOfQuestion(String questionId) {
+        if (questionId == null || questionId.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        repository.deleteAllOnAnswersOfQuestion(questionId);
     }
 
     protected Predicate createPredicateForField(Root<CommentJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
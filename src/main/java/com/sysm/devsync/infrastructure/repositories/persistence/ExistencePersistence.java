@@ -0,0 +1,143 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.EntityType;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.repositories.entities.AnswerJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the ids referenced by a write, of any mix of types, with a single {@code UNION ALL} of one
+ * id-only select per type. Ids the existence filters rule out are reported missing without being
+ * sent, and a type with more than {@link AbstractPersistence#MAX_IN_LIST_SIZE} ids gets one branch
+ * per chunk.
+ */
+@Repository
+public class ExistencePersistence implements ExistencePersistencePort {
+
+    private record Branch(EntityType type, List<String> ids) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ExistenceFilters existenceFilters;
+
+    public ExistencePersistence(ExistenceFilters existenceFilters) {
+        this.existenceFilters = existenceFilters;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<EntityType, Set<String>> verifyExists(Map<EntityType, Set<String>> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Ids to verify must not be null");
+        }
+
+        Map<EntityType, Set<String>> missing = new EnumMap<>(EntityType.class);
+        List<Branch> branches = new ArrayList<>();
+        ids.forEach((type, typeIds) -> {
+            if (type == null) {
+                throw new IllegalArgumentException("Entity type must not be null");
+            }
+            if (typeIds == null || typeIds.isEmpty()) {
+                return;
+            }
+            if (typeIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+                throw new IllegalArgumentException(label(type) + " ID cannot be null or blank");
+            }
+
+            var possible = existenceFilters.retainPossible(entityClass(type), typeIds);
+            if (possible.size() < typeIds.size()) {
+                var ruledOut = new HashSet<>(typeIds);
+                possible.forEach(ruledOut::remove);
+                missing.put(type, ruledOut);
+            }
+            for (int from = 0; from < possible.size(); from += AbstractPersistence.MAX_IN_LIST_SIZE) {
+                int to = Math.min(from + AbstractPersistence.MAX_IN_LIST_SIZE, possible.size());
+                branches.add(new Branch(type, possible.subList(from, to)));
+            }
+        });
+        if (branches.isEmpty()) {
+            return missing;
+        }
+
+        var sql = new StringBuilder();
+        for (int i = 0; i < branches.size(); i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT ").append(i).append(" AS branch, id FROM ").append(table(branches.get(i).type()))
+                    .append(" WHERE id IN (:ids").append(i).append(")");
+        }
+        var query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < branches.size(); i++) {
+            query.setParameter("ids" + i, branches.get(i).ids());
+        }
+
+        List<Set<String>> found = new ArrayList<>();
+        branches.forEach(branch -> found.add(new HashSet<>()));
+        for (Object row : query.getResultList()) {
+            var columns = (Object[]) row;
+            found.get(((Number) columns[0]).intValue()).add((String) columns[1]);
+        }
+
+        for (int i = 0; i < branches.size(); i++) {
+            var branch = branches.get(i);
+            for (var id : branch.ids()) {
+                if (!found.get(i).contains(id)) {
+                    missing.computeIfAbsent(branch.type(), k -> new HashSet<>()).add(id);
+                    existenceFilters.recordFalsePositive(entityClass(branch.type()));
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static String table(EntityType type) {
+        return switch (type) {
+            case USER -> "users";
+            case WORKSPACE -> "workspaces";
+            case PROJECT -> "projects";
+            case TAG -> "tags";
+            case QUESTION -> "questions";
+            case ANSWER -> "answers";
+            case NOTE -> "notes";
+            case COMMENT -> "comments";
+        };
+    }
+
+    private static Class<?> entityClass(EntityType type) {
+        return switch (type) {
+            case USER -> UserJpaEntity.class;
+            case WORKSPACE -> WorkspaceJpaEntity.class;
+            case PROJECT -> ProjectJpaEntity.class;
+            case TAG -> TagJpaEntity.class;
+            case QUESTION -> QuestionJpaEntity.class;
+            case ANSWER -> AnswerJpaEntity.class;
+            case NOTE -> NoteJpaEntity.class;
+            case COMMENT -> CommentJpaEntity.class;
+        };
+    }
+
+    private static String label(EntityType type) {
+        var name = type.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+}
@@ -0,0 +1,116 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sysm.devsync.domain.BusinessException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Encodes the sort keys of the last row of a page into an opaque, URL-safe token and back.
+ * <p>
+ * The token carries the sort field and direction it was produced with, so a cursor can't be
+ * replayed against a different ordering, and every key value is tagged with its type so the
+ * seek predicate is bound with the same Java type as the entity attribute. A null sort value is
+ * encoded too, so a page may end on a row whose sort field is empty.
+ */
+public final class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ENUM_PACKAGE = "com.sysm.devsync.domain.enums.";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(String sort, String direction, Map<String, ?> keys) {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("s", sort);
+        root.put("d", direction);
+        ObjectNode keysNode = root.putObject("k");
+        keys.forEach((name, value) -> keysNode.set(name, encodeValue(name, value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(root));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    public static Map<String, Object> decode(String cursor, String sort, String direction) {
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BusinessException("Invalid cursor: '" + cursor + "'");
+        }
+        if (root == null || !root.hasNonNull("s") || !root.hasNonNull("d") || !root.has("k")) {
+            throw new BusinessException("Invalid cursor: '" + cursor + "'");
+        }
+        if (!root.get("s").asText().equals(sort) || !root.get("d").asText().equalsIgnoreCase(direction)) {
+            throw new BusinessException("Cursor was issued for a different sort, expected sort '"
+                                        + root.get("s").asText() + "' " + root.get("d").asText());
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        root.get("k").fields().forEachRemaining(entry -> keys.put(entry.getKey(), decodeValue(entry.getValue())));
+        if (!keys.keySet().equals(Set.of(sort, "id")) || !(keys.get("id") instanceof String)) {
+            throw new BusinessException("Invalid cursor: '" + cursor + "'");
+        }
+        return keys;
+    }
+
+    private static ArrayNode encodeValue(String name, Object value) {
+        ArrayNode node = MAPPER.createArrayNode();
+        if (value == null) {
+            node.add("0");
+        } else if (value instanceof String s) {
+            node.add("S").add(s);
+        } else if (value instanceof Instant i) {
+            node.add("I").add(i.toString());
+        } else if (value instanceof Integer i) {
+            node.add("N").add(i);
+        } else if (value instanceof Long l) {
+            node.add("L").add(l);
+        } else if (value instanceof Boolean b) {
+            node.add("B").add(b);
+        } else if (value instanceof Enum<?> e) {
+            node.add("E").add(e.getDeclaringClass().getName()).add(e.name());
+        } else {
+            throw new BusinessException("Cursor pagination is not supported for sort field '" + name + "'");
+        }
+        return node;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object decodeValue(JsonNode node) {
+        try {
+            return switch (node.get(0).asText()) {
+                case "0" -> null;
+                case "S" -> node.get(1).asText();
+                case "I" -> Instant.parse(node.get(1).asText());
+                case "N" -> node.get(1).asInt();
+                case "L" -> node.get(1).asLong();
+                case "B" -> node.get(1).asBoolean();
+                case "E" -> {
+                    String type = node.get(1).asText();
+                    if (!type.startsWith(ENUM_PACKAGE)) {
+                        throw new BusinessException("Invalid cursor value type: '" + type + "'");
+                    }
+                    Class enumType = Class.forName(type);
+                    yield Enum.valueOf(enumType, node.get(2).asText());
+                }
+                default -> throw new BusinessException("Invalid cursor value type: '" + node.get(0).asText() + "'");
+            };
+        } catch (BusinessException e) {
+            throw e;
+        } catch (ClassNotFoundException | RuntimeException e) {
+            throw new BusinessException("Invalid cursor value: '" + node + "'");
+        }
+    }
+}
@@ -6,25 +6,49 @@ import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Note;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Keeps the {@code note_count} of each project in the same transaction as the note writes.
+ */
 @Repository
 public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implements NotePersistencePort {
 
     private final NoteJpaRepository repository;
+    private final ProjectJpaRepository projectRepository;
+    private final ExistenceFilters existenceFilters;
 
-    public NotePersistence(NoteJpaRepository repository) {
+    public NotePersistence(NoteJpaRepository repository, ProjectJpaRepository projectRepository,
+                           ExistenceFilters existenceFilters) {
         this.repository = repository;
+        this.projectRepository = projectRepository;
+        this.existenceFilters = existenceFilters;
     }
 
     @Transactional
@@ -34,15 +58,54 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         }
         NoteJpaEntity entity = NoteJpaEntity.fromModel(model);
         repository.save(entity);
+        projectRepository.addNotes(model.getProjectId(), 1);
     }
 
+    /**
+     * Writes the note's own columns and only the tag links that changed. The stored tag ids are
+     * read without loading the tags, so an edit that keeps the tags writes no link at all.
+     */
     @Transactional
     public void update(Note model) {
         if (model == null) {
             throw new IllegalArgumentException("Note model must not be null");
         }
-        NoteJpaEntity entity = NoteJpaEntity.fromModel(model);
-        repository.save(entity);
+        repository.findWithoutTagsById(model.getId()).ifPresentOrElse(
+                entity -> {
+                    var oldProjectId = entity.getProject().getId();
+                    if (!oldProjectId.equals(model.getProjectId())) {
+                        projectRepository.addNotes(oldProjectId, -1);
+                        projectRepository.addNotes(model.getProjectId(), 1);
+                    }
+                    entity.setTitle(model.getTitle());
+                    entity.setContent(model.getContent());
+                    entity.setVersion(model.getVersion());
+                    entity.setProject(asStored(new ProjectJpaEntity(model.getProjectId())));
+                    entity.setAuthor(asStored(new UserJpaEntity(model.getAuthorId())));
+                    entity.setUpdatedAt(model.getUpdatedAt());
+                    writeTags(model.getId(), model.getTagsId());
+                },
+                () -> create(model)
+        );
+    }
+
+    @Transactional
+    public void createAll(Collection<Note> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Note models must not be null");
+        }
+        saveInBatches(repository, models.stream().map(NoteJpaEntity::fromModel).toList());
+        models.stream()
+                .collect(Collectors.groupingBy(Note::getProjectId, Collectors.counting()))
+                .forEach(projectRepository::addNotes);
+    }
+
+    @Transactional
+    public void updateAll(Collection<Note> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Note models must not be null");
+        }
+        models.forEach(this::update);
     }
 
     @Transactional
@@ -50,7 +113,23 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Note ID must not be null or empty");
         }
-        repository.deleteById(id);
+        repository.findWithoutTagsById(id).ifPresent(entity -> {
+            projectRepository.addNotes(entity.getProject().getId(), -1);
+            repository.delete(entity);
+        });
+    }
+
+    private void writeTags(String noteId, Set<String> tagIds) {
+        Set<String> wanted = tagIds == null ? Set.of() : tagIds;
+        Set<String> stored = repository.findTagIds(noteId);
+
+        var removed = stored.stream().filter(tagId -> !wanted.contains(tagId)).toList();
+        if (!removed.isEmpty()) {
+            repository.removeTags(noteId, removed);
+        }
+        wanted.stream()
+                .filter(tagId -> !stored.contains(tagId))
+                .forEach(tagId -> repository.addTag(noteId, tagId));
     }
 
     @Transactional(readOnly = true)
@@ -58,8 +137,14 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Note ID must not be null or empty");
         }
-        return repository.findById(id)
-                .map(NoteJpaEntity::toModel);
+        if (!existenceFilters.mightExist(NoteJpaEntity.class, id)) {
+            return Optional.empty();
+        }
+        var entity = repository.findById(id);
+        if (entity.isEmpty()) {
+            existenceFilters.recordFalsePositive(NoteJpaEntity.class);
+        }
+        return entity.map(NoteJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -67,21 +152,101 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Note ID must not be null or empty");
         }
-        return repository.existsById(id);
+        if (!existenceFilters.mightExist(NoteJpaEntity.class, id)) {
+            return false;
+        }
+        boolean exists = repository.existsById(id);
+        if (!exists) {
+            existenceFilters.recordFalsePositive(NoteJpaEntity.class);
+        }
+        return exists;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isAuthor(String noteId, String userId) {
+        if (noteId == null || noteId.isEmpty()) {
+            throw new IllegalArgumentException("Note ID must not be null or empty");
+        }
+        if (userId == null || userId.isEmpty()) {
+            throw new IllegalArgumentException("User ID must not be null or empty");
+        }
+        return existenceFilters.mightExist(NoteJpaEntity.class, noteId)
+                && repository.isAuthor(noteId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(NoteJpaEntity.class, existenceFilters.retainPossible(NoteJpaEntity.class, ids));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Note> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, NoteJpaEntity::getId,
+                        chunk -> existenceFilters.loadPossible(NoteJpaEntity.class, chunk, repository::findAllByIdIn))
+                .stream()
+                .map(NoteJpaEntity::toModel)
+                .toList();
     }
 
     @Transactional(readOnly = true)
     public Pagination<Note> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
         var specification = buildSpecification(query);
 
-        var questionPage = repository.findAll(specification, pageableRequest);
+        return hydrate(findIdPage(repository, specification, query), NoteJpaEntity::getId, repository::findAllByIdIn)
+                .map(NoteJpaEntity::toModel);
+    }
+
+    @Transactional(readOnly = true)
+    public Pagination<NoteResponse> findAllProjected(SearchQuery query) {
+        if (query != null && query.page() != null && query.page().isKeyset()) {
+            return findAll(query).map(NoteResponse::from);
+        }
+        var specification = buildSpecification(query);
+        var rows = findTuplePage(NoteJpaEntity.class, repository, specification, query, NotePersistence::responseColumns);
+        var tagIds = tagIdsOf(rows.items());
+        return rows.map(row -> toResponse(row, tagIds));
+    }
 
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(NoteJpaEntity::toModel).toList()
+    @Transactional(readOnly = true)
+    public void streamAllProjected(SearchQuery query, Consumer<NoteResponse> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Note consumer must not be null");
+        }
+        streamTuples(NoteJpaEntity.class, buildSpecification(query), query, NotePersistence::responseColumns, rows -> {
+            var tagIds = tagIdsOf(rows);
+            rows.forEach(row -> consumer.accept(toResponse(row, tagIds)));
+        });
+    }
+
+    private static List<Selection<?>> responseColumns(Root<NoteJpaEntity> root) {
+        return List.of(
+                root.get("id"),
+                root.get("title"),
+                root.get("content"),
+                root.get("version"),
+                root.get("project").get("id"),
+                root.get("author").get("id"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        );
+    }
+
+    private Map<String, Set<String>> tagIdsOf(List<Tuple> rows) {
+        var ids = rows.stream().map(row -> row.get(0, String.class)).toList();
+        return ids.isEmpty() ? Map.of() : groupValues(repository.findTagIdsByIdIn(ids));
+    }
+
+    private static NoteResponse toResponse(Tuple row, Map<String, Set<String>> tagIds) {
+        return new NoteResponse(
+                row.get(0, String.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, Integer.class),
+                row.get(4, String.class),
+                row.get(5, String.class),
+                tagIds.getOrDefault(row.get(0, String.class), Set.of()),
+                row.get(6, Instant.class),
+                row.get(7, Instant.class)
         );
     }
 
@@ -91,15 +256,9 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
             throw new IllegalArgumentException("Note ID must not be null or empty");
         }
 
-        var pageableRequest = buildPageRequest(page);
-        var notePage = repository.findAllByProject_Id(projectId, pageableRequest);
-
-        return new Pagination<>(
-                notePage.getNumber(),
-                notePage.getSize(),
-                notePage.getTotalElements(),
-                notePage.map(NoteJpaEntity::toModel).toList()
-        );
+        var query = SearchQuery.of(page, Map.of("projectId", projectId));
+        return hydrate(findIdPage(repository, buildSpecification(query), query), NoteJpaEntity::getId, repository::findAllByIdIn)
+                .map(NoteJpaEntity::toModel);
     }
 
     protected Predicate createPredicateForField(Root<NoteJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
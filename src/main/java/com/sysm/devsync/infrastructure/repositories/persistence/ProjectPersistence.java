@@ -6,27 +6,35 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Keeps the {@code project_count} of each workspace in the same transaction as the project writes.
+ */
 @Repository
 public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> implements ProjectPersistencePort {
 
     private final ProjectJpaRepository repository;
+    private final WorkspaceJpaRepository workspaceRepository;
 
-    public ProjectPersistence(ProjectJpaRepository repository) {
+    public ProjectPersistence(ProjectJpaRepository repository, WorkspaceJpaRepository workspaceRepository) {
         this.repository = repository;
+        this.workspaceRepository = workspaceRepository;
     }
 
     @Transactional
@@ -36,6 +44,7 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
         }
         var entity = ProjectJpaEntity.fromModel(model);
         repository.save(entity);
+        workspaceRepository.addProjectCount(model.getWorkspace().id(), 1);
     }
 
     @Transactional
@@ -43,8 +52,16 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
         if (model == null) {
             throw new IllegalArgumentException("Project model cannot be null");
         }
-        var entity = ProjectJpaEntity.fromModel(model);
+        var newWorkspaceId = model.getWorkspace().id();
+        var oldWorkspaceId = repository.findWorkspaceId(model.getId());
+        var entity = asStored(ProjectJpaEntity.fromModel(model));
         repository.save(entity);
+        if (oldWorkspaceId.isEmpty()) {
+            workspaceRepository.addProjectCount(newWorkspaceId, 1);
+        } else if (!oldWorkspaceId.get().equals(newWorkspaceId)) {
+            workspaceRepository.addProjectCount(oldWorkspaceId.get(), -1);
+            workspaceRepository.addProjectCount(newWorkspaceId, 1);
+        }
     }
 
     @Transactional
@@ -52,7 +69,10 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Project ID cannot be null or empty");
         }
-        repository.deleteById(id);
+        repository.findWorkspaceId(id).ifPresent(workspaceId -> {
+            workspaceRepository.addProjectCount(workspaceId, -1);
+            repository.deleteById(id);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -73,18 +93,23 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
     }
 
     @Transactional(readOnly = true)
-    public Pagination<Project> findAll(SearchQuery searchQuery) {
-        Specification<ProjectJpaEntity> spec = buildSpecification(searchQuery);
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(ProjectJpaEntity.class, ids);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Project> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, ProjectJpaEntity::getId, repository::findAllByIdIn).stream()
+                .map(ProjectJpaEntity::toModel)
+                .toList();
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
-        var pageProject = repository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public Pagination<Project> findAll(SearchQuery searchQuery) {
+        var specification = buildSpecification(searchQuery);
 
-        return new Pagination<>(
-                pageProject.getNumber(),
-                pageProject.getSize(),
-                pageProject.getTotalElements(),
-                pageProject.map(ProjectJpaEntity::toModel).toList()
-        );
+        return findPage(repository, specification, searchQuery)
+                .map(ProjectJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
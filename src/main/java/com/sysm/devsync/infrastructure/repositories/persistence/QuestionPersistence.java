@@ -7,25 +7,57 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Keeps the question counters of each project ({@code question_count}, {@code open_question_count})
+ * in the same transaction as the question writes. Edits that race on the same question may leave
+ * them off until the next recount; see {@code AggregateCounterRebuild}.
+ */
 @Repository
 public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity> implements QuestionPersistencePort {
 
+    private static final Set<QuestionStatus> OPEN = EnumSet.of(QuestionStatus.OPEN);
+    private static final Set<QuestionStatus> NOT_OPEN = EnumSet.complementOf(EnumSet.of(QuestionStatus.OPEN));
+    private static final int MAX_STATUS_ATTEMPTS = 3;
+
     private final QuestionJpaRepository repository;
+    private final ProjectJpaRepository projectRepository;
+    private final ExistenceFilters existenceFilters;
 
-    public QuestionPersistence(QuestionJpaRepository repository) {
+    public QuestionPersistence(QuestionJpaRepository repository, ProjectJpaRepository projectRepository,
+                               ExistenceFilters existenceFilters) {
         this.repository = repository;
+        this.projectRepository = projectRepository;
+        this.existenceFilters = existenceFilters;
     }
 
     @Transactional
@@ -35,15 +67,71 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
         }
         QuestionJpaEntity entity = QuestionJpaEntity.fromModel(model);
         repository.save(entity);
+        projectRepository.addQuestions(model.getProjectId(), 1, isOpen(model.getStatus()) ? 1 : 0);
     }
 
+    /**
+     * Writes the question's own columns and only the tag links that changed. The stored tag ids are
+     * read without loading the tags, so an edit that keeps the tags writes no link at all.
+     */
     @Transactional
     public void update(Question model) {
         if (model == null) {
             throw new IllegalArgumentException("Question model must not be null");
         }
-        QuestionJpaEntity entity = QuestionJpaEntity.fromModel(model);
-        repository.save(entity);
+        repository.findWithoutTagsById(model.getId()).ifPresentOrElse(
+                entity -> {
+                    moveCounts(entity.getProject().getId(), isOpen(entity.getStatus()),
+                            model.getProjectId(), isOpen(model.getStatus()));
+                    entity.setTitle(model.getTitle());
+                    entity.setDescription(model.getDescription());
+                    entity.setStatus(model.getStatus());
+                    entity.setProject(asStored(new ProjectJpaEntity(model.getProjectId())));
+                    entity.setAuthor(asStored(new UserJpaEntity(model.getAuthorId())));
+                    entity.setUpdatedAt(model.getUpdatedAt());
+                    writeTags(model.getId(), model.getTagsId());
+                },
+                () -> create(model)
+        );
+    }
+
+    /**
+     * Moves one question from the counters of its old project and status to those of its new ones.
+     */
+    private void moveCounts(String oldProjectId, boolean wasOpen, String newProjectId, boolean isOpen) {
+        if (!oldProjectId.equals(newProjectId)) {
+            projectRepository.addQuestions(oldProjectId, -1, wasOpen ? -1 : 0);
+            projectRepository.addQuestions(newProjectId, 1, isOpen ? 1 : 0);
+        } else if (wasOpen != isOpen) {
+            projectRepository.addQuestions(newProjectId, 0, isOpen ? 1 : -1);
+        }
+    }
+
+    private static boolean isOpen(QuestionStatus status) {
+        return status == QuestionStatus.OPEN;
+    }
+
+    /**
+     * Inserts in batches, then adds to each project's counters once.
+     */
+    @Transactional
+    public void createAll(Collection<Question> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Question models must not be null");
+        }
+        saveInBatches(repository, models.stream().map(QuestionJpaEntity::fromModel).toList());
+        models.stream()
+                .collect(Collectors.groupingBy(Question::getProjectId))
+                .forEach((projectId, questions) -> projectRepository.addQuestions(projectId, questions.size(),
+                        questions.stream().filter(question -> isOpen(question.getStatus())).count()));
+    }
+
+    @Transactional
+    public void updateAll(Collection<Question> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Question models must not be null");
+        }
+        models.forEach(this::update);
     }
 
     @Transactional
@@ -51,7 +139,23 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Question ID must not be null or empty");
         }
-        repository.deleteById(id);
+        repository.findWithoutTagsById(id).ifPresent(entity -> {
+            projectRepository.addQuestions(entity.getProject().getId(), -1, isOpen(entity.getStatus()) ? -1 : 0);
+            repository.delete(entity);
+        });
+    }
+
+    private void writeTags(String questionId, Set<String> tagIds) {
+        Set<String> wanted = tagIds == null ? Set.of() : tagIds;
+        Set<String> stored = repository.findTagIds(questionId);
+
+        var removed = stored.stream().filter(tagId -> !wanted.contains(tagId)).toList();
+        if (!removed.isEmpty()) {
+            repository.removeTags(questionId, removed);
+        }
+        wanted.stream()
+                .filter(tagId -> !stored.contains(tagId))
+                .forEach(tagId -> repository.addTag(questionId, tagId));
     }
 
     @Transactional(readOnly = true)
@@ -59,8 +163,14 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Question ID must not be null or empty");
         }
-        return repository.findById(id)
-                .map(QuestionJpaEntity::toModel);
+        if (!existenceFilters.mightExist(QuestionJpaEntity.class, id)) {
+            return Optional.empty();
+        }
+        var entity = repository.findById(id);
+        if (entity.isEmpty()) {
+            existenceFilters.recordFalsePositive(QuestionJpaEntity.class);
+        }
+        return entity.map(QuestionJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -68,21 +178,137 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Question ID must not be null or empty");
         }
-        return repository.existsById(id);
+        if (!existenceFilters.mightExist(QuestionJpaEntity.class, id)) {
+            return false;
+        }
+        boolean exists = repository.existsById(id);
+        if (!exists) {
+            existenceFilters.recordFalsePositive(QuestionJpaEntity.class);
+        }
+        return exists;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isAuthor(String questionId, String userId) {
+        if (questionId == null || questionId.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        if (userId == null || userId.isEmpty()) {
+            throw new IllegalArgumentException("User ID must not be null or empty");
+        }
+        return existenceFilters.mightExist(QuestionJpaEntity.class, questionId)
+                && repository.isAuthor(questionId, userId);
+    }
+
+    @Transactional
+    public boolean updateStatus(String questionId, QuestionStatus status, Instant updatedAt) {
+        if (questionId == null || questionId.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status must not be null");
+        }
+        if (!existenceFilters.mightExist(QuestionJpaEntity.class, questionId)) {
+            return false;
+        }
+        // Each attempt changes the status only from the statuses it expects, so the project's open
+        // count moves exactly when the question enters or leaves OPEN, even under concurrent changes
+        var crossing = isOpen(status) ? NOT_OPEN : OPEN;
+        var staying = isOpen(status) ? OPEN : NOT_OPEN;
+        for (int attempt = 0; attempt < MAX_STATUS_ATTEMPTS; attempt++) {
+            if (repository.updateStatus(questionId, status, updatedAt, crossing) > 0) {
+                projectRepository.addOpenQuestionsOfQuestion(questionId, isOpen(status) ? 1 : -1);
+                return true;
+            }
+            if (repository.updateStatus(questionId, status, updatedAt, staying) > 0) {
+                return true;
+            }
+            if (!repository.existsById(questionId)) {
+                return false;
+            }
+        }
+        throw new ConcurrencyFailureException("Question status kept changing concurrently: " + questionId);
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(QuestionJpaEntity.class, existenceFilters.retainPossible(QuestionJpaEntity.class, ids));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Question> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, QuestionJpaEntity::getId,
+                        chunk -> existenceFilters.loadPossible(QuestionJpaEntity.class, chunk, repository::findAllByIdIn))
+                .stream()
+                .map(QuestionJpaEntity::toModel)
+                .toList();
     }
 
     @Transactional(readOnly = true)
     public Pagination<Question> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
         var specification = buildSpecification(query);
 
-        var questionPage = repository.findAll(specification, pageableRequest);
+        return hydrate(findIdPage(repository, specification, query), QuestionJpaEntity::getId, repository::findAllByIdIn)
+                .map(QuestionJpaEntity::toModel);
+    }
+
+    @Transactional(readOnly = true)
+    public Pagination<QuestionResponse> findAllProjected(SearchQuery query) {
+        if (query != null && query.page() != null && query.page().isKeyset()) {
+            return findAll(query).map(QuestionResponse::from);
+        }
+        var specification = buildSpecification(query);
+        var rows = findTuplePage(QuestionJpaEntity.class, repository, specification, query, QuestionPersistence::responseColumns);
+        var tagIds = tagIdsOf(rows.items());
+        return rows.map(row -> toResponse(row, tagIds));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllProjected(SearchQuery query, Consumer<QuestionResponse> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Question consumer must not be null");
+        }
+        streamTuples(QuestionJpaEntity.class, buildSpecification(query), query, QuestionPersistence::responseColumns, rows -> {
+            var tagIds = tagIdsOf(rows);
+            rows.forEach(row -> consumer.accept(toResponse(row, tagIds)));
+        });
+    }
+
+    private static List<Selection<?>> responseColumns(Root<QuestionJpaEntity> root) {
+        return List.of(
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("author").get("id"),
+                root.get("project").get("id"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("answerCount"),
+                root.get("commentCount"),
+                root.get("acceptedAnswerId")
+        );
+    }
+
+    private Map<String, Set<String>> tagIdsOf(List<Tuple> rows) {
+        var ids = rows.stream().map(row -> row.get(0, String.class)).toList();
+        return ids.isEmpty() ? Map.of() : groupValues(repository.findTagIdsByIdIn(ids));
+    }
 
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(QuestionJpaEntity::toModel).toList()
+    private static QuestionResponse toResponse(Tuple row, Map<String, Set<String>> tagIds) {
+        return new QuestionResponse(
+                row.get(0, String.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, QuestionStatus.class),
+                row.get(4, String.class),
+                row.get(5, String.class),
+                tagIds.getOrDefault(row.get(0, String.class), Set.of()),
+                row.get(8, Long.class),
+                row.get(9, Long.class),
+                row.get(10, String.class),
+                row.get(6, Instant.class),
+                row.get(7, Instant.class)
         );
     }
 
@@ -92,15 +318,9 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
             throw new IllegalArgumentException("Project ID must not be null or empty");
         }
 
-        var pageableRequest = buildPageRequest(page);
-        var questionPage = repository.findAllByProject_Id(projectId, pageableRequest);
-
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(QuestionJpaEntity::toModel).toList()
-        );
+        var query = SearchQuery.of(page, Map.of("projectId", projectId));
+        return hydrate(findIdPage(repository, buildSpecification(query), query), QuestionJpaEntity::getId, repository::findAllByIdIn)
+                .map(QuestionJpaEntity::toModel);
     }
 
     protected Predicate createPredicateForField(Root<QuestionJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
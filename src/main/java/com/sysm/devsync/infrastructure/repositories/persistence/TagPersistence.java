@@ -5,26 +5,30 @@ import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Tag;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
+import com.sysm.devsync.infrastructure.counters.TagUseCounters;
+import com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.TagJpaRepository;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
 @Repository
 public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements TagPersistencePort {
 
     private final TagJpaRepository tagRepository;
+    private final TagUseCounters useCounters;
 
-    public TagPersistence(TagJpaRepository tagRepository) {
+    public TagPersistence(TagJpaRepository tagRepository, TagUseCounters useCounters) {
         this.tagRepository = tagRepository;
+        this.useCounters = useCounters;
     }
 
     @Transactional
@@ -40,7 +44,23 @@ public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements
         if (model == null) {
             throw new IllegalArgumentException("Tag model cannot be null");
         }
-        tagRepository.save(TagJpaEntity.fromModel(model));
+        tagRepository.save(asStored(TagJpaEntity.fromModel(model)));
+    }
+
+    @Transactional
+    public void createAll(Collection<Tag> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Tag models cannot be null");
+        }
+        saveInBatches(tagRepository, models.stream().map(TagJpaEntity::fromModel).toList());
+    }
+
+    @Transactional
+    public void updateAll(Collection<Tag> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Tag models cannot be null");
+        }
+        saveInBatches(tagRepository, models.stream().map(TagJpaEntity::fromModel).map(AbstractJpaEntity::asStored).toList());
     }
 
     @Transactional
@@ -69,29 +89,37 @@ public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements
     }
 
     @Transactional(readOnly = true)
-    public Pagination<Tag> findAll(SearchQuery searchQuery) {
-        Specification<TagJpaEntity> spec = buildSpecification(searchQuery);
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(TagJpaEntity.class, ids);
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
+    @Transactional(readOnly = true)
+    public List<Tag> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, TagJpaEntity::getId, tagRepository::findAllById).stream()
+                .map(TagJpaEntity::toModel)
+                .toList();
+    }
 
-        var page = tagRepository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public Pagination<Tag> findAll(SearchQuery searchQuery) {
+        var specification = buildSpecification(searchQuery);
 
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(TagJpaEntity::toModel).toList()
-        );
+        return findPage(tagRepository, specification, searchQuery)
+                .map(TagJpaEntity::toModel);
     }
 
-    @Transactional
     public void incrementUse(String id) {
-        tagRepository.incrementUse(id);
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Tag ID cannot be null or blank");
+        }
+        useCounters.add(id, 1);
     }
 
-    @Transactional
     public void decrementUse(String id) {
-        tagRepository.decrementUse(id);
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Tag ID cannot be null or blank");
+        }
+        useCounters.add(id, -1);
     }
 
     protected Predicate createPredicateForField(Root<TagJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
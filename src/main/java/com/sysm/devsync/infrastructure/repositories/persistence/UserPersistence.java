@@ -12,14 +12,17 @@ import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
 @Repository
 public class UserPersistence extends AbstractPersistence<UserJpaEntity> implements UserPersistencePort {
@@ -44,7 +47,7 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
         if (model == null) {
             throw new IllegalArgumentException("User model cannot be null");
         }
-        var userJpaEntity = UserJpaEntity.fromModel(model);
+        var userJpaEntity = asStored(UserJpaEntity.fromModel(model));
         repository.save(userJpaEntity);
     }
 
@@ -74,19 +77,23 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
     }
 
     @Transactional(readOnly = true)
-    public Pagination<User> findAll(SearchQuery searchQuery) {
-        Specification<UserJpaEntity> spec = buildSpecification(searchQuery);
-        var pageRequest = buildPageRequest(searchQuery);
+    public Set<String> findExistingIds(Collection<String> ids) {
+        return existingIds(UserJpaEntity.class, ids);
+    }
 
-        var page = repository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public List<User> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, UserJpaEntity::getId, repository::findAllById).stream()
+                .map(UserJpaEntity::toModel)
+                .toList();
+    }
 
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(UserJpaEntity::toModel).toList()
-        );
+    @Transactional(readOnly = true)
+    public Pagination<User> findAll(SearchQuery searchQuery) {
+        var specification = buildSpecification(searchQuery);
 
+        return findPage(repository, specification, searchQuery)
+                .map(UserJpaEntity::toModel);
     }
 
     protected Predicate createPredicateForField(Root<UserJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
@@ -109,4 +116,13 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
     public List<KeyValue> userIdXUseName(List<String> userIds) {
         return repository.userIdXUseName(userIds);
     }
+
+    @Transactional
+    public boolean updatePartially(String userId, String name, String email, UserRole role,
+                                   String profilePictureUrl, Instant updatedAt) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return repository.updatePartially(userId, name, email, role, profilePictureUrl, updatedAt) > 0;
+    }
 }
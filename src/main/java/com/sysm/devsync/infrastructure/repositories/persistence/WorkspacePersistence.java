@@ -1,30 +1,50 @@
 package com.sysm.devsync.infrastructure.repositories.persistence;
 
 import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
+import static com.sysm.devsync.infrastructure.repositories.entities.AbstractJpaEntity.asStored;
 
+/**
+ * Member and project counts are read from the workspace row. {@code member_count} is kept here, in
+ * the same transaction as the membership writes; {@code project_count} by {@link ProjectPersistence}.
+ */
 @Repository
 public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity> implements WorkspacePersistencePort {
 
+    private static final int MAX_ADD_MEMBERS_ATTEMPTS = 3;
+
     private final WorkspaceJpaRepository repository;
+    private final TransactionOperations transactions;
 
-    public WorkspacePersistence(WorkspaceJpaRepository repository) {
+    public WorkspacePersistence(WorkspaceJpaRepository repository, TransactionOperations transactions) {
         this.repository = repository;
+        this.transactions = transactions;
     }
 
     @Transactional
@@ -36,13 +56,25 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
         repository.save(workspaceJpaEntity);
     }
 
+    /**
+     * Writes the workspace's own columns. Membership is left untouched: it changes only through
+     * {@link #addMember} and {@link #removeMember}, so an update never loads or rewrites the member set.
+     */
     @Transactional
     public void update(Workspace model) {
         if (model == null) {
             throw new IllegalArgumentException("Workspace model cannot be null");
         }
-        var workspaceJpaEntity = WorkspaceJpaEntity.fromModel(model);
-        repository.save(workspaceJpaEntity);
+        repository.findById(model.getId()).ifPresentOrElse(
+                entity -> {
+                    entity.setName(model.getName());
+                    entity.setDescription(model.getDescription());
+                    entity.setPrivate(model.isPrivate());
+                    entity.setOwner(asStored(new UserJpaEntity(model.getOwner().id())));
+                    entity.setUpdatedAt(model.getUpdatedAt());
+                },
+                () -> repository.save(WorkspaceJpaEntity.fromModel(model))
+        );
     }
 
     @Transactional
@@ -70,19 +102,51 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
         return repository.existsById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<Workspace> findAllByIds(Collection<String> ids) {
+        return findAllInOrder(ids, WorkspaceJpaEntity::getId, repository::findAllByIdIn).stream()
+                .map(WorkspaceJpaEntity::toModel)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public Pagination<Workspace> findAll(SearchQuery searchQuery) {
-        Specification<WorkspaceJpaEntity> spec = buildSpecification(searchQuery);
+        var specification = buildSpecification(searchQuery);
+
+        return hydrate(findIdPage(repository, specification, searchQuery), WorkspaceJpaEntity::getId, repository::findAllByIdIn)
+                .map(WorkspaceJpaEntity::toModel);
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
-        var page = repository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public Pagination<WorkspaceResponse> findAllProjected(SearchQuery searchQuery) {
+        if (searchQuery != null && searchQuery.page() != null && searchQuery.page().isKeyset()) {
+            return findAll(searchQuery).map(WorkspaceResponse::from);
+        }
+        var specification = buildSpecification(searchQuery);
+        var rows = findTuplePage(WorkspaceJpaEntity.class, repository, specification, searchQuery, root -> List.of(
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("isPrivate"),
+                root.get("owner").get("id"),
+                root.get("owner").get("name"),
+                root.get("memberCount"),
+                root.get("projectCount"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
 
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(WorkspaceJpaEntity::toModel).toList()
-        );
+        return rows.map(row -> new WorkspaceResponse(
+                row.get(0, String.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, Boolean.class),
+                new UserTO(row.get(4, String.class), row.get(5, String.class)),
+                row.get(6, Long.class),
+                row.get(7, Long.class),
+                row.get(8, Instant.class),
+                row.get(9, Instant.class)
+        ));
     }
 
     @Transactional(readOnly = true)
@@ -93,6 +157,120 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
         return repository.hasMembers(workspaceId);
     }
 
+    @Transactional(readOnly = true)
+    public boolean isMember(String workspaceId, String userId) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return repository.isMember(workspaceId, userId);
+    }
+
+    public void addMember(String workspaceId, String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        addMembers(workspaceId, List.of(userId));
+    }
+
+    /**
+     * One {@code INSERT ... SELECT ... WHERE NOT EXISTS} per {@link #MAX_IN_LIST_SIZE} ids. Links
+     * are only ever inserted, never rewritten, so concurrent adds cannot drop each other's members.
+     * <p>
+     * Two concurrent adds of the same user can both pass {@code NOT EXISTS}; the later insert then
+     * fails on the primary key once the first commits. The whole transaction is retried, and the
+     * retry sees the committed link and skips it. Inside a caller's transaction the failure already
+     * dooms that transaction, so it is passed on.
+     */
+    public void addMembers(String workspaceId, Collection<String> userIds) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        var distinct = List.copyOf(new LinkedHashSet<>(userIds));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactions.executeWithoutResult(status -> insertMembers(workspaceId, distinct));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw e;
+                }
+                if (attempt == MAX_ADD_MEMBERS_ATTEMPTS) {
+                    throw new ConcurrencyFailureException("Members of workspace kept changing concurrently: " + workspaceId, e);
+                }
+            }
+        }
+    }
+
+    private void insertMembers(String workspaceId, List<String> userIds) {
+        long added = 0;
+        for (int from = 0; from < userIds.size(); from += MAX_IN_LIST_SIZE) {
+            added += repository.addMembers(workspaceId, userIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, userIds.size())));
+        }
+        if (added > 0) {
+            repository.addMemberCount(workspaceId, added);
+        }
+    }
+
+    @Transactional
+    public void removeMember(String workspaceId, String userId) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        if (repository.removeMember(workspaceId, userId) > 0) {
+            repository.addMemberCount(workspaceId, -1);
+        }
+    }
+
+    @Transactional
+    public void removeMembers(String workspaceId, Collection<String> userIds) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        var distinct = List.copyOf(new LinkedHashSet<>(userIds));
+        long removed = 0;
+        for (int from = 0; from < distinct.size(); from += MAX_IN_LIST_SIZE) {
+            removed += repository.removeMembers(workspaceId, distinct.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinct.size())));
+        }
+        if (removed > 0) {
+            repository.addMemberCount(workspaceId, -removed);
+        }
+    }
+
+    @Transactional
+    public boolean updatePrivacy(String workspaceId, boolean isPrivate, Instant updatedAt) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        return repository.updatePrivacy(workspaceId, isPrivate, updatedAt) > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Pagination<UserTO> findMembers(String workspaceId, Page page) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        var memberPage = repository.findMembers(workspaceId, buildPageRequest(page));
+
+        return new Pagination<>(
+                memberPage.getNumber(),
+                memberPage.getSize(),
+                memberPage.getTotalElements(),
+                memberPage.map(user -> UserTO.of(user.getId(), user.getName())).toList()
+        );
+    }
+
     protected Predicate createPredicateForField(Root<WorkspaceJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
 
         return switch (key) {
@@ -0,0 +1,450 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index ranked with BM25.
+ * <p>
+ * Every document gets an internal, increasing id; updates tombstone the previous version and append
+ * the new one, and the postings are compacted once tombstones outnumber live documents. Title terms
+ * are counted twice so a match in the title outranks the same match in the body.
+ * <p>
+ * The fenced code blocks of notes and answers are also kept in a {@link TrigramIndex} for
+ * exact substring and regex code search. Both are written under the same write lock, so they
+ * always see writes in the same order.
+ * <p>
+ * While a rebuild is in progress every live write is also journaled and replayed once the last
+ * batch is loaded, so a row read before a concurrent update or delete cannot outlive it.
+ */
+@Component
+public class InMemorySearchIndex implements SearchIndexPort {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private static final int TITLE_BOOST = 2;
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int SNIPPET_LEAD = 40;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1_000;
+    private static final Set<ContentType> CODE_TYPES = EnumSet.of(ContentType.NOTE, ContentType.ANSWER);
+
+    private final TrigramIndex codeIndex = new TrigramIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docIdsByKey = new HashMap<>();
+    private final Map<String, Set<String>> keysByParentId = new HashMap<>();
+    private List<StoredDocument> documents = new ArrayList<>();
+
+    private final List<Runnable> journal = new ArrayList<>();
+
+    private long totalLength;
+    private int liveCount;
+    private int tombstones;
+    private int rebuilds;
+
+    private record StoredDocument(SearchDocument document, int length) {
+    }
+
+    private record AnalyzedDocument(SearchDocument document, Map<String, Integer> frequencies, int length,
+                                    TrigramIndex.Extracted code) {
+    }
+
+    @Override
+    public void index(SearchDocument document) {
+        if (document == null) {
+            throw new IllegalArgumentException("Search document must not be null");
+        }
+        var analyzed = analyze(document);
+
+        lock.writeLock().lock();
+        try {
+            put(analyzed);
+            journal(() -> put(analyzed));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexAll(Collection<SearchDocument> documents) {
+        var analyzed = analyzeAll(documents);
+        if (analyzed.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            analyzed.forEach(this::put);
+            journal(() -> analyzed.forEach(this::put));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(ContentType type, String id) {
+        lock.writeLock().lock();
+        try {
+            delete(type, id);
+            journal(() -> delete(type, id));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeByParentId(String parentId) {
+        if (parentId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            deleteChildren(parentId);
+            journal(() -> deleteChildren(parentId));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilds++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void loadAll(Collection<SearchDocument> documents) {
+        var analyzed = analyzeAll(documents);
+        if (analyzed.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            analyzed.forEach(this::put);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (rebuilds == 0) {
+                throw new IllegalStateException("No rebuild in progress");
+            }
+            if (--rebuilds > 0) {
+                return;
+            }
+            // Rows loaded by the rebuild may predate these writes; applying them again restores the newer state
+            journal.forEach(Runnable::run);
+            journal.clear();
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Pagination<CodeMatch> searchCode(String query, boolean regex, Set<ContentType> types, Page page) {
+        return codeIndex.search(query, regex, types, page);
+    }
+
+    @Override
+    public Pagination<SearchHit> search(String text, Set<ContentType> types, Page page) {
+        var terms = new LinkedHashSet<>(TextAnalyzer.terms(text));
+        if (terms.isEmpty()) {
+            return new Pagination<>(page.pageNumber(), page.pageSize(), 0, List.of());
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        Map<Integer, SearchDocument> matched = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return new Pagination<>(page.pageNumber(), page.pageSize(), 0, List.of());
+            }
+            double averageLength = (double) totalLength / liveCount;
+
+            for (String term : terms) {
+                var postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int df = Math.min(postingList.documentFrequency(), liveCount);
+                double idf = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+
+                postingList.forEach((docId, frequency) -> {
+                    var stored = documents.get(docId);
+                    if (stored == null || !accepts(types, stored.document().type())) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * stored.length() / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    scores.merge(docId, score, Double::sum);
+                    matched.putIfAbsent(docId, stored.document());
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        var ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip((long) page.pageNumber() * page.pageSize())
+                .limit(page.pageSize())
+                .map(entry -> toHit(matched.get(entry.getKey()), entry.getValue(), terms))
+                .toList();
+
+        return new Pagination<>(page.pageNumber(), page.pageSize(), scores.size(), ranked);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static AnalyzedDocument analyze(SearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String term : TextAnalyzer.terms(document.title())) {
+            frequencies.merge(term, TITLE_BOOST, Integer::sum);
+            length += TITLE_BOOST;
+        }
+        for (String term : TextAnalyzer.terms(document.body())) {
+            frequencies.merge(term, 1, Integer::sum);
+            length++;
+        }
+        var code = CODE_TYPES.contains(document.type()) ? TrigramIndex.extract(document) : null;
+        return new AnalyzedDocument(document, frequencies, length, code);
+    }
+
+    /**
+     * Tokenizing is the expensive part and needs no lock.
+     */
+    private static List<AnalyzedDocument> analyzeAll(Collection<SearchDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return List.of();
+        }
+        return documents.parallelStream()
+                .map(InMemorySearchIndex::analyze)
+                .toList();
+    }
+
+    /**
+     * Records a live write while a rebuild is in progress, to be applied again when it ends.
+     */
+    private void journal(Runnable write) {
+        if (rebuilds > 0) {
+            journal.add(write);
+        }
+    }
+
+    private void put(AnalyzedDocument analyzed) {
+        add(analyzed);
+        if (analyzed.code() != null) {
+            codeIndex.index(analyzed.code());
+        }
+    }
+
+    private void delete(ContentType type, String id) {
+        tombstone(key(type, id));
+        codeIndex.remove(type, id);
+    }
+
+    private void deleteChildren(String parentId) {
+        Set<String> parentIds = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(List.of(parentId));
+        while (!pending.isEmpty()) {
+            var id = pending.pop();
+            parentIds.add(id);
+            var children = keysByParentId.remove(id);
+            if (children == null) {
+                continue;
+            }
+            for (var key : new ArrayList<>(children)) {
+                tombstone(key);
+                pending.push(key.substring(key.indexOf(':') + 1));
+            }
+        }
+        codeIndex.removeIf(document -> parentIds.contains(document.parentId()));
+    }
+
+    private void add(AnalyzedDocument analyzed) {
+        var document = analyzed.document();
+        String key = key(document.type(), document.id());
+        tombstone(key);
+
+        int docId = documents.size();
+        documents.add(new StoredDocument(document, analyzed.length()));
+        docIdsByKey.put(key, docId);
+        if (document.parentId() != null) {
+            keysByParentId.computeIfAbsent(document.parentId(), k -> new HashSet<>()).add(key);
+        }
+
+        // Sorted so postings are written in a deterministic order
+        new TreeMap<>(analyzed.frequencies()).forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+
+        totalLength += analyzed.length();
+        liveCount++;
+    }
+
+    private void tombstone(String key) {
+        Integer docId = docIdsByKey.remove(key);
+        if (docId == null) {
+            return;
+        }
+        var stored = documents.set(docId, null);
+        var parentId = stored.document().parentId();
+        if (parentId != null && keysByParentId.containsKey(parentId)) {
+            keysByParentId.get(parentId).remove(key);
+            if (keysByParentId.get(parentId).isEmpty()) {
+                keysByParentId.remove(parentId);
+            }
+        }
+        totalLength -= stored.length();
+        liveCount--;
+        tombstones++;
+    }
+
+    /**
+     * Drops tombstoned documents and renumbers the survivors, rewriting every posting list.
+     */
+    private void compactIfNeeded() {
+        if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones < liveCount) {
+            return;
+        }
+
+        int[] newIds = new int[documents.size()];
+        List<StoredDocument> compacted = new ArrayList<>(liveCount);
+        for (int i = 0; i < documents.size(); i++) {
+            var stored = documents.get(i);
+            if (stored == null) {
+                newIds[i] = -1;
+            } else {
+                newIds[i] = compacted.size();
+                compacted.add(stored);
+            }
+        }
+
+        var iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var rewritten = new PostingList();
+            entry.getValue().forEach((docId, frequency) -> {
+                if (newIds[docId] >= 0) {
+                    rewritten.add(newIds[docId], frequency);
+                }
+            });
+            if (rewritten.documentFrequency() == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(rewritten);
+            }
+        }
+
+        docIdsByKey.replaceAll((key, docId) -> newIds[docId]);
+        documents = compacted;
+        tombstones = 0;
+    }
+
+    private static boolean accepts(Set<ContentType> types, ContentType type) {
+        return types == null || types.isEmpty() || types.contains(type);
+    }
+
+    private static String key(ContentType type, String id) {
+        return type + ":" + id;
+    }
+
+    private static SearchHit toHit(SearchDocument document, double score, Set<String> terms) {
+        String text = document.body() == null || document.body().isBlank() ? document.title() : document.body();
+        return new SearchHit(
+                document.type(),
+                document.id(),
+                document.parentId(),
+                document.title(),
+                score,
+                snippet(text, terms)
+        );
+    }
+
+    /**
+     * Cuts a window of text around the first matched term and wraps every matched term in {@code <em>}.
+     * The text itself is HTML-escaped so the snippet is safe to render.
+     */
+    static String snippet(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        var tokens = TextAnalyzer.analyze(text);
+        var firstMatch = tokens.stream()
+                .filter(token -> terms.contains(token.term()))
+                .findFirst();
+
+        int start = firstMatch.map(token -> Math.max(0, token.start() - SNIPPET_LEAD)).orElse(0);
+        while (start > 0 && !Character.isWhitespace(text.charAt(start - 1))) {
+            start--;
+        }
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        var snippet = new StringBuilder();
+        if (start > 0) {
+            snippet.append("...");
+        }
+        int position = start;
+        for (var token : tokens) {
+            if (token.start() < start || token.end() > end) {
+                continue;
+            }
+            if (terms.contains(token.term())) {
+                snippet.append(escape(text.substring(position, token.start())))
+                        .append("<em>")
+                        .append(escape(text.substring(token.start(), token.end())))
+                        .append("</em>");
+                position = token.end();
+            }
+        }
+        snippet.append(escape(text.substring(position, end)));
+        if (end < text.length()) {
+            snippet.append("...");
+        }
+        return snippet.toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;");
+    }
+}
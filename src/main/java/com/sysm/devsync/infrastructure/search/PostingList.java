@@ -0,0 +1,85 @@
+package com.sysm.devsync.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Postings of one term: (document id, term frequency) pairs stored as variable-length encoded
+ * deltas. Document ids are assigned in increasing order, so appending keeps the list sorted and
+ * the gaps small, which usually fits a pair in two bytes.
+ */
+final class PostingList {
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int docId, int frequency);
+    }
+
+    private byte[] buffer = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int documentFrequency;
+
+    void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Postings must be appended in increasing document order");
+        }
+        writeVarInt(lastDocId < 0 ? docId : docId - lastDocId);
+        writeVarInt(frequency);
+        lastDocId = docId;
+        documentFrequency++;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = 0;
+        boolean first = true;
+        while (position < length) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            docId = first ? value : docId + value;
+            first = false;
+
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = buffer[position++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            consumer.accept(docId, frequency);
+        }
+    }
+
+    int[] toDocIds() {
+        int[] docIds = new int[documentFrequency];
+        int[] next = {0};
+        forEach((docId, frequency) -> docIds[next[0]++] = docId);
+        return docIds;
+    }
+
+    int documentFrequency() {
+        return documentFrequency;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+}
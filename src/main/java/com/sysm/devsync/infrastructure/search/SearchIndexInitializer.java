@@ -0,0 +1,41 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.application.SearchService;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the search index from the database in the background once the application has started,
+ * so requests are served while the index fills up.
+ */
+@Component
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final SearchService searchService;
+    private final SearchIndexPort searchIndex;
+
+    public SearchIndexInitializer(SearchService searchService, SearchIndexPort searchIndex) {
+        this.searchService = searchService;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        searchService.rebuildIndexAsync()
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Search index rebuild failed", ex);
+                    } else {
+                        log.info("Search index rebuilt with {} documents in {} ms",
+                                searchIndex.size(), System.currentTimeMillis() - start);
+                    }
+                });
+    }
+}
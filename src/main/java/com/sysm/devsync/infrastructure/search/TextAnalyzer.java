@@ -0,0 +1,155 @@
+package com.sysm.devsync.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased, stemmed terms, dropping English stop words. Every token keeps its
+ * character offsets in the original text so matches can be highlighted.
+ */
+public final class TextAnalyzer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "if", "in", "into", "is", "it",
+            "no", "not", "of", "on", "or", "such", "that", "the", "their", "then", "there", "these",
+            "they", "this", "to", "was", "will", "with"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    public record Token(String term, int start, int end) {
+    }
+
+    public static List<Token> analyze(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (start == i || i - start > MAX_TOKEN_LENGTH) {
+                continue;
+            }
+
+            String word = text.substring(start, i).toLowerCase(Locale.ROOT);
+            if (!STOP_WORDS.contains(word)) {
+                tokens.add(new Token(stem(word), start, i));
+            }
+        }
+        return tokens;
+    }
+
+    public static List<String> terms(String text) {
+        return analyze(text).stream()
+                .map(Token::term)
+                .toList();
+    }
+
+    /**
+     * A reduced Porter stemmer (plural, past tense, gerund and a few derivational suffixes),
+     * enough to make "indexes", "indexed" and "indexing" meet on the same term.
+     */
+    static String stem(String word) {
+        if (word.length() <= 3 || !isAlphabetic(word)) {
+            return word;
+        }
+
+        String w = word;
+
+        // Step 1a: plurals
+        if (w.endsWith("sses")) {
+            w = w.substring(0, w.length() - 2);
+        } else if (w.endsWith("ies")) {
+            w = w.substring(0, w.length() - 3) + "i";
+        } else if (!w.endsWith("ss") && !w.endsWith("us") && w.endsWith("s")) {
+            w = w.substring(0, w.length() - 1);
+        }
+
+        // Step 1b: past tense and gerunds
+        if (w.endsWith("eed")) {
+            if (w.length() > 4) {
+                w = w.substring(0, w.length() - 1);
+            }
+        } else if (w.endsWith("ed") && hasVowel(w, w.length() - 2)) {
+            w = restoreEnding(w.substring(0, w.length() - 2));
+        } else if (w.endsWith("ing") && hasVowel(w, w.length() - 3) && w.length() > 5) {
+            w = restoreEnding(w.substring(0, w.length() - 3));
+        }
+
+        // Step 1c: terminal y
+        if (w.endsWith("y") && w.length() > 2 && hasVowel(w, w.length() - 1)) {
+            w = w.substring(0, w.length() - 1) + "i";
+        }
+
+        // Step 2: a few common derivational suffixes
+        w = replaceSuffix(w, "ational", "ate");
+        w = replaceSuffix(w, "ization", "ize");
+        w = replaceSuffix(w, "fulness", "ful");
+        w = replaceSuffix(w, "iveness", "ive");
+        w = replaceSuffix(w, "ousness", "ous");
+        w = replaceSuffix(w, "ation", "ate");
+        w = replaceSuffix(w, "ness", "");
+
+        // Step 5a: silent e
+        if (w.endsWith("e") && w.length() > 3) {
+            w = w.substring(0, w.length() - 1);
+        }
+
+        return w;
+    }
+
+    private static String restoreEnding(String w) {
+        if (w.endsWith("at") || w.endsWith("bl") || w.endsWith("iz")) {
+            return w + "e";
+        }
+        int n = w.length();
+        if (n >= 2 && w.charAt(n - 1) == w.charAt(n - 2) && !isVowel(w.charAt(n - 1))
+            && "lsz".indexOf(w.charAt(n - 1)) < 0) {
+            return w.substring(0, n - 1);
+        }
+        return w;
+    }
+
+    private static String replaceSuffix(String w, String suffix, String replacement) {
+        if (w.endsWith(suffix) && w.length() - suffix.length() >= 3) {
+            return w.substring(0, w.length() - suffix.length()) + replacement;
+        }
+        return w;
+    }
+
+    private static boolean hasVowel(String w, int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(w.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
+    private static boolean isAlphabetic(String w) {
+        for (int i = 0; i < w.length(); i++) {
+            if (w.charAt(i) < 'a' || w.charAt(i) > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds back index writes made inside a transaction until it commits, and drops them if it rolls
+ * back, so a rolled-back batch never leaves searchable documents behind. Writes made outside a
+ * transaction go straight through. Rebuild loads and reads are not deferred.
+ */
+public class TransactionAwareSearchIndex implements SearchIndexPort {
+
+    private final SearchIndexPort delegate;
+
+    public TransactionAwareSearchIndex(SearchIndexPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void index(SearchDocument document) {
+        if (document == null) {
+            throw new IllegalArgumentException("Search document must not be null");
+        }
+        afterCommit(() -> delegate.index(document));
+    }
+
+    @Override
+    public void indexAll(Collection<SearchDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return;
+        }
+        var copy = List.copyOf(documents);
+        afterCommit(() -> delegate.indexAll(copy));
+    }
+
+    @Override
+    public void remove(ContentType type, String id) {
+        afterCommit(() -> delegate.remove(type, id));
+    }
+
+    @Override
+    public void removeByParentId(String parentId) {
+        afterCommit(() -> delegate.removeByParentId(parentId));
+    }
+
+    @Override
+    public void beginRebuild() {
+        delegate.beginRebuild();
+    }
+
+    @Override
+    public void loadAll(Collection<SearchDocument> documents) {
+        delegate.loadAll(documents);
+    }
+
+    @Override
+    public void endRebuild() {
+        delegate.endRebuild();
+    }
+
+    @Override
+    public Pagination<SearchHit> search(String text, Set<ContentType> types, Page page) {
+        return delegate.search(text, types, page);
+    }
+
+    @Override
+    public Pagination<CodeMatch> searchCode(String query, boolean regex, Set<ContentType> types, Page page) {
+        return delegate.searchCode(query, regex, types, page);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    private static void afterCommit(Runnable write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write.run();
+            }
+        });
+    }
+}
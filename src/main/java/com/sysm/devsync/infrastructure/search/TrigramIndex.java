@@ -0,0 +1,519 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+/**
+ * Trigram index over the fenced code blocks of a document, for exact substring and regex search.
+ * <p>
+ * Every lower-cased three-character sequence of the code points to the documents containing it.
+ * A query is reduced to the trigrams it must contain, the posting lists are intersected starting
+ * from the rarest, and only the surviving candidates are verified against the real text. Queries
+ * with no usable literal (shorter than three characters, or a regex alternation) fall back to
+ * verifying every document.
+ * <p>
+ * Candidates are copied under the read lock and verified outside it, so a slow regex never holds
+ * up writers. A regex is limited in length and in the time it may spend verifying, since a pattern
+ * such as {@code (a+)+$} can otherwise backtrack for as long as it likes.
+ */
+final class TrigramIndex {
+
+    private static final Pattern FENCED_BLOCK = Pattern.compile("```[^\\n]*\\n(.*?)(?:```|\\z)", Pattern.DOTALL);
+    private static final Pattern COMMENTS_FLAG = Pattern.compile("\\(\\?[a-zA-Z-]*x");
+    private static final int MAX_FRAGMENT_LENGTH = 200;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1_000;
+    static final int MAX_REGEX_LENGTH = 256;
+    private static final Duration DEFAULT_REGEX_BUDGET = Duration.ofSeconds(1);
+
+    private final long regexBudgetNanos;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docIdsByKey = new HashMap<>();
+    private final List<CodeDocument> documents = new ArrayList<>();
+    private int tombstones;
+
+    private record CodeDocument(SearchDocument document, String code) {
+    }
+
+    TrigramIndex() {
+        this(DEFAULT_REGEX_BUDGET);
+    }
+
+    TrigramIndex(Duration regexBudget) {
+        this.regexBudgetNanos = regexBudget.toNanos();
+    }
+
+    /**
+     * The fenced code of a document and its trigrams, extracted before taking any lock.
+     */
+    record Extracted(SearchDocument document, String code, Set<Long> trigrams) {
+    }
+
+    static Extracted extract(SearchDocument document) {
+        String code = extractCode(document.body());
+        return new Extracted(document, code, trigrams(code));
+    }
+
+    /**
+     * Extracts and indexes the code of the document, replacing any previous version.
+     * Documents without fenced code are only removed.
+     */
+    void index(SearchDocument document) {
+        index(extract(document));
+    }
+
+    void index(Extracted extracted) {
+        var document = extracted.document();
+        lock.writeLock().lock();
+        try {
+            String key = key(document.type(), document.id());
+            tombstone(key);
+            if (!extracted.code().isEmpty()) {
+                add(new CodeDocument(document, extracted.code()), extracted.trigrams());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(ContentType type, String id) {
+        lock.writeLock().lock();
+        try {
+            tombstone(key(type, id));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeIf(Predicate<SearchDocument> filter) {
+        lock.writeLock().lock();
+        try {
+            for (var stored : documents) {
+                if (stored != null && filter.test(stored.document())) {
+                    tombstone(key(stored.document().type(), stored.document().id()));
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Pagination<CodeMatch> search(String query, boolean regex, Set<ContentType> types, Page page) {
+        Pattern pattern;
+        List<String> literals;
+        if (regex) {
+            if (query.length() > MAX_REGEX_LENGTH) {
+                throw new BusinessException("Regular expression must not be longer than " + MAX_REGEX_LENGTH + " characters");
+            }
+            try {
+                pattern = Pattern.compile(query, Pattern.MULTILINE);
+            } catch (PatternSyntaxException e) {
+                throw new BusinessException("Invalid regular expression: " + e.getDescription());
+            }
+            literals = requiredLiterals(query);
+        } else {
+            pattern = Pattern.compile(Pattern.quote(query));
+            literals = List.of(query);
+        }
+
+        Set<Long> required = new HashSet<>();
+        literals.forEach(literal -> required.addAll(trigrams(literal)));
+
+        List<CodeDocument> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int docId : candidates(required)) {
+                var stored = documents.get(docId);
+                if (stored != null && (types == null || types.isEmpty() || types.contains(stored.document().type()))) {
+                    candidates.add(stored);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long deadline = regex ? System.nanoTime() + regexBudgetNanos : Long.MAX_VALUE;
+        List<CodeMatch> matches = new ArrayList<>();
+        try {
+            for (var stored : candidates) {
+                var match = verify(stored, pattern, deadline);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+        } catch (DeadlineExceeded e) {
+            throw new BusinessException("Regular expression took too long to evaluate; make it more specific");
+        }
+
+        var items = matches.stream()
+                .skip((long) page.pageNumber() * page.pageSize())
+                .limit(page.pageSize())
+                .toList();
+        return new Pagination<>(page.pageNumber(), page.pageSize(), matches.size(), items);
+    }
+
+    /**
+     * Intersects the posting lists of the required trigrams, rarest first. With no trigram to
+     * narrow on, every document is a candidate.
+     */
+    private int[] candidates(Set<Long> required) {
+        if (required.isEmpty()) {
+            return IntStream.range(0, documents.size()).toArray();
+        }
+
+        List<PostingList> lists = new ArrayList<>();
+        for (Long trigram : required) {
+            var postingList = postings.get(trigram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            lists.add(postingList);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::documentFrequency));
+
+        int[] result = lists.get(0).toDocIds();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).toDocIds());
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[n++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static CodeMatch verify(CodeDocument stored, Pattern pattern, long deadline) {
+        Matcher matcher = pattern.matcher(deadline == Long.MAX_VALUE
+                ? stored.code()
+                : new DeadlineCharSequence(stored.code(), deadline));
+        if (!matcher.find()) {
+            return null;
+        }
+        String code = stored.code();
+        int lineStart = code.lastIndexOf('\n', matcher.start() - 1) + 1;
+        int lineEnd = code.indexOf('\n', matcher.start());
+        if (lineEnd < 0) {
+            lineEnd = code.length();
+        }
+        int line = (int) code.substring(0, lineStart).chars().filter(c -> c == '\n').count() + 1;
+        String fragment = code.substring(lineStart, Math.min(lineEnd, lineStart + MAX_FRAGMENT_LENGTH));
+
+        var document = stored.document();
+        return new CodeMatch(document.type(), document.id(), document.parentId(), document.title(), line, fragment);
+    }
+
+    private static final class DeadlineExceeded extends RuntimeException {
+        DeadlineExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Text that fails every read once the deadline has passed, which is the only way to stop a
+     * running {@link Matcher}. The clock is read every 1024 characters.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+        private final String text;
+        private final long deadline;
+        private int reads;
+
+        DeadlineCharSequence(String text, long deadline) {
+            this.text = text;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if ((++reads & 0x3FF) == 0 && System.nanoTime() > deadline) {
+                throw new DeadlineExceeded();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text.substring(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private void add(CodeDocument stored, Set<Long> trigrams) {
+        int docId = documents.size();
+        documents.add(stored);
+        docIdsByKey.put(key(stored.document().type(), stored.document().id()), docId);
+        new TreeSet<>(trigrams).forEach(trigram ->
+                postings.computeIfAbsent(trigram, t -> new PostingList()).add(docId, 1));
+    }
+
+    private void tombstone(String key) {
+        Integer docId = docIdsByKey.remove(key);
+        if (docId != null) {
+            documents.set(docId, null);
+            tombstones++;
+        }
+    }
+
+    /**
+     * Re-indexes the live documents from scratch once tombstones outnumber them.
+     */
+    private void compactIfNeeded() {
+        if (tombstones < MIN_TOMBSTONES_TO_COMPACT || tombstones < docIdsByKey.size()) {
+            return;
+        }
+        var live = documents.stream().filter(Objects::nonNull).toList();
+        documents.clear();
+        postings.clear();
+        docIdsByKey.clear();
+        tombstones = 0;
+        live.forEach(stored -> add(stored, trigrams(stored.code())));
+    }
+
+    static String extractCode(String text) {
+        if (text == null || !text.contains("```")) {
+            return "";
+        }
+        var code = new StringBuilder();
+        Matcher matcher = FENCED_BLOCK.matcher(text);
+        while (matcher.find()) {
+            if (!code.isEmpty()) {
+                code.append('\n');
+            }
+            code.append(matcher.group(1));
+        }
+        return code.toString();
+    }
+
+    static Set<Long> trigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i + 3 <= lower.length(); i++) {
+            trigrams.add(((long) lower.charAt(i) << 32) | ((long) lower.charAt(i + 1) << 16) | lower.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Literal runs that every match of the regex must contain. Conservative: an alternation or the
+     * comments flag anywhere yields no literal, and groups, classes, optional characters and every
+     * escape other than a single escaped symbol end the current run.
+     */
+    static List<String> requiredLiterals(String regex) {
+        List<String> literals = new ArrayList<>();
+        if (regex.contains("|") || COMMENTS_FLAG.matcher(regex).find()) {
+            return literals;
+        }
+
+        var run = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\' -> {
+                    if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                        run.append(regex.charAt(i + 1));
+                        i += 2;
+                    } else {
+                        flush(run, literals);
+                        i = skipEscape(regex, i);
+                    }
+                }
+                case '*', '?' -> {
+                    if (!run.isEmpty()) {
+                        run.setLength(run.length() - 1);
+                    }
+                    flush(run, literals);
+                    i++;
+                }
+                case '{' -> {
+                    int close = regex.indexOf('}', i);
+                    if (!run.isEmpty() && i + 1 < regex.length() && regex.charAt(i + 1) == '0') {
+                        run.setLength(run.length() - 1);
+                    }
+                    flush(run, literals);
+                    i = close < 0 ? regex.length() : close + 1;
+                }
+                case '[' -> {
+                    flush(run, literals);
+                    i = skipClass(regex, i);
+                }
+                case '(' -> {
+                    flush(run, literals);
+                    i = skipGroup(regex, i);
+                }
+                case '.', '^', '$', '+', ')', ']', '}' -> {
+                    flush(run, literals);
+                    i++;
+                }
+                default -> {
+                    run.append(c);
+                    i++;
+                }
+            }
+        }
+        flush(run, literals);
+        return literals;
+    }
+
+    private static void flush(StringBuilder run, List<String> literals) {
+        if (run.length() >= 3) {
+            literals.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static int skipClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        while (i < regex.length() && regex.charAt(i) != ']') {
+            i = regex.charAt(i) == '\\' ? skipEscape(regex, i) : i + 1;
+        }
+        return skipQuantifier(regex, i + 1);
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                continue;
+            }
+            if (c == '[') {
+                i = skipClass(regex, i);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return skipQuantifier(regex, i + 1);
+            }
+            i++;
+        }
+        return regex.length();
+    }
+
+    /**
+     * The index just past the escape starting at {@code start}, including the multi-character forms:
+     * hex, Unicode and octal characters, back references, named references, properties, named
+     * characters, control characters and quoted sections.
+     */
+    private static int skipEscape(String regex, int start) {
+        int length = regex.length();
+        int i = start + 1;
+        if (i >= length) {
+            return length;
+        }
+        char c = regex.charAt(i++);
+        switch (c) {
+            case 'Q' -> {
+                int end = regex.indexOf("\\E", i);
+                return end < 0 ? length : end + 2;
+            }
+            case 'x' -> {
+                return i < length && regex.charAt(i) == '{' ? skipBraces(regex, i) : Math.min(i + 2, length);
+            }
+            case 'u' -> {
+                return Math.min(i + 4, length);
+            }
+            case '0' -> {
+                for (int n = 0; n < 3 && i < length && regex.charAt(i) >= '0' && regex.charAt(i) <= '7'; n++) {
+                    i++;
+                }
+                return i;
+            }
+            case 'c' -> {
+                return Math.min(i + 1, length);
+            }
+            case 'k' -> {
+                int close = regex.indexOf('>', i);
+                return i < length && regex.charAt(i) == '<' && close >= 0 ? close + 1 : i;
+            }
+            case 'p', 'P', 'N' -> {
+                return i < length && regex.charAt(i) == '{' ? skipBraces(regex, i) : Math.min(i + 1, length);
+            }
+            default -> {
+                if (c >= '1' && c <= '9') {
+                    while (i < length && Character.isDigit(regex.charAt(i))) {
+                        i++;
+                    }
+                }
+                return i;
+            }
+        }
+    }
+
+    private static int skipBraces(String regex, int open) {
+        int close = regex.indexOf('}', open);
+        return close < 0 ? regex.length() : close + 1;
+    }
+
+    private static int skipQuantifier(String regex, int i) {
+        if (i < regex.length() && "*+?".indexOf(regex.charAt(i)) >= 0) {
+            return i + 1;
+        }
+        if (i < regex.length() && regex.charAt(i) == '{') {
+            int close = regex.indexOf('}', i);
+            return close < 0 ? regex.length() : close + 1;
+        }
+        return i;
+    }
+
+    private static String key(ContentType type, String id) {
+        return type + ":" + id;
+    }
+}
@@ -0,0 +1,18 @@
+-- Aggregate counter columns on workspaces, projects and questions.
+--
+-- Production runs with hibernate_ddl_auto: none, so these columns are not created by Hibernate.
+-- Run this script once, before deploying the version that reads them. The counters start at 0 and
+-- accepted_answer_id starts empty. Start that version once with AGGREGATE_COUNTERS_REBUILD_ON_START=true
+-- so AggregateCounterRebuild recounts them from the counted tables. Until that run finishes, lists
+-- show zero counts.
+
+ALTER TABLE workspaces ADD COLUMN member_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE workspaces ADD COLUMN project_count BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE projects ADD COLUMN question_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN open_question_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN note_count BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE questions ADD COLUMN answer_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE questions ADD COLUMN comment_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE questions ADD COLUMN accepted_answer_id VARCHAR(255);
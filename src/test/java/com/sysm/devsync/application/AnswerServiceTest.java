@@ -6,9 +6,13 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.models.Answer;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +23,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +43,10 @@ class AnswerServiceTest {
     private QuestionPersistencePort questionPersistence;
     @Mock
     private UserPersistencePort userPersistencePort;
+    @Mock
+    private ExistencePersistencePort existencePersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
 
     @InjectMocks
     private AnswerService answerService;
@@ -63,8 +73,7 @@ class AnswerServiceTest {
     @DisplayName("createAnswer should create and save answer when question and author exist")
     void createAnswer_shouldCreateAndSaveAnswer_whenQuestionAndAuthorExist() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(true);
-        when(userPersistencePort.existsById(authorId)).thenReturn(true);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of());
         ArgumentCaptor<Answer> answerCaptor = ArgumentCaptor.forClass(Answer.class);
         // We'll let Answer.create() be called, and capture the result for verification.
 
@@ -75,8 +84,12 @@ class AnswerServiceTest {
         assertNotNull(response);
         assertNotNull(response.id());
 
-        verify(questionPersistence).existsById(questionId);
-        verify(userPersistencePort).existsById(authorId);
+        verify(existencePersistence).verifyExists(Map.of(
+                EntityType.QUESTION, Set.of(questionId),
+                EntityType.USER, Set.of(authorId)
+        ));
+        verify(questionPersistence, never()).existsById(anyString());
+        verify(userPersistencePort, never()).existsById(anyString());
         verify(answerPersistence).create(answerCaptor.capture());
 
         Answer capturedAnswer = answerCaptor.getValue();
@@ -90,14 +103,14 @@ class AnswerServiceTest {
     @DisplayName("createAnswer should throw NotFoundException when question does not exist")
     void createAnswer_shouldThrowNotFoundException_whenQuestionDoesNotExist() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.QUESTION, Set.of(questionId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             answerService.createAnswer(answerCreateUpdateDto, questionId, authorId);
         });
         assertEquals("Question not found", exception.getMessage());
-        verify(userPersistencePort, never()).existsById(anyString());
+        assertEquals(questionId, exception.getId());
         verify(answerPersistence, never()).create(any(Answer.class));
     }
 
@@ -105,8 +118,7 @@ class AnswerServiceTest {
     @DisplayName("createAnswer should throw NotFoundException when author does not exist")
     void createAnswer_shouldThrowNotFoundException_whenAuthorDoesNotExist() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(true);
-        when(userPersistencePort.existsById(authorId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.USER, Set.of(authorId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -151,22 +163,22 @@ class AnswerServiceTest {
     @DisplayName("acceptAnswer should accept existing answer")
     void acceptAnswer_shouldAcceptExistingAnswer() {
         // Arrange
-        when(answerPersistence.findById(answerId)).thenReturn(Optional.of(mockAnswer));
+        when(answerPersistence.accept(eq(answerId), any(Instant.class))).thenReturn(true);
 
         // Act
         answerService.acceptAnswer(answerId);
 
         // Assert
-        verify(answerPersistence).findById(answerId);
-        verify(mockAnswer).accept();
-        verify(answerPersistence).update(mockAnswer);
+        verify(answerPersistence).accept(eq(answerId), any(Instant.class));
+        verify(answerPersistence, never()).findById(any());
+        verify(answerPersistence, never()).update(any(Answer.class));
     }
 
     @Test
     @DisplayName("acceptAnswer should throw NotFoundException when answer not found")
     void acceptAnswer_shouldThrowNotFoundException_whenAnswerNotFound() {
         // Arrange
-        when(answerPersistence.findById(answerId)).thenReturn(Optional.empty());
+        when(answerPersistence.accept(eq(answerId), any(Instant.class))).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -180,22 +192,22 @@ class AnswerServiceTest {
     @DisplayName("rejectAnswer should reject existing answer")
     void rejectAnswer_shouldRejectExistingAnswer() {
         // Arrange
-        when(answerPersistence.findById(answerId)).thenReturn(Optional.of(mockAnswer));
+        when(answerPersistence.reject(eq(answerId), any(Instant.class))).thenReturn(true);
 
         // Act
         answerService.rejectAnswer(answerId);
 
         // Assert
-        verify(answerPersistence).findById(answerId);
-        verify(mockAnswer).reject();
-        verify(answerPersistence).update(mockAnswer);
+        verify(answerPersistence).reject(eq(answerId), any(Instant.class));
+        verify(answerPersistence, never()).findById(any());
+        verify(answerPersistence, never()).update(any(Answer.class));
     }
 
     @Test
     @DisplayName("rejectAnswer should throw NotFoundException when answer not found")
     void rejectAnswer_shouldThrowNotFoundException_whenAnswerNotFound() {
         // Arrange
-        when(answerPersistence.findById(answerId)).thenReturn(Optional.empty());
+        when(answerPersistence.reject(eq(answerId), any(Instant.class))).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -218,6 +230,8 @@ class AnswerServiceTest {
         // Assert
         verify(answerPersistence).existsById(answerId);
         verify(answerPersistence).deleteById(answerId);
+        verify(searchIndex).remove(ContentType.ANSWER, answerId);
+        verify(searchIndex).removeByParentId(answerId);
     }
 
     @Test
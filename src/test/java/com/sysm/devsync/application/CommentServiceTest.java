@@ -6,6 +6,8 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.*;
@@ -22,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +44,10 @@ class CommentServiceTest {
     private AnswerPersistencePort answerPersistence;
     @Mock
     private UserPersistencePort userPersistence;
+    @Mock
+    private ExistencePersistencePort existencePersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
 
     @InjectMocks
     private CommentService commentService;
@@ -73,8 +80,7 @@ class CommentServiceTest {
         @DisplayName("should create and save comment when author and target exist")
         void createComment_success() {
             // Arrange
-            when(userPersistence.existsById(authorId)).thenReturn(true);
-            when(notePersistence.existsById(targetId)).thenReturn(true); // Assuming TargetType.NOTE
+            when(existencePersistence.verifyExists(any())).thenReturn(Map.of());
 
             ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
             // We'll let Comment.create() be called and capture the result for verification.
@@ -86,8 +92,12 @@ class CommentServiceTest {
             assertNotNull(response);
             assertNotNull(response.id());
 
-            verify(userPersistence).existsById(authorId);
-            verify(notePersistence).existsById(targetId); // Verifying the specific target type check
+            verify(existencePersistence).verifyExists(Map.of(
+                    EntityType.USER, Set.of(authorId),
+                    EntityType.NOTE, Set.of(targetId) // Assuming TargetType.NOTE
+            ));
+            verify(userPersistence, never()).existsById(anyString());
+            verify(notePersistence, never()).existsById(anyString());
             verify(commentPersistence).create(commentCaptor.capture());
 
             Comment capturedComment = commentCaptor.getValue();
@@ -102,7 +112,7 @@ class CommentServiceTest {
         @DisplayName("should throw NotFoundException when author does not exist")
         void createComment_authorNotFound() {
             // Arrange
-            when(userPersistence.existsById(authorId)).thenReturn(false);
+            when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.USER, Set.of(authorId)));
 
             // Act & Assert
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -110,7 +120,6 @@ class CommentServiceTest {
             });
             assertEquals("Author not found", exception.getMessage());
             assertEquals(authorId, exception.getId());
-            verify(notePersistence, never()).existsById(anyString());
             verify(commentPersistence, never()).create(any(Comment.class));
         }
 
@@ -119,8 +128,7 @@ class CommentServiceTest {
         void createComment_noteTargetNotFound() {
             // Arrange
             CommentCreateUpdate dto = new CommentCreateUpdate(TargetType.NOTE, targetId, "content");
-            when(userPersistence.existsById(authorId)).thenReturn(true);
-            when(notePersistence.existsById(targetId)).thenReturn(false);
+            when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.NOTE, Set.of(targetId)));
 
             // Act & Assert
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -136,8 +144,7 @@ class CommentServiceTest {
         void createComment_questionTargetNotFound() {
             // Arrange
             CommentCreateUpdate dto = new CommentCreateUpdate(TargetType.QUESTION, targetId, "content");
-            when(userPersistence.existsById(authorId)).thenReturn(true);
-            when(questionPersistence.existsById(targetId)).thenReturn(false);
+            when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.QUESTION, Set.of(targetId)));
 
             // Act & Assert
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -152,8 +159,7 @@ class CommentServiceTest {
         void createComment_answerTargetNotFound() {
             // Arrange
             CommentCreateUpdate dto = new CommentCreateUpdate(TargetType.ANSWER, targetId, "content");
-            when(userPersistence.existsById(authorId)).thenReturn(true);
-            when(answerPersistence.existsById(targetId)).thenReturn(false);
+            when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.ANSWER, Set.of(targetId)));
 
             // Act & Assert
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -168,13 +174,13 @@ class CommentServiceTest {
         void createComment_targetIdNull() {
             // Arrange
             CommentCreateUpdate dto = new CommentCreateUpdate(TargetType.NOTE, null, "content");
-            when(userPersistence.existsById(authorId)).thenReturn(true);
 
             // Act & Assert
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
                 commentService.createComment(dto, authorId);
             });
             assertEquals("Target ID cannot be null or empty.", exception.getMessage());
+            verifyNoInteractions(existencePersistence);
         }
 
         @Test
@@ -182,13 +188,13 @@ class CommentServiceTest {
         void createComment_targetTypeNull() {
             // Arrange
             CommentCreateUpdate dto = new CommentCreateUpdate(null, targetId, "content");
-            when(userPersistence.existsById(authorId)).thenReturn(true);
 
             // Act & Assert
             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
                 commentService.createComment(dto, authorId);
             });
             assertEquals("Target type cannot be null.", exception.getMessage());
+            verifyNoInteractions(existencePersistence);
         }
     }
 
@@ -413,5 +419,21 @@ class CommentServiceTest {
             assertEquals("Invalid query parameters", exception.getMessage());
             verify(commentPersistence, never()).findAll(any(SearchQuery.class));
         }
+
+        @Test
+        @DisplayName("searchComments should return the projected page from persistence")
+        void searchComments_success() {
+            // Arrange
+            SearchQuery query = SearchQuery.of(new Page(1, 10, "id", "desc"),  Map.of());
+            Pagination<CommentResponse> expectedPagination = new Pagination<>(0, 10, 0L, Collections.emptyList());
+            when(commentPersistence.findAllProjected(query)).thenReturn(expectedPagination);
+
+            // Act
+            Pagination<CommentResponse> actualPagination = commentService.searchComments(query);
+
+            // Assert
+            assertSame(expectedPagination, actualPagination);
+            verify(commentPersistence, never()).findAll(any(SearchQuery.class));
+        }
     }
 }
@@ -0,0 +1,186 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.NotFoundException;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ImportRecord;
+import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock
+    private NoteService noteService;
+    @Mock
+    private QuestionService questionService;
+    @Mock
+    private AnswerService answerService;
+    @Mock
+    private CommentService commentService;
+
+    private ImportService importService;
+
+    private final String authorId = "author-1";
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(noteService, questionService, answerService, commentService,
+                TransactionOperations.withoutTransaction(), 2, 2);
+    }
+
+    private static ImportRecord note(String title) {
+        return new ImportRecord(ContentType.NOTE, title, "content", null, "project-1", null, null, null);
+    }
+
+    private static List<ImportRecord> notes(int count) {
+        return IntStream.range(0, count).mapToObj(i -> note("Note " + i)).toList();
+    }
+
+    @Test
+    @DisplayName("importRecords should write every record grouped by type")
+    void importRecords_shouldWriteAllRecords() {
+        var records = List.of(
+                note("Note 0"),
+                new ImportRecord(ContentType.QUESTION, "Question", null, "description", "project-1", null, null, null),
+                note("Note 1"),
+                new ImportRecord(ContentType.ANSWER, null, "answer", null, null, "question-1", null, null)
+        );
+
+        var job = importService.importRecords(records.iterator(), authorId, null);
+
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(4, job.getRecordsRead());
+        assertEquals(4, job.getRecordsCommitted());
+        assertEquals(4, job.getCommittedOffset());
+        assertNotNull(job.getFinishedAt());
+        verify(noteService, times(2)).createNotes(argThat(list -> list.size() == 1), eq(authorId));
+        verify(questionService).createQuestions(argThat(list -> list.size() == 1), eq(authorId));
+        verify(answerService).createAnswers(argThat(map -> map.get("question-1").size() == 1), eq(authorId));
+        verifyNoInteractions(commentService);
+        assertSame(job, importService.getJob(job.getId()));
+    }
+
+    @Test
+    @DisplayName("importRecords should fail the job and resume it without writing committed records twice")
+    void importRecords_shouldResumeFailedJob() {
+        var records = notes(10);
+        Queue<String> written = new ConcurrentLinkedQueue<>();
+        AtomicBoolean broken = new AtomicBoolean(true);
+        when(noteService.createNotes(anyList(), eq(authorId))).thenAnswer(invocation -> {
+            List<NoteCreateUpdate> batch = invocation.getArgument(0);
+            if (broken.get() && batch.stream().anyMatch(n -> n.title().equals("Note 4"))) {
+                throw new BusinessException("Project not found");
+            }
+            batch.forEach(n -> written.add(n.title()));
+            return List.of();
+        });
+
+        var failed = importService.importRecords(records.iterator(), authorId, null);
+
+        assertEquals(ImportJob.Status.FAILED, failed.getStatus());
+        assertEquals("Batch at offsets 4-5 failed: Project not found", failed.getError());
+        assertTrue(failed.getCommittedOffset() <= 4);
+
+        broken.set(false);
+        var resumed = importService.importRecords(records.iterator(), authorId, failed.getId());
+
+        assertSame(failed, resumed);
+        assertEquals(ImportJob.Status.COMPLETED, resumed.getStatus());
+        assertNull(resumed.getError());
+        assertEquals(10, resumed.getCommittedOffset());
+        assertEquals(10, resumed.getRecordsCommitted());
+        assertEquals(10, written.size());
+        assertEquals(10, written.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("importRecords should fail the job on an unreadable record")
+    void importRecords_shouldFailOnUnreadableRecord() {
+        Iterator<ImportRecord> records = new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public ImportRecord next() {
+                if (next++ == 1) {
+                    throw new NoSuchElementException("Unexpected character");
+                }
+                return note("Note");
+            }
+        };
+
+        var job = importService.importRecords(records, authorId, null);
+
+        assertEquals(ImportJob.Status.FAILED, job.getStatus());
+        assertEquals("Unreadable record at offset 1: Unexpected character", job.getError());
+        verifyNoInteractions(noteService);
+    }
+
+    @Test
+    @DisplayName("importRecords should reject resuming a job that did not fail")
+    void importRecords_shouldRejectResumingCompletedJob() {
+        var job = importService.importRecords(List.<ImportRecord>of().iterator(), authorId, null);
+
+        var exception = assertThrows(IllegalArgumentException.class,
+                () -> importService.importRecords(List.<ImportRecord>of().iterator(), authorId, job.getId()));
+        assertEquals("Only a failed import can be resumed", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getJob should throw NotFoundException for an unknown job")
+    void getJob_shouldThrowWhenJobNotFound() {
+        var exception = assertThrows(NotFoundException.class, () -> importService.getJob("missing"));
+        assertEquals("Import job not found", exception.getMessage());
+        verifyNoInteractions(noteService, questionService, answerService, commentService);
+    }
+
+    @Test
+    @DisplayName("getJob should forget a finished job once it is older than the retention")
+    void getJob_shouldForgetExpiredJobs() throws InterruptedException {
+        importService = new ImportService(noteService, questionService, answerService, commentService,
+                TransactionOperations.withoutTransaction(), 2, 2, Duration.ofMillis(1));
+        var job = importService.importRecords(notes(1).iterator(), authorId, null);
+
+        Thread.sleep(10);
+
+        var exception = assertThrows(NotFoundException.class, () -> importService.getJob(job.getId()));
+        assertEquals("Import job not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("importRecords should fail the job for a record without a type")
+    void importRecords_shouldFailOnMissingType() {
+        var records = List.of(new ImportRecord(null, "Title", "content", null, "project-1", null, null, null));
+
+        var job = importService.importRecords(records.iterator(), authorId, null);
+
+        assertEquals(ImportJob.Status.FAILED, job.getStatus());
+        assertEquals("Batch at offsets 0-0 failed: Import record type must not be null", job.getError());
+        assertEquals(0, job.getRecordsCommitted());
+        verifyNoInteractions(noteService);
+    }
+}
@@ -6,11 +6,17 @@ import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.ExistencePersistencePort;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.domain.search.SearchDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,10 +26,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,6 +50,10 @@ class NoteServiceTest {
     private UserPersistencePort userPersistence;
     @Mock
     private TagPersistencePort tagPersistence;
+    @Mock
+    private ExistencePersistencePort existencePersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
 
     @InjectMocks
     private NoteService noteService;
@@ -70,8 +84,7 @@ class NoteServiceTest {
     @DisplayName("createNote should create and save note when project and user exist")
     void createNote_shouldCreateAndSaveNote_whenProjectAndUserExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(true);
-        when(userPersistence.existsById(authorId)).thenReturn(true);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of());
         ArgumentCaptor<Note> noteCaptor = ArgumentCaptor.forClass(Note.class);
 
         // Act
@@ -80,8 +93,12 @@ class NoteServiceTest {
         // Assert
         assertNotNull(response);
         assertNotNull(response.id());
-        verify(projectPersistence).existsById(projectId);
-        verify(userPersistence).existsById(authorId);
+        verify(existencePersistence).verifyExists(Map.of(
+                EntityType.PROJECT, Set.of(projectId),
+                EntityType.USER, Set.of(authorId)
+        ));
+        verify(projectPersistence, never()).existsById(anyString());
+        verify(userPersistence, never()).existsById(anyString());
         verify(notePersistence).create(noteCaptor.capture());
 
         Note capturedNote = noteCaptor.getValue();
@@ -90,29 +107,83 @@ class NoteServiceTest {
         assertEquals(projectId, capturedNote.getProjectId());
         assertEquals(authorId, capturedNote.getAuthorId());
         assertEquals(response.id(), capturedNote.getId());
+
+        ArgumentCaptor<SearchDocument> documentCaptor = ArgumentCaptor.forClass(SearchDocument.class);
+        verify(searchIndex).index(documentCaptor.capture());
+        assertEquals(ContentType.NOTE, documentCaptor.getValue().type());
+        assertEquals(capturedNote.getId(), documentCaptor.getValue().id());
     }
 
     @Test
     @DisplayName("createNote should throw IllegalArgumentException when project does not exist")
     void createNote_shouldThrowException_whenProjectDoesNotExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.PROJECT, Set.of(projectId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             noteService.createNote(noteCreateUpdateDto, authorId);
         });
         assertEquals("Project not found", exception.getMessage());
-        verify(userPersistence, never()).existsById(anyString());
+        assertEquals(projectId, exception.getId());
         verify(notePersistence, never()).create(any(Note.class));
     }
 
+    @Test
+    @DisplayName("createNotes should validate projects once and write all notes in one call")
+    void createNotes_shouldCreateAllNotes_withOneProjectLookup() {
+        // Arrange
+        String otherProjectId = UUID.randomUUID().toString();
+        var requests = List.of(
+                noteCreateUpdateDto,
+                new NoteCreateUpdate("Second", "Second content", projectId),
+                new NoteCreateUpdate("Third", "Third content", otherProjectId)
+        );
+        when(userPersistence.existsById(authorId)).thenReturn(true);
+        when(projectPersistence.findExistingIds(Set.of(projectId, otherProjectId))).thenReturn(Set.of(projectId, otherProjectId));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Note>> notesCaptor = ArgumentCaptor.forClass(Collection.class);
+
+        // Act
+        List<CreateResponse> responses = noteService.createNotes(requests, authorId);
+
+        // Assert
+        verify(notePersistence).createAll(notesCaptor.capture());
+        assertEquals(responses.stream().map(CreateResponse::id).toList(),
+                notesCaptor.getValue().stream().map(Note::getId).toList());
+        verify(projectPersistence, never()).existsById(anyString());
+        verify(searchIndex).indexAll(anyList());
+    }
+
+    @Test
+    @DisplayName("createNotes should report every missing project and write nothing")
+    void createNotes_shouldThrowNotFound_whenProjectsAreMissing() {
+        // Arrange
+        var requests = List.of(noteCreateUpdateDto, new NoteCreateUpdate("Other", "Content", "missing-project"));
+        when(userPersistence.existsById(authorId)).thenReturn(true);
+        when(projectPersistence.findExistingIds(Set.of(projectId, "missing-project"))).thenReturn(Set.of(projectId));
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> noteService.createNotes(requests, authorId));
+        assertEquals("Project not found", exception.getMessage());
+        assertEquals("missing-project", exception.getId());
+        verify(notePersistence, never()).createAll(any());
+    }
+
+    @Test
+    @DisplayName("createNotes should reject an empty request")
+    void createNotes_shouldThrowIllegalArgument_whenEmpty() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> noteService.createNotes(List.of(), authorId));
+        assertEquals("Bulk request must contain between 1 and 50000 items", exception.getMessage());
+        verifyNoInteractions(notePersistence, userPersistence);
+    }
+
     @Test
     @DisplayName("createNote should throw IllegalArgumentException when user does not exist")
     void createNote_shouldThrowException_whenUserDoesNotExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(true);
-        when(userPersistence.existsById(authorId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.USER, Set.of(authorId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -199,6 +270,24 @@ class NoteServiceTest {
         verify(tagPersistence).existsById(tagId);
         verify(mockNote).addTag(tagId);
         verify(notePersistence).update(mockNote);
+        verify(tagPersistence).incrementUse(tagId);
+    }
+
+    @Test
+    @DisplayName("addTagToNote should not count a tag the note already has")
+    void addTagToNote_shouldDoNothing_whenTagAlreadyPresent() {
+        // Arrange
+        when(notePersistence.findById(noteId)).thenReturn(Optional.of(mockNote));
+        when(tagPersistence.existsById(tagId)).thenReturn(true);
+        when(mockNote.getTagsId()).thenReturn(Set.of(tagId));
+
+        // Act
+        noteService.addTagToNote(noteId, tagId);
+
+        // Assert
+        verify(mockNote, never()).addTag(anyString());
+        verify(notePersistence, never()).update(any(Note.class));
+        verify(tagPersistence, never()).incrementUse(anyString());
     }
 
     @Test
@@ -238,6 +327,7 @@ class NoteServiceTest {
         // Arrange
         when(notePersistence.findById(noteId)).thenReturn(Optional.of(mockNote));
         when(tagPersistence.existsById(tagId)).thenReturn(true);
+        when(mockNote.getTagsId()).thenReturn(Set.of(tagId));
 
         // Act
         noteService.removeTagFromNote(noteId, tagId);
@@ -247,6 +337,7 @@ class NoteServiceTest {
         verify(tagPersistence).existsById(tagId);
         verify(mockNote).removeTag(tagId);
         verify(notePersistence).update(mockNote);
+        verify(tagPersistence).decrementUse(tagId);
     }
 
     @Test
@@ -293,6 +384,8 @@ class NoteServiceTest {
         // Assert
         verify(notePersistence).existsById(noteId);
         verify(notePersistence).deleteById(noteId);
+        verify(searchIndex).remove(ContentType.NOTE, noteId);
+        verify(searchIndex).removeByParentId(noteId);
     }
 
     @Test
@@ -307,6 +400,7 @@ class NoteServiceTest {
         });
         assertEquals("Note not found", exception.getMessage());
         verify(notePersistence, never()).deleteById(anyString());
+        verifyNoInteractions(searchIndex);
     }
 
     @Test
@@ -365,6 +459,44 @@ class NoteServiceTest {
         verify(notePersistence, never()).findAll(any(SearchQuery.class));
     }
 
+    @Test
+    @DisplayName("searchNotes should return the projected page from persistence")
+    void searchNotes_shouldReturnProjectedPageFromPersistence() {
+        // Arrange
+        SearchQuery query = SearchQuery.of(new Page(0, 10, "createdAt", "DESC"), Map.of());
+        Pagination<NoteResponse> expectedPagination = new Pagination<>(0, 10, 0L, Collections.emptyList());
+        when(notePersistence.findAllProjected(query)).thenReturn(expectedPagination);
+
+        // Act
+        Pagination<NoteResponse> actualPagination = noteService.searchNotes(query);
+
+        // Assert
+        assertSame(expectedPagination, actualPagination);
+        verify(notePersistence, never()).findAll(any(SearchQuery.class));
+    }
+
+    @Test
+    @DisplayName("exportNotes should stream the query through persistence")
+    void exportNotes_shouldDelegateToPersistence() {
+        // Arrange
+        SearchQuery query = SearchQuery.of(new Page(0, 1, "createdAt", "DESC"), Map.of("projectId", projectId));
+        Consumer<NoteResponse> consumer = note -> { };
+
+        // Act
+        noteService.exportNotes(query, consumer);
+
+        // Assert
+        verify(notePersistence).streamAllProjected(query, consumer);
+    }
+
+    @Test
+    @DisplayName("exportNotes should throw IllegalArgumentException for a null query")
+    void exportNotes_shouldThrow_whenQueryIsNull() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> noteService.exportNotes(null, note -> { }));
+        assertEquals("Invalid query parameters", exception.getMessage());
+        verifyNoInteractions(notePersistence);
+    }
+
     @Test
     @DisplayName("getAllNotes with Pageable and projectId should return page when project exists")
     void getAllNotes_withPageableAndProjectId_shouldReturnPage_whenProjectExists() {
@@ -1,5 +1,7 @@
 package com.sysm.devsync.application;
 
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.EntityType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.persistence.*;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
@@ -8,6 +10,7 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +50,12 @@ class QuestionServiceTest {
     private CommentPersistencePort commentPersistence;
     @Mock
     private AnswerPersistencePort answerPersistence;
+    @Mock
+    private ExistencePersistencePort existencePersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
+    @Spy
+    private TransactionOperations transactions = TransactionOperations.withoutTransaction();
 
 
     @InjectMocks
@@ -74,8 +87,7 @@ class QuestionServiceTest {
     @DisplayName("createQuestion should create and save question when project and user exist")
     void createQuestion_shouldCreateAndSaveQuestion_whenProjectAndUserExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(true);
-        when(userPersistence.existsById(authorId)).thenReturn(true);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of());
         ArgumentCaptor<Question> questionCaptor = ArgumentCaptor.forClass(Question.class);
         // Assuming Question.create() returns a question with a generated ID
         // For simplicity, we'll let the real Question.create happen.
@@ -87,8 +99,12 @@ class QuestionServiceTest {
         assertNotNull(response);
         assertNotNull(response.id());
 
-        verify(projectPersistence).existsById(projectId);
-        verify(userPersistence).existsById(authorId);
+        verify(existencePersistence).verifyExists(Map.of(
+                EntityType.PROJECT, Set.of(projectId),
+                EntityType.USER, Set.of(authorId)
+        ));
+        verify(projectPersistence, never()).existsById(anyString());
+        verify(userPersistence, never()).existsById(anyString());
         verify(questionPersistence).create(questionCaptor.capture());
 
         Question capturedQuestion = questionCaptor.getValue();
@@ -103,14 +119,13 @@ class QuestionServiceTest {
     @DisplayName("createQuestion should throw NotFoundException when project does not exist")
     void createQuestion_shouldThrowNotFoundException_whenProjectDoesNotExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.PROJECT, Set.of(projectId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             questionService.createQuestion(questionCreateUpdateDto, authorId);
         });
         assertEquals("Project not found", exception.getMessage());
-        verify(userPersistence, never()).existsById(anyString());
         verify(questionPersistence, never()).create(any(Question.class));
     }
 
@@ -118,8 +133,7 @@ class QuestionServiceTest {
     @DisplayName("createQuestion should throw NotFoundException when user does not exist")
     void createQuestion_shouldThrowNotFoundException_whenUserDoesNotExist() {
         // Arrange
-        when(projectPersistence.existsById(projectId)).thenReturn(true);
-        when(userPersistence.existsById(authorId)).thenReturn(false);
+        when(existencePersistence.verifyExists(any())).thenReturn(Map.of(EntityType.USER, Set.of(authorId)));
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -165,15 +179,26 @@ class QuestionServiceTest {
     void updateQuestionStatus_shouldUpdateExistingQuestionStatus() {
         // Arrange
         QuestionStatus newStatus = QuestionStatus.RESOLVED;
-        when(questionPersistence.findById(questionId)).thenReturn(Optional.of(mockQuestion));
+        when(questionPersistence.updateStatus(eq(questionId), eq(newStatus), any(Instant.class))).thenReturn(true);
 
         // Act
         questionService.updateQuestionStatus(questionId, newStatus);
 
         // Assert
-        verify(questionPersistence).findById(questionId);
-        verify(mockQuestion).changeStatus(newStatus);
-        verify(questionPersistence).update(mockQuestion);
+        verify(questionPersistence).updateStatus(eq(questionId), eq(newStatus), any(Instant.class));
+        verify(questionPersistence, never()).findById(any());
+        verify(questionPersistence, never()).update(any(Question.class));
+    }
+
+    @Test
+    @DisplayName("updateQuestionStatus should reject a null status without writing")
+    void updateQuestionStatus_withNullStatus_shouldThrow() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            questionService.updateQuestionStatus(questionId, null);
+        });
+        assertEquals("Status cannot be null", exception.getMessage());
+        verifyNoInteractions(questionPersistence);
     }
 
     @Test
@@ -181,7 +206,7 @@ class QuestionServiceTest {
     void updateQuestionStatus_shouldThrowNotFoundException_whenQuestionNotFound() {
         // Arrange
         QuestionStatus newStatus = QuestionStatus.CLOSED;
-        when(questionPersistence.findById(questionId)).thenReturn(Optional.empty());
+        when(questionPersistence.updateStatus(eq(questionId), eq(newStatus), any(Instant.class))).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -305,6 +330,8 @@ class QuestionServiceTest {
         // Assert
         verify(questionPersistence).existsById(questionId);
         verify(questionPersistence).deleteById(questionId);
+        verify(searchIndex).remove(ContentType.QUESTION, questionId);
+        verify(searchIndex).removeByParentId(questionId);
     }
 
     @Test
@@ -411,6 +438,32 @@ class QuestionServiceTest {
         verify(questionPersistence, never()).findAll(any(SearchQuery.class));
     }
 
+    @Test
+    @DisplayName("searchQuestions should return the projected page from persistence")
+    void searchQuestions_shouldReturnProjectedPageFromPersistence() {
+        // Arrange
+        SearchQuery query = SearchQuery.of(new Page(0, 10, "createdAt", "desc"), Map.of());
+        Pagination<QuestionResponse> expectedPagination = new Pagination<>(0, 10, 0L, Collections.emptyList());
+        when(questionPersistence.findAllProjected(query)).thenReturn(expectedPagination);
+
+        // Act
+        Pagination<QuestionResponse> actualPagination = questionService.searchQuestions(query);
+
+        // Assert
+        assertSame(expectedPagination, actualPagination);
+        verify(questionPersistence, never()).findAll(any(SearchQuery.class));
+    }
+
+    @Test
+    @DisplayName("searchQuestions should throw IllegalArgumentException when query is null")
+    void searchQuestions_shouldThrowIllegalArgumentException_whenQueryIsNull() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            questionService.searchQuestions(null);
+        });
+        assertEquals("Invalid query parameters", exception.getMessage());
+        verify(questionPersistence, never()).findAllProjected(any(SearchQuery.class));
+    }
+
 
     @Test
     @DisplayName("deleteQuestion should delete comments and then the question itself")
@@ -433,4 +486,21 @@ class QuestionServiceTest {
         inOrder.verify(questionPersistence).deleteById(questionId);
     }
 
+    @Test
+    @DisplayName("deleteQuestion should delete comments on answers before the answers, in one transaction")
+    void deleteQuestion_shouldDeleteAnswerCommentsBeforeAnswers() {
+        // Arrange
+        when(questionPersistence.existsById(questionId)).thenReturn(true);
+
+        // Act
+        questionService.deleteQuestion(questionId);
+
+        // Assert
+        var inOrder = inOrder(transactions, commentPersistence, answerPersistence, questionPersistence);
+        inOrder.verify(transactions).executeWithoutResult(any());
+        inOrder.verify(commentPersistence).deleteAllOnAnswersOfQuestion(questionId);
+        inOrder.verify(answerPersistence).deleteAllByQuestionId(questionId);
+        inOrder.verify(questionPersistence).deleteById(questionId);
+    }
+
 }
@@ -0,0 +1,165 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchIndexPort searchIndex;
+    @Mock
+    private NotePersistencePort notePersistence;
+    @Mock
+    private QuestionPersistencePort questionPersistence;
+    @Mock
+    private AnswerPersistencePort answerPersistence;
+    @Mock
+    private CommentPersistencePort commentPersistence;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(searchIndex, notePersistence, questionPersistence, answerPersistence,
+                commentPersistence, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("search should delegate to the index")
+    void search_shouldDelegateToIndex() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        Pagination<SearchHit> expected = new Pagination<>(0, 10, 0, List.of());
+        when(searchIndex.search("batching", Set.of(ContentType.NOTE), page)).thenReturn(expected);
+
+        // Act
+        Pagination<SearchHit> result = searchService.search("batching", Set.of(ContentType.NOTE), page);
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    @DisplayName("search should throw IllegalArgumentException for blank text")
+    void search_shouldThrowException_whenTextIsBlank() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> searchService.search("  ", Set.of(), Page.of(0, 10)));
+
+        assertEquals("Search text must not be null or empty", exception.getMessage());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("searchCode should delegate to the index")
+    void searchCode_shouldDelegateToIndex() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        Pagination<CodeMatch> expected = new Pagination<>(0, 10, 0, List.of());
+        when(searchIndex.searchCode("Map<String", false, Set.of(ContentType.NOTE), page)).thenReturn(expected);
+
+        // Act
+        Pagination<CodeMatch> result = searchService.searchCode("Map<String", false, Set.of(ContentType.NOTE), page);
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    @DisplayName("searchCode should throw IllegalArgumentException for empty query")
+    void searchCode_shouldThrowException_whenQueryIsEmpty() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> searchService.searchCode("", true, Set.of(), Page.of(0, 10)));
+
+        assertEquals("Search text must not be null or empty", exception.getMessage());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("rebuildIndex should load every content type page by page")
+    @SuppressWarnings("unchecked")
+    void rebuildIndex_shouldIndexAllContentTypes() {
+        // Arrange
+        String userId = UUID.randomUUID().toString();
+        String projectId = UUID.randomUUID().toString();
+        Question question = Question.create("Question", "Description", projectId, userId);
+        Note note = Note.create("Note", "Content", projectId, userId);
+        Answer answer = Answer.create("Answer", question.getId(), userId);
+        Comment comment = Comment.create(TargetType.QUESTION, question.getId(), userId, "Comment");
+
+        when(notePersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(note), true, "next"))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(), false, null));
+        when(questionPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(question), false, null));
+        when(answerPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(answer), false, null));
+        when(commentPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(comment), false, null));
+
+        // Act
+        searchService.rebuildIndex();
+
+        // Assert
+        verify(notePersistence, times(2)).findAll(any(SearchQuery.class));
+        ArgumentCaptor<Collection<SearchDocument>> captor = ArgumentCaptor.forClass(Collection.class);
+        InOrder inOrder = inOrder(searchIndex);
+        inOrder.verify(searchIndex).beginRebuild();
+        inOrder.verify(searchIndex, times(5)).loadAll(captor.capture());
+        inOrder.verify(searchIndex).endRebuild();
+        verify(searchIndex, never()).indexAll(any());
+        assertEquals(Set.of(note.getId(), question.getId(), answer.getId(), comment.getId()),
+                captor.getAllValues().stream()
+                        .flatMap(Collection::stream)
+                        .map(SearchDocument::id)
+                        .collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("rebuildIndex should end the rebuild even when loading fails")
+    void rebuildIndex_shouldEndRebuild_whenLoadingFails() {
+        // Arrange
+        when(notePersistence.findAll(any(SearchQuery.class))).thenThrow(new IllegalStateException("boom"));
+        when(questionPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(), false, null));
+        when(answerPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(), false, null));
+        when(commentPersistence.findAll(any(SearchQuery.class)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(), false, null));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> searchService.rebuildIndex());
+        verify(searchIndex).beginRebuild();
+        verify(searchIndex).endRebuild();
+    }
+}
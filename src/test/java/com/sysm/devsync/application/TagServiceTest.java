@@ -18,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -250,6 +251,35 @@ class TagServiceTest {
         verify(tagPersistence, times(1)).findById(tagId);
     }
 
+    // --- getTagsByIds Tests ---
+
+    @Test
+    @DisplayName("getTagsByIds should return the tags read by the persistence in one call")
+    void getTagsByIds_shouldDelegateToFindAllByIds() {
+        // Arrange
+        Tag expectedTag = Tag.create("TestTag", "#TestColor");
+        List<String> ids = List.of(expectedTag.getId(), tagId);
+        when(tagPersistence.findAllByIds(ids)).thenReturn(List.of(expectedTag));
+
+        // Act
+        List<Tag> actualTags = tagService.getTagsByIds(ids);
+
+        // Assert
+        assertEquals(List.of(expectedTag), actualTags);
+        verify(tagPersistence, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getTagsByIds should reject empty, blank and oversized id lists")
+    void getTagsByIds_shouldRejectInvalidIds() {
+        List<String> tooMany = Collections.nCopies(BulkValidation.MAX_IDS_PER_GET + 1, tagId);
+
+        assertThrows(IllegalArgumentException.class, () -> tagService.getTagsByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> tagService.getTagsByIds(List.of(tagId, " ")));
+        assertThrows(IllegalArgumentException.class, () -> tagService.getTagsByIds(tooMany));
+        verifyNoInteractions(tagPersistence);
+    }
+
     // --- getAllTags Tests ---
 
     @Test
@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 // and how it calls the User domain object's methods.
 // import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -193,10 +194,10 @@ class UserServiceTest {
     // --- updateUserPatch Tests ---
 
     @Test
-    @DisplayName("updateUserPatch should throw IllegalArgumentException if user not found")
+    @DisplayName("updateUserPatch should throw NotFoundException if no user was updated")
     void updateUserPatch_shouldThrowException_ifUserNotFound() {
         // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.empty());
+        when(userPersistence.updatePartially(eq(userId), any(), any(), any(), any(), any(Instant.class))).thenReturn(false);
         UserCreateUpdate patchDto = new UserCreateUpdate("Patch Name", null, null, null);
 
         // Act & Assert
@@ -208,10 +209,10 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("updateUserPatch should update all provided fields")
+    @DisplayName("updateUserPatch should write all provided fields in one call without loading the user")
     void updateUserPatch_shouldUpdateAllProvidedFields() {
         // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(userPersistence.updatePartially(eq(userId), any(), any(), any(), any(), any(Instant.class))).thenReturn(true);
         UserCreateUpdate patchDto = new UserCreateUpdate(
                 "Patched Name",
                 "patched.email@example.com",
@@ -223,139 +224,53 @@ class UserServiceTest {
         userService.updateUserPatch(userId, patchDto);
 
         // Assert
-        verify(mockUser).updateName("Patched Name");
-        verify(mockUser).updateEmail("patched.email@example.com");
-        verify(mockUser).updateUserRole(UserRole.ADMIN);
-        verify(mockUser).updateProfilePicture("http://patched.url/pic.jpg");
-        verify(userPersistence).update(mockUser);
-    }
-
-    @Test
-    @DisplayName("updateUserPatch should only update name when only name is provided")
-    void updateUserPatch_shouldOnlyUpdateName_whenOnlyNameIsProvided() {
-        // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate("Only Name Patch", null, null, null);
-
-        // Act
-        userService.updateUserPatch(userId, patchDto);
-
-        // Assert
-        verify(mockUser).updateName("Only Name Patch");
-        verify(mockUser, never()).updateEmail(anyString());
-        verify(mockUser, never()).updateUserRole(any(UserRole.class));
-        verify(mockUser, never()).updateProfilePicture(anyString());
-        verify(userPersistence).update(mockUser);
-    }
-
-    @Test
-    @DisplayName("updateUserPatch should only update email when only email is provided")
-    void updateUserPatch_shouldOnlyUpdateEmail_whenOnlyEmailIsProvided() {
-        // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate(null, "only.email@patch.com", null, null);
-
-        // Act
-        userService.updateUserPatch(userId, patchDto);
-
-        // Assert
-        verify(mockUser, never()).updateName(anyString());
-        verify(mockUser).updateEmail("only.email@patch.com");
-        verify(mockUser, never()).updateUserRole(any(UserRole.class));
-        verify(mockUser, never()).updateProfilePicture(anyString());
-        verify(userPersistence).update(mockUser);
-    }
-
-    @Test
-    @DisplayName("updateUserPatch should only update role when only role is provided")
-    void updateUserPatch_shouldOnlyUpdateRole_whenOnlyRoleIsProvided() {
-        // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate(null, null, null, UserRole.ADMIN);
-
-        // Act
-        userService.updateUserPatch(userId, patchDto);
-
-        // Assert
-        verify(mockUser, never()).updateName(anyString());
-        verify(mockUser, never()).updateEmail(anyString());
-        verify(mockUser).updateUserRole(UserRole.ADMIN);
-        verify(mockUser, never()).updateProfilePicture(anyString());
-        verify(userPersistence).update(mockUser);
+        verify(userPersistence).updatePartially(eq(userId), eq("Patched Name"), eq("patched.email@example.com"),
+                eq(UserRole.ADMIN), eq("http://patched.url/pic.jpg"), any(Instant.class));
+        verify(userPersistence, never()).findById(any());
+        verify(userPersistence, never()).update(any());
     }
 
     @Test
-    @DisplayName("updateUserPatch should only update profile picture when only URL is provided")
-    void updateUserPatch_shouldOnlyUpdateProfilePicture_whenOnlyUrlIsProvided() {
+    @DisplayName("updateUserPatch should pass null for fields that are not provided")
+    void updateUserPatch_shouldHandleMixedFields() {
         // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate(null, null, "http://only.pic/url.jpg", null);
+        when(userPersistence.updatePartially(eq(userId), any(), any(), any(), any(), any(Instant.class))).thenReturn(true);
+        UserCreateUpdate patchDto = new UserCreateUpdate("Mixed Name", null, "http://mixed.pic/url.jpg", null);
 
         // Act
         userService.updateUserPatch(userId, patchDto);
 
         // Assert
-        verify(mockUser, never()).updateName(anyString());
-        verify(mockUser, never()).updateEmail(anyString());
-        verify(mockUser, never()).updateUserRole(any(UserRole.class));
-        verify(mockUser).updateProfilePicture("http://only.pic/url.jpg");
-        verify(userPersistence).update(mockUser);
+        verify(userPersistence).updatePartially(eq(userId), eq("Mixed Name"), isNull(), isNull(),
+                eq("http://mixed.pic/url.jpg"), any(Instant.class));
     }
 
     @Test
-    @DisplayName("updateUserPatch should not update fields if DTO values are null or empty/blank for strings")
+    @DisplayName("updateUserPatch should treat empty or blank strings as not provided")
     void updateUserPatch_shouldNotUpdateFields_forNullOrEmptyDtoValues() {
         // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate(null, "", "   ", null); // name=null, email="", profilePic="   ", role=null
+        when(userPersistence.updatePartially(eq(userId), any(), any(), any(), any(), any(Instant.class))).thenReturn(true);
+        UserCreateUpdate patchDto = new UserCreateUpdate(null, "", "   ", null);
 
         // Act
         userService.updateUserPatch(userId, patchDto);
 
         // Assert
-        verify(mockUser, never()).updateName(anyString());
-        verify(mockUser, never()).updateEmail(anyString());
-        verify(mockUser, never()).updateUserRole(any(UserRole.class));
-        verify(mockUser, never()).updateProfilePicture(anyString());
-        verify(userPersistence).update(mockUser); // Persistence update is still called
+        verify(userPersistence).updatePartially(eq(userId), isNull(), isNull(), isNull(), isNull(), any(Instant.class));
     }
 
     @Test
-    @DisplayName("updateUserPatch should correctly handle mixed provided and not-provided fields")
-    void updateUserPatch_shouldHandleMixedFields() {
-        // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
-        UserCreateUpdate patchDto = new UserCreateUpdate("Mixed Name", null, "http://mixed.pic/url.jpg", null);
-
-        // Act
-        userService.updateUserPatch(userId, patchDto);
-
-        // Assert
-        verify(mockUser).updateName("Mixed Name");
-        verify(mockUser, never()).updateEmail(anyString());
-        verify(mockUser, never()).updateUserRole(any(UserRole.class));
-        verify(mockUser).updateProfilePicture("http://mixed.pic/url.jpg");
-        verify(userPersistence).update(mockUser);
-    }
-
-    @Test
-    @DisplayName("updateUserPatch should propagate exceptions from User domain methods")
+    @DisplayName("updateUserPatch should apply the User email rule before writing")
     void updateUserPatch_shouldPropagateDomainExceptions() {
         // Arrange
-        when(userPersistence.findById(userId)).thenReturn(Optional.of(mockUser));
         UserCreateUpdate patchDtoWithInvalidEmail = new UserCreateUpdate(null, "invalid-email", null, null);
 
-        // Configure mockUser.updateEmail to throw an exception when called with "invalid-email"
-        doThrow(new IllegalArgumentException("Invalid email format from domain"))
-                .when(mockUser).updateEmail("invalid-email");
-
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
             userService.updateUserPatch(userId, patchDtoWithInvalidEmail);
         });
-        assertEquals("Invalid email format from domain", exception.getMessage());
-        verify(mockUser).updateEmail("invalid-email"); // Ensure the method was called
-        verify(userPersistence, never()).update(mockUser); // Persistence update should not happen if domain validation fails
+        assertEquals("Email cannot be null or empty", exception.getMessage());
+        verifyNoInteractions(userPersistence);
     }
 
 
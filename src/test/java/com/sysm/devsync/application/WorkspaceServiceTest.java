@@ -9,7 +9,6 @@ import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
-import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -116,12 +115,13 @@ class WorkspaceServiceTest {
         workspaceService.updateWorkspace(workspaceId, updateDto);
 
         // Assert
-        verify(workspacePersistence, times(2)).findById(workspaceId);
+        verify(workspacePersistence, times(1)).findById(workspaceId);
         verify(mockExistingWorkspace, times(1)).update(
                 updateDto.name(),
                 updateDto.description()
         );
-        verify(workspacePersistence, times(2)).update(mockExistingWorkspace);
+        verify(mockExistingWorkspace, times(1)).setPrivate(true);
+        verify(workspacePersistence, times(1)).update(mockExistingWorkspace);
     }
 
     @Test
@@ -140,27 +140,25 @@ class WorkspaceServiceTest {
 
     // --- changeWorkspacePrivacy Tests ---
     @Test
-    @DisplayName("changeWorkspacePrivacy should update privacy and save workspace")
-    void changeWorkspacePrivacy_shouldUpdatePrivacyAndSaveWorkspace() {
+    @DisplayName("changeWorkspacePrivacy should update privacy without loading the workspace")
+    void changeWorkspacePrivacy_shouldUpdatePrivacyWithoutLoading() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.of(mockExistingWorkspace));
-        doNothing().when(workspacePersistence).update(any(Workspace.class));
+        when(workspacePersistence.updatePrivacy(eq(workspaceId), eq(true), any(Instant.class))).thenReturn(true);
 
         // Act
         workspaceService.changeWorkspacePrivacy(workspaceId, true);
 
         // Assert
-        verify(workspacePersistence, times(1)).findById(workspaceId);
-        verify(mockExistingWorkspace, times(1)).setPrivate(true);
-        verify(workspacePersistence, times(1)).update(mockExistingWorkspace);
+        verify(workspacePersistence, times(1)).updatePrivacy(eq(workspaceId), eq(true), any(Instant.class));
+        verify(workspacePersistence, never()).findById(any());
+        verify(workspacePersistence, never()).update(any());
     }
 
     @Test
     @DisplayName("changeWorkspacePrivacy should throw IllegalArgumentException if workspace not found")
     void changeWorkspacePrivacy_shouldThrowException_ifWorkspaceNotFound() {
         // Arrange
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.empty());
+        when(workspacePersistence.updatePrivacy(eq(workspaceId), eq(true), any(Instant.class))).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -172,29 +170,28 @@ class WorkspaceServiceTest {
 
     // --- addMemberToWorkspace Tests ---
     @Test
-    @DisplayName("addMemberToWorkspace should add member and save workspace")
+    @DisplayName("addMemberToWorkspace should add member without loading the workspace")
     void addMemberToWorkspace_shouldAddMemberAndSaveWorkspace() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
         when(userPersistence.existsById(memberId)).thenReturn(true); // Simulate user exists
-        doNothing().when(workspacePersistence).update(any(Workspace.class));
 
         // Act
         workspaceService.addMemberToWorkspace(workspaceId, memberId);
 
         // Assert
-        verify(workspacePersistence, times(1)).findById(workspaceId);
+        verify(workspacePersistence, times(1)).existsById(workspaceId);
         verify(userPersistence, times(1)).existsById(memberId);
-        verify(mockExistingWorkspace, times(1)).addMember(memberId);
-        verify(workspacePersistence, times(1)).update(mockExistingWorkspace);
+        verify(workspacePersistence, times(1)).addMember(workspaceId, memberId);
+        verify(workspacePersistence, never()).findById(any());
+        verify(workspacePersistence, never()).update(any());
     }
 
     @Test
     @DisplayName("addMemberToWorkspace should throw if workspace not found")
     void addMemberToWorkspace_shouldThrow_ifWorkspaceNotFound() {
         // Arrange
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.empty());
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -202,15 +199,14 @@ class WorkspaceServiceTest {
         });
         assertEquals("Workspace not found", exception.getMessage());
         verify(userPersistence, never()).existsById(any());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).addMember(any(), any());
     }
 
     @Test
     @DisplayName("addMemberToWorkspace should throw if member not found")
     void addMemberToWorkspace_shouldThrow_ifMemberNotFound() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(workspacePersistence.findById(anyString())).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
         when(userPersistence.existsById(memberId)).thenReturn(false); // Simulate user does not exist
 
         // Act & Assert
@@ -218,46 +214,141 @@ class WorkspaceServiceTest {
             workspaceService.addMemberToWorkspace(workspaceId, memberId);
         });
         assertEquals("Member not found", exception.getMessage());
-        verify(mockExistingWorkspace, never()).addMember(any());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).addMember(any(), any());
+    }
+
+    // --- addMembersToWorkspace / removeMembersFromWorkspace Tests ---
+    @Test
+    @DisplayName("addMembersToWorkspace should validate every id with one query and add them in one call")
+    void addMembersToWorkspace_shouldAddAllMembers() {
+        // Arrange
+        var otherMemberId = UUID.randomUUID().toString();
+        var ids = Set.of(memberId, otherMemberId);
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(userPersistence.findExistingIds(ids)).thenReturn(ids);
+
+        // Act
+        workspaceService.addMembersToWorkspace(workspaceId, List.of(memberId, otherMemberId, memberId));
+
+        // Assert
+        verify(userPersistence, times(1)).findExistingIds(ids);
+        verify(userPersistence, never()).existsById(any());
+        verify(workspacePersistence, times(1)).addMembers(workspaceId, ids);
+        verify(workspacePersistence, never()).addMember(any(), any());
+    }
+
+    @Test
+    @DisplayName("addMembersToWorkspace should throw listing the unknown users and add nobody")
+    void addMembersToWorkspace_shouldThrow_ifAnyMemberNotFound() {
+        // Arrange
+        var unknownId = UUID.randomUUID().toString();
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(userPersistence.findExistingIds(Set.of(memberId, unknownId))).thenReturn(Set.of(memberId));
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                workspaceService.addMembersToWorkspace(workspaceId, List.of(memberId, unknownId)));
+        assertEquals("Member not found", exception.getMessage());
+        assertEquals(unknownId, exception.getId());
+        verify(workspacePersistence, never()).addMembers(any(), any());
+    }
+
+    @Test
+    @DisplayName("addMembersToWorkspace should reject an empty list")
+    void addMembersToWorkspace_shouldThrow_ifListEmpty() {
+        assertThrows(IllegalArgumentException.class, () ->
+                workspaceService.addMembersToWorkspace(workspaceId, List.of()));
+        verifyNoInteractions(workspacePersistence, userPersistence);
+    }
+
+    @Test
+    @DisplayName("removeMembersFromWorkspace should remove the members in one call")
+    void removeMembersFromWorkspace_shouldRemoveAllMembers() {
+        // Arrange
+        var otherMemberId = UUID.randomUUID().toString();
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+
+        // Act
+        workspaceService.removeMembersFromWorkspace(workspaceId, List.of(memberId, otherMemberId));
+
+        // Assert
+        verify(workspacePersistence, times(1)).removeMembers(workspaceId, Set.of(memberId, otherMemberId));
+        verify(workspacePersistence, never()).isMember(any(), any());
     }
 
     // --- removeMemberFromWorkspace Tests ---
     @Test
-    @DisplayName("removeMemberFromWorkspace should remove member and save workspace")
+    @DisplayName("removeMemberFromWorkspace should remove member without loading the workspace")
     void removeMemberFromWorkspace_shouldRemoveMemberAndSaveWorkspace() {
         // Arrange
-        // Rewrite the test
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.isMember(workspaceId, memberId)).thenReturn(true);
+
+        // Act
+        workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
+
+        // Assert
+        verify(workspacePersistence, times(1)).removeMember(workspaceId, memberId);
+        verify(workspacePersistence, never()).findById(any());
     }
 
     @Test
     @DisplayName("removeMemberFromWorkspace should throw if workspace not found")
     void removeMemberFromWorkspace_shouldThrow_ifWorkspaceNotFound() {
         // Arrange
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.empty());
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
         });
         assertEquals("Workspace not found", exception.getMessage());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).removeMember(any(), any());
     }
 
     @Test
     @DisplayName("removeMemberFromWorkspace should throw if member not found in workspace")
     void removeMemberFromWorkspace_shouldThrow_ifMemberNotInWorkspace() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(mockExistingWorkspace.getMembersId()).thenReturn(new HashSet<>(Set.of("otherMember"))); // Member not present
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.isMember(workspaceId, memberId)).thenReturn(false); // Member not present
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
         });
         assertEquals("Member not found in workspace", exception.getMessage());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).removeMember(any(), any());
+    }
+
+    // --- getWorkspaceMembers Tests ---
+    @Test
+    @DisplayName("getWorkspaceMembers should return a page of members")
+    void getWorkspaceMembers_shouldReturnPage() {
+        // Arrange
+        Page page = Page.of(0, 10, "name", "asc");
+        Pagination<UserTO> members = new Pagination<>(0, 10, 1, List.of(UserTO.of(memberId, "Member")));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.findMembers(workspaceId, page)).thenReturn(members);
+
+        // Act
+        Pagination<UserTO> result = workspaceService.getWorkspaceMembers(workspaceId, page);
+
+        // Assert
+        assertSame(members, result);
+    }
+
+    @Test
+    @DisplayName("getWorkspaceMembers should throw if workspace not found")
+    void getWorkspaceMembers_shouldThrow_ifWorkspaceNotFound() {
+        // Arrange
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                workspaceService.getWorkspaceMembers(workspaceId, Page.of(0, 10)));
+        assertEquals("Workspace not found", exception.getMessage());
+        verify(workspacePersistence, never()).findMembers(any(), any());
     }
 
     // --- changeOwnerOfWorkspace Tests ---
@@ -369,8 +460,8 @@ class WorkspaceServiceTest {
     void getAllWorkspaces_shouldReturnPaginationResult_fromRepository() {
         // Arrange
         SearchQuery query = SearchQuery.of(new Page(1, 10, "asc", "search"),  Map.of());
-        Pagination<Workspace> expectedPagination = new Pagination<>(1, 10, 0, Collections.emptyList());
-        when(workspacePersistence.findAll(query)).thenReturn(expectedPagination);
+        Pagination<WorkspaceResponse> expectedPagination = new Pagination<>(1, 10, 0, Collections.emptyList());
+        when(workspacePersistence.findAllProjected(query)).thenReturn(expectedPagination);
 
         // Act
         Pagination<WorkspaceResponse> actualPagination = workspaceService.getAllWorkspaces(query);
@@ -378,7 +469,7 @@ class WorkspaceServiceTest {
         // Assert
         assertNotNull(actualPagination);
         assertEquals(expectedPagination.total(), actualPagination.total());
-        verify(workspacePersistence, times(1)).findAll(query);
+        verify(workspacePersistence, times(1)).findAllProjected(query);
     }
 
     @Test
@@ -417,20 +508,17 @@ class WorkspaceServiceTest {
     }
 
     @Test
-    @DisplayName("getAllWorkspaces should return paginated workspaces with project counts")
+    @DisplayName("getAllWorkspaces should return paginated workspaces with the project counts kept on each workspace")
     void getAllWorkspaces_shouldReturnPaginatedWorkspaces_withProjectCounts() {
         // Arrange
         workspaceId = UUID.randomUUID().toString();
-        var workspace = Workspace.build(workspaceId, Instant.now(), Instant.now(), "Test Workspace", "A test workspace", false, UserTO.of("owner123"), Collections.emptySet());
+        var workspace = Workspace.build(workspaceId, Instant.now(), Instant.now(), "Test Workspace", "A test workspace", false, UserTO.of("owner123"), 0, 5);
 
         SearchQuery query = SearchQuery.of(Page.of(0, 10, "name", "asc"), Collections.emptyMap());
-        List<Workspace> workspaces = List.of(workspace);
-        Pagination<Workspace> workspacePage = new Pagination<>(0, 10, 1, workspaces);
-        List<KeyValue> projectCounts = List.of(new KeyValue(workspace.getId(), 5));
+        List<WorkspaceResponse> workspaces = List.of(WorkspaceResponse.from(workspace));
+        Pagination<WorkspaceResponse> workspacePage = new Pagination<>(0, 10, 1, workspaces);
 
-
-        when(workspacePersistence.findAll(query)).thenReturn(workspacePage);
-        when(projectPersistence.countProjectsByWorkspaceIdIn(List.of(workspace.getId()))).thenReturn(projectCounts);
+        when(workspacePersistence.findAllProjected(query)).thenReturn(workspacePage);
 
         // Act
         Pagination<WorkspaceResponse> result = workspaceService.getAllWorkspaces(query);
@@ -442,8 +530,8 @@ class WorkspaceServiceTest {
         assertEquals(5, result.items().get(0).projectCount());
         assertEquals(workspace.getName(), result.items().get(0).name());
 
-        verify(workspacePersistence, times(1)).findAll(query);
-        verify(projectPersistence, times(1)).countProjectsByWorkspaceIdIn(List.of(workspace.getId()));
+        verify(workspacePersistence, times(1)).findAllProjected(query);
+        verify(projectPersistence, never()).countProjectsByWorkspaceIdIn(any());
     }
 
     @Test
@@ -451,8 +539,8 @@ class WorkspaceServiceTest {
     void getAllWorkspaces_shouldReturnEmptyPagination_whenNoWorkspacesFound() {
         // Arrange
         SearchQuery query = SearchQuery.of(Page.of(0, 10, "name", "asc"), Collections.emptyMap());
-        Pagination<Workspace> emptyPage = new Pagination<>(0, 10, 0, Collections.emptyList());
-        when(workspacePersistence.findAll(query)).thenReturn(emptyPage);
+        Pagination<WorkspaceResponse> emptyPage = new Pagination<>(0, 10, 0, Collections.emptyList());
+        when(workspacePersistence.findAllProjected(query)).thenReturn(emptyPage);
 
         // Act
         Pagination<WorkspaceResponse> result = workspaceService.getAllWorkspaces(query);
@@ -460,7 +548,7 @@ class WorkspaceServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.items().isEmpty());
-        verify(workspacePersistence, times(1)).findAll(query);
+        verify(workspacePersistence, times(1)).findAllProjected(query);
         verify(projectPersistence, never()).countProjectsByWorkspaceIdIn(any());
     }
 
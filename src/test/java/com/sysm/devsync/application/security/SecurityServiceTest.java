@@ -0,0 +1,97 @@
+package com.sysm.devsync.application.security;
+
+import com.sysm.devsync.domain.persistence.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityServiceTest {
+
+    @Mock
+    private NotePersistencePort notePersistence;
+    @Mock
+    private AnswerPersistencePort answerPersistence;
+    @Mock
+    private QuestionPersistencePort questionPersistence;
+    @Mock
+    private CommentPersistencePort commentPersistence;
+    @Mock
+    private WorkspacePersistencePort workspacePersistence;
+
+    private SecurityService securityService;
+
+    private final String userId = "user-1";
+
+    @BeforeEach
+    void setUp() {
+        securityService = new SecurityService(notePersistence, answerPersistence, questionPersistence,
+                commentPersistence, workspacePersistence, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("isNoteOwner should ask the author query once and reuse the decision")
+    void isNoteOwner_shouldCacheDecision() {
+        when(notePersistence.isAuthor("note-1", userId)).thenReturn(true);
+
+        assertTrue(securityService.isNoteOwner(userId, "note-1"));
+        assertTrue(securityService.isNoteOwner(userId, "note-1"));
+
+        verify(notePersistence, times(1)).isAuthor("note-1", userId);
+        verify(notePersistence, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("isQuestionOwner should ask again after a denial, so a lagging read is not pinned")
+    void isQuestionOwner_shouldNotCacheDenials() {
+        when(questionPersistence.isAuthor("question-1", userId)).thenReturn(false, true);
+        when(questionPersistence.isAuthor("question-1", "user-2")).thenReturn(true);
+
+        assertFalse(securityService.isQuestionOwner(userId, "question-1"));
+        assertTrue(securityService.isQuestionOwner(userId, "question-1"));
+        assertTrue(securityService.isQuestionOwner(userId, "question-1"));
+        assertTrue(securityService.isQuestionOwner("user-2", "question-1"));
+
+        verify(questionPersistence, times(2)).isAuthor("question-1", userId);
+        verify(questionPersistence, times(1)).isAuthor("question-1", "user-2");
+    }
+
+    @Test
+    @DisplayName("canUserAcceptAnswer should use the single join query")
+    void canUserAcceptAnswer_shouldUseQuestionAuthorQuery() {
+        when(answerPersistence.isQuestionAuthor("answer-1", userId)).thenReturn(true);
+
+        assertTrue(securityService.canUserAcceptAnswer(userId, "answer-1"));
+
+        verify(answerPersistence).isQuestionAuthor("answer-1", userId);
+        verify(answerPersistence, never()).findById(any());
+        verifyNoInteractions(questionPersistence);
+    }
+
+    @Test
+    @DisplayName("ownership checks should keep their decisions apart")
+    void ownershipChecks_shouldNotShareDecisions() {
+        when(answerPersistence.isAuthor("id-1", userId)).thenReturn(true);
+        when(commentPersistence.isAuthor("id-1", userId)).thenReturn(false);
+
+        assertTrue(securityService.isAnswerOwner(userId, "id-1"));
+        assertFalse(securityService.isCommentOwner(userId, "id-1"));
+    }
+
+    @Test
+    @DisplayName("ownership checks should deny without a query when the user or resource is missing")
+    void ownershipChecks_shouldDenyMissingIds() {
+        assertFalse(securityService.isNoteOwner(null, "note-1"));
+        assertFalse(securityService.isAnswerOwner(userId, " "));
+
+        verifyNoInteractions(notePersistence, answerPersistence);
+    }
+}
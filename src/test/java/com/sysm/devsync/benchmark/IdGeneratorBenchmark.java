@@ -0,0 +1,84 @@
+package com.sysm.devsync.benchmark;
+
+import com.sysm.devsync.domain.IdGenerator;
+import com.sysm.devsync.domain.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random version 4 UUIDs against {@link UuidV7Generator}: generation throughput on one and on
+ * eight threads, and the cost of inserting the ids into a sorted map, which stands in for the
+ * primary-key index the rows go into.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.sysm.devsync.benchmark.IdGeneratorBenchmark}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private static final int INSERTS = 100_000;
+
+    @Param({"random-v4", "uuid-v7"})
+    public String generator;
+
+    private IdGenerator ids;
+
+    @Setup
+    public void setUp() {
+        ids = "uuid-v7".equals(generator) ? new UuidV7Generator() : IdGenerator.randomUuid();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(1)
+    public String generateSingleThread() {
+        return ids.nextId();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(8)
+    public String generateEightThreads() {
+        return ids.nextId();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(INSERTS)
+    public TreeMap<String, Boolean> insertIntoSortedIndex() {
+        var index = new TreeMap<String, Boolean>();
+        for (int i = 0; i < INSERTS; i++) {
+            index.put(ids.nextId(), Boolean.TRUE);
+        }
+        return index;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,91 @@
+package com.sysm.devsync.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("should generate version 7, RFC variant UUIDs carrying the clock's milliseconds")
+    void nextUuid_shouldSetVersionVariantAndTimestamp() {
+        var generator = new UuidV7Generator(() -> 1_700_000_000_123L);
+
+        UUID uuid = generator.nextUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampOf(uuid)).isEqualTo(1_700_000_000_123L);
+    }
+
+    @Test
+    @DisplayName("should keep ids of one thread in string order within the same millisecond")
+    void nextId_shouldBeOrderedWithinAMillisecond() {
+        var generator = new UuidV7Generator(() -> 1_700_000_000_000L);
+
+        List<String> ids = IntStream.range(0, 10_000).mapToObj(i -> generator.nextId()).toList();
+
+        assertThat(ids).isSorted();
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("should keep counting up when the clock steps back")
+    void nextId_shouldStayOrderedWhenClockGoesBackwards() {
+        var millis = new AtomicLong(1_700_000_000_500L);
+        var generator = new UuidV7Generator(millis::get);
+
+        List<String> ids = new ArrayList<>();
+        ids.add(generator.nextId());
+        millis.set(1_700_000_000_100L);
+        ids.add(generator.nextId());
+        ids.add(generator.nextId());
+
+        assertThat(ids).isSorted();
+        assertThat(UuidV7Generator.timestampOf(UUID.fromString(ids.get(2)))).isEqualTo(1_700_000_000_500L);
+    }
+
+    @Test
+    @DisplayName("should order ids of later milliseconds after earlier ones")
+    void nextId_shouldBeOrderedAcrossMilliseconds() {
+        var millis = new AtomicLong(1_700_000_000_000L);
+        var generator = new UuidV7Generator(millis::getAndIncrement);
+
+        List<String> ids = IntStream.range(0, 1_000).mapToObj(i -> generator.nextId()).toList();
+
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("should generate distinct ids from many threads")
+    void nextId_shouldBeUniqueAcrossThreads() throws InterruptedException {
+        var generator = new UuidV7Generator();
+        var ids = ConcurrentHashMap.<String>newKeySet();
+        var threads = IntStream.range(0, 8)
+                .mapToObj(t -> new Thread(() -> IntStream.range(0, 10_000).forEach(i -> ids.add(generator.nextId()))))
+                .toList();
+
+        threads.forEach(Thread::start);
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("timestampOf should reject UUIDs of other versions")
+    void timestampOf_shouldRejectOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampOf(UUID.randomUUID()));
+    }
+}
@@ -369,6 +369,24 @@ class WorkspaceTest {
         assertEquals(2, workspace.getMembersId().size());
     }
 
+    @Test
+    @DisplayName("memberCount should follow members added and removed in memory")
+    void memberCount_shouldTrackMembershipChanges() {
+        Workspace loaded = Workspace.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(),
+                validName, validDescription, false, validOwner, 20_000L);
+        assertEquals(20_000L, loaded.getMemberCount());
+        assertTrue(loaded.getMembers().isEmpty(), "Loaded workspaces should not carry their members");
+
+        Workspace workspace = Workspace.create(validName, validDescription, false, validOwner);
+        workspace.addMember(member1);
+        workspace.addMember(member1);
+        workspace.addMember(member2);
+        assertEquals(2, workspace.getMemberCount());
+
+        workspace.removeMember(member1);
+        assertEquals(1, workspace.getMemberCount());
+    }
+
     @Test
     @DisplayName("addMember should throw IllegalArgumentException if user is null")
     void addMember_shouldThrowException_whenUserIsNull() {
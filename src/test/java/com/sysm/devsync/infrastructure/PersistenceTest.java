@@ -1,6 +1,9 @@
 package com.sysm.devsync.infrastructure;
 
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.config.CounterConfig;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.ElementType;
@@ -9,6 +12,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 @Inherited
+@Import({ExistenceFilters.class, CounterConfig.class})
 @DataJpaTest
 @ActiveProfiles("tests")
 @Target(ElementType.TYPE)
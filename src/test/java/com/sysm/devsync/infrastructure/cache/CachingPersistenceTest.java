@@ -0,0 +1,146 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPersistenceTest {
+
+    @Mock
+    private UserPersistencePort delegate;
+
+    private CachingUserPersistence persistence;
+
+    @BeforeEach
+    void setUp() {
+        persistence = new CachingUserPersistence(delegate, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("existsById should hit the delegate once for an existing id and every time for a missing one")
+    void existsById_shouldCacheOnlyExistingIds() {
+        when(delegate.existsById("u1")).thenReturn(true);
+        when(delegate.existsById("u2")).thenReturn(false);
+
+        assertTrue(persistence.existsById("u1"));
+        assertTrue(persistence.existsById("u1"));
+        assertFalse(persistence.existsById("u2"));
+        assertFalse(persistence.existsById("u2"));
+
+        verify(delegate, times(1)).existsById("u1");
+        verify(delegate, times(2)).existsById("u2");
+        assertEquals(1, persistence.stats().hits());
+        assertEquals(3, persistence.stats().misses());
+    }
+
+    @Test
+    @DisplayName("existsById should see a row created after it was reported missing")
+    void existsById_shouldNotPinMissingIds() {
+        when(delegate.existsById("u1")).thenReturn(false, true);
+
+        assertFalse(persistence.existsById("u1"));
+        assertTrue(persistence.existsById("u1"));
+    }
+
+    @Test
+    @DisplayName("findById should record whether the row exists without caching the model")
+    void findById_shouldRecordExistence() {
+        var user = User.create("Jane", "jane@example.com", UserRole.MEMBER);
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+
+        persistence.findById(user.getId());
+        persistence.findById(user.getId());
+
+        assertTrue(persistence.existsById(user.getId()));
+        verify(delegate, times(2)).findById(user.getId());
+        verify(delegate, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("findAllByIds should delegate once and record the ids that exist")
+    void findAllByIds_shouldDelegateAndRecordExistence() {
+        var user = User.create("Jane", "jane@example.com", UserRole.MEMBER);
+        var ids = List.of("missing", user.getId());
+        when(delegate.findAllByIds(ids)).thenReturn(List.of(user));
+
+        assertEquals(List.of(user), persistence.findAllByIds(ids));
+
+        assertTrue(persistence.existsById(user.getId()));
+        assertFalse(persistence.existsById("missing"));
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).existsById(user.getId());
+        verify(delegate).existsById("missing");
+    }
+
+    @Test
+    @DisplayName("create, update and deleteById should invalidate the id")
+    void writes_shouldInvalidate() {
+        var user = User.create("Jane", "jane@example.com", UserRole.MEMBER);
+        when(delegate.existsById(user.getId())).thenReturn(false, true, true, false);
+
+        assertFalse(persistence.existsById(user.getId()));
+        persistence.create(user);
+        assertTrue(persistence.existsById(user.getId()));
+        persistence.update(user);
+        assertTrue(persistence.existsById(user.getId()));
+        persistence.deleteById(user.getId());
+        assertFalse(persistence.existsById(user.getId()));
+
+        verify(delegate, times(4)).existsById(user.getId());
+    }
+
+    @Test
+    @DisplayName("findExistingIds should only ask the delegate about unknown ids")
+    void findExistingIds_shouldUseCachedIds() {
+        when(delegate.existsById("u1")).thenReturn(true);
+        when(delegate.findExistingIds(anyCollection())).thenReturn(Set.of("u2"));
+        persistence.existsById("u1");
+
+        var existing = persistence.findExistingIds(List.of("u1", "u2", "u3"));
+
+        assertEquals(Set.of("u1", "u2"), existing);
+        verify(delegate).findExistingIds(argThat(ids -> ids.size() == 2 && !ids.contains("u1")));
+        assertFalse(persistence.existsById("u3"));
+        verify(delegate).existsById("u3");
+    }
+
+    @Test
+    @DisplayName("existsById should not remember reads made inside a read-write transaction")
+    void existsById_shouldNotCacheInsideWriteTransaction() {
+        when(delegate.existsById("u1")).thenReturn(true);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            persistence.existsById("u1");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        persistence.existsById("u1");
+
+        verify(delegate, times(2)).existsById("u1");
+    }
+
+    @Test
+    @DisplayName("methods outside PersistencePort should go straight to the delegate")
+    void portSpecificMethods_shouldDelegate() {
+        persistence.userIdXUseName(List.of("u1"));
+
+        verify(delegate).userIdXUseName(List.of("u1"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CuckooFilterTest {
+
+    private static List<String> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+
+    @Test
+    @DisplayName("should report every added id as present")
+    void mightContain_shouldHaveNoFalseNegatives() {
+        var filter = new CuckooFilter(10_000);
+        var ids = ids(10_000);
+        ids.forEach(filter::add);
+
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.count()).isEqualTo(10_000);
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should report few absent ids as present")
+    void mightContain_shouldKeepFalsePositivesRare() {
+        var filter = new CuckooFilter(10_000);
+        ids(10_000).forEach(filter::add);
+
+        long falsePositives = ids(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(100);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.001);
+    }
+
+    @Test
+    @DisplayName("should forget removed ids and keep the others")
+    void remove_shouldDropOnlyTheRemovedId() {
+        var filter = new CuckooFilter(1_000);
+        var ids = ids(1_000);
+        ids.forEach(filter::add);
+
+        ids.subList(0, 500).forEach(filter::remove);
+
+        assertThat(ids.subList(500, 1_000)).allMatch(filter::mightContain);
+        assertThat(ids.subList(0, 500).stream().filter(filter::mightContain).count()).isLessThan(5);
+        assertThat(filter.count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("should answer present for everything once saturated")
+    void add_shouldSaturateWhenFull() {
+        var filter = new CuckooFilter(16);
+        var ids = ids(1_000);
+        ids.forEach(filter::add);
+
+        assertThat(filter.isSaturated()).isTrue();
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.mightContain("never-added")).isTrue();
+        assertThat(filter.expectedFalsePositiveRate()).isEqualTo(1.0);
+    }
+}
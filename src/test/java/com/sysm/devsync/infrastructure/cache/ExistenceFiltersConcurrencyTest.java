@@ -0,0 +1,120 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test transaction, so inserts really commit while a rebuild scans. The embedded
+ * test database hands out auto-commit connections, so Hibernate is told to switch it off itself.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties[hibernate.connection.provider_disables_autocommit]=false")
+class ExistenceFiltersConcurrencyTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserJpaEntity author;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        author = userJpaRepository.saveAndFlush(
+                UserJpaEntity.fromModel(User.create("Author", "author.race@example.com", UserRole.MEMBER)));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        clearRepositories();
+    }
+
+    private CommentJpaEntity newComment() {
+        return CommentJpaEntity.fromModel(
+                Comment.create(TargetType.QUESTION, UUID.randomUUID().toString(), author.getId(), "A comment"));
+    }
+
+    @Test
+    @DisplayName("should keep an id whose insert commits after a rebuild scanned and swapped without it")
+    void added_shouldSurviveRebuildSwappedBeforeCommit() {
+        var filter = existenceFilters.filter(CommentJpaEntity.class);
+        existenceFilters.rebuild(filter);
+        var comment = newComment();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            commentJpaRepository.saveAndFlush(comment);
+            CompletableFuture.runAsync(() -> existenceFilters.rebuild(filter), executor).join();
+            // The rebuilt filter is current and its scan could not see the uncommitted row
+            assertThat(existenceFilters.mightExist(CommentJpaEntity.class, comment.getId())).isFalse();
+        });
+
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, comment.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("should know every committed id after inserts race repeated rebuilds")
+    void added_shouldNotLoseIdsCommittedDuringRebuilds() throws Exception {
+        var filter = existenceFilters.filter(CommentJpaEntity.class);
+        existenceFilters.rebuild(filter);
+        var writing = new AtomicBoolean(true);
+        var rebuilds = CompletableFuture.runAsync(() -> {
+            while (writing.get()) {
+                existenceFilters.rebuild(filter);
+            }
+        }, executor);
+
+        List<CompletableFuture<List<String>>> writers = new ArrayList<>();
+        for (int w = 0; w < 3; w++) {
+            writers.add(CompletableFuture.supplyAsync(() -> {
+                var transaction = new TransactionTemplate(transactionManager);
+                List<String> ids = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    var comment = newComment();
+                    transaction.executeWithoutResult(status -> commentJpaRepository.saveAndFlush(comment));
+                    ids.add(comment.getId());
+                }
+                return ids;
+            }, executor));
+        }
+        List<String> committed = new ArrayList<>();
+        for (var writer : writers) {
+            committed.addAll(writer.get(30, TimeUnit.SECONDS));
+        }
+        writing.set(false);
+        rebuilds.get(30, TimeUnit.SECONDS);
+
+        assertThat(existenceFilters.retainPossible(CommentJpaEntity.class, committed))
+                .containsExactlyElementsOf(committed);
+    }
+}
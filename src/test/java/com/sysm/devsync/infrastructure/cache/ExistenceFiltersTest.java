@@ -0,0 +1,172 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ExistenceFiltersTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private ExistenceFilters existenceFilters;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserJpaEntity author;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        author = UserJpaEntity.fromModel(User.create("Author", "author.filter@example.com", UserRole.MEMBER));
+        entityPersist(author);
+    }
+
+    private CommentJpaEntity persistComment() {
+        var comment = CommentJpaEntity.fromModel(
+                Comment.create(TargetType.QUESTION, UUID.randomUUID().toString(), author.getId(), "A comment"));
+        entityPersist(comment);
+        return comment;
+    }
+
+    private void rebuildComments() {
+        existenceFilters.rebuild(existenceFilters.filter(CommentJpaEntity.class));
+    }
+
+    @Test
+    @DisplayName("should report stored ids as possibly existing and unknown ids as absent after a rebuild")
+    void rebuild_shouldLoadStoredIds() {
+        var stored = persistComment();
+        rebuildComments();
+
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, stored.getId())).isTrue();
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, "missing-comment")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should see rows inserted after the rebuild")
+    void added_shouldTrackNewRows() {
+        rebuildComments();
+        var inserted = persistComment();
+
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, inserted.getId())).isTrue();
+        assertThat(existenceFilters.retainPossible(CommentJpaEntity.class, List.of(inserted.getId(), "missing-comment")))
+                .containsExactly(inserted.getId());
+    }
+
+    @Test
+    @DisplayName("should keep a deleted id until the deleting transaction commits")
+    void removed_shouldWaitForCommit() {
+        var stored = persistComment();
+        rebuildComments();
+
+        commentJpaRepository.deleteById(stored.getId());
+        flushAndClear();
+
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, stored.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("should add a committed id to a filter swapped in after it was persisted")
+    void addCommitted_shouldReachFilterSwappedInBeforeCommit() {
+        rebuildComments();
+        var filter = existenceFilters.filter(CommentJpaEntity.class);
+        var currentAtPersist = filter.current;
+        // A rebuild whose scan did not see the uncommitted row has been swapped in
+        filter.current = new CuckooFilter(1_024);
+
+        existenceFilters.addCommitted(filter, "late-comment", currentAtPersist);
+
+        assertThat(existenceFilters.mightExist(CommentJpaEntity.class, "late-comment")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should scan ids in a read-write transaction so a replica never serves the scan")
+    void rebuild_shouldNotScanInReadOnlyTransaction() {
+        var definitions = new ArrayList<TransactionDefinition>();
+        var recording = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                definitions.add(definition);
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+        var filters = new ExistenceFilters(recording, new ExistenceFilterProperties(true));
+        ReflectionTestUtils.setField(filters, "entityManager", entityManager.getEntityManager());
+        var stored = persistComment();
+
+        filters.rebuild(filters.filter(CommentJpaEntity.class));
+
+        assertThat(definitions).isNotEmpty().noneMatch(TransactionDefinition::isReadOnly);
+        assertThat(filters.mightExist(CommentJpaEntity.class, stored.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("should treat every id as possibly existing when disabled")
+    void mightExist_shouldPassEveryIdWhenDisabled() {
+        var disabled = new ExistenceFilters(mock(PlatformTransactionManager.class), new ExistenceFilterProperties(false));
+        disabled.filter(CommentJpaEntity.class).current = new CuckooFilter(1_024);
+
+        assertThat(disabled.mightExist(CommentJpaEntity.class, "missing-comment")).isTrue();
+        assertThat(disabled.retainPossible(CommentJpaEntity.class, List.of("missing-comment")))
+                .containsExactly("missing-comment");
+    }
+
+    @Test
+    @DisplayName("should treat every id as possibly existing for types it does not guard")
+    void mightExist_shouldPassUnguardedTypes() {
+        assertThat(existenceFilters.mightExist(UserJpaEntity.class, "missing-user")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should count checks, negatives and false positives")
+    void stats_shouldCountLookups() {
+        rebuildComments();
+        var before = stats();
+
+        existenceFilters.mightExist(CommentJpaEntity.class, "missing-comment");
+        existenceFilters.recordFalsePositive(CommentJpaEntity.class);
+
+        var after = stats();
+        assertThat(after.ready()).isTrue();
+        assertThat(after.memoryBytes()).isPositive();
+        assertThat(after.checks() - before.checks()).isEqualTo(1);
+        assertThat(after.negatives() - before.negatives()).isEqualTo(1);
+        assertThat(after.falsePositives() - before.falsePositives()).isEqualTo(1);
+    }
+
+    private ExistenceFilterStats stats() {
+        return existenceFilters.stats().stream()
+                .filter(stats -> stats.name().equals("comments"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
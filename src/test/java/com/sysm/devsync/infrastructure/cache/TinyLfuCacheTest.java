@@ -0,0 +1,121 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TinyLfuCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private TinyLfuCache<String, String> cache(long maximumWeight) {
+        return new TinyLfuCache<>(maximumWeight, Duration.ofMinutes(1), value -> 1, ticker::get);
+    }
+
+    @Nested
+    @DisplayName("get and put Method Tests")
+    class GetPutTests {
+
+        @Test
+        @DisplayName("should return stored values and count hits and misses")
+        void get_shouldReturnStoredValue() {
+            var cache = cache(10);
+            cache.put("a", "1");
+
+            assertThat(cache.get("a")).isEqualTo("1");
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().misses()).isEqualTo(1);
+            assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("should expire entries after their time to live")
+        void get_shouldExpireEntries() {
+            var cache = cache(10);
+            cache.put("a", "1");
+
+            ticker.addAndGet(Duration.ofSeconds(59).toNanos());
+            assertThat(cache.get("a")).isEqualTo("1");
+
+            ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+            assertThat(cache.get("a")).isNull();
+            assertThat(cache.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should drop invalidated entries")
+        void invalidate_shouldRemoveEntry() {
+            var cache = cache(10);
+            cache.put("a", "1");
+            cache.put("b", "2");
+
+            cache.invalidate("a");
+            assertThat(cache.get("a")).isNull();
+            assertThat(cache.get("b")).isEqualTo("2");
+
+            cache.invalidateAll();
+            assertThat(cache.get("b")).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive capacity or time to live")
+        void constructor_shouldValidateBounds() {
+            assertThatThrownBy(() -> new TinyLfuCache<String, String>(0, Duration.ofMinutes(1), v -> 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Cache maximum weight must be positive");
+            assertThatThrownBy(() -> new TinyLfuCache<String, String>(10, Duration.ZERO, v -> 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Cache time to live must be positive");
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("should never hold more than the maximum weight")
+        void put_shouldStayWithinBounds() {
+            var cache = cache(100);
+            IntStream.range(0, 1_000).forEach(i -> cache.put("key-" + i, "value"));
+
+            assertThat(cache.stats().size()).isEqualTo(100);
+            assertThat(cache.stats().evictions()).isEqualTo(900);
+        }
+
+        @Test
+        @DisplayName("should bound by weight when entries weigh more than one")
+        void put_shouldBoundByWeight() {
+            var cache = new TinyLfuCache<String, String>(10, Duration.ofMinutes(1), String::length, ticker::get);
+            cache.put("a", "xxxx");
+            cache.put("b", "xxxx");
+            cache.put("c", "xxxx");
+            cache.put("huge", "x".repeat(11));
+
+            assertThat(cache.stats().weight()).isLessThanOrEqualTo(10);
+            assertThat(cache.get("huge")).isNull();
+        }
+
+        @Test
+        @DisplayName("should keep frequently read keys through a scan of one-off keys")
+        void put_shouldResistScans() {
+            var cache = cache(100);
+            IntStream.range(0, 50).forEach(i -> cache.put("hot-" + i, "value"));
+            IntStream.range(0, 5).forEach(round ->
+                    IntStream.range(0, 50).forEach(i -> cache.get("hot-" + i)));
+
+            IntStream.range(0, 900).forEach(i -> cache.put("scan-" + i, "value"));
+
+            long survivors = IntStream.range(0, 50).filter(i -> cache.get("hot-" + i) != null).count();
+            assertThat(survivors).isEqualTo(50);
+        }
+    }
+}
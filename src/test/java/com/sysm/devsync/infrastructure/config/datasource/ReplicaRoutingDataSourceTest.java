@@ -0,0 +1,189 @@
+package com.sysm.devsync.infrastructure.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and its replica; each knows its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource router;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replication_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).update("INSERT INTO replication_lag VALUES (0)");
+
+        router = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), Duration.ofSeconds(5),
+                "SELECT seconds FROM replication_lag", Duration.ofHours(1));
+
+        var dataSource = new LazyConnectionDataSourceProxy(router);
+        jdbc = new JdbcTemplate(dataSource);
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        router.close();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Nested
+    @DisplayName("routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("should send read-only transactions to the replica")
+        void readOnly_shouldUseReplica() {
+            assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("should send read-write transactions to the primary")
+        void readWrite_shouldUsePrimary() {
+            assertThat(nodeIn(writeTransaction)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("should send statements outside a transaction to the primary")
+        void noTransaction_shouldUsePrimary() {
+            assertThat(jdbc.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("should fall back to the primary while the replica lags too far")
+        void laggingReplica_shouldBeSkipped() {
+            new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 30");
+            router.checkHealth();
+
+            assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+
+            new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 1");
+            router.checkHealth();
+
+            assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("should fall back to the primary when the replica is down")
+        void unreachableReplica_shouldBeSkipped() {
+            new JdbcTemplate(replica).execute("DROP TABLE replication_lag");
+            router.checkHealth();
+
+            assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("should send a pinned thread's reads to the primary")
+        void pinned_shouldUsePrimary() {
+            ReplicaRoutingDataSource.pinToPrimary();
+            try {
+                assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+            } finally {
+                ReplicaRoutingDataSource.unpin();
+            }
+            assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+        }
+    }
+
+    @Nested
+    @DisplayName("ReadYourWritesFilter Tests")
+    class ReadYourWritesFilterTests {
+
+        private final Instant now = Instant.parse("2026-01-01T12:00:00Z");
+        private final ReadYourWritesFilter filter =
+                new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(now, ZoneOffset.UTC));
+
+        private String readThrough(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+            var node = new AtomicReference<String>();
+            filter.doFilter(request, response, new MockFilterChain() {
+                @Override
+                public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                    node.set(nodeIn(readOnlyTransaction));
+                }
+            });
+            return node.get();
+        }
+
+        @Test
+        @DisplayName("should issue a session token on writes and serve them from the primary")
+        void write_shouldIssueToken() throws Exception {
+            var response = new MockHttpServletResponse();
+
+            var node = readThrough(new MockHttpServletRequest("POST", "/notes"), response);
+
+            assertThat(node).isEqualTo("primary");
+            assertThat(response.getHeader(ReadYourWritesFilter.HEADER)).isEqualTo(Long.toString(now.toEpochMilli()));
+        }
+
+        @Test
+        @DisplayName("should pin a read with a fresh token to the primary")
+        void readWithFreshToken_shouldUsePrimary() throws Exception {
+            var request = new MockHttpServletRequest("GET", "/notes");
+            request.addHeader(ReadYourWritesFilter.HEADER, Long.toString(now.minusSeconds(2).toEpochMilli()));
+
+            assertThat(readThrough(request, new MockHttpServletResponse())).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("should serve reads with an expired, future or missing token from the replica")
+        void readWithoutFreshToken_shouldUseReplica() throws Exception {
+            var expired = new MockHttpServletRequest("GET", "/notes");
+            expired.addHeader(ReadYourWritesFilter.HEADER, Long.toString(now.minusSeconds(10).toEpochMilli()));
+            var future = new MockHttpServletRequest("GET", "/notes");
+            future.addHeader(ReadYourWritesFilter.HEADER, Long.toString(now.plusSeconds(60).toEpochMilli()));
+
+            assertThat(readThrough(expired, new MockHttpServletResponse())).isEqualTo("replica");
+            assertThat(readThrough(future, new MockHttpServletResponse())).isEqualTo("replica");
+            assertThat(readThrough(new MockHttpServletRequest("GET", "/notes"), new MockHttpServletResponse())).isEqualTo("replica");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.*;
+import com.sysm.devsync.domain.models.counts.ProjectCounts;
+import com.sysm.devsync.domain.models.counts.QuestionCounts;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.persistence.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every adapter call commits on its own, and the rebuild recounts in transactions of its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WorkspacePersistence.class, ProjectPersistence.class, QuestionPersistence.class,
+        NotePersistence.class, AnswerPersistence.class, CommentPersistence.class})
+class AggregateCounterRebuildTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private WorkspacePersistence workspacePersistence;
+
+    @Autowired
+    private ProjectPersistence projectPersistence;
+
+    @Autowired
+    private QuestionPersistence questionPersistence;
+
+    @Autowired
+    private NotePersistence notePersistence;
+
+    @Autowired
+    private AnswerPersistence answerPersistence;
+
+    @Autowired
+    private CommentPersistence commentPersistence;
+
+    private AggregateCounterRebuild rebuild;
+
+    private UserJpaEntity author;
+    private Workspace workspace;
+    private Project project;
+    private Question openQuestion;
+    private Question resolvedQuestion;
+    private Answer acceptedAnswer;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        rebuild = new AggregateCounterRebuild(workspaceJpaRepository, projectJpaRepository, questionJpaRepository,
+                transactionTemplate, 3, null);
+
+        author = userJpaRepository.save(UserJpaEntity.fromModel(User.create("Author", "author.aggregates@example.com", UserRole.MEMBER)));
+        workspace = Workspace.create("Workspace", "Description", false, author.getId());
+        workspacePersistence.create(workspace);
+        project = Project.create("Project", "Description", workspace.getId());
+        projectPersistence.create(project);
+
+        openQuestion = Question.create("Open question", "Description", project.getId(), author.getId());
+        resolvedQuestion = Question.create("Resolved question", "Description", project.getId(), author.getId());
+        questionPersistence.createAll(List.of(openQuestion, resolvedQuestion));
+        questionPersistence.updateStatus(resolvedQuestion.getId(), QuestionStatus.RESOLVED, Instant.now());
+        notePersistence.create(Note.create("Note", "Content", project.getId(), author.getId()));
+
+        acceptedAnswer = Answer.create("Accepted answer", openQuestion.getId(), author.getId());
+        var otherAnswer = Answer.create("Other answer", openQuestion.getId(), author.getId());
+        answerPersistence.createAll(List.of(acceptedAnswer, otherAnswer));
+        answerPersistence.accept(acceptedAnswer.getId(), Instant.now());
+
+        commentPersistence.create(Comment.create(TargetType.QUESTION, openQuestion.getId(), author.getId(), "On the question"));
+        commentPersistence.create(Comment.create(TargetType.ANSWER, acceptedAnswer.getId(), author.getId(), "On an answer"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        rebuild.close();
+        clearRepositories();
+    }
+
+    private ProjectCounts projectCounts() {
+        return projectPersistence.findById(project.getId()).orElseThrow().getCounts();
+    }
+
+    private QuestionCounts questionCounts() {
+        return questionPersistence.findById(openQuestion.getId()).orElseThrow().getCounts();
+    }
+
+    private long projectCount() {
+        return workspacePersistence.findById(workspace.getId()).orElseThrow().getProjectCount();
+    }
+
+    @Test
+    @DisplayName("adapters should keep the counters in step with their writes")
+    void writes_shouldMaintainCounters() {
+        assertThat(projectCount()).isEqualTo(1);
+        assertThat(projectCounts()).isEqualTo(new ProjectCounts(2, 1, 1));
+        assertThat(questionCounts()).isEqualTo(new QuestionCounts(2, 1, acceptedAnswer.getId()));
+
+        answerPersistence.deleteById(acceptedAnswer.getId());
+        questionPersistence.updateStatus(openQuestion.getId(), QuestionStatus.CLOSED, Instant.now());
+        questionPersistence.deleteById(resolvedQuestion.getId());
+
+        assertThat(questionCounts()).isEqualTo(new QuestionCounts(1, 1, null));
+        assertThat(projectCounts()).isEqualTo(new ProjectCounts(1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("rebuildAll should recompute every counter from the counted tables")
+    void rebuildAll_shouldRecountFromTables() {
+        var jdbc = new JdbcTemplate(dataSource);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbc.update("UPDATE workspaces SET member_count = 7, project_count = 7");
+            jdbc.update("UPDATE projects SET question_count = 7, open_question_count = 7, note_count = 7");
+            jdbc.update("UPDATE questions SET answer_count = 7, comment_count = 7, accepted_answer_id = NULL");
+        });
+
+        rebuild.rebuildAll();
+
+        assertThat(workspacePersistence.findById(workspace.getId()).orElseThrow().getMemberCount()).isZero();
+        assertThat(projectCount()).isEqualTo(1);
+        assertThat(projectCounts()).isEqualTo(new ProjectCounts(2, 1, 1));
+        assertThat(questionCounts()).isEqualTo(new QuestionCounts(2, 1, acceptedAnswer.getId()));
+    }
+
+    @Test
+    @DisplayName("rebuildOnStart should backfill counter columns that were just added")
+    void rebuildOnStart_shouldRecountInTheBackground() throws InterruptedException {
+        var jdbc = new JdbcTemplate(dataSource);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbc.update("UPDATE projects SET question_count = 0, open_question_count = 0, note_count = 0");
+            jdbc.update("UPDATE questions SET answer_count = 0, comment_count = 0, accepted_answer_id = NULL");
+        });
+
+        rebuild.close();
+        rebuild = new AggregateCounterRebuild(workspaceJpaRepository, projectJpaRepository, questionJpaRepository,
+                transactionTemplate, 3, null, true);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((!questionCounts().equals(new QuestionCounts(2, 1, acceptedAnswer.getId()))
+                || !projectCounts().equals(new ProjectCounts(2, 1, 1)))
+               && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(questionCounts()).isEqualTo(new QuestionCounts(2, 1, acceptedAnswer.getId()));
+        assertThat(projectCounts()).isEqualTo(new ProjectCounts(2, 1, 1));
+    }
+}
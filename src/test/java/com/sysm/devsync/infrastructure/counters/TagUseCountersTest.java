@@ -0,0 +1,182 @@
+package com.sysm.devsync.infrastructure.counters;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.*;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Counters record changes after commit and flush in transactions of their own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TagUseCountersTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private final List<TagUseCounters> opened = new ArrayList<>();
+
+    private TagJpaEntity tag;
+    private ProjectJpaEntity project;
+    private UserJpaEntity author;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        author = userJpaRepository.save(UserJpaEntity.fromModel(User.create("Author", "author.counters@example.com", UserRole.MEMBER)));
+        var workspace = workspaceJpaRepository.save(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, author.getId())));
+        project = projectJpaRepository.save(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId())));
+        tag = tagJpaRepository.save(TagJpaEntity.fromModel(Tag.create("Java", "#fff")));
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (var counters : opened) {
+            counters.close();
+        }
+        clearRepositories();
+    }
+
+    private TagUseCounters counters(Path journal) {
+        return counters(new JdbcTemplate(dataSource), journal);
+    }
+
+    private TagUseCounters counters(JdbcOperations jdbc, Path journal) {
+        var counters = new TagUseCounters(jdbc, tagJpaRepository, transactionTemplate, journal, null, null);
+        opened.add(counters);
+        return counters;
+    }
+
+    private int amountUsed() {
+        return tagJpaRepository.findById(tag.getId()).orElseThrow().getAmountUsed();
+    }
+
+    private void tagQuestionAndNote() {
+        var question = Question.create("Question", "Description", project.getId(), author.getId());
+        question.addTag(tag.getId());
+        questionJpaRepository.save(QuestionJpaEntity.fromModel(question));
+        var note = Note.create("Note", "Content", project.getId(), author.getId());
+        note.addTag(tag.getId());
+        noteJpaRepository.save(NoteJpaEntity.fromModel(note));
+    }
+
+    @Test
+    @DisplayName("flush should write the summed changes and clear them")
+    void flush_shouldWriteSummedDeltas() {
+        var counters = counters(null);
+        counters.add(tag.getId(), 1);
+        counters.add(tag.getId(), 1);
+        counters.add(tag.getId(), 1);
+        counters.add(tag.getId(), -1);
+
+        assertThat(counters.pending(tag.getId())).isEqualTo(2);
+        assertThat(amountUsed()).isZero();
+
+        counters.flush();
+
+        assertThat(amountUsed()).isEqualTo(2);
+        assertThat(counters.pending(tag.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("add should only record a change made inside a transaction once it commits")
+    void add_shouldWaitForCommit() {
+        var counters = counters(null);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.add(tag.getId(), 1);
+            assertThat(counters.pending(tag.getId())).isZero();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.add(tag.getId(), 1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(counters.pending(tag.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("recountAll should set counts from the join tables and drop buffered changes")
+    void recountAll_shouldRecountFromJoinTables() {
+        var counters = counters(null);
+        tagQuestionAndNote();
+        counters.add(tag.getId(), 5);
+
+        counters.recountAll();
+
+        assertThat(amountUsed()).isEqualTo(2);
+        assertThat(counters.pending(tag.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("a new instance should recount the tags a crashed one left in the journal")
+    void constructor_shouldRecoverJournaledTags() throws Exception {
+        var journal = directory.resolve("tag-uses.journal");
+        tagQuestionAndNote();
+        var crashed = counters(journal);
+        crashed.add(tag.getId(), 2);
+
+        assertThat(Files.readAllLines(journal)).containsExactly(tag.getId());
+
+        counters(journal);
+
+        assertThat(amountUsed()).isEqualTo(2);
+        assertThat(Files.readAllLines(journal)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("flush should rewrite the journal with the tags that still have changes")
+    void flush_shouldTrimJournal() throws Exception {
+        var journal = directory.resolve("tag-uses.journal");
+        var counters = counters(journal);
+        counters.add(tag.getId(), 1);
+
+        counters.flush();
+
+        assertThat(Files.readAllLines(journal)).isEmpty();
+        assertThat(amountUsed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush should keep the changes when the write fails")
+    void flush_shouldKeepDeltasOnFailure() {
+        var jdbc = mock(JdbcOperations.class);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("Database down"));
+        var counters = counters(jdbc, null);
+        counters.add(tag.getId(), 3);
+
+        assertThatThrownBy(counters::flush).isInstanceOf(IllegalStateException.class);
+
+        assertThat(counters.pending(tag.getId())).isEqualTo(3);
+    }
+}
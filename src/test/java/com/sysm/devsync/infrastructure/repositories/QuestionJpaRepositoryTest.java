@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -106,7 +107,7 @@ public class QuestionJpaRepositoryTest extends AbstractRepositoryTest {
         question1.setStatus(QuestionStatus.OPEN);
         question1.setAuthor(authorUser); // Set managed author
         question1.setProject(project1);  // Set managed project
-        question1.setTags(Set.of(tag1, tag2)); // Set managed tags
+        question1.setTags(new HashSet<>(Set.of(tag1, tag2))); // Mutable: save persists this instance itself
         question1.setCreatedAt(Instant.now());
         question1.setUpdatedAt(Instant.now()); // Set updatedAt, if needed
 
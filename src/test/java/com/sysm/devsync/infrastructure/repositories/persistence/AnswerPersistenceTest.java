@@ -290,6 +290,90 @@ public class AnswerPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("isAuthor and isQuestionAuthor Method Tests")
+    class AuthorshipTests {
+
+        @Test
+        @DisplayName("should tell whether the user wrote the answer")
+        void isAuthor_shouldCompareAuthorColumn() {
+            create(answer1Domain);
+
+            assertThat(answerPersistence.isAuthor(answer1Domain.getId(), authorUserJpa.getId())).isTrue();
+            assertThat(answerPersistence.isAuthor(answer1Domain.getId(), "another-user")).isFalse();
+            assertThat(answerPersistence.isAuthor("missing-answer", authorUserJpa.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should tell whether the user wrote the answered question")
+        void isQuestionAuthor_shouldJoinToQuestion() {
+            User asker = User.create("Asker", "asker.answer@example.com", UserRole.MEMBER);
+            UserJpaEntity askerJpa = UserJpaEntity.fromModel(asker);
+            entityPersist(askerJpa);
+            Question askedQuestion = Question.create("Asked", "Description", question1Jpa.getProject().getId(), askerJpa.getId());
+            entityPersist(QuestionJpaEntity.fromModel(askedQuestion));
+            Answer answer = Answer.create("An answer to the asker", askedQuestion.getId(), authorUserJpa.getId());
+            create(answer);
+
+            assertThat(answerPersistence.isQuestionAuthor(answer.getId(), askerJpa.getId())).isTrue();
+            assertThat(answerPersistence.isQuestionAuthor(answer.getId(), authorUserJpa.getId())).isFalse();
+            assertThat(answerPersistence.isQuestionAuthor("missing-answer", askerJpa.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a blank answer ID")
+        void isAuthor_shouldRejectBlankId() {
+            assertThatThrownBy(() -> answerPersistence.isAuthor(" ", authorUserJpa.getId()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Answer ID cannot be null or blank");
+        }
+    }
+
+    @Nested
+    @DisplayName("accept and reject Method Tests")
+    class AcceptRejectTests {
+
+        @Test
+        @DisplayName("accept should un-accept the other answers of the same question only")
+        void accept_shouldMoveAcceptanceWithinQuestion() {
+            create(answer1Domain);
+            create(answer2Domain);
+            answer3Domain.accept();
+            create(answer3Domain);
+
+            assertThat(answerPersistence.accept(answer1Domain.getId(), Instant.now())).isTrue();
+            flushAndClear();
+            assertThat(answerPersistence.accept(answer2Domain.getId(), Instant.now())).isTrue();
+            flushAndClear();
+
+            assertThat(answerPersistence.findById(answer1Domain.getId())).get().extracting(Answer::isAccepted).isEqualTo(false);
+            assertThat(answerPersistence.findById(answer2Domain.getId())).get().extracting(Answer::isAccepted).isEqualTo(true);
+            assertThat(answerPersistence.findById(answer3Domain.getId())).get().extracting(Answer::isAccepted).isEqualTo(true);
+        }
+
+        @Test
+        @DisplayName("reject should un-accept the answer and stamp it")
+        void reject_shouldClearAcceptance() {
+            answer1Domain.accept();
+            create(answer1Domain);
+            Instant rejectedAt = Instant.now().plus(1, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+
+            assertThat(answerPersistence.reject(answer1Domain.getId(), rejectedAt)).isTrue();
+            flushAndClear();
+
+            Answer found = answerPersistence.findById(answer1Domain.getId()).orElseThrow();
+            assertThat(found.isAccepted()).isFalse();
+            assertThat(found.getUpdatedAt()).isEqualTo(rejectedAt);
+        }
+
+        @Test
+        @DisplayName("should return false when no answer has the ID")
+        void acceptAndReject_missingAnswer_shouldReturnFalse() {
+            assertThat(answerPersistence.accept("missing-answer", Instant.now())).isFalse();
+            assertThat(answerPersistence.reject("missing-answer", Instant.now())).isFalse();
+        }
+    }
+
     private void create(Answer entity) {
         answerPersistence.create(entity);
         flushAndClear();
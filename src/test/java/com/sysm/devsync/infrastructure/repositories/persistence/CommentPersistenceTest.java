@@ -209,6 +209,61 @@ public class CommentPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("bulk delete Method Tests")
+    class BulkDeleteTests {
+
+        private AnswerJpaEntity answerJpa;
+        private Comment commentOnAnswer;
+
+        @BeforeEach
+        void setUpBulkDelete() {
+            answerJpa = new AnswerJpaEntity(UUID.randomUUID().toString());
+            answerJpa.setContent("Answer to be commented on");
+            answerJpa.setQuestion(questionTargetJpa);
+            answerJpa.setAuthor(authorUserJpa);
+            answerJpa.setCreatedAt(Instant.now());
+            answerJpa.setUpdatedAt(Instant.now());
+            entityPersist(answerJpa);
+            flushAndClear();
+
+            commentOnAnswer = Comment.create(TargetType.ANSWER, answerJpa.getId(), authorUserJpa.getId(),
+                    "This is a comment on the answer.");
+            create(comment1OnQuestion);
+            create(comment2OnQuestion);
+            create(commentOnNote);
+            create(commentOnAnswer);
+        }
+
+        @Test
+        @DisplayName("should delete only the comments of the given target")
+        void deleteAllByTargetTypeAndTargetId_shouldDeleteTargetComments() {
+            commentPersistence.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, questionTargetJpa.getId());
+            flushAndClear();
+
+            assertThat(commentJpaRepository.findAll()).extracting(CommentJpaEntity::getId)
+                    .containsExactlyInAnyOrder(commentOnNote.getId(), commentOnAnswer.getId());
+        }
+
+        @Test
+        @DisplayName("should delete the comments on every answer of the question")
+        void deleteAllOnAnswersOfQuestion_shouldDeleteAnswerComments() {
+            commentPersistence.deleteAllOnAnswersOfQuestion(questionTargetJpa.getId());
+            flushAndClear();
+
+            assertThat(commentJpaRepository.findAll()).extracting(CommentJpaEntity::getId)
+                    .containsExactlyInAnyOrder(comment1OnQuestion.getId(), comment2OnQuestion.getId(), commentOnNote.getId());
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a null question ID")
+        void deleteAllOnAnswersOfQuestion_nullId_shouldThrowException() {
+            assertThatThrownBy(() -> commentPersistence.deleteAllOnAnswersOfQuestion(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Question ID must not be null or empty");
+        }
+    }
+
     @Nested
     @DisplayName("findAll Method Tests (Generic Search)")
     class FindAllTests {
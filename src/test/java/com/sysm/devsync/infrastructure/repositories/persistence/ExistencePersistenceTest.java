@@ -0,0 +1,107 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.EntityType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(ExistencePersistence.class)
+public class ExistencePersistenceTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private ExistencePersistence existencePersistence;
+
+    private UserJpaEntity userJpa;
+    private ProjectJpaEntity projectJpa;
+    private TagJpaEntity tagJpa;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+
+        userJpa = UserJpaEntity.fromModel(User.create("Existence Owner", "existence.owner@example.com", UserRole.ADMIN));
+        entityPersist(userJpa);
+
+        WorkspaceJpaEntity workspaceJpa = WorkspaceJpaEntity.fromModel(
+                Workspace.create("Existence Workspace", "Workspace description", false, userJpa.getId()));
+        entityPersist(workspaceJpa);
+
+        projectJpa = ProjectJpaEntity.fromModel(Project.create("Existence Project", "Project description", workspaceJpa.getId()));
+        entityPersist(projectJpa);
+
+        tagJpa = TagJpaEntity.fromModel(Tag.create("existence", "#FFFFFF"));
+        entityPersist(tagJpa);
+    }
+
+    @Test
+    @DisplayName("verifyExists should return an empty map when every id exists")
+    void verifyExists_shouldReturnEmpty_whenAllExist() {
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.PROJECT, Set.of(projectJpa.getId()),
+                EntityType.USER, Set.of(userJpa.getId()),
+                EntityType.TAG, Set.of(tagJpa.getId())
+        ));
+
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verifyExists should report the missing ids per type")
+    void verifyExists_shouldReportMissingIdsPerType() {
+        var missing = existencePersistence.verifyExists(Map.of(
+                EntityType.PROJECT, Set.of(projectJpa.getId(), "missing-project"),
+                EntityType.USER, Set.of("missing-user"),
+                EntityType.NOTE, Set.of("missing-note"),
+                EntityType.TAG, Set.of(tagJpa.getId())
+        ));
+
+        assertThat(missing).containsOnlyKeys(EntityType.PROJECT, EntityType.USER, EntityType.NOTE);
+        assertThat(missing.get(EntityType.PROJECT)).containsExactly("missing-project");
+        assertThat(missing.get(EntityType.USER)).containsExactly("missing-user");
+        assertThat(missing.get(EntityType.NOTE)).containsExactly("missing-note");
+    }
+
+    @Test
+    @DisplayName("verifyExists should split more ids than one IN list holds into several branches")
+    void verifyExists_shouldChunkLargeIdSets() {
+        Set<String> ids = IntStream.range(0, AbstractPersistence.MAX_IN_LIST_SIZE + 5)
+                .mapToObj(i -> "missing-tag-" + i)
+                .collect(Collectors.toCollection(HashSet::new));
+        ids.add(tagJpa.getId());
+
+        var missing = existencePersistence.verifyExists(Map.of(EntityType.TAG, ids));
+
+        assertThat(missing.get(EntityType.TAG))
+                .hasSize(AbstractPersistence.MAX_IN_LIST_SIZE + 5)
+                .doesNotContain(tagJpa.getId());
+    }
+
+    @Test
+    @DisplayName("verifyExists should throw IllegalArgumentException for a blank id")
+    void verifyExists_shouldRejectBlankId() {
+        assertThatThrownBy(() -> existencePersistence.verifyExists(Map.of(EntityType.USER, Set.of(" "))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("User ID cannot be null or blank");
+    }
+}
@@ -12,6 +12,7 @@ import com.sysm.devsync.domain.models.Tag;
 import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import com.sysm.devsync.infrastructure.repositories.entities.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -133,6 +136,130 @@ public class NotePersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("createAll and updateAll Method Tests")
+    class BulkWriteTests {
+        @Test
+        @DisplayName("should create every note with its tags")
+        void createAll_shouldSaveAllNotes() {
+            notePersistence.createAll(List.of(note1Domain, note2Domain, note3Domain));
+            flushAndClear();
+
+            assertThat(notePersistence.findExistingIds(List.of(note1Domain.getId(), note2Domain.getId(), note3Domain.getId())))
+                    .hasSize(3);
+            NoteJpaEntity foundInDb = entityManager.find(NoteJpaEntity.class, note2Domain.getId());
+            assertThat(foundInDb.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()))
+                    .containsExactlyInAnyOrderElementsOf(note2Domain.getTagsId());
+        }
+
+        @Test
+        @DisplayName("should update every note")
+        void updateAll_shouldModifyAllNotes() {
+            notePersistence.createAll(List.of(note1Domain, note2Domain));
+            flushAndClear();
+
+            note1Domain.update("First Note Renamed", note1Domain.getContent());
+            note2Domain.updateContent("Rewritten content");
+            notePersistence.updateAll(List.of(note1Domain, note2Domain));
+            flushAndClear();
+
+            assertThat(entityManager.find(NoteJpaEntity.class, note1Domain.getId()).getTitle()).isEqualTo("First Note Renamed");
+            assertThat(entityManager.find(NoteJpaEntity.class, note2Domain.getId()).getContent()).isEqualTo("Rewritten content");
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for null models")
+        void createAll_shouldRejectNull() {
+            assertThatThrownBy(() -> notePersistence.createAll(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Note models must not be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("findExistingIds Method Tests")
+    class FindExistingIdsTests {
+        @Test
+        @DisplayName("should return only the ids that exist")
+        void findExistingIds_shouldReturnExistingSubset() {
+            create(note1Domain);
+
+            assertThat(notePersistence.findExistingIds(List.of(note1Domain.getId(), note2Domain.getId(), note1Domain.getId())))
+                    .containsExactly(note1Domain.getId());
+            assertThat(notePersistence.findExistingIds(List.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByIds Method Tests")
+    class FindAllByIdsTests {
+        @Test
+        @DisplayName("should return the found notes with their tags, in request order")
+        void findAllByIds_shouldKeepRequestOrderAndLoadTags() {
+            create(note1Domain);
+            create(note2Domain);
+
+            List<Note> notes = notePersistence.findAllByIds(List.of(note2Domain.getId(), "missing-note", note1Domain.getId()));
+
+            assertThat(notes).extracting(Note::getId).containsExactly(note2Domain.getId(), note1Domain.getId());
+            assertThat(notes.get(1).getTagsId()).containsExactlyInAnyOrderElementsOf(note1Domain.getTagsId());
+        }
+    }
+
+    @Nested
+    @DisplayName("isAuthor Method Tests")
+    class IsAuthorTests {
+        @Test
+        @DisplayName("should tell whether the user wrote the note")
+        void isAuthor_shouldCompareAuthorColumn() {
+            create(note1Domain);
+
+            assertThat(notePersistence.isAuthor(note1Domain.getId(), authorUserJpa.getId())).isTrue();
+            assertThat(notePersistence.isAuthor(note1Domain.getId(), "another-user")).isFalse();
+            assertThat(notePersistence.isAuthor(note2Domain.getId(), authorUserJpa.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a missing user ID")
+        void isAuthor_shouldRejectMissingUserId() {
+            assertThatThrownBy(() -> notePersistence.isAuthor(note1Domain.getId(), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("User ID must not be null or empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("streamAllProjected Method Tests")
+    class StreamAllProjectedTests {
+        @Test
+        @DisplayName("should hand every matching note with its tags to the consumer in sort order")
+        void streamAllProjected_shouldStreamMatchingNotes() {
+            create(note1Domain);
+            create(note2Domain);
+            create(note3Domain);
+            flushAndClear();
+
+            List<NoteResponse> streamed = new ArrayList<>();
+            var query = SearchQuery.of(Page.of(0, 1, "title", "asc"), Map.of("projectId", project1Jpa.getId()));
+            notePersistence.streamAllProjected(query, streamed::add);
+
+            assertThat(streamed).extracting(NoteResponse::title)
+                    .containsExactly("First Note Title", "Second Note Title");
+            assertThat(streamed.get(0).tagsId()).containsExactlyInAnyOrder(tagJavaJpa.getId(), tagSpringJpa.getId());
+            assertThat(streamed.get(1).projectId()).isEqualTo(project1Jpa.getId());
+        }
+
+        @Test
+        @DisplayName("should throw BusinessException for an unknown filter")
+        void streamAllProjected_shouldRejectInvalidFilter() {
+            var query = SearchQuery.of(Page.of(0, 1), Map.of("unknown", "x"));
+
+            assertThatThrownBy(() -> notePersistence.streamAllProjected(query, note -> { }))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessage("Invalid search field provided: 'unknown'");
+        }
+    }
+
     @Nested
     @DisplayName("update Method Tests")
     class UpdateTests {
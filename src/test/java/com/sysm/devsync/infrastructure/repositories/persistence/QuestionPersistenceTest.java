@@ -4,6 +4,7 @@ import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountMode;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.enums.UserRole;
@@ -13,13 +14,19 @@ import com.sysm.devsync.domain.models.Tag;
 import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.cache.ExistenceFilters;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
 
 import java.time.Instant;
 import java.util.*;
@@ -28,6 +35,9 @@ import java.util.stream.Collectors;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @Import(QuestionPersistence.class)
 public class QuestionPersistenceTest extends AbstractRepositoryTest {
@@ -117,6 +127,18 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
             assertThat(foundInDb.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()))
                     .hasSameElementsAs(question1Domain.getTagsId());
         }
+
+        @Test
+        @DisplayName("should insert a new question without selecting it or the rows it refers to")
+        void create_shouldOnlyInsert() {
+            Statistics statistics = statistics();
+
+            create(question1Domain);
+
+            // One insert into questions, one batch into question_tags and one update of the project's counters
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
     }
 
     @Nested
@@ -147,6 +169,87 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
             assertThat(foundQuestion.getProjectId()).isEqualTo(project2Jpa.getId());
             assertThat(foundQuestion.getStatus()).isEqualTo(QuestionStatus.CLOSED);
         }
+
+        @Test
+        @DisplayName("should write no tag link when the tags did not change")
+        void update_sameTags_shouldNotWriteTagLinks() {
+            create(question1Domain);
+            Statistics statistics = statistics();
+
+            update(renamed(question1Domain, question1Domain.getTagsId()));
+
+            // The question, its tag ids, and the update of its row
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(questionPersistence.findById(question1Domain.getId()).orElseThrow().getTagsId())
+                    .containsExactlyInAnyOrder(tagJava.getId(), tagSpring.getId());
+        }
+
+        @Test
+        @DisplayName("should insert and delete only the tag links that changed")
+        void update_changedTags_shouldWriteOnlyDelta() {
+            create(question1Domain);
+            Statistics statistics = statistics();
+
+            update(renamed(question1Domain, Set.of(tagJava.getId(), tagJpa.getId())));
+
+            // Plus one delete for spring and one insert for jpa
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(questionPersistence.findById(question1Domain.getId()).orElseThrow().getTagsId())
+                    .containsExactlyInAnyOrder(tagJava.getId(), tagJpa.getId());
+        }
+
+        private Question renamed(Question question, Set<String> tagIds) {
+            return Question.build(question.getId(), question.getCreatedAt(), Instant.now(), "Renamed",
+                    question.getDescription(), tagIds, question.getProjectId(), question.getAuthorId(),
+                    question.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateStatus Method Tests")
+    class UpdateStatusTests {
+
+        @Test
+        @DisplayName("should change the status and the project's open count in two statements")
+        void updateStatus_shouldWriteTwoStatements() {
+            create(question1Domain);
+            Statistics statistics = statistics();
+
+            boolean updated = questionPersistence.updateStatus(question1Domain.getId(), QuestionStatus.RESOLVED, Instant.now());
+            flushAndClear();
+
+            assertThat(updated).isTrue();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            Question found = questionPersistence.findById(question1Domain.getId()).orElseThrow();
+            assertThat(found.getStatus()).isEqualTo(QuestionStatus.RESOLVED);
+            assertThat(found.getTitle()).isEqualTo(question1Domain.getTitle());
+            assertThat(found.getTagsId()).containsExactlyInAnyOrder(tagJava.getId(), tagSpring.getId());
+        }
+
+        @Test
+        @DisplayName("should return false when no question has the ID")
+        void updateStatus_missingQuestion_shouldReturnFalse() {
+            assertThat(questionPersistence.updateStatus("missing-question", QuestionStatus.CLOSED, Instant.now())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should give up with a conflict when the status keeps changing under it")
+        @SuppressWarnings("unchecked")
+        void updateStatus_keepsLosingRaces_shouldThrowConflict() {
+            var repository = mock(QuestionJpaRepository.class);
+            var existenceFilters = mock(ExistenceFilters.class);
+            when(existenceFilters.mightExist(QuestionJpaEntity.class, "contended")).thenReturn(true);
+            when(repository.updateStatus(eq("contended"), eq(QuestionStatus.CLOSED), any(Instant.class), any(Set.class)))
+                    .thenReturn(0);
+            when(repository.existsById("contended")).thenReturn(true);
+            var persistence = new QuestionPersistence(repository, projectJpaRepository, existenceFilters);
+
+            assertThatThrownBy(() -> persistence.updateStatus("contended", QuestionStatus.CLOSED, Instant.now()))
+                    .isInstanceOf(ConcurrencyFailureException.class);
+            verify(repository, times(3)).existsById("contended");
+        }
     }
 
     @Nested
@@ -268,6 +371,267 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll Method Tests (Count Modes)")
+    class FindAllCountModeTests {
+        @BeforeEach
+        void setUpFindAllCountMode() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+        }
+
+        @Test
+        @DisplayName("should return a slice without total when count mode is NONE")
+        void findAll_countModeNone_shouldReturnSliceWithoutTotal() {
+            SearchQuery page1 = SearchQuery.of(Page.of(0, 2, "title", "asc", null, CountMode.NONE), Map.of());
+            Pagination<Question> result1 = questionPersistence.findAll(page1);
+
+            assertThat(result1.total()).isEqualTo(Pagination.UNKNOWN_TOTAL);
+            assertThat(result1.hasNext()).isTrue();
+            assertThat(result1.items()).extracting(Question::getTitle)
+                    .containsExactly("Best practices for Spring Boot?", "How to test JPA ManyToMany?");
+
+            SearchQuery page2 = SearchQuery.of(Page.of(1, 2, "title", "asc", null, CountMode.NONE), Map.of());
+            Pagination<Question> result2 = questionPersistence.findAll(page2);
+
+            assertThat(result2.hasNext()).isFalse();
+            assertThat(result2.items()).extracting(Question::getTitle)
+                    .containsExactly("Understanding JPA Fetch Types");
+        }
+
+        @Test
+        @DisplayName("should reuse the cached total when count mode is ESTIMATED")
+        void findAll_countModeEstimated_shouldReuseCachedTotal() {
+            SearchQuery query = SearchQuery.of(Page.of(0, 1, "title", "asc", null, CountMode.ESTIMATED), Map.of());
+            Pagination<Question> first = questionPersistence.findAll(query);
+
+            assertThat(first.total()).isEqualTo(3);
+            assertThat(first.hasNext()).isTrue();
+
+            Question extra = Question.create("Another question", "Desc 4", project1Jpa.getId(), authorUserJpa.getId());
+            create(extra);
+
+            Pagination<Question> second = questionPersistence.findAll(query);
+            assertThat(second.total()).isEqualTo(3);
+
+            SearchQuery exact = SearchQuery.of(Page.of(0, 1, "title", "asc"), Map.of());
+            assertThat(questionPersistence.findAll(exact).total()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should report the exact total on the last page when count mode is ESTIMATED")
+        void findAll_countModeEstimated_lastPage_shouldReturnSeenRows() {
+            SearchQuery query = SearchQuery.of(Page.of(0, 10, "title", "asc", null, CountMode.ESTIMATED), Map.of("status", "OPEN"));
+            Pagination<Question> result = questionPersistence.findAll(query);
+
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll Method Tests (Keyset Cursor)")
+    class FindAllKeysetTests {
+        @BeforeEach
+        void setUpFindAllKeyset() {
+            create(question1Domain); // Project 1
+            create(question2Domain); // Project 1
+            create(question3Domain); // Project 2
+        }
+
+        @Test
+        @DisplayName("should walk every page following nextCursor without counting")
+        void findAll_withCursor_shouldSeekPageByPage() {
+            SearchQuery firstQuery = SearchQuery.of(Page.after(2, "title", "asc", null), Map.of());
+            Pagination<Question> first = questionPersistence.findAll(firstQuery);
+
+            assertThat(first.total()).isEqualTo(Pagination.UNKNOWN_TOTAL);
+            assertThat(first.items()).extracting(Question::getTitle)
+                    .containsExactly("Best practices for Spring Boot?", "How to test JPA ManyToMany?");
+            assertThat(first.nextCursor()).isNotBlank();
+
+            SearchQuery secondQuery = SearchQuery.of(Page.after(2, "title", "asc", first.nextCursor()), Map.of());
+            Pagination<Question> second = questionPersistence.findAll(secondQuery);
+
+            assertThat(second.items()).extracting(Question::getTitle)
+                    .containsExactly("Understanding JPA Fetch Types");
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should apply search terms together with the cursor")
+        void findAll_withCursorAndTerms_shouldReturnMatching() {
+            SearchQuery query = SearchQuery.of(Page.after(1, "title", "desc", null), Map.of("tagsName", "java"));
+            Pagination<Question> first = questionPersistence.findAll(query);
+
+            assertThat(first.items()).extracting(Question::getId).containsExactly(question3Domain.getId());
+
+            SearchQuery next = SearchQuery.of(Page.after(1, "title", "desc", first.nextCursor()), Map.of("tagsName", "java"));
+            Pagination<Question> second = questionPersistence.findAll(next);
+
+            assertThat(second.items()).extracting(Question::getId).containsExactly(question1Domain.getId());
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should seek within a project when a cursor is given")
+        void findAllByProjectId_withCursor_shouldSeekWithinProject() {
+            Pagination<Question> first = questionPersistence.findAllByProjectId(
+                    Page.after(1, "title", "asc", null), project1Jpa.getId());
+            Pagination<Question> second = questionPersistence.findAllByProjectId(
+                    Page.after(1, "title", "asc", first.nextCursor()), project1Jpa.getId());
+
+            assertThat(first.items()).extracting(Question::getId).containsExactly(question2Domain.getId());
+            assertThat(second.items()).extracting(Question::getId).containsExactly(question1Domain.getId());
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should reject a cursor issued for a different sort")
+        void findAll_withCursorForOtherSort_shouldThrowBusinessException() {
+            Pagination<Question> first = questionPersistence.findAll(
+                    SearchQuery.of(Page.after(1, "title", "asc", null), Map.of()));
+
+            SearchQuery query = SearchQuery.of(Page.after(1, "createdAt", "desc", first.nextCursor()), Map.of());
+
+            assertThatThrownBy(() -> questionPersistence.findAll(query))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("different sort");
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void findAll_withMalformedCursor_shouldThrowBusinessException() {
+            SearchQuery query = SearchQuery.of(Page.after(2, "title", "asc", "not-a-cursor"), Map.of());
+
+            assertThatThrownBy(() -> questionPersistence.findAll(query))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll Method Tests (Fetch Plan)")
+    class FindAllFetchPlanTests {
+        @BeforeEach
+        void setUpFindAllFetchPlan() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+        }
+
+        @Test
+        @DisplayName("should load a page with its tags in a constant number of statements")
+        void findAll_shouldNotIssueOneSelectPerRow() {
+            Statistics statistics = statistics();
+            SearchQuery query = SearchQuery.of(Page.of(0, 10, "title", "asc"), Map.of());
+
+            Pagination<Question> result = questionPersistence.findAll(query);
+
+            // page select and one hydrating select for the tags; the page is not full, so no count
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(result.items()).extracting(Question::getTitle).containsExactly(
+                    "Best practices for Spring Boot?", "How to test JPA ManyToMany?", "Understanding JPA Fetch Types");
+            assertThat(result.items().get(0).getTagsId()).containsExactlyInAnyOrder(tagSpring.getId(), tagJpa.getId());
+        }
+
+        @Test
+        @DisplayName("should hydrate a project page while keeping paging in SQL")
+        void findAllByProjectId_shouldHydrateTagsForThePage() {
+            Statistics statistics = statistics();
+
+            Pagination<Question> result = questionPersistence.findAllByProjectId(Page.of(0, 1, "title", "desc"), project1Jpa.getId());
+
+            // page select, count and one hydrating select for the tags
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.items().get(0).getTagsId()).containsExactlyInAnyOrder(tagJava.getId(), tagSpring.getId());
+        }
+
+        @Test
+        @DisplayName("should select the page as ids and load only its rows")
+        void findAll_shouldLoadOnlyThePageRows() {
+            Statistics statistics = statistics();
+            SearchQuery query = SearchQuery.of(Page.of(0, 2, "title", "asc", null, CountMode.NONE), Map.of());
+
+            Pagination<Question> result = questionPersistence.findAll(query);
+
+            // the probe row past the page is read as an id only, and each page row is loaded once
+            assertThat(statistics.getEntityStatistics(QuestionJpaEntity.class.getName()).getLoadCount()).isEqualTo(2);
+            assertThat(result.items()).extracting(Question::getTitle)
+                    .containsExactly("Best practices for Spring Boot?", "How to test JPA ManyToMany?");
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should read a projected page with its tags in a constant number of statements")
+        void findAllProjected_shouldNotLoadEntities() {
+            Statistics statistics = statistics();
+            SearchQuery query = SearchQuery.of(Page.of(0, 10, "title", "asc"), Map.of());
+
+            Pagination<QuestionResponse> result = questionPersistence.findAllProjected(query);
+
+            // column select and one select for the tag ids; the page is not full, so no count
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(result.items()).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllProjected Method Tests")
+    class FindAllProjectedTests {
+        @BeforeEach
+        void setUpFindAllProjected() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+        }
+
+        @Test
+        @DisplayName("should return the same rows as findAll, mapped to responses")
+        void findAllProjected_shouldMatchFindAll() {
+            SearchQuery query = SearchQuery.of(Page.of(0, 10, "title", "asc"), Map.of("status", "OPEN"));
+
+            Pagination<QuestionResponse> result = questionPersistence.findAllProjected(query);
+
+            assertThat(result.total()).isEqualTo(2);
+            assertThat(result.items()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(questionPersistence.findAll(query).map(QuestionResponse::from).items());
+            QuestionResponse first = result.items().get(0);
+            assertThat(first.title()).isEqualTo("Best practices for Spring Boot?");
+            assertThat(first.authorId()).isEqualTo(authorUserJpa.getId());
+            assertThat(first.projectId()).isEqualTo(project1Jpa.getId());
+            assertThat(first.tagsId()).containsExactlyInAnyOrder(tagSpring.getId(), tagJpa.getId());
+        }
+
+        @Test
+        @DisplayName("should return a slice without total when count mode is NONE")
+        void findAllProjected_countModeNone_shouldReturnSlice() {
+            SearchQuery query = SearchQuery.of(Page.of(0, 2, "title", "asc", null, CountMode.NONE), Map.of());
+
+            Pagination<QuestionResponse> result = questionPersistence.findAllProjected(query);
+
+            assertThat(result.total()).isEqualTo(Pagination.UNKNOWN_TOTAL);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.items()).extracting(QuestionResponse::title)
+                    .containsExactly("Best practices for Spring Boot?", "How to test JPA ManyToMany?");
+        }
+
+        @Test
+        @DisplayName("should fall back to the entity read for cursor requests")
+        void findAllProjected_withCursor_shouldSeek() {
+            SearchQuery query = SearchQuery.of(Page.after(2, "id", "asc", Page.FIRST_CURSOR), Map.of());
+
+            Pagination<QuestionResponse> result = questionPersistence.findAllProjected(query);
+
+            assertThat(result.items()).hasSize(2);
+            assertThat(result.nextCursor()).isNotNull();
+        }
+    }
+
     // Helper methods
     private void create(Question entity) {
         questionPersistence.create(entity);
@@ -283,4 +647,13 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
         questionPersistence.deleteById(id);
         flushAndClear();
     }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -15,10 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -176,6 +179,50 @@ public class TagPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAllByIds Method Tests")
+    class FindAllByIdsTests {
+        @Test
+        @DisplayName("should return the found tags once each, in request order")
+        void findAllByIds_shouldKeepRequestOrder() {
+            // Arrange
+            entityPersist(tag1Jpa);
+            entityPersist(tag2Jpa);
+            entityPersist(tag3Jpa);
+            flushAndClear();
+
+            // Act
+            var missing = UUID.randomUUID().toString();
+            List<Tag> tags = tagPersistence.findAllByIds(List.of(tag3Jpa.getId(), missing, tag1Jpa.getId(), tag3Jpa.getId()));
+
+            // Assert
+            assertThat(tags).extracting(Tag::getId).containsExactly(tag3Jpa.getId(), tag1Jpa.getId());
+            assertThat(tagPersistence.findAllByIds(List.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should read more ids than fit in one IN list")
+        void findAllByIds_shouldSplitLongIdLists() {
+            // Arrange
+            entityPersist(tag1Jpa);
+            entityPersist(tag2Jpa);
+            flushAndClear();
+
+            List<String> ids = new ArrayList<>();
+            ids.add(tag2Jpa.getId());
+            for (int i = 0; i < 1_500; i++) {
+                ids.add(UUID.randomUUID().toString());
+            }
+            ids.add(tag1Jpa.getId());
+
+            // Act
+            List<Tag> tags = tagPersistence.findAllByIds(ids);
+
+            // Assert
+            assertThat(tags).extracting(Tag::getId).containsExactly(tag2Jpa.getId(), tag1Jpa.getId());
+        }
+    }
+
     @Nested
     @DisplayName("findAll Method Tests")
     class FindAllTests {
@@ -300,6 +347,71 @@ public class TagPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll Method Tests (Keyset Cursor)")
+    class FindAllKeysetTests {
+        private Tag undescribed1;
+        private Tag undescribed2;
+
+        @BeforeEach
+        void setUpFindAllKeyset() {
+            undescribed1 = Tag.build(UUID.randomUUID().toString(), "Kotlin", "Purple", null, "Programming", 0);
+            undescribed2 = Tag.build(UUID.randomUUID().toString(), "Gradle", "Gray", null, "Build", 0);
+            create(tag1Domain);
+            create(undescribed1);
+            create(undescribed2);
+        }
+
+        @Test
+        @DisplayName("should page past rows whose sort field is null, nulls last when ascending")
+        void findAll_withCursorOnNullableField_ascending_shouldPutNullsLast() {
+            List<String> nullIds = Stream.of(undescribed1.getId(), undescribed2.getId()).sorted().toList();
+
+            assertThat(walk("description", "asc")).containsExactly(tag1Domain.getId(), nullIds.get(0), nullIds.get(1));
+        }
+
+        @Test
+        @DisplayName("should page past rows whose sort field is null, nulls first when descending")
+        void findAll_withCursorOnNullableField_descending_shouldPutNullsFirst() {
+            List<String> nullIds = Stream.of(undescribed1.getId(), undescribed2.getId()).sorted().toList();
+
+            assertThat(walk("description", "desc")).containsExactly(nullIds.get(0), nullIds.get(1), tag1Domain.getId());
+        }
+
+        @Test
+        @DisplayName("should reject a cursor whose keys are not the sort field and id")
+        void findAll_withCursorMissingId_shouldThrowBusinessException() {
+            String cursor = KeysetCursor.encode("name", "asc", Map.of("name", "Java"));
+            SearchQuery query = SearchQuery.of(Page.after(1, "name", "asc", cursor), Map.of());
+
+            assertThatThrownBy(() -> tagPersistence.findAll(query))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+
+        @Test
+        @DisplayName("should reject a cursor whose sort value does not match the field type")
+        void findAll_withCursorOfWrongType_shouldThrowBusinessException() {
+            String cursor = KeysetCursor.encode("name", "asc", Map.of("name", Instant.now(), "id", tag1Domain.getId()));
+            SearchQuery query = SearchQuery.of(Page.after(1, "name", "asc", cursor), Map.of());
+
+            assertThatThrownBy(() -> tagPersistence.findAll(query))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid cursor");
+        }
+
+        private List<String> walk(String sort, String direction) {
+            List<String> ids = new ArrayList<>();
+            String cursor = Page.FIRST_CURSOR;
+            while (cursor != null) {
+                Pagination<Tag> page = tagPersistence.findAll(SearchQuery.of(Page.after(1, sort, direction, cursor), Map.of()));
+                page.items().forEach(tag -> ids.add(tag.getId()));
+                cursor = page.nextCursor();
+            }
+            return ids;
+        }
+    }
+
     private void create(Tag entity) {
         tagPersistence.create(entity);
         flushAndClear();
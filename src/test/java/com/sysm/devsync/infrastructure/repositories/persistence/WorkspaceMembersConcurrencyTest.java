@@ -0,0 +1,120 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without the test transaction, so membership inserts really commit while others are in
+ * flight. The embedded test database hands out auto-commit connections, so Hibernate is told to
+ * switch it off itself.
+ */
+@Import(WorkspacePersistence.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties[hibernate.connection.provider_disables_autocommit]=false")
+class WorkspaceMembersConcurrencyTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private WorkspacePersistence workspacePersistence;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private WorkspaceJpaEntity workspace;
+    private List<String> userIds;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        var owner = userJpaRepository.saveAndFlush(
+                UserJpaEntity.fromModel(User.create("Owner", "owner.race@example.com", UserRole.ADMIN)));
+        workspace = workspaceJpaRepository.saveAndFlush(
+                WorkspaceJpaEntity.fromModel(Workspace.create("Race Workspace", "Description", false, owner.getId())));
+        userIds = IntStream.range(0, 20)
+                .mapToObj(i -> userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(
+                        User.create("Member " + i, "member" + i + ".race@example.com", UserRole.MEMBER))).getId())
+                .toList();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        clearRepositories();
+    }
+
+    @Test
+    @DisplayName("addMembers should skip a link another transaction committed while it was inserting")
+    void addMembers_racingInsertOfSameLink_shouldSucceed() throws Exception {
+        var inserted = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        var first = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    workspaceJpaRepository.addMembers(workspace.getId(), List.of(userIds.get(0)));
+                    workspaceJpaRepository.addMemberCount(workspace.getId(), 1);
+                    inserted.countDown();
+                    await(proceed);
+                }), executor);
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Passes NOT EXISTS against the uncommitted link, then waits on its key until the first commits
+        var second = CompletableFuture.runAsync(
+                () -> workspacePersistence.addMembers(workspace.getId(), userIds.subList(0, 2)), executor);
+        Thread.sleep(200);
+        proceed.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        assertThat(workspaceJpaRepository.countMembers(workspace.getId())).isEqualTo(2);
+        assertThat(workspacePersistence.findById(workspace.getId()).orElseThrow().getMemberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("addMembers should add every user once when batches of the same users race")
+    void addMembers_concurrentOverlappingBatches_shouldAddEachOnce() throws Exception {
+        List<CompletableFuture<Void>> adds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            adds.add(CompletableFuture.runAsync(() -> workspacePersistence.addMembers(workspace.getId(), userIds), executor));
+        }
+        CompletableFuture.allOf(adds.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(workspaceJpaRepository.countMembers(workspace.getId())).isEqualTo(userIds.size());
+        assertThat(workspacePersistence.findById(workspace.getId()).orElseThrow().getMemberCount())
+                .isEqualTo(userIds.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 import static com.sysm.devsync.infrastructure.Utils.sleep;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 @Import(WorkspacePersistence.class)
@@ -135,8 +136,97 @@ public class WorkspacePersistenceTest extends AbstractRepositoryTest {
             assertThat(foundWorkspace.getName()).isEqualTo("Workspace Alpha Updated");
             assertThat(foundWorkspace.isPrivate()).isTrue();
             assertThat(foundWorkspace.getOwner().id()).isEqualTo(memberUser1.getId());
-            assertThat(foundWorkspace.getMembersId()).isEqualTo(updatedMembers.stream().map(UserTO::id).collect(Collectors.toSet()));
             assertThat(foundWorkspace.getUpdatedAt()).isAfter(originalCreatedAt);
+
+            // Membership is not part of the update
+            assertThat(foundWorkspace.getMemberCount()).isEqualTo(1);
+            assertThat(workspacePersistence.isMember(workspace1Domain.getId(), memberUser1.getId())).isTrue();
+            assertThat(workspacePersistence.isMember(workspace1Domain.getId(), memberUser2.getId())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Membership Method Tests")
+    class MembershipTests {
+
+        @BeforeEach
+        void setUpMembership() {
+            create(workspace2Domain); // member1, member2
+            create(workspace3Domain); // no members
+        }
+
+        @Test
+        @DisplayName("findById should carry the member count instead of the members")
+        void findById_shouldReturnMemberCount() {
+            Workspace found = workspacePersistence.findById(workspace2Domain.getId()).orElseThrow();
+
+            assertThat(found.getMemberCount()).isEqualTo(2);
+            assertThat(found.getMembers()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("findAll should count the members of every workspace of the page")
+        void findAll_shouldReturnMemberCounts() {
+            Pagination<Workspace> result = workspacePersistence.findAll(SearchQuery.of(Page.of(0, 10, "name", "asc"), Map.of()));
+
+            assertThat(result.items()).extracting(Workspace::getName, Workspace::getMemberCount)
+                    .containsExactly(
+                            tuple("Workspace Beta", 2L),
+                            tuple("Workspace Gamma", 0L)
+                    );
+        }
+
+        @Test
+        @DisplayName("addMember should insert the membership once")
+        void addMember_shouldBeIdempotent() {
+            workspacePersistence.addMember(workspace3Domain.getId(), memberUser2.getId());
+            workspacePersistence.addMember(workspace3Domain.getId(), memberUser2.getId());
+            flushAndClear();
+
+            assertThat(workspacePersistence.isMember(workspace3Domain.getId(), memberUser2.getId())).isTrue();
+            assertThat(workspacePersistence.findById(workspace3Domain.getId()).orElseThrow().getMemberCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("addMembers should insert only the new memberships of existing users")
+        void addMembers_shouldSkipExistingMembersAndUnknownUsers() {
+            workspacePersistence.addMembers(workspace2Domain.getId(),
+                    List.of(memberUser1.getId(), ownerUser.getId(), ownerUser.getId(), "unknown-user"));
+            flushAndClear();
+
+            assertThat(workspacePersistence.isMember(workspace2Domain.getId(), ownerUser.getId())).isTrue();
+            assertThat(workspacePersistence.findById(workspace2Domain.getId()).orElseThrow().getMemberCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("removeMembers should delete only the listed memberships")
+        void removeMembers_shouldDeleteListedMemberships() {
+            workspacePersistence.removeMembers(workspace2Domain.getId(), List.of(memberUser1.getId(), ownerUser.getId()));
+            flushAndClear();
+
+            assertThat(workspacePersistence.isMember(workspace2Domain.getId(), memberUser2.getId())).isTrue();
+            assertThat(workspacePersistence.findById(workspace2Domain.getId()).orElseThrow().getMemberCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("removeMember should delete only that membership")
+        void removeMember_shouldDeleteMembership() {
+            workspacePersistence.removeMember(workspace2Domain.getId(), memberUser1.getId());
+            flushAndClear();
+
+            assertThat(workspacePersistence.isMember(workspace2Domain.getId(), memberUser1.getId())).isFalse();
+            assertThat(workspacePersistence.isMember(workspace2Domain.getId(), memberUser2.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("findMembers should page the members sorted by name")
+        void findMembers_shouldReturnPage() {
+            Pagination<UserTO> first = workspacePersistence.findMembers(workspace2Domain.getId(), Page.of(0, 1, "name", "asc"));
+            Pagination<UserTO> second = workspacePersistence.findMembers(workspace2Domain.getId(), Page.of(1, 1, "name", "asc"));
+
+            assertThat(first.total()).isEqualTo(2);
+            assertThat(first.items()).containsExactly(UserTO.of(memberUser1.getId(), "Member One"));
+            assertThat(second.items()).containsExactly(UserTO.of(memberUser2.getId(), "Member Two"));
         }
     }
 
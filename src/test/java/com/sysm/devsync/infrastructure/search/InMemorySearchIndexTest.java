@@ -0,0 +1,381 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.application.SearchService;
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.CommentPersistencePort;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.search.SearchDocument;
+import com.sysm.devsync.domain.search.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemorySearchIndexTest {
+
+    private InMemorySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemorySearchIndex();
+        index.indexAll(List.of(
+                new SearchDocument(ContentType.NOTE, "n1", "p1", "Indexing strategies",
+                        "Notes about indexing a table with a B-tree index."),
+                new SearchDocument(ContentType.QUESTION, "q1", "p1", "How do I tune Hibernate batching?",
+                        "Our inserts are slow, batching seems disabled."),
+                new SearchDocument(ContentType.ANSWER, "a1", "q1", null,
+                        "Set hibernate.jdbc.batch_size and order inserts to enable batching."),
+                new SearchDocument(ContentType.COMMENT, "c1", "q1", null,
+                        "Did you check the sequence allocation size?")
+        ));
+    }
+
+    @Nested
+    @DisplayName("search Method Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("should match different forms of the same word")
+        void search_shouldMatchStemmedTerms() {
+            Pagination<SearchHit> result = index.search("indexes", Set.of(), Page.of(0, 10));
+
+            assertThat(result.total()).isEqualTo(1);
+            assertThat(result.items().get(0).id()).isEqualTo("n1");
+        }
+
+        @Test
+        @DisplayName("should rank documents with more and rarer matches first")
+        void search_shouldRankByRelevance() {
+            Pagination<SearchHit> result = index.search("hibernate batching", Set.of(), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(SearchHit::id).containsExactly("q1", "a1");
+            assertThat(result.items().get(0).score()).isGreaterThan(result.items().get(1).score());
+        }
+
+        @Test
+        @DisplayName("should restrict results to the requested content types")
+        void search_withTypes_shouldFilterByType() {
+            Pagination<SearchHit> result = index.search("batching", Set.of(ContentType.ANSWER), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(SearchHit::id).containsExactly("a1");
+        }
+
+        @Test
+        @DisplayName("should highlight matched terms in the snippet")
+        void search_shouldHighlightSnippet() {
+            Pagination<SearchHit> result = index.search("sequence", Set.of(), Page.of(0, 10));
+
+            assertThat(result.items().get(0).snippet())
+                    .isEqualTo("Did you check the <em>sequence</em> allocation size?");
+        }
+
+        @Test
+        @DisplayName("should return nothing for stop words only")
+        void search_onlyStopWords_shouldReturnEmpty() {
+            Pagination<SearchHit> result = index.search("the and of", Set.of(), Page.of(0, 10));
+
+            assertThat(result.total()).isZero();
+            assertThat(result.items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should page through ranked results")
+        void search_shouldPage() {
+            Pagination<SearchHit> first = index.search("batching", Set.of(), Page.of(0, 1));
+            Pagination<SearchHit> second = index.search("batching", Set.of(), Page.of(1, 1));
+
+            assertThat(first.total()).isEqualTo(2);
+            assertThat(first.items()).hasSize(1);
+            assertThat(second.items()).hasSize(1);
+            assertThat(second.items().get(0).id()).isNotEqualTo(first.items().get(0).id());
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("should replace the previous version of a document")
+        void index_existingDocument_shouldReplaceIt() {
+            index.index(new SearchDocument(ContentType.NOTE, "n1", "p1", "Caching", "Notes about caffeine caches."));
+
+            assertThat(index.search("indexing", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.search("caffeine", Set.of(), Page.of(0, 10)).items())
+                    .extracting(SearchHit::id).containsExactly("n1");
+            assertThat(index.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("should drop a removed document")
+        void remove_shouldDropDocument() {
+            index.remove(ContentType.COMMENT, "c1");
+
+            assertThat(index.search("sequence", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should drop every child of a parent")
+        void removeByParentId_shouldDropChildren() {
+            index.remove(ContentType.QUESTION, "q1");
+            index.removeByParentId("q1");
+
+            assertThat(index.search("batching sequence", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should also drop the children of removed children")
+        void removeByParentId_shouldDropGrandchildren() {
+            index.index(new SearchDocument(ContentType.COMMENT, "c2", "a1", null, "Ordering inserts fixed it."));
+
+            index.removeByParentId("q1");
+
+            assertThat(index.search("ordering", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should keep results correct after compacting tombstones")
+        void index_manyUpdates_shouldCompact() {
+            List<SearchDocument> documents = new ArrayList<>();
+            IntStream.range(0, 3_000).forEach(i ->
+                    documents.add(new SearchDocument(ContentType.NOTE, "bulk-" + i, "p2", null, "revision " + i)));
+            index.indexAll(documents);
+            IntStream.range(0, 3_000).forEach(i -> index.remove(ContentType.NOTE, "bulk-" + i));
+
+            assertThat(index.size()).isEqualTo(4);
+            assertThat(index.search("revision", Set.of(), Page.of(0, 10)).total()).isZero();
+            assertThat(index.search("batching", Set.of(), Page.of(0, 10)).items())
+                    .extracting(SearchHit::id).containsExactlyInAnyOrder("q1", "a1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        private static final Pagination<Object> EMPTY_PAGE = new Pagination<>(0, 500, -1, List.of(), false, null);
+
+        @Test
+        @DisplayName("should keep an update made after the rebuild read the older row")
+        void loadAll_staleRow_shouldNotOverwriteUpdate() {
+            index.beginRebuild();
+            index.index(new SearchDocument(ContentType.NOTE, "n1", "p1", "Caching",
+                    "```java\nCaffeine.newBuilder()\n```"));
+            index.loadAll(List.of(new SearchDocument(ContentType.NOTE, "n1", "p1", "Indexing strategies",
+                    "```sql\nCREATE INDEX idx ON t(c);\n```")));
+            index.endRebuild();
+
+            assertThat(index.search("indexing", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.search("caching", Set.of(), Page.of(0, 10)).items())
+                    .extracting(SearchHit::id).containsExactly("n1");
+            assertThat(index.searchCode("CREATE INDEX", false, Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.searchCode("Caffeine", false, Set.of(), Page.of(0, 10)).items()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not resurrect a document removed after the rebuild read it")
+        void loadAll_staleRow_shouldNotResurrectRemoved() {
+            index.beginRebuild();
+            index.remove(ContentType.COMMENT, "c1");
+            index.loadAll(List.of(new SearchDocument(ContentType.COMMENT, "c1", "q1", null,
+                    "Did you check the sequence allocation size?")));
+            index.endRebuild();
+
+            assertThat(index.search("sequence", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should drop children loaded after their parent was removed")
+        void loadAll_staleChildren_shouldFollowRemovedParent() {
+            index.beginRebuild();
+            index.remove(ContentType.QUESTION, "q1");
+            index.removeByParentId("q1");
+            index.loadAll(List.of(
+                    new SearchDocument(ContentType.ANSWER, "a1", "q1", null, "Set hibernate.jdbc.batch_size."),
+                    new SearchDocument(ContentType.COMMENT, "c2", "a1", null, "Ordering inserts fixed it.")));
+            index.endRebuild();
+
+            assertThat(index.search("batch ordering", Set.of(), Page.of(0, 10)).items()).isEmpty();
+            assertThat(index.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should keep journaling until the last overlapping rebuild ends")
+        void endRebuild_overlapping_shouldReplayAtTheLast() {
+            index.beginRebuild();
+            index.beginRebuild();
+            index.remove(ContentType.COMMENT, "c1");
+            index.endRebuild();
+            index.loadAll(List.of(new SearchDocument(ContentType.COMMENT, "c1", "q1", null, "Sequence size?")));
+            index.endRebuild();
+
+            assertThat(index.search("sequence", Set.of(), Page.of(0, 10)).items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reject ending a rebuild that never began")
+        void endRebuild_withoutBegin_shouldThrow() {
+            assertThatThrownBy(() -> index.endRebuild())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("No rebuild in progress");
+        }
+
+        @Test
+        @DisplayName("SearchService.rebuildIndex should not undo writes made while it reads")
+        @SuppressWarnings("unchecked")
+        void rebuildIndex_concurrentWrites_shouldWin() throws Exception {
+            Note updated = Note.create("Indexing strategies", "A B-tree index.", "p1", "u1");
+            Note removed = Note.create("Partitioning", "Range partitions.", "p1", "u1");
+            index.indexAll(List.of(SearchDocument.of(updated), SearchDocument.of(removed)));
+
+            var reading = new CountDownLatch(1);
+            var written = new CountDownLatch(1);
+            var notes = mock(NotePersistencePort.class);
+            when(notes.findAll(any(SearchQuery.class))).thenAnswer(invocation -> {
+                reading.countDown();
+                assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+                // Rows as they were when the read began
+                return new Pagination<>(0, 500, -1, List.of(updated, removed), false, null);
+            });
+            var questions = mock(QuestionPersistencePort.class);
+            var answers = mock(AnswerPersistencePort.class);
+            var comments = mock(CommentPersistencePort.class);
+            when(questions.findAll(any(SearchQuery.class))).thenReturn((Pagination) EMPTY_PAGE);
+            when(answers.findAll(any(SearchQuery.class))).thenReturn((Pagination) EMPTY_PAGE);
+            when(comments.findAll(any(SearchQuery.class))).thenReturn((Pagination) EMPTY_PAGE);
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                var searchService = new SearchService(index, notes, questions, answers, comments, executor);
+                var rebuild = searchService.rebuildIndexAsync();
+
+                assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+                CompletableFuture.runAsync(() -> {
+                    index.index(new SearchDocument(ContentType.NOTE, updated.getId(), "p1", "Caching", "Caffeine."));
+                    index.remove(ContentType.NOTE, removed.getId());
+                }).get(10, TimeUnit.SECONDS);
+                written.countDown();
+                rebuild.get(10, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(index.search("caffeine", Set.of(), Page.of(0, 10)).items())
+                    .extracting(SearchHit::id).containsExactly(updated.getId());
+            assertThat(index.search("b-tree partitions", Set.of(ContentType.NOTE), Page.of(0, 10)).items())
+                    .extracting(SearchHit::id).containsExactly("n1");
+        }
+
+        @Test
+        @DisplayName("should end with every writer's last version after writers race repeated rebuilds")
+        void rebuild_racingWriters_shouldKeepLatestVersions() throws Exception {
+            int writers = 3;
+            int documentsPerWriter = 50;
+            int revisions = 20;
+            // Stands in for the tables: writers save a row and then index it, as the services do
+            Map<String, SearchDocument> rows = new ConcurrentHashMap<>();
+            IntStream.range(0, writers * documentsPerWriter)
+                    .mapToObj(i -> new SearchDocument(ContentType.NOTE, "race-" + i, "p3", null, "original"))
+                    .forEach(document -> rows.put(document.id(), document));
+            index.indexAll(rows.values());
+
+            ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+            try {
+                var writing = new AtomicBoolean(true);
+                var rebuilds = CompletableFuture.runAsync(() -> {
+                    while (writing.get()) {
+                        index.beginRebuild();
+                        try {
+                            for (var row : List.copyOf(rows.values())) {
+                                index.loadAll(List.of(row));
+                            }
+                        } finally {
+                            index.endRebuild();
+                        }
+                    }
+                }, executor);
+
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int w = 0; w < writers; w++) {
+                    int first = w * documentsPerWriter;
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        for (int revision = 1; revision <= revisions; revision++) {
+                            for (int i = first; i < first + documentsPerWriter; i++) {
+                                String id = "race-" + i;
+                                if (i % 2 == 0 && revision == revisions) {
+                                    rows.remove(id);
+                                    index.remove(ContentType.NOTE, id);
+                                } else {
+                                    var document = new SearchDocument(ContentType.NOTE, id, "p3", null,
+                                            "revision" + revision);
+                                    rows.put(id, document);
+                                    index.index(document);
+                                }
+                            }
+                        }
+                    }, executor));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+                writing.set(false);
+                rebuilds.get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            int survivors = writers * documentsPerWriter / 2;
+            assertThat(index.search("original", Set.of(), Page.of(0, 10)).total()).isZero();
+            assertThat(index.search("revision" + revisions, Set.of(), Page.of(0, 10)).total()).isEqualTo(survivors);
+            assertThat(index.size()).isEqualTo(4 + survivors);
+        }
+    }
+
+    @Nested
+    @DisplayName("PostingList Tests")
+    class PostingListTests {
+
+        @Test
+        @DisplayName("should round-trip delta encoded postings")
+        void postingList_shouldRoundTrip() {
+            PostingList postingList = new PostingList();
+            postingList.add(3, 1);
+            postingList.add(200, 2);
+            postingList.add(70_000, 300);
+
+            List<int[]> decoded = new ArrayList<>();
+            postingList.forEach((docId, frequency) -> decoded.add(new int[]{docId, frequency}));
+
+            assertThat(decoded).containsExactly(new int[]{3, 1}, new int[]{200, 2}, new int[]{70_000, 300});
+            assertThat(postingList.documentFrequency()).isEqualTo(3);
+            assertThat(postingList.sizeInBytes()).isLessThan(3 * 8);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import com.sysm.devsync.domain.search.SearchDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class TransactionAwareSearchIndexTest {
+
+    private final SearchIndexPort delegate = mock(SearchIndexPort.class);
+    private final TransactionAwareSearchIndex index = new TransactionAwareSearchIndex(delegate);
+    private final SearchDocument document = new SearchDocument(ContentType.NOTE, "n1", "p1", "Title", "Body");
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("should write through when no transaction is active")
+    void index_withoutTransaction_shouldWriteThrough() {
+        index.index(document);
+
+        verify(delegate).index(document);
+    }
+
+    @Test
+    @DisplayName("should hold writes back until the transaction commits")
+    void writes_insideTransaction_shouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.indexAll(List.of(document));
+        index.remove(ContentType.NOTE, "n2");
+        index.removeByParentId("n2");
+        verifyNoInteractions(delegate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).indexAll(List.of(document));
+        inOrder.verify(delegate).remove(ContentType.NOTE, "n2");
+        inOrder.verify(delegate).removeByParentId("n2");
+    }
+
+    @Test
+    @DisplayName("should drop writes of a transaction that rolls back")
+    void writes_insideRolledBackTransaction_shouldBeDropped() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.index(document);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(delegate);
+    }
+}
@@ -0,0 +1,245 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.ContentType;
+import com.sysm.devsync.domain.search.CodeMatch;
+import com.sysm.devsync.domain.search.SearchDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.index(new SearchDocument(ContentType.NOTE, "n1", "p1", "Caching",
+                """
+                        Use a map as a local cache:
+                        ```java
+                        Map<String, User> cache = new HashMap<>();
+                        cache.put(user.getId(), user);
+                        ```
+                        """));
+        index.index(new SearchDocument(ContentType.ANSWER, "a1", "q1", null,
+                """
+                        Mark the service read-only:
+                        ```java
+                        @Service
+                        @Transactional(readOnly = true)
+                        public class ReportService {
+                        ```
+                        """));
+        index.index(new SearchDocument(ContentType.NOTE, "n2", "p1", "Prose only",
+                "Map<String, User> is mentioned here, but not inside a code block."));
+    }
+
+    @Nested
+    @DisplayName("search Method Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("should find an exact substring with punctuation inside code blocks")
+        void search_shouldMatchSubstring() {
+            Pagination<CodeMatch> result = index.search("Map<String", false, Set.of(), Page.of(0, 10));
+
+            assertThat(result.total()).isEqualTo(1);
+            CodeMatch match = result.items().get(0);
+            assertThat(match.id()).isEqualTo("n1");
+            assertThat(match.line()).isEqualTo(1);
+            assertThat(match.fragment()).isEqualTo("Map<String, User> cache = new HashMap<>();");
+        }
+
+        @Test
+        @DisplayName("should report the line of the match within the code")
+        void search_shouldReportLineNumber() {
+            Pagination<CodeMatch> result = index.search("@Transactional(readOnly", false, Set.of(), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(CodeMatch::id).containsExactly("a1");
+            assertThat(result.items().get(0).line()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should be case sensitive when verifying candidates")
+        void search_shouldBeCaseSensitive() {
+            Pagination<CodeMatch> result = index.search("map<string", false, Set.of(), Page.of(0, 10));
+
+            assertThat(result.total()).isZero();
+        }
+
+        @Test
+        @DisplayName("should match a regular expression")
+        void search_shouldMatchRegex() {
+            Pagination<CodeMatch> result = index.search("cache\\.put\\(\\w+", true, Set.of(), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(CodeMatch::id).containsExactly("n1");
+        }
+
+        @Test
+        @DisplayName("should match a regex without literals by scanning every document")
+        void search_shouldMatchRegexWithoutLiterals() {
+            Pagination<CodeMatch> result = index.search("^@\\w+$", true, Set.of(), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(CodeMatch::id).containsExactly("a1");
+        }
+
+        @Test
+        @DisplayName("should restrict results to the requested types")
+        void search_shouldFilterByType() {
+            Pagination<CodeMatch> result = index.search("class", false, Set.of(ContentType.NOTE), Page.of(0, 10));
+
+            assertThat(result.total()).isZero();
+        }
+
+        @Test
+        @DisplayName("should throw BusinessException for an invalid regular expression")
+        void search_shouldRejectInvalidRegex() {
+            assertThatThrownBy(() -> index.search("(unclosed", true, Set.of(), Page.of(0, 10)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageStartingWith("Invalid regular expression");
+        }
+
+        @Test
+        @DisplayName("should throw BusinessException for an overly long regular expression")
+        void search_shouldRejectLongRegex() {
+            assertThatThrownBy(() -> index.search("a".repeat(TrigramIndex.MAX_REGEX_LENGTH + 1), true, Set.of(), Page.of(0, 10)))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("must not be longer than");
+        }
+
+        @Test
+        @DisplayName("should stop a backtracking regular expression once its time budget is spent")
+        void search_shouldStopCatastrophicBacktracking() {
+            var slowIndex = backtrackingIndex(Duration.ofMillis(200));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                    assertThatThrownBy(() -> slowIndex.search("(a+)+\\1b", true, Set.of(), Page.of(0, 10)))
+                            .isInstanceOf(BusinessException.class)
+                            .hasMessageStartingWith("Regular expression took too long"));
+        }
+
+        @Test
+        @DisplayName("should let writers in while a slow regular expression is being verified")
+        void search_shouldNotBlockWritersWhileVerifying() throws Exception {
+            var slowIndex = backtrackingIndex(Duration.ofSeconds(2));
+            var search = CompletableFuture.runAsync(() -> slowIndex.search("(a+)+\\1b", true, Set.of(), Page.of(0, 10)));
+            Thread.sleep(200);
+
+            assertTimeoutPreemptively(Duration.ofMillis(500), () ->
+                    slowIndex.index(new SearchDocument(ContentType.NOTE, "n9", "p1", null, "```\nint x;\n```")));
+            assertThatThrownBy(search::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("should find matches of a regex built from multi-character escapes")
+        void search_shouldMatchThroughEscapes() {
+            index.index(new SearchDocument(ContentType.NOTE, "n3", "p1", null, "```\nString s = \"Abc(\u00e9)\";\n```"));
+
+            var result = index.search("\\x41bc\\(\\u00e9\\)", true, Set.of(), Page.of(0, 10));
+
+            assertThat(result.items()).extracting(CodeMatch::id).containsExactly("n3");
+        }
+
+        private TrigramIndex backtrackingIndex(Duration regexBudget) {
+            var slowIndex = new TrigramIndex(regexBudget);
+            slowIndex.index(new SearchDocument(ContentType.NOTE, "n8", "p1", null,
+                    "```\n" + "a".repeat(40) + "!\n```"));
+            return slowIndex;
+        }
+    }
+
+    @Nested
+    @DisplayName("index and remove Method Tests")
+    class IndexTests {
+
+        @Test
+        @DisplayName("should skip documents without code blocks")
+        void index_shouldSkipDocumentsWithoutCode() {
+            assertThat(index.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should replace the previous version on re-index")
+        void index_shouldReplacePreviousVersion() {
+            index.index(new SearchDocument(ContentType.NOTE, "n1", "p1", "Caching",
+                    "```\nCaffeine.newBuilder().maximumSize(1_000).build();\n```"));
+
+            assertThat(index.search("HashMap", false, Set.of(), Page.of(0, 10)).total()).isZero();
+            assertThat(index.search("Caffeine", false, Set.of(), Page.of(0, 10)).total()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should drop removed documents")
+        void remove_shouldDropDocument() {
+            index.remove(ContentType.ANSWER, "a1");
+            index.removeIf(document -> "p1".equals(document.parentId()));
+
+            assertThat(index.size()).isZero();
+            assertThat(index.search("class", false, Set.of(), Page.of(0, 10)).total()).isZero();
+        }
+
+        @Test
+        @DisplayName("should still find documents after compaction")
+        void index_shouldSurviveCompaction() {
+            IntStream.range(0, 1_200).forEach(i ->
+                    index.index(new SearchDocument(ContentType.NOTE, "n1", "p1", "Caching",
+                            "```\nint version = " + i + ";\n```")));
+
+            assertThat(index.search("version = 1199", false, Set.of(), Page.of(0, 10)).items())
+                    .extracting(CodeMatch::id).containsExactly("n1");
+            assertThat(index.search("@Service", false, Set.of(), Page.of(0, 10)).total()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("requiredLiterals Method Tests")
+    class RequiredLiteralsTests {
+
+        @Test
+        @DisplayName("should keep literal runs and drop optional characters")
+        void requiredLiterals_shouldExtractRuns() {
+            assertThat(TrigramIndex.requiredLiterals("fooX?bar\\.baz[0-9]+qux"))
+                    .containsExactly("foo", "bar.baz", "qux");
+        }
+
+        @Test
+        @DisplayName("should yield nothing for an alternation")
+        void requiredLiterals_shouldGiveUpOnAlternation() {
+            assertThat(TrigramIndex.requiredLiterals("select|insert")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should break the run at multi-character escapes instead of keeping their tails")
+        void requiredLiterals_shouldSkipWholeEscapes() {
+            assertThat(TrigramIndex.requiredLiterals("\\x41bcd")).containsExactly("bcd");
+            assertThat(TrigramIndex.requiredLiterals("\\x{41}\\u00e9\\0101\\k<name>\\p{L}\\pL\\N{SPACE}\\cA"))
+                    .isEmpty();
+            assertThat(TrigramIndex.requiredLiterals("(?<name>abc)\\k<name>xyz")).containsExactly("xyz");
+            assertThat(TrigramIndex.requiredLiterals("foo\\Q(bar)\\Ebaz")).containsExactly("foo", "baz");
+            assertThat(TrigramIndex.requiredLiterals("(abc)\\12345")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should yield nothing when the comments flag makes whitespace insignificant")
+        void requiredLiterals_shouldGiveUpOnCommentsFlag() {
+            assertThat(TrigramIndex.requiredLiterals("(?x)foo bar")).isEmpty();
+        }
+    }
+}
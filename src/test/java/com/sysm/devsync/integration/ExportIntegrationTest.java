@@ -0,0 +1,118 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.repositories.*;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// The export body is written on the async request thread, so the rows it reads must be committed
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExportIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private QuestionJpaRepository questionJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+
+    private ProjectJpaEntity testProject1;
+    private ProjectJpaEntity testProject2;
+    private UserJpaEntity testAuthor;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        testAuthor = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Author", "author@test.com", UserRole.MEMBER)));
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(Workspace.create("Test WS", "Desc", true, testAuthor.getId())));
+        testProject1 = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(Project.create("Test Project 1", "Desc", workspace.getId())));
+        testProject2 = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(Project.create("Test Project 2", "Desc", workspace.getId())));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        noteJpaRepository.deleteAll();
+        questionJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = {"MEMBER"})
+    @DisplayName("GET /notes/export - should stream the filtered notes as NDJSON")
+    void exportNotes_asNdjson_shouldSucceed() throws Exception {
+        noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(Note.create("Alpha", "First", testProject1.getId(), testAuthor.getId())));
+        noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(Note.create("Beta", "Second", testProject1.getId(), testAuthor.getId())));
+        noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(Note.create("Gamma", "Other project", testProject2.getId(), testAuthor.getId())));
+
+        var result = mockMvc.perform(get("/notes/export")
+                        .param("projectId", testProject1.getId())
+                        .param("sort", "title")
+                        .param("direction", "asc"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("application/x-ndjson")))
+                .andExpect(header().string("Content-Disposition", containsString("notes.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("title").asText()).isEqualTo("Alpha");
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("Beta");
+    }
+
+    @Test
+    @WithMockUser(roles = {"MEMBER"})
+    @DisplayName("GET /questions/export - should stream the questions as CSV with a header row")
+    void exportQuestions_asCsv_shouldSucceed() throws Exception {
+        questionJpaRepository.saveAndFlush(QuestionJpaEntity.fromModel(Question.create("Why, though?", "Quoted \"text\"", testProject1.getId(), testAuthor.getId())));
+
+        var result = mockMvc.perform(get("/questions/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("id,title,description,status,authorId,projectId,tagsId,answerCount,commentCount,acceptedAnswerId,createdAt,updatedAt");
+        assertThat(lines.get(1)).contains(",\"Why, though?\",\"Quoted \"\"text\"\"\",OPEN,");
+    }
+
+    @Test
+    @WithMockUser(roles = {"MEMBER"})
+    @DisplayName("GET /notes/export - should return 400 for an unknown format")
+    void exportNotes_withInvalidFormat_shouldFail() throws Exception {
+        mockMvc.perform(get("/notes/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
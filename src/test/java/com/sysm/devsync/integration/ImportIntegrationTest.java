@@ -0,0 +1,147 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.repositories.*;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Batches are written by worker threads in their own transactions, so the data they reference must be committed
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ImportIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private QuestionJpaRepository questionJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    private ProjectJpaEntity testProject;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        UserJpaEntity fakeAuthUser = new UserJpaEntity();
+        fakeAuthUser.setId(FAKE_AUTHENTICATED_USER_ID);
+        fakeAuthUser.setName("Controller User");
+        fakeAuthUser.setEmail("controller.user@example.com");
+        fakeAuthUser.setRole(UserRole.ADMIN);
+        fakeAuthUser.setCreatedAt(Instant.now());
+        fakeAuthUser.setUpdatedAt(Instant.now());
+        userJpaRepository.saveAndFlush(fakeAuthUser);
+
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(Workspace.create("Test WS", "Desc", true, FAKE_AUTHENTICATED_USER_ID)));
+        testProject = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(Project.create("Test Project", "Desc", workspace.getId())));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        noteJpaRepository.deleteAll();
+        questionJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("POST /imports - should import every line of an NDJSON stream")
+    void importRecords_shouldSucceed() throws Exception {
+        var body = """
+                {"type":"NOTE","title":"Imported Note 1","content":"Content","projectId":"%1$s"}
+                {"type":"QUESTION","title":"Imported Question","description":"Description","projectId":"%1$s"}
+                {"type":"NOTE","title":"Imported Note 2","content":"Content","projectId":"%1$s"}
+                """.formatted(testProject.getId());
+
+        var response = mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("COMPLETED")))
+                .andExpect(jsonPath("$.recordsRead", equalTo(3)))
+                .andExpect(jsonPath("$.recordsCommitted", equalTo(3)))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(noteJpaRepository.findAll())
+                .extracting(NoteJpaEntity::getTitle)
+                .containsExactlyInAnyOrder("Imported Note 1", "Imported Note 2");
+        assertThat(questionJpaRepository.count()).isEqualTo(1);
+
+        var jobId = objectMapper.readTree(response).get("id").asText();
+        mockMvc.perform(get("/imports/{id}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committedOffset", equalTo(3)));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("POST /imports - should fail the job and roll back the batch with a missing project")
+    void importRecords_withMissingProject_shouldFail() throws Exception {
+        var body = """
+                {"type":"NOTE","title":"Imported Note 1","content":"Content","projectId":"%s"}
+                {"type":"NOTE","title":"Imported Note 2","content":"Content","projectId":"non-existent-project-id"}
+                """.formatted(testProject.getId());
+
+        mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("FAILED")))
+                .andExpect(jsonPath("$.error", startsWith("Batch at offsets 0-1 failed")))
+                .andExpect(jsonPath("$.committedOffset", equalTo(0)));
+
+        assertThat(noteJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("POST /imports - should not leave rolled-back records searchable")
+    void importRecords_withFailingLaterType_shouldNotIndexRolledBackRecords() throws Exception {
+        var body = """
+                {"type":"QUESTION","title":"Quokka migration plan","description":"Description","projectId":"%s"}
+                {"type":"COMMENT","content":"Comment","targetType":"QUESTION","targetId":"non-existent-question-id"}
+                """.formatted(testProject.getId());
+
+        mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", equalTo("FAILED")));
+
+        assertThat(questionJpaRepository.count()).isZero();
+        mockMvc.perform(get("/search").param("q", "quokka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /imports/{id} - should return 404 for an unknown import")
+    void getImport_notFound() throws Exception {
+        mockMvc.perform(get("/imports/{id}", "non-existent-job-id"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -103,6 +104,63 @@ public class NoteIntegrationTest extends AbstractIntegrationTest {
         assertThat(createdNote.getVersion()).isEqualTo(1);
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST /notes/bulk - should create every note in the request")
+    void createNotes_shouldSucceed() throws Exception {
+        // Arrange
+        var requestJson = objectMapper.writeValueAsString(List.of(
+                new NoteCreateUpdate("Bulk Note 1", "Content 1", testProject1.getId()),
+                new NoteCreateUpdate("Bulk Note 2", "Content 2", testProject2.getId()),
+                new NoteCreateUpdate("Bulk Note 3", "Content 3", testProject1.getId())
+        ));
+
+        // Act & Assert
+        mockMvc.perform(post("/notes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].id").isNotEmpty());
+
+        assertThat(noteJpaRepository.findAll())
+                .extracting(NoteJpaEntity::getTitle)
+                .containsExactlyInAnyOrder("Bulk Note 1", "Bulk Note 2", "Bulk Note 3");
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST /notes/bulk - should return 404 and write nothing when a project is missing")
+    void createNotes_withMissingProject_shouldFail() throws Exception {
+        var requestJson = objectMapper.writeValueAsString(List.of(
+                new NoteCreateUpdate("Bulk Note 1", "Content 1", testProject1.getId()),
+                new NoteCreateUpdate("Bulk Note 2", "Content 2", "non-existent-project-id")
+        ));
+
+        mockMvc.perform(post("/notes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNotFound());
+
+        assertThat(noteJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST /notes/bulk - should return 400 with the index of an invalid note")
+    void createNotes_withInvalidItem_shouldFail() throws Exception {
+        var requestJson = objectMapper.writeValueAsString(List.of(
+                new NoteCreateUpdate("Bulk Note 1", "Content 1", testProject1.getId()),
+                new NoteCreateUpdate("", "Content 2", testProject1.getId())
+        ));
+
+        mockMvc.perform(post("/notes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors['[1].title'][0]", equalTo("Note title must not be blank")));
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
     @DisplayName("PUT /notes/{id} - should update a note's title and content")
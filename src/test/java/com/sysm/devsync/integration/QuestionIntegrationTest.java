@@ -151,6 +151,43 @@ public class QuestionIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.items[1].title").value("Question B"));
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /questions?cursor - should page with nextCursor instead of offsets")
+    void searchQuestions_withCursor_shouldReturnNextCursor() throws Exception {
+        // Arrange
+        questionJpaRepository.save(QuestionJpaEntity.fromModel(com.sysm.devsync.domain.models.Question.create("Question C", "...", testProject1.getId(), testAuthor.getId())));
+        questionJpaRepository.save(QuestionJpaEntity.fromModel(com.sysm.devsync.domain.models.Question.create("Question A", "...", testProject1.getId(), testAuthor.getId())));
+        questionJpaRepository.save(QuestionJpaEntity.fromModel(com.sysm.devsync.domain.models.Question.create("Question B", "...", testProject1.getId(), testAuthor.getId())));
+        questionJpaRepository.flush();
+
+        // Act & Assert - first page
+        var firstPage = mockMvc.perform(get("/questions")
+                        .param("pageSize", "2")
+                        .param("sort", "title")
+                        .param("direction", "asc")
+                        .param("cursor", "*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(-1))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title").value("Question A"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+
+        String nextCursor = com.jayway.jsonpath.JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        // Act & Assert - last page
+        mockMvc.perform(get("/questions")
+                        .param("pageSize", "2")
+                        .param("sort", "title")
+                        .param("direction", "asc")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("Question C"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
     @DisplayName("GET /questions - should return questions filtered by query parameters")
@@ -0,0 +1,150 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
+import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Content is indexed once its transaction commits, so the requests must not run inside a test transaction
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SearchIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private QuestionJpaRepository questionJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    private ProjectJpaEntity testProject;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        if (!userJpaRepository.existsById(FAKE_AUTHENTICATED_USER_ID)) {
+            UserJpaEntity fakeAuthUser = new UserJpaEntity();
+            fakeAuthUser.setId(FAKE_AUTHENTICATED_USER_ID);
+            fakeAuthUser.setName("Controller User");
+            fakeAuthUser.setEmail("controller.user@example.com");
+            fakeAuthUser.setRole(UserRole.ADMIN);
+            fakeAuthUser.setCreatedAt(Instant.now());
+            fakeAuthUser.setUpdatedAt(Instant.now());
+            userJpaRepository.saveAndFlush(fakeAuthUser);
+        }
+
+        var owner = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Search Owner", "search.owner@test.com", UserRole.MEMBER)));
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(Workspace.create("Search WS", "Desc", true, owner.getId())));
+        testProject = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(Project.create("Search Project", "Desc", workspace.getId())));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        noteJpaRepository.deleteAll();
+        questionJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"MEMBER"})
+    @DisplayName("GET /search - should rank content created through the API")
+    void search_shouldReturnRankedHitsAcrossTypes() throws Exception {
+        // Arrange
+        var note = new NoteCreateUpdate("Zeppelin rollout", "Checklist for the zeppelin rollout and its monitoring.", testProject.getId());
+        mockMvc.perform(post("/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(note)))
+                .andExpect(status().isCreated());
+
+        var question = new QuestionCreateUpdate("When is the zeppelin release?", "Asking about timelines.", testProject.getId());
+        mockMvc.perform(post("/questions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(question)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert - all types
+        mockMvc.perform(get("/search").param("q", "zeppelin rollout"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items[0].type").value("NOTE"))
+                .andExpect(jsonPath("$.items[0].snippet", containsString("<em>zeppelin</em>")))
+                .andExpect(jsonPath("$.items[1].type").value("QUESTION"));
+
+        // Act & Assert - restricted to questions
+        mockMvc.perform(get("/search").param("q", "zeppelin").param("types", "question"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title").value("When is the zeppelin release?"));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"MEMBER"})
+    @DisplayName("GET /search/code - should find substrings and regex matches inside code blocks")
+    void searchCode_shouldMatchInsideCodeBlocks() throws Exception {
+        // Arrange
+        var note = new NoteCreateUpdate("Dirigible client",
+                "Wire the client:\n```java\nDirigibleClient client = DirigibleClient.connect(\"dirigible://local\");\n```",
+                testProject.getId());
+        mockMvc.perform(post("/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(note)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert - substring
+        mockMvc.perform(get("/search/code").param("q", "DirigibleClient.connect(\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].type").value("NOTE"))
+                .andExpect(jsonPath("$.items[0].line").value(1))
+                .andExpect(jsonPath("$.items[0].fragment", startsWith("DirigibleClient client")));
+
+        // Act & Assert - regex
+        mockMvc.perform(get("/search/code").param("q", "Dirigible\\w+\\.connect").param("regex", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        // Act & Assert - invalid regex
+        mockMvc.perform(get("/search/code").param("q", "(dirigible").param("regex", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"MEMBER"})
+    @DisplayName("GET /search - should return 400 when the text is blank")
+    void search_withBlankText_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,6 +1,7 @@
 package com.sysm.devsync.integration;
 
 import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.infrastructure.config.datasource.ReadYourWritesFilter;
 import com.sysm.devsync.infrastructure.controllers.dto.request.TagCreateUpdate;
 import com.sysm.devsync.infrastructure.repositories.TagJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
@@ -108,6 +109,43 @@ public class TagIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /tags?ids= - should return the tags in request order and list the missing ids")
+    void getTagsByIds_shouldReturnFoundAndMissing() throws Exception {
+        // Arrange
+        TagJpaEntity go = tagJpaRepository.save(TagJpaEntity.fromModel(Tag.create("Go", "#F89820")));
+        TagJpaEntity rust = tagJpaRepository.save(TagJpaEntity.fromModel(Tag.create("Rust", "#FFA500")));
+        tagJpaRepository.flush();
+        var nonExistentId = UUID.randomUUID().toString();
+
+        // Act & Assert
+        mockMvc.perform(get("/tags")
+                        .param("ids", rust.getId() + "," + nonExistentId + "," + go.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Rust"))
+                .andExpect(jsonPath("$.items[1].name").value("Go"))
+                .andExpect(jsonPath("$.missingIds[0]").value(nonExistentId));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("CORS - should let a browser send and read the read-your-writes token")
+    void cors_shouldAllowAndExposeSessionToken() throws Exception {
+        mockMvc.perform(options("/tags")
+                        .header("Origin", "http://localhost:4200")
+                        .header("Access-Control-Request-Method", "GET")
+                        .header("Access-Control-Request-Headers", ReadYourWritesFilter.HEADER))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Allow-Headers", containsStringIgnoringCase(ReadYourWritesFilter.HEADER)));
+
+        mockMvc.perform(get("/tags")
+                        .header("Origin", "http://localhost:4200"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Access-Control-Expose-Headers", containsStringIgnoringCase(ReadYourWritesFilter.HEADER)));
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
     @DisplayName("GET /tags - should return paginated list of tags")
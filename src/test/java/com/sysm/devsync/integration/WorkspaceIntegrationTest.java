@@ -5,6 +5,7 @@ import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMemberBatch;
 import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
@@ -19,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -287,6 +289,64 @@ public class WorkspaceIntegrationTest extends AbstractIntegrationTest {
         assertThat(updatedWs.get().getMembers().stream().map(UserJpaEntity::getId).toList()).doesNotContain(member.getId());
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST and DELETE /workspaces/{id}/members:batch - should add and remove many members")
+    void membersBatch_shouldAddAndRemoveMembers() throws Exception {
+        // Arrange
+        UserJpaEntity alice = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Alice Member", "alice@test.com", UserRole.MEMBER)));
+        UserJpaEntity bob = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Bob Member", "bob@test.com", UserRole.MEMBER)));
+        Workspace ws = Workspace.create("Team Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        ws.addMember(alice.getId());
+        WorkspaceJpaEntity savedWs = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+        var both = objectMapper.writeValueAsString(new WorkspaceMemberBatch(List.of(alice.getId(), bob.getId())));
+
+        // Act & Assert
+        mockMvc.perform(post("/workspaces/{id}/members:batch", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(both))
+                .andExpect(status().isNoContent());
+        assertThat(workspaceJpaRepository.countMembers(savedWs.getId())).isEqualTo(2);
+
+        mockMvc.perform(post("/workspaces/{id}/members:batch", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WorkspaceMemberBatch(List.of(bob.getId(), "unknown-user")))))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/workspaces/{id}/members:batch", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(both))
+                .andExpect(status().isNoContent());
+        assertThat(workspaceJpaRepository.countMembers(savedWs.getId())).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /workspaces/{id}/members - should page members and report the count on the workspace")
+    void getMembers_shouldReturnPagedMembers() throws Exception {
+        // Arrange
+        UserJpaEntity alice = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Alice Member", "alice@test.com", UserRole.MEMBER)));
+        UserJpaEntity bob = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Bob Member", "bob@test.com", UserRole.MEMBER)));
+        Workspace ws = Workspace.create("Crowded Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        ws.addMember(alice.getId());
+        ws.addMember(bob.getId());
+        WorkspaceJpaEntity savedWs = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+
+        // Act & Assert
+        mockMvc.perform(get("/workspaces/{id}", savedWs.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberCount").value(2))
+                .andExpect(jsonPath("$.members").doesNotExist());
+
+        mockMvc.perform(get("/workspaces/{id}/members", savedWs.getId())
+                        .param("pageNumber", "1")
+                        .param("pageSize", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name").value("Bob Member"));
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
     @DisplayName("PATCH /workspaces/{id}/owner/{newOwnerId} - should change the owner")